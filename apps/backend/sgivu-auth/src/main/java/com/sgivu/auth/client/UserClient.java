@@ -1,13 +1,28 @@
 package com.sgivu.auth.client;
 
 import com.sgivu.auth.dto.User;
+import com.sgivu.auth.dto.UserActivityEvent;
+import java.util.List;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
 
 @HttpExchange("/v1/users")
 public interface UserClient {
 
   @GetExchange("/username/{username}")
   User findByUsername(@PathVariable String username);
+
+  /**
+   * Solo los datos necesarios para autenticar: contraseña cifrada, estado de la cuenta y
+   * authorities ya aplanadas en {@link User#getAuthorities()}, sin roles ni datos personales.
+   */
+  @GetExchange("/username/{username}/authentication")
+  User findAuthenticationByUsername(@PathVariable String username);
+
+  /** Informa inicios de sesión y renovaciones de token; sgivu-user los escribe en lote. */
+  @PostExchange("/activity")
+  void recordActivity(@RequestBody List<UserActivityEvent> events);
 }
@@ -0,0 +1,9 @@
+package com.sgivu.auth.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Habilita las tareas programadas (p. ej. el envío periódico de la actividad de usuarios). */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -22,7 +22,13 @@ public class User {
   private boolean credentialsNonExpired;
   private Set<Role> roles = new HashSet<>();
 
+  /** Roles y permisos ya aplanados por sgivu-user; {@code null} si se recibieron {@code roles}. */
+  private Set<String> authorities;
+
   public Set<String> getRolesAndPermissions() {
+    if (authorities != null) {
+      return Set.copyOf(authorities);
+    }
     return roles.stream()
         .flatMap(
             role ->
@@ -0,0 +1,12 @@
+package com.sgivu.auth.dto;
+
+import java.time.Instant;
+
+/** Inicio de sesión o actividad de un usuario que se informa a sgivu-user. */
+public record UserActivityEvent(Long userId, Type type, Instant occurredAt) {
+
+  public enum Type {
+    LOGIN,
+    ACTIVITY
+  }
+}
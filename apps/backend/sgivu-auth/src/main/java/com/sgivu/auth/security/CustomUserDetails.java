@@ -41,6 +41,35 @@ public class CustomUserDetails extends org.springframework.security.core.userdet
     this.id = user.getId();
   }
 
+  /**
+   * Reconstruye los detalles guardados en los atributos de una {@code OAuth2Authorization}, para
+   * que al emitir tokens se conserve el {@code id} sin volver a consultar sgivu-user.
+   *
+   * @param password contraseña cifrada, o {@code null} si ya se borró tras la autenticación
+   */
+  public CustomUserDetails(
+      Long id,
+      String username,
+      String password,
+      boolean enabled,
+      boolean accountNonExpired,
+      boolean credentialsNonExpired,
+      boolean accountNonLocked,
+      Collection<? extends GrantedAuthority> authorities) {
+    super(
+        username,
+        password != null ? password : "",
+        enabled,
+        accountNonExpired,
+        credentialsNonExpired,
+        accountNonLocked,
+        authorities);
+    this.id = id;
+    if (password == null) {
+      eraseCredentials();
+    }
+  }
+
   /**
    * Devuelve el nombre del principal autenticado (el nombre de usuario).
    *
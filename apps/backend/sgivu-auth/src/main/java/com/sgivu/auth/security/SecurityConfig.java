@@ -8,6 +8,8 @@ import com.nimbusds.jose.proc.SecurityContext;
 import com.sgivu.auth.config.AngularClientProperties;
 import com.sgivu.auth.config.GatewayClientProperties;
 import com.sgivu.auth.config.IssuerProperties;
+import com.sgivu.auth.service.RefreshTokenRevalidationService;
+import com.sgivu.auth.service.UserActivityPublisher;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -41,6 +43,7 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
@@ -78,6 +81,8 @@ public class SecurityConfig {
   private final ResourceLoader resourceLoader;
 
   private final UserDetailsService userDetailsService;
+  private final UserActivityPublisher userActivityPublisher;
+  private final RefreshTokenRevalidationService refreshTokenRevalidationService;
 
   public SecurityConfig(
       IssuerProperties issuerProperties,
@@ -85,13 +90,17 @@ public class SecurityConfig {
       GatewayClientProperties gatewayClientProperties,
       JwtProperties jwtProperties,
       ResourceLoader resourceLoader,
-      UserDetailsService userDetailsService) {
+      UserDetailsService userDetailsService,
+      UserActivityPublisher userActivityPublisher,
+      RefreshTokenRevalidationService refreshTokenRevalidationService) {
     this.issuerProperties = issuerProperties;
     this.angularClientProperties = angularClientProperties;
     this.gatewayClientProperties = gatewayClientProperties;
     this.jwtProperties = jwtProperties;
     this.resourceLoader = resourceLoader;
     this.userDetailsService = userDetailsService;
+    this.userActivityPublisher = userActivityPublisher;
+    this.refreshTokenRevalidationService = refreshTokenRevalidationService;
   }
 
   @Bean
@@ -233,8 +242,18 @@ public class SecurityConfig {
       }
 
       String username = principal.getName();
+      boolean refreshGrant =
+          AuthorizationGrantType.REFRESH_TOKEN.equals(context.getAuthorizationGrantType());
+      if (refreshGrant && context.getTokenType().equals(OAuth2TokenType.ACCESS_TOKEN)) {
+        refreshTokenRevalidationService.validate(username);
+      }
+
+      // El principal capturado en el login (y guardado en la OAuth2Authorization) ya trae el id;
+      // solo las autorizaciones persistidas sin él requieren consultar a sgivu-user
       CustomUserDetails customUserDetails =
-          (CustomUserDetails) userDetailsService.loadUserByUsername(username);
+          principal.getPrincipal() instanceof CustomUserDetails details
+              ? details
+              : (CustomUserDetails) userDetailsService.loadUserByUsername(username);
       Long userId = customUserDetails.getId();
       Assert.notNull(userId, "El ID del usuario no debe ser nulo");
 
@@ -257,6 +276,10 @@ public class SecurityConfig {
             .claim("rolesAndPermissions", rolesAndPermissions)
             .claim("isAdmin", rolesAndPermissions.contains("ROLE_ADMIN"));
 
+        if (refreshGrant) {
+          userActivityPublisher.recordActivity(userId);
+        }
+
       } else if (context.getTokenType().getValue().equals(OidcParameterNames.ID_TOKEN)) {
         claims.claim("userId", userId);
         // Red de seguridad: el flujo principal del gateway sincroniza el id_token del OidcUser
@@ -0,0 +1,27 @@
+package com.sgivu.auth.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Invalidaciones de las cachés locales que deben repetirse al terminar la transacción en curso: un
+ * hilo que lea antes del commit guardaría la versión anterior.
+ */
+final class CacheEvictions {
+
+  private CacheEvictions() {}
+
+  /** Ejecuta {@code eviction} ahora y, si hay una transacción activa, de nuevo al terminarla. */
+  static void nowAndAfterCompletion(Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              eviction.run();
+            }
+          });
+    }
+  }
+}
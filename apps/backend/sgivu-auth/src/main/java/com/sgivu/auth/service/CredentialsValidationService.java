@@ -80,7 +80,7 @@ public class CredentialsValidationService {
   @CircuitBreaker(name = "userServiceCircuitBreaker", fallbackMethod = "fallbackFetchUser")
   private User fetchUser(String username) {
     try {
-      return userClient.findByUsername(username);
+      return userClient.findAuthenticationByUsername(username);
     } catch (HttpClientErrorException.NotFound ex) {
       logger.warn("User '{}' not found (404) during validation.", username);
       throw new UsernameNotFoundException("Usuario no encontrado: " + username, ex);
@@ -1,9 +1,17 @@
 package com.sgivu.auth.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.sgivu.auth.entity.AuthorizationConsent;
 import com.sgivu.auth.repository.AuthorizationConsentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -16,20 +24,61 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+/**
+ * Consentimientos OAuth2 guardados en la tabla {@code authorization_consents}.
+ *
+ * <p>Los consentimientos encontrados se guardan en una caché Caffeine durante {@code
+ * auth.cache.consent-ttl}; {@link #save} y {@link #remove} descartan la entrada, también al
+ * confirmarse la transacción. Los inexistentes no se guardan, para que un consentimiento otorgado
+ * en otro pod se vea de inmediato.
+ */
 @Component
 public class JpaOAuth2AuthorizationConsentService implements OAuth2AuthorizationConsentService {
 
+  private record ConsentKey(String registeredClientId, String principalName) {}
+
   private final AuthorizationConsentRepository authorizationConsentRepository;
   private final RegisteredClientRepository registeredClientRepository;
+  private final Cache<ConsentKey, OAuth2AuthorizationConsent> consents;
 
+  @Autowired
   public JpaOAuth2AuthorizationConsentService(
       AuthorizationConsentRepository authorizationConsentRepository,
-      RegisteredClientRepository registeredClientRepository) {
+      RegisteredClientRepository registeredClientRepository,
+      MeterRegistry meterRegistry,
+      @Value("${auth.cache.consent-ttl:PT1M}") Duration ttl,
+      @Value("${auth.cache.max-entries:10000}") int maxEntries) {
+    this(
+        authorizationConsentRepository,
+        registeredClientRepository,
+        meterRegistry,
+        ttl,
+        maxEntries,
+        Ticker.systemTicker());
+  }
+
+  JpaOAuth2AuthorizationConsentService(
+      AuthorizationConsentRepository authorizationConsentRepository,
+      RegisteredClientRepository registeredClientRepository,
+      MeterRegistry meterRegistry,
+      Duration ttl,
+      int maxEntries,
+      Ticker ticker) {
     Assert.notNull(
         authorizationConsentRepository, "authorizationConsentRepository no puede ser nulo");
     Assert.notNull(registeredClientRepository, "registeredClientRepository no puede ser nulo");
     this.authorizationConsentRepository = authorizationConsentRepository;
     this.registeredClientRepository = registeredClientRepository;
+    this.consents =
+        CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .ticker(ticker)
+                .recordStats()
+                .<ConsentKey, OAuth2AuthorizationConsent>build(),
+            "authorization_consent");
   }
 
   @Override
@@ -37,6 +86,8 @@ public class JpaOAuth2AuthorizationConsentService implements OAuth2Authorization
   public void save(OAuth2AuthorizationConsent authorizationConsent) {
     Assert.notNull(authorizationConsent, "authorizationConsent no puede ser nulo");
     this.authorizationConsentRepository.save(toEntity(authorizationConsent));
+    ConsentKey key = keyOf(authorizationConsent);
+    CacheEvictions.nowAndAfterCompletion(() -> this.consents.invalidate(key));
   }
 
   @Override
@@ -45,6 +96,8 @@ public class JpaOAuth2AuthorizationConsentService implements OAuth2Authorization
     Assert.notNull(authorizationConsent, "authorizationConsent no puede ser nulo");
     this.authorizationConsentRepository.deleteByRegisteredClientIdAndPrincipalName(
         authorizationConsent.getRegisteredClientId(), authorizationConsent.getPrincipalName());
+    ConsentKey key = keyOf(authorizationConsent);
+    CacheEvictions.nowAndAfterCompletion(() -> this.consents.invalidate(key));
   }
 
   @Override
@@ -52,10 +105,19 @@ public class JpaOAuth2AuthorizationConsentService implements OAuth2Authorization
   public OAuth2AuthorizationConsent findById(String registeredClientId, String principalName) {
     Assert.hasText(registeredClientId, "registeredClientId no puede estar vacío");
     Assert.hasText(principalName, "principalName no puede estar vacío");
-    return this.authorizationConsentRepository
-        .findByRegisteredClientIdAndPrincipalName(registeredClientId, principalName)
-        .map(this::toObject)
-        .orElse(null);
+    return this.consents.get(
+        new ConsentKey(registeredClientId, principalName),
+        key ->
+            this.authorizationConsentRepository
+                .findByRegisteredClientIdAndPrincipalName(
+                    key.registeredClientId(), key.principalName())
+                .map(this::toObject)
+                .orElse(null));
+  }
+
+  private static ConsentKey keyOf(OAuth2AuthorizationConsent authorizationConsent) {
+    return new ConsentKey(
+        authorizationConsent.getRegisteredClientId(), authorizationConsent.getPrincipalName());
   }
 
   private OAuth2AuthorizationConsent toObject(AuthorizationConsent authorizationConsent) {
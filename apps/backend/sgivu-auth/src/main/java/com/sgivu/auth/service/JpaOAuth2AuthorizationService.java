@@ -2,8 +2,10 @@ package com.sgivu.auth.service;
 
 import com.fasterxml.jackson.annotation.*;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.sgivu.auth.entity.Authorization;
 import com.sgivu.auth.repository.AuthorizationRepository;
 import com.sgivu.auth.security.CustomUserDetails;
@@ -340,6 +342,8 @@ public class JpaOAuth2AuthorizationService implements OAuth2AuthorizationService
    *       JsonIgnoreProperties}).
    *   <li>Define un {@link JsonCreator} con las propiedades necesarias para recrear un {@code
    *       CustomUserDetails} (incluido el id de dominio y las autoridades).
+   *   <li>Anula el deserializador de {@code User} que se hereda del módulo de Spring Security
+   *       ({@link JsonDeserialize}); con él se obtenía un {@code User} sin el id.
    * </ul>
    *
    * <p>Es necesario porque las instancias de {@code CustomUserDetails} se almacenan en los
@@ -353,6 +357,7 @@ public class JpaOAuth2AuthorizationService implements OAuth2AuthorizationService
       getterVisibility = JsonAutoDetect.Visibility.NONE,
       isGetterVisibility = JsonAutoDetect.Visibility.NONE)
   @JsonIgnoreProperties(ignoreUnknown = true)
+  @JsonDeserialize(using = JsonDeserializer.None.class)
   private abstract static class CustomUserDetailsMixin {
 
     @JsonCreator
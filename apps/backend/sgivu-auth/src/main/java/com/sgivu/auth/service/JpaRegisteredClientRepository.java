@@ -3,12 +3,20 @@ package com.sgivu.auth.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.sgivu.auth.entity.Client;
 import com.sgivu.auth.repository.ClientRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.jackson2.SecurityJackson2Modules;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
@@ -22,15 +30,43 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+/**
+ * Clientes OAuth2 guardados en la tabla {@code clients}.
+ *
+ * <p>Los {@link RegisteredClient} ya construidos (con {@code client_settings} y {@code
+ * token_settings} deserializados) se guardan en cachés Caffeine por {@code id} y por {@code
+ * client_id} durante {@code auth.cache.registered-client-ttl}, porque se consultan en cada emisión,
+ * refresco e introspección de tokens. {@link #save} descarta las entradas del cliente, también al
+ * confirmarse la transacción. Los clientes inexistentes no se guardan.
+ */
 @Component
 public class JpaRegisteredClientRepository implements RegisteredClientRepository {
 
   private final ClientRepository clientRepository;
   private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Cache<String, RegisteredClient> byId;
+  private final Cache<String, RegisteredClient> byClientId;
+
+  @Autowired
+  public JpaRegisteredClientRepository(
+      ClientRepository clientRepository,
+      MeterRegistry meterRegistry,
+      @Value("${auth.cache.registered-client-ttl:PT5M}") Duration ttl,
+      @Value("${auth.cache.max-entries:10000}") int maxEntries) {
+    this(clientRepository, meterRegistry, ttl, maxEntries, Ticker.systemTicker());
+  }
 
-  public JpaRegisteredClientRepository(ClientRepository clientRepository) {
+  JpaRegisteredClientRepository(
+      ClientRepository clientRepository,
+      MeterRegistry meterRegistry,
+      Duration ttl,
+      int maxEntries,
+      Ticker ticker) {
     Assert.notNull(clientRepository, "clientRepository no puede ser nulo");
     this.clientRepository = clientRepository;
+    this.byId = buildCache("registered_client_by_id", ttl, maxEntries, ticker, meterRegistry);
+    this.byClientId =
+        buildCache("registered_client_by_client_id", ttl, maxEntries, ticker, meterRegistry);
 
     ClassLoader classLoader = JpaRegisteredClientRepository.class.getClassLoader();
     List<Module> securityModules = SecurityJackson2Modules.getModules(classLoader);
@@ -38,6 +74,18 @@ public class JpaRegisteredClientRepository implements RegisteredClientRepository
     this.objectMapper.registerModule(new OAuth2AuthorizationServerJackson2Module());
   }
 
+  private static Cache<String, RegisteredClient> buildCache(
+      String name, Duration ttl, int maxEntries, Ticker ticker, MeterRegistry meterRegistry) {
+    Cache<String, RegisteredClient> cache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxEntries)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    return CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+  }
+
   private static AuthorizationGrantType resolveAuthorizationGrantType(
       String authorizationGrantType) {
     if (AuthorizationGrantType.AUTHORIZATION_CODE.getValue().equals(authorizationGrantType)) {
@@ -75,20 +123,32 @@ public class JpaRegisteredClientRepository implements RegisteredClientRepository
   public void save(RegisteredClient registeredClient) {
     Assert.notNull(registeredClient, "registeredClient no puede ser nulo");
     this.clientRepository.save(toEntity(registeredClient));
+    // También por valor: el client_id pudo cambiar y la entrada antigua seguiría indexada por él
+    String id = registeredClient.getId();
+    String clientId = registeredClient.getClientId();
+    CacheEvictions.nowAndAfterCompletion(
+        () -> {
+          this.byId.invalidate(id);
+          this.byClientId.invalidate(clientId);
+          this.byClientId.asMap().values().removeIf(cached -> cached.getId().equals(id));
+        });
   }
 
   @Override
   @Transactional(readOnly = true)
   public RegisteredClient findById(String id) {
     Assert.hasText(id, "id no puede estar vacío");
-    return this.clientRepository.findById(id).map(this::toObject).orElse(null);
+    return this.byId.get(
+        id, key -> this.clientRepository.findById(key).map(this::toObject).orElse(null));
   }
 
   @Override
   @Transactional(readOnly = true)
   public RegisteredClient findByClientId(String clientId) {
     Assert.hasText(clientId, "clientId no puede estar vacío");
-    return this.clientRepository.findByClientId(clientId).map(this::toObject).orElse(null);
+    return this.byClientId.get(
+        clientId,
+        key -> this.clientRepository.findByClientId(key).map(this::toObject).orElse(null));
   }
 
   private RegisteredClient toObject(Client client) {
@@ -43,7 +43,7 @@ public class JpaUserDetailsService implements UserDetailsService {
   @CircuitBreaker(name = "userServiceCircuitBreaker", fallbackMethod = "fallbackFetchUser")
   private User fetchUser(String username) {
     try {
-      return userClient.findByUsername(username);
+      return userClient.findAuthenticationByUsername(username);
     } catch (HttpClientErrorException.NotFound ex) {
       logger.warn("User '{}' not found (404 UserClient).", username);
       throw new UsernameNotFoundException("Usuario no encontrado: " + username, ex);
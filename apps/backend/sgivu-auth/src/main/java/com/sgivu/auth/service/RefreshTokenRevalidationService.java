@@ -0,0 +1,119 @@
+package com.sgivu.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sgivu.auth.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.stereotype.Service;
+
+/**
+ * Comprueba en cada refresh que la cuenta del usuario sigue existiendo y habilitada.
+ *
+ * <p>El id y las autoridades del token salen del principal guardado en la {@code
+ * OAuth2Authorization}; esta comprobación es la única consulta a sgivu-user al refrescar. El estado
+ * de la cuenta se guarda {@code auth.refresh.revalidation-ttl} en una caché Caffeine de a lo sumo
+ * {@code auth.refresh.revalidation-max-entries} usuarios, de modo que un usuario deshabilitado deja
+ * de refrescar como mucho tras ese tiempo. Con {@code auth.refresh.revalidate-user=false} no se
+ * consulta nada y los refresh solo dependen de la vigencia del refresh token.
+ *
+ * <p>Si sgivu-user no responde, el refresh se rechaza con {@code temporarily_unavailable}.
+ */
+@Service
+public class RefreshTokenRevalidationService {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(RefreshTokenRevalidationService.class);
+
+  private record AccountStatus(boolean usable) {}
+
+  private final UserDetailsService userDetailsService;
+  private final boolean enabled;
+  private final Cache<String, AccountStatus> statuses;
+
+  @Autowired
+  public RefreshTokenRevalidationService(
+      UserDetailsService userDetailsService,
+      MeterRegistry meterRegistry,
+      @Value("${auth.refresh.revalidate-user:true}") boolean enabled,
+      @Value("${auth.refresh.revalidation-ttl:PT1M}") Duration ttl,
+      @Value("${auth.refresh.revalidation-max-entries:10000}") int maxEntries) {
+    this(userDetailsService, meterRegistry, enabled, ttl, maxEntries, Ticker.systemTicker());
+  }
+
+  RefreshTokenRevalidationService(
+      UserDetailsService userDetailsService,
+      MeterRegistry meterRegistry,
+      boolean enabled,
+      Duration ttl,
+      int maxEntries,
+      Ticker ticker) {
+    this.userDetailsService = userDetailsService;
+    this.enabled = enabled;
+    this.statuses =
+        CaffeineCacheMetrics.monitor(
+            meterRegistry,
+            Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .ticker(ticker)
+                .recordStats()
+                .<String, AccountStatus>build(),
+            "refresh_revalidation");
+  }
+
+  /**
+   * Lanza {@link OAuth2AuthenticationException} ({@code invalid_grant}) si el usuario ya no existe
+   * o su cuenta está deshabilitada, bloqueada o caducada.
+   */
+  public void validate(String username) {
+    if (!enabled) {
+      return;
+    }
+
+    AccountStatus status;
+    try {
+      status = statuses.get(username, this::load);
+    } catch (ServiceUnavailableException ex) {
+      throw new OAuth2AuthenticationException(
+          new OAuth2Error(
+              OAuth2ErrorCodes.TEMPORARILY_UNAVAILABLE,
+              "No se pudo validar el usuario. Por favor, intente más tarde.",
+              null),
+          ex);
+    }
+
+    if (status == null || !status.usable()) {
+      logger.info("Refresh rejected for user '{}': account missing or disabled.", username);
+      throw new OAuth2AuthenticationException(
+          new OAuth2Error(OAuth2ErrorCodes.INVALID_GRANT, "La cuenta no está habilitada.", null));
+    }
+  }
+
+  private AccountStatus load(String username) {
+    UserDetails user;
+    try {
+      user = userDetailsService.loadUserByUsername(username);
+    } catch (UsernameNotFoundException ex) {
+      // Caffeine no guarda el null: un usuario recreado puede refrescar de inmediato
+      return null;
+    }
+    return new AccountStatus(
+        user.isEnabled()
+            && user.isAccountNonLocked()
+            && user.isAccountNonExpired()
+            && user.isCredentialsNonExpired());
+  }
+}
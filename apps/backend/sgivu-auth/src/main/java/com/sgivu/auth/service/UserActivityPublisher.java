@@ -0,0 +1,113 @@
+package com.sgivu.auth.service;
+
+import com.sgivu.auth.client.UserClient;
+import com.sgivu.auth.dto.UserActivityEvent;
+import com.sgivu.auth.security.CustomUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Service;
+
+/**
+ * Envía a sgivu-user los inicios de sesión y las renovaciones de token, sin bloquear el login.
+ *
+ * <p>Los eventos se encolan en memoria (a lo sumo {@code user.activity.queue-capacity}) y se envían
+ * en lotes de {@code user.activity.batch-size} cada {@code user.activity.publish-interval}, y una
+ * última vez al apagar el pod. Si la cola está llena o el envío falla, los eventos se descartan:
+ * son datos informativos y no deben afectar a la autenticación. Métrica: {@code
+ * sgivu.auth.user_activity.dropped}.
+ */
+@Service
+public class UserActivityPublisher {
+
+  private static final Logger logger = LoggerFactory.getLogger(UserActivityPublisher.class);
+
+  private final UserClient userClient;
+  private final BlockingQueue<UserActivityEvent> queue;
+  private final int batchSize;
+  private final Clock clock;
+
+  private final Counter dropped;
+
+  @Autowired
+  public UserActivityPublisher(
+      UserClient userClient,
+      MeterRegistry meterRegistry,
+      @Value("${user.activity.queue-capacity:10000}") int queueCapacity,
+      @Value("${user.activity.batch-size:500}") int batchSize) {
+    this(userClient, meterRegistry, queueCapacity, batchSize, Clock.systemUTC());
+  }
+
+  UserActivityPublisher(
+      UserClient userClient,
+      MeterRegistry meterRegistry,
+      int queueCapacity,
+      int batchSize,
+      Clock clock) {
+    this.userClient = userClient;
+    this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.clock = clock;
+    this.dropped =
+        Counter.builder("sgivu.auth.user_activity.dropped")
+            .description("Eventos de actividad de usuarios no enviados (cola llena o error)")
+            .register(meterRegistry);
+  }
+
+  /** Login con usuario y contraseña (form login). */
+  @EventListener
+  public void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+    // Solo los logins de usuario; la autenticación de clientes OAuth2 también publica este evento
+    if (event.getAuthentication().getPrincipal() instanceof CustomUserDetails user) {
+      enqueue(user.getId(), UserActivityEvent.Type.LOGIN);
+    }
+  }
+
+  /** Actividad sin credenciales, p. ej. la renovación del access token con un refresh token. */
+  public void recordActivity(Long userId) {
+    enqueue(userId, UserActivityEvent.Type.ACTIVITY);
+  }
+
+  /** Envía los eventos encolados en lotes de {@code batchSize}. */
+  @Scheduled(
+      initialDelayString = "${user.activity.publish-interval:PT5S}",
+      fixedDelayString = "${user.activity.publish-interval:PT5S}")
+  public synchronized void publish() {
+    List<UserActivityEvent> batch = new ArrayList<>(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      try {
+        userClient.recordActivity(batch);
+      } catch (Exception e) {
+        logger.warn("Could not send {} user activity events: {}", batch.size(), e.toString());
+        dropped.increment(batch.size());
+      }
+      batch.clear();
+    }
+  }
+
+  @PreDestroy
+  void publishOnShutdown() {
+    publish();
+  }
+
+  private void enqueue(Long userId, UserActivityEvent.Type type) {
+    if (userId == null) {
+      return;
+    }
+    if (!queue.offer(new UserActivityEvent(userId, type, clock.instant()))) {
+      dropped.increment();
+    }
+  }
+}
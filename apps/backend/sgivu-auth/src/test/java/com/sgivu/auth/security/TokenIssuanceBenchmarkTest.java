@@ -0,0 +1,210 @@
+package com.sgivu.auth.security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.sgivu.auth.dto.User;
+import com.sgivu.auth.service.RefreshTokenRevalidationService;
+import com.sgivu.auth.service.UserActivityPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Principal;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.OidcScopes;
+import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+import org.springframework.security.oauth2.server.authorization.context.AuthorizationServerContext;
+import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
+import org.springframework.security.oauth2.server.authorization.token.DefaultOAuth2TokenContext;
+import org.springframework.security.oauth2.server.authorization.token.JwtGenerator;
+
+/**
+ * Latencia de un refresh (access token e id_token firmados) antes y después de llevar el id del
+ * usuario en el principal guardado en la {@code OAuth2Authorization}.
+ *
+ * <ul>
+ *   <li><b>Antes:</b> el principal no trae el id y cada token consulta a sgivu-user.
+ *   <li><b>Después:</b> el id sale del principal y solo se revalida la cuenta, con caché.
+ * </ul>
+ *
+ * <p>La consulta a sgivu-user se simula con una espera de {@code benchmark.user-lookup-ms} (por
+ * defecto {@value #DEFAULT_LOOKUP_MILLIS} ms). Desactivado por defecto. Ejecutar con {@code ./mvnw
+ * test -Dtest=TokenIssuanceBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TokenIssuanceBenchmarkTest {
+
+  private static final int DEFAULT_LOOKUP_MILLIS = 5;
+  private static final int WARMUP = 200;
+  private static final int RUNS = 1_000;
+
+  private static final Set<GrantedAuthority> AUTHORITIES =
+      Set.of(new SimpleGrantedAuthority("ADMIN"), new SimpleGrantedAuthority("user:read"));
+
+  @Test
+  @DisplayName("Refresh: la mediana después debe ser menor que antes")
+  void refreshIsFasterWithPersistedPrincipal() throws Exception {
+    long lookupMillis = Long.getLong("benchmark.user-lookup-ms", DEFAULT_LOOKUP_MILLIS);
+    UserDetailsService remoteUserDetailsService =
+        username -> {
+          sleep(lookupMillis);
+          return customUserDetails();
+        };
+
+    Authentication withoutId =
+        UsernamePasswordAuthenticationToken.authenticated(
+            new org.springframework.security.core.userdetails.User(
+                "bob", "", true, true, true, true, AUTHORITIES),
+            null,
+            AUTHORITIES);
+    Authentication withId =
+        UsernamePasswordAuthenticationToken.authenticated(customUserDetails(), null, AUTHORITIES);
+
+    double[] before = measure(generator(remoteUserDetailsService, false), withoutId);
+    double[] after = measure(generator(remoteUserDetailsService, true), withId);
+
+    print("before", before);
+    print("after", after);
+    assertTrue(before[RUNS / 2] > after[RUNS / 2]);
+  }
+
+  private static JwtGenerator generator(UserDetailsService userDetailsService, boolean revalidate)
+      throws Exception {
+    KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+    keyPairGenerator.initialize(2048);
+    KeyPair keyPair = keyPairGenerator.generateKeyPair();
+    RSAKey rsaKey =
+        new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+            .privateKey((RSAPrivateKey) keyPair.getPrivate())
+            .keyID("sgivu")
+            .build();
+
+    RefreshTokenRevalidationService revalidationService =
+        new RefreshTokenRevalidationService(
+            userDetailsService, new SimpleMeterRegistry(), revalidate, Duration.ofMinutes(1), 100);
+    SecurityConfig securityConfig =
+        new SecurityConfig(
+            null,
+            null,
+            null,
+            new JwtProperties(null, new JwtProperties.Key("sgivu", null)),
+            null,
+            userDetailsService,
+            mock(UserActivityPublisher.class),
+            revalidationService);
+
+    JwtGenerator generator =
+        new JwtGenerator(new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(rsaKey))));
+    generator.setJwtCustomizer(securityConfig.jwtCustomizer(userDetailsService));
+    return generator;
+  }
+
+  private static double[] measure(JwtGenerator generator, Authentication principal) {
+    RegisteredClient client =
+        RegisteredClient.withId("1")
+            .clientId("angular-client")
+            .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+            .authorizationGrantType(AuthorizationGrantType.REFRESH_TOKEN)
+            .redirectUri("http://localhost:4200/callback")
+            .scope(OidcScopes.OPENID)
+            .build();
+    Instant now = Instant.now();
+    OAuth2Authorization authorization =
+        OAuth2Authorization.withRegisteredClient(client)
+            .principalName("bob")
+            .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+            .authorizedScopes(Set.of(OidcScopes.OPENID))
+            .token(
+                new OidcIdToken("id-token", now, now.plus(Duration.ofDays(7)), Map.of("sub", "5")))
+            .attribute(Principal.class.getName(), principal)
+            .build();
+
+    AuthorizationServerContext serverContext =
+        new AuthorizationServerContext() {
+          @Override
+          public String getIssuer() {
+            return "http://localhost:9000";
+          }
+
+          @Override
+          public AuthorizationServerSettings getAuthorizationServerSettings() {
+            return AuthorizationServerSettings.builder().build();
+          }
+        };
+
+    double[] millis = new double[RUNS];
+    for (int i = -WARMUP; i < RUNS; i++) {
+      long start = System.nanoTime();
+      for (OAuth2TokenType tokenType :
+          new OAuth2TokenType[] {
+            OAuth2TokenType.ACCESS_TOKEN, new OAuth2TokenType(OidcParameterNames.ID_TOKEN)
+          }) {
+        generator.generate(
+            DefaultOAuth2TokenContext.builder()
+                .registeredClient(client)
+                .authorizationServerContext(serverContext)
+                .principal(principal)
+                .authorization(authorization)
+                .authorizedScopes(Set.of(OidcScopes.OPENID))
+                .tokenType(tokenType)
+                .authorizationGrantType(AuthorizationGrantType.REFRESH_TOKEN)
+                .build());
+      }
+      if (i >= 0) {
+        millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+      }
+    }
+    Arrays.sort(millis);
+    return millis;
+  }
+
+  private static CustomUserDetails customUserDetails() {
+    User user = new User();
+    user.setId(5L);
+    user.setUsername("bob");
+    user.setPassword("");
+    user.setEnabled(true);
+    user.setAccountNonExpired(true);
+    user.setAccountNonLocked(true);
+    user.setCredentialsNonExpired(true);
+    return new CustomUserDetails(user, AUTHORITIES);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      TimeUnit.MILLISECONDS.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void print(String label, double[] millis) {
+    System.out.printf(
+        "Token issuance per refresh (%s): median=%.2f ms, p95=%.2f ms%n",
+        label, millis[RUNS / 2], millis[(int) (RUNS * 0.95)]);
+  }
+}
@@ -43,14 +43,14 @@ public class CredentialsValidationServiceTest {
       user.setAccountNonLocked(true);
       user.setCredentialsNonExpired(true);
 
-      when(userClient.findByUsername("alice")).thenReturn(user);
+      when(userClient.findAuthenticationByUsername("alice")).thenReturn(user);
       when(passwordEncoder.matches("plain", "encodedPassword")).thenReturn(true);
 
       CredentialsValidationResponse resp = service.validateCredentials("alice", "plain");
 
       assertTrue(resp.valid());
       assertEquals("", resp.reason());
-      verify(userClient).findByUsername("alice");
+      verify(userClient).findAuthenticationByUsername("alice");
     }
 
     @Test
@@ -63,7 +63,7 @@ public class CredentialsValidationServiceTest {
       user.setAccountNonLocked(true);
       user.setCredentialsNonExpired(true);
 
-      when(userClient.findByUsername("bob")).thenReturn(user);
+      when(userClient.findAuthenticationByUsername("bob")).thenReturn(user);
       when(passwordEncoder.matches("wrong", "encodedPassword")).thenReturn(false);
 
       CredentialsValidationResponse resp = service.validateCredentials("bob", "wrong");
@@ -76,7 +76,7 @@ public class CredentialsValidationServiceTest {
     @DisplayName("Debe retornar invalid_credentials cuando el usuario no se encuentra (404)")
     void shouldReturnInvalidWhenUserNotFound404() {
       HttpClientErrorException.NotFound notFound = mock(HttpClientErrorException.NotFound.class);
-      when(userClient.findByUsername("missing")).thenThrow(notFound);
+      when(userClient.findAuthenticationByUsername("missing")).thenThrow(notFound);
 
       CredentialsValidationResponse resp = service.validateCredentials("missing", "x");
 
@@ -87,7 +87,7 @@ public class CredentialsValidationServiceTest {
     @Test
     @DisplayName("Debe retornar invalid_credentials cuando el usuario es nulo")
     void shouldReturnInvalidWhenUserIsNull() {
-      when(userClient.findByUsername("nobody")).thenReturn(null);
+      when(userClient.findAuthenticationByUsername("nobody")).thenReturn(null);
 
       CredentialsValidationResponse resp = service.validateCredentials("nobody", "x");
 
@@ -109,7 +109,7 @@ public class CredentialsValidationServiceTest {
         user.setAccountNonLocked(true);
         user.setCredentialsNonExpired(true);
 
-        when(userClient.findByUsername(any())).thenReturn(user);
+        when(userClient.findAuthenticationByUsername(any())).thenReturn(user);
 
         CredentialsValidationResponse resp = service.validateCredentials("u", "x");
 
@@ -127,7 +127,7 @@ public class CredentialsValidationServiceTest {
         user.setAccountNonLocked(true);
         user.setCredentialsNonExpired(true);
 
-        when(userClient.findByUsername(any())).thenReturn(user);
+        when(userClient.findAuthenticationByUsername(any())).thenReturn(user);
 
         CredentialsValidationResponse resp = service.validateCredentials("u", "x");
 
@@ -145,7 +145,7 @@ public class CredentialsValidationServiceTest {
         user.setAccountNonLocked(false);
         user.setCredentialsNonExpired(true);
 
-        when(userClient.findByUsername(any())).thenReturn(user);
+        when(userClient.findAuthenticationByUsername(any())).thenReturn(user);
 
         CredentialsValidationResponse resp = service.validateCredentials("u", "x");
 
@@ -163,7 +163,7 @@ public class CredentialsValidationServiceTest {
         user.setAccountNonLocked(true);
         user.setCredentialsNonExpired(false);
 
-        when(userClient.findByUsername(any())).thenReturn(user);
+        when(userClient.findAuthenticationByUsername(any())).thenReturn(user);
 
         CredentialsValidationResponse resp = service.validateCredentials("u", "x");
 
@@ -176,7 +176,7 @@ public class CredentialsValidationServiceTest {
     @DisplayName(
         "Debe retornar unexpected_error cuando el cliente de usuario lanza excepción inesperada")
     void shouldReturnUnexpectedWhenClientThrows() {
-      when(userClient.findByUsername("boom")).thenThrow(new RuntimeException("boom"));
+      when(userClient.findAuthenticationByUsername("boom")).thenThrow(new RuntimeException("boom"));
 
       CredentialsValidationResponse resp = service.validateCredentials("boom", "x");
 
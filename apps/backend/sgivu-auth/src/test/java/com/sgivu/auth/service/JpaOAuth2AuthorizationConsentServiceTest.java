@@ -5,16 +5,18 @@ import static org.mockito.Mockito.*;
 
 import com.sgivu.auth.entity.AuthorizationConsent;
 import com.sgivu.auth.repository.AuthorizationConsentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.dao.DataRetrievalFailureException;
@@ -30,11 +32,14 @@ public class JpaOAuth2AuthorizationConsentServiceTest {
 
   @Mock private RegisteredClientRepository clients;
 
-  @InjectMocks private JpaOAuth2AuthorizationConsentService service;
+  private JpaOAuth2AuthorizationConsentService service;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    service =
+        new JpaOAuth2AuthorizationConsentService(
+            repo, clients, new SimpleMeterRegistry(), Duration.ofMinutes(1), 100);
   }
 
   @Nested
@@ -141,4 +146,60 @@ public class JpaOAuth2AuthorizationConsentServiceTest {
       assertTrue(ex.getCause() instanceof DataRetrievalFailureException);
     }
   }
+
+  @Nested
+  @DisplayName("findById(String, String)")
+  class CacheTests {
+
+    @BeforeEach
+    void storeConsent() {
+      AuthorizationConsent entity = new AuthorizationConsent();
+      entity.setRegisteredClientId("client");
+      entity.setPrincipalName("principal");
+      entity.setAuthorities("read");
+      when(repo.findByRegisteredClientIdAndPrincipalName("client", "principal"))
+          .thenReturn(Optional.of(entity));
+      when(clients.findById("client"))
+          .thenReturn(
+              RegisteredClient.withId("client")
+                  .clientId("client")
+                  .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+                  .build());
+    }
+
+    @Test
+    @DisplayName("Debe consultar el consentimiento una sola vez")
+    void shouldCacheConsents() {
+      OAuth2AuthorizationConsent first = service.findById("client", "principal");
+      OAuth2AuthorizationConsent second = service.findById("client", "principal");
+
+      assertSame(first, second);
+      verify(repo, times(1)).findByRegisteredClientIdAndPrincipalName("client", "principal");
+    }
+
+    @Test
+    @DisplayName("Debe descartar la entrada al guardar o eliminar el consentimiento")
+    void shouldInvalidateOnSaveAndRemove() {
+      OAuth2AuthorizationConsent consent = service.findById("client", "principal");
+
+      service.save(consent);
+      service.findById("client", "principal");
+      service.remove(consent);
+      service.findById("client", "principal");
+
+      verify(repo, times(3)).findByRegisteredClientIdAndPrincipalName("client", "principal");
+    }
+
+    @Test
+    @DisplayName("No debe guardar en caché los consentimientos inexistentes")
+    void shouldNotCacheMisses() {
+      when(repo.findByRegisteredClientIdAndPrincipalName("client", "other"))
+          .thenReturn(Optional.empty());
+
+      assertNull(service.findById("client", "other"));
+      assertNull(service.findById("client", "other"));
+
+      verify(repo, times(2)).findByRegisteredClientIdAndPrincipalName("client", "other");
+    }
+  }
 }
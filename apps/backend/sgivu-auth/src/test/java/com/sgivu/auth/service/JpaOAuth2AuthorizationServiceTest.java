@@ -8,6 +8,7 @@ import com.sgivu.auth.security.CustomUserDetails;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.security.Principal;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
@@ -19,7 +20,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.dao.DataRetrievalFailureException;
-import org.springframework.security.core.userdetails.User;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.OAuth2AccessToken;
 import org.springframework.security.oauth2.core.OAuth2RefreshToken;
@@ -233,19 +237,44 @@ public class JpaOAuth2AuthorizationServiceTest {
       assertTrue(json.contains("CustomUserDetails"));
 
       Map<String, Object> parsed = invokeParse(json);
-      Object principalObj = parsed.get("principal");
-      assertNotNull(principalObj);
-      if (principalObj instanceof Map) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> principal = (Map<String, Object>) principalObj;
-        assertTrue(principal.containsKey("@class") || principal.containsKey("class"));
-        assertEquals("bob", principal.get("username"));
-      } else {
-        // Jackson puede deserializarse en una implementación de User de Spring Security
-        assertTrue(principalObj instanceof User);
-        User user = (User) principalObj;
-        assertEquals("bob", user.getUsername());
-      }
+      CustomUserDetails principal =
+          assertInstanceOf(CustomUserDetails.class, parsed.get("principal"));
+      assertEquals(5L, principal.getId());
+      assertEquals("bob", principal.getUsername());
+    }
+
+    @Test
+    @DisplayName(
+        "Debe conservar id y autoridades del principal autenticado guardado en los atributos")
+    void shouldRoundTripAuthenticatedPrincipal() throws Exception {
+      CustomUserDetails details =
+          new CustomUserDetails(
+              5L,
+              "bob",
+              null,
+              true,
+              true,
+              true,
+              true,
+              Set.of(new SimpleGrantedAuthority("ADMIN"), new SimpleGrantedAuthority("user:read")));
+      var authentication =
+          UsernamePasswordAuthenticationToken.authenticated(
+              details, null, details.getAuthorities());
+
+      Map<String, Object> source = new HashMap<>();
+      source.put(Principal.class.getName(), authentication);
+
+      Map<String, Object> parsed = invokeParse(invokeWrite(source));
+      Authentication restored =
+          assertInstanceOf(Authentication.class, parsed.get(Principal.class.getName()));
+      CustomUserDetails principal =
+          assertInstanceOf(CustomUserDetails.class, restored.getPrincipal());
+      assertEquals(5L, principal.getId());
+      assertEquals("bob", principal.getUsername());
+      assertNull(principal.getPassword());
+      assertEquals(
+          Set.of("ADMIN", "user:read"),
+          AuthorityUtils.authorityListToSet(restored.getAuthorities()));
     }
 
     @Test
@@ -1,20 +1,24 @@
 package com.sgivu.auth.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sgivu.auth.entity.Client;
 import com.sgivu.auth.repository.ClientRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
@@ -27,11 +31,16 @@ public class JpaRegisteredClientRepositoryTest {
 
   @Mock private ClientRepository clientRepository;
 
-  @InjectMocks private JpaRegisteredClientRepository repository;
+  private SimpleMeterRegistry meterRegistry;
+  private JpaRegisteredClientRepository repository;
 
   @BeforeEach
   void setUp() {
     MockitoAnnotations.openMocks(this);
+    meterRegistry = new SimpleMeterRegistry();
+    repository =
+        new JpaRegisteredClientRepository(
+            clientRepository, meterRegistry, Duration.ofMinutes(5), 100);
   }
 
   @Nested
@@ -323,4 +332,75 @@ public class JpaRegisteredClientRepositoryTest {
       assertTrue(ex.getCause() instanceof IllegalArgumentException);
     }
   }
+
+  @Nested
+  @DisplayName("findById(String) / findByClientId(String)")
+  class CacheTests {
+
+    private final RegisteredClient registeredClient =
+        RegisteredClient.withId("id-1")
+            .clientId("client-id")
+            .clientSecret("secret")
+            .clientAuthenticationMethod(ClientAuthenticationMethod.CLIENT_SECRET_BASIC)
+            .authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+            .build();
+
+    private Client stored;
+
+    @BeforeEach
+    void storeClient() {
+      ArgumentCaptor<Client> captor = ArgumentCaptor.forClass(Client.class);
+      repository.save(registeredClient);
+      verify(clientRepository).save(captor.capture());
+      stored = captor.getValue();
+      when(clientRepository.findById("id-1")).thenReturn(Optional.of(stored));
+      when(clientRepository.findByClientId("client-id")).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    @DisplayName("Debe consultar y parsear el cliente una sola vez por clave")
+    void shouldCacheBuiltClients() {
+      RegisteredClient first = repository.findById("id-1");
+      RegisteredClient second = repository.findById("id-1");
+      repository.findByClientId("client-id");
+      repository.findByClientId("client-id");
+
+      assertSame(first, second);
+      assertEquals(registeredClient.getTokenSettings(), first.getTokenSettings());
+      verify(clientRepository, times(1)).findById("id-1");
+      verify(clientRepository, times(1)).findByClientId("client-id");
+      assertEquals(
+          1,
+          meterRegistry
+              .get("cache.gets")
+              .tags("cache", "registered_client_by_id", "result", "hit")
+              .functionCounter()
+              .count());
+    }
+
+    @Test
+    @DisplayName("Debe descartar las entradas del cliente al guardarlo")
+    void shouldInvalidateOnSave() {
+      repository.findById("id-1");
+      repository.findByClientId("client-id");
+
+      repository.save(registeredClient);
+      repository.findById("id-1");
+      repository.findByClientId("client-id");
+
+      verify(clientRepository, times(2)).findById("id-1");
+      verify(clientRepository, times(2)).findByClientId("client-id");
+    }
+
+    @Test
+    @DisplayName("No debe guardar en caché los clientes inexistentes")
+    void shouldNotCacheMisses() {
+      when(clientRepository.findByClientId("missing")).thenReturn(Optional.empty());
+
+      assertNull(repository.findByClientId("missing"));
+      assertNull(repository.findByClientId("missing"));
+
+      verify(clientRepository, times(2)).findByClientId("missing");
+    }
+  }
 }
@@ -58,7 +58,7 @@ public class JpaUserDetailsServiceTest {
       roles.add(r);
       user.setRoles(roles);
 
-      when(userClient.findByUsername("alice")).thenReturn(user);
+      when(userClient.findAuthenticationByUsername("alice")).thenReturn(user);
 
       var details = service.loadUserByUsername("alice");
 
@@ -73,10 +73,35 @@ public class JpaUserDetailsServiceTest {
           custom.getAuthorities().stream().anyMatch(a -> "user:read".equals(a.getAuthority())));
     }
 
+    @Test
+    @DisplayName("Debe usar las authorities aplanadas por sgivu-user")
+    void shouldUseFlattenedAuthorities() {
+      User user = new User();
+      user.setId(11L);
+      user.setUsername("bob");
+      user.setPassword("pwd");
+      user.setEnabled(true);
+      user.setAccountNonExpired(true);
+      user.setAccountNonLocked(true);
+      user.setCredentialsNonExpired(true);
+      user.setAuthorities(Set.of("USER", "vehicle:read"));
+
+      when(userClient.findAuthenticationByUsername("bob")).thenReturn(user);
+
+      var details = service.loadUserByUsername("bob");
+
+      assertEquals(
+          Set.of("USER", "vehicle:read"),
+          details.getAuthorities().stream()
+              .map(a -> a.getAuthority())
+              .collect(java.util.stream.Collectors.toSet()));
+      verify(userClient, never()).findByUsername("bob");
+    }
+
     @Test
     @DisplayName("Debe lanzar UsernameNotFoundException cuando el cliente de usuario retorna null")
     void shouldThrowWhenUserClientReturnsNull() {
-      when(userClient.findByUsername("nope")).thenReturn(null);
+      when(userClient.findAuthenticationByUsername("nope")).thenReturn(null);
       assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("nope"));
     }
 
@@ -84,14 +109,14 @@ public class JpaUserDetailsServiceTest {
     @DisplayName("Debe lanzar UsernameNotFoundException cuando el cliente retorna 404")
     void shouldThrowWhenClientReturns404() {
       HttpClientErrorException.NotFound nf = mock(HttpClientErrorException.NotFound.class);
-      when(userClient.findByUsername("missing")).thenThrow(nf);
+      when(userClient.findAuthenticationByUsername("missing")).thenThrow(nf);
       assertThrows(UsernameNotFoundException.class, () -> service.loadUserByUsername("missing"));
     }
 
     @Test
     @DisplayName("Debe propagar excepciones de runtime del cliente")
     void shouldPropagateRuntimeExceptionFromClient() {
-      when(userClient.findByUsername("boom")).thenThrow(new RuntimeException("boom"));
+      when(userClient.findAuthenticationByUsername("boom")).thenThrow(new RuntimeException("boom"));
       assertThrows(RuntimeException.class, () -> service.loadUserByUsername("boom"));
     }
   }
@@ -0,0 +1,126 @@
+package com.sgivu.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.auth.dto.User;
+import com.sgivu.auth.exception.ServiceUnavailableException;
+import com.sgivu.auth.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+
+public class RefreshTokenRevalidationServiceTest {
+
+  @Mock private UserDetailsService userDetailsService;
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private RefreshTokenRevalidationService service;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    service = service(true);
+  }
+
+  private RefreshTokenRevalidationService service(boolean enabled) {
+    return new RefreshTokenRevalidationService(
+        userDetailsService,
+        new SimpleMeterRegistry(),
+        enabled,
+        Duration.ofMinutes(1),
+        100,
+        nanos::get);
+  }
+
+  private static CustomUserDetails user(boolean enabled) {
+    User user = new User();
+    user.setId(5L);
+    user.setUsername("bob");
+    user.setPassword("pwd");
+    user.setEnabled(enabled);
+    user.setAccountNonExpired(true);
+    user.setAccountNonLocked(true);
+    user.setCredentialsNonExpired(true);
+    return new CustomUserDetails(user, Set.of());
+  }
+
+  private static String errorCode(OAuth2AuthenticationException ex) {
+    return ex.getError().getErrorCode();
+  }
+
+  @Nested
+  @DisplayName("validate(String)")
+  class ValidateTests {
+
+    @Test
+    @DisplayName(
+        "Debe consultar una sola vez a un usuario habilitado mientras la entrada no caduca")
+    void shouldCacheActiveUser() {
+      when(userDetailsService.loadUserByUsername("bob")).thenReturn(user(true));
+
+      service.validate("bob");
+      service.validate("bob");
+      verify(userDetailsService, times(1)).loadUserByUsername("bob");
+
+      nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+      service.validate("bob");
+      verify(userDetailsService, times(2)).loadUserByUsername("bob");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con invalid_grant a un usuario deshabilitado")
+    void shouldRejectDisabledUser() {
+      when(userDetailsService.loadUserByUsername("bob")).thenReturn(user(false));
+
+      OAuth2AuthenticationException ex =
+          assertThrows(OAuth2AuthenticationException.class, () -> service.validate("bob"));
+      assertEquals(OAuth2ErrorCodes.INVALID_GRANT, errorCode(ex));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar a un usuario inexistente sin guardarlo en caché")
+    void shouldRejectMissingUserWithoutCaching() {
+      when(userDetailsService.loadUserByUsername("bob"))
+          .thenThrow(new UsernameNotFoundException("Usuario no encontrado: bob"))
+          .thenReturn(user(true));
+
+      OAuth2AuthenticationException ex =
+          assertThrows(OAuth2AuthenticationException.class, () -> service.validate("bob"));
+      assertEquals(OAuth2ErrorCodes.INVALID_GRANT, errorCode(ex));
+
+      assertDoesNotThrow(() -> service.validate("bob"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con temporarily_unavailable si sgivu-user no responde")
+    void shouldRejectWhenUserServiceUnavailable() {
+      when(userDetailsService.loadUserByUsername("bob"))
+          .thenThrow(new ServiceUnavailableException("no disponible", null));
+
+      OAuth2AuthenticationException ex =
+          assertThrows(OAuth2AuthenticationException.class, () -> service.validate("bob"));
+      assertEquals(OAuth2ErrorCodes.TEMPORARILY_UNAVAILABLE, errorCode(ex));
+    }
+
+    @Test
+    @DisplayName("No debe consultar a sgivu-user si la revalidación está desactivada")
+    void shouldSkipWhenDisabled() {
+      service(false).validate("bob");
+
+      verifyNoInteractions(userDetailsService);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package com.sgivu.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.auth.client.UserClient;
+import com.sgivu.auth.dto.User;
+import com.sgivu.auth.dto.UserActivityEvent;
+import com.sgivu.auth.dto.UserActivityEvent.Type;
+import com.sgivu.auth.security.CustomUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.web.client.ResourceAccessException;
+
+public class UserActivityPublisherTest {
+
+  private static final Instant NOW = Instant.parse("2024-05-10T15:00:00Z");
+
+  @Mock private UserClient userClient;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UserActivityPublisher publisher;
+  private final List<List<UserActivityEvent>> sent = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    meterRegistry = new SimpleMeterRegistry();
+    publisher =
+        new UserActivityPublisher(
+            userClient, meterRegistry, 3, 2, Clock.fixed(NOW, ZoneOffset.UTC));
+    // El lote se reutiliza entre envíos: se copia al recibirlo
+    doAnswer(
+            invocation -> {
+              sent.add(List.copyOf(invocation.getArgument(0)));
+              return null;
+            })
+        .when(userClient)
+        .recordActivity(any());
+  }
+
+  private static CustomUserDetails userDetails(Long id) {
+    User user = new User();
+    user.setId(id);
+    user.setUsername("alice");
+    user.setPassword("pwd");
+    user.setEnabled(true);
+    user.setAccountNonExpired(true);
+    user.setAccountNonLocked(true);
+    user.setCredentialsNonExpired(true);
+    return new CustomUserDetails(user, Set.of());
+  }
+
+  @Nested
+  @DisplayName("onAuthenticationSuccess(AuthenticationSuccessEvent)")
+  class OnAuthenticationSuccessTests {
+
+    @Test
+    @DisplayName("Debe encolar un LOGIN solo para autenticaciones de usuario")
+    void shouldRecordUserLoginsOnly() {
+      publisher.onAuthenticationSuccess(
+          new AuthenticationSuccessEvent(
+              UsernamePasswordAuthenticationToken.authenticated(userDetails(7L), null, Set.of())));
+      publisher.onAuthenticationSuccess(
+          new AuthenticationSuccessEvent(new TestingAuthenticationToken("client", null)));
+
+      publisher.publish();
+
+      assertEquals(List.of(List.of(new UserActivityEvent(7L, Type.LOGIN, NOW))), sent);
+    }
+  }
+
+  @Nested
+  @DisplayName("publish()")
+  class PublishTests {
+
+    @Test
+    @DisplayName("Debe enviar en lotes y descartar lo que no cabe en la cola")
+    void shouldSendInBatchesAndDropOverflow() {
+      for (long id = 1; id <= 4; id++) {
+        publisher.recordActivity(id);
+      }
+
+      publisher.publish();
+
+      assertEquals(List.of(2, 1), sent.stream().map(List::size).toList());
+      assertEquals(1, meterRegistry.get("sgivu.auth.user_activity.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe descartar el lote si sgivu-user no responde")
+    void shouldDropBatchOnFailure() {
+      doThrow(new ResourceAccessException("timeout")).when(userClient).recordActivity(any());
+      publisher.recordActivity(1L);
+
+      publisher.publish();
+      publisher.publish();
+
+      verify(userClient, times(1)).recordActivity(any());
+      assertEquals(1, meterRegistry.get("sgivu.auth.user_activity.dropped").counter().count());
+    }
+
+    @Test
+    @DisplayName("No debe llamar a sgivu-user si no hay eventos")
+    void shouldSkipEmptyQueue() {
+      publisher.publish();
+
+      verifyNoInteractions(userClient);
+    }
+  }
+}
@@ -2,8 +2,9 @@ package com.sgivu.purchasesale.client;
 
 import com.sgivu.purchasesale.dto.Car;
 import com.sgivu.purchasesale.dto.Motorcycle;
+import com.sgivu.purchasesale.dto.Vehicle;
+import com.sgivu.purchasesale.dto.VehicleInventoryStats;
 import java.util.List;
-import java.util.Map;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.service.annotation.GetExchange;
@@ -25,11 +26,13 @@ public interface VehicleServiceClient {
   @PostExchange("/motorcycles/batch")
   List<Motorcycle> getMotorcyclesByIds(@RequestBody List<Long> ids);
 
-  @GetExchange("/cars/count")
-  Map<String, Long> getCarCounts();
+  /** Autos y motos en una sola llamada; cada elemento trae su {@code vehicleType}. */
+  @PostExchange("/vehicles/batch")
+  List<Vehicle> getVehiclesByIds(@RequestBody List<Long> ids);
 
-  @GetExchange("/motorcycles/count")
-  Map<String, Long> getMotorcycleCounts();
+  /** Conteos por tipo y estado de autos y motos en una sola llamada. */
+  @GetExchange("/vehicles/stats")
+  VehicleInventoryStats getInventoryStats();
 
   @PostExchange("/cars")
   Car createCar(@RequestBody Car car);
@@ -0,0 +1,28 @@
+package com.sgivu.purchasesale.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Valores por defecto de Hibernate para escrituras en batch.
+ *
+ * <p>Junto con las secuencias pooled (p. ej. {@code contract_status_history_id_seq}), permite que
+ * varias inserciones en la misma transacción viajen en un único batch JDBC. Se usa {@code
+ * putIfAbsent} para que la configuración de {@code sgivu-config} tenga prioridad.
+ */
+@Configuration
+public class JpaConfig {
+
+  static final int JDBC_BATCH_SIZE = 50;
+
+  @Bean
+  HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer() {
+    return properties -> {
+      properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+      properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+      properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
+}
@@ -2,9 +2,16 @@ package com.sgivu.purchasesale.controller;
 
 import com.sgivu.purchasesale.controller.api.ContractStatusHistoryApi;
 import com.sgivu.purchasesale.dto.ContractStatusHistoryResponse;
+import com.sgivu.purchasesale.dto.ContractStatusTimelineResponse;
+import com.sgivu.purchasesale.entity.ContractStatusHistory;
 import com.sgivu.purchasesale.mapper.ContractStatusHistoryMapper;
 import com.sgivu.purchasesale.service.ContractStatusHistoryService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
@@ -31,4 +38,32 @@ public class ContractStatusHistoryController implements ContractStatusHistoryApi
             .toList();
     return ResponseEntity.ok(responses);
   }
+
+  @Override
+  @PreAuthorize("hasAuthority('purchase_sale:read')")
+  public ResponseEntity<ContractStatusTimelineResponse> getTimeline(
+      List<Long> contractIds,
+      Long vehicleId,
+      LocalDateTime afterChangedAt,
+      Long afterId,
+      Integer size) {
+    Slice<ContractStatusHistory> slice =
+        contractStatusHistoryService.findTimeline(
+            contractIds, vehicleId, afterChangedAt, afterId, size);
+
+    Map<Long, List<ContractStatusHistoryResponse>> timelines = new LinkedHashMap<>();
+    for (ContractStatusHistory history : slice) {
+      timelines
+          .computeIfAbsent(history.getPurchaseSaleId(), id -> new ArrayList<>())
+          .add(contractStatusHistoryMapper.toResponse(history));
+    }
+
+    ContractStatusTimelineResponse.ContractStatusTimelineResponseBuilder response =
+        ContractStatusTimelineResponse.builder().timelines(timelines).hasMore(slice.hasNext());
+    if (slice.hasNext()) {
+      ContractStatusHistory last = slice.getContent().getLast();
+      response.nextAfterChangedAt(last.getChangedAt()).nextAfterId(last.getId());
+    }
+    return ResponseEntity.ok(response.build());
+  }
 }
@@ -30,6 +30,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 public class PurchaseSaleController implements PurchaseSaleApi {
@@ -243,6 +244,39 @@ public class PurchaseSaleController implements PurchaseSaleApi {
         .body(report);
   }
 
+  @Override
+  @PreAuthorize("hasAuthority('purchase_sale:read')")
+  public ResponseEntity<byte[]> exportContractDocument(Long id) {
+    return purchaseSaleReportService
+        .generateContractPdf(id)
+        .map(
+            document ->
+                ResponseEntity.ok()
+                    .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"contrato-" + id + ".pdf\"")
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .body(document))
+        .orElse(ResponseEntity.notFound().build());
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('purchase_sale:read')")
+  public ResponseEntity<StreamingResponseBody> exportContractDocuments(List<Long> ids) {
+    // Los datos remotos se resuelven aquí, en el hilo de la petición con su SecurityContext; el
+    // cuerpo sólo renderiza y escribe el ZIP.
+    List<PurchaseSaleDetailResponse> details = purchaseSaleReportService.findContractDetails(ids);
+    StreamingResponseBody body =
+        outputStream -> purchaseSaleReportService.writeContractsZip(details, outputStream);
+    String timestamp = LocalDate.now().format(DateTimeFormatter.ISO_DATE);
+    return ResponseEntity.ok()
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"contratos-" + timestamp + ".zip\"")
+        .contentType(MediaType.parseMediaType("application/zip"))
+        .body(body);
+  }
+
   @Override
   @PreAuthorize("hasAuthority('purchase_sale:read')")
   public ResponseEntity<List<Long>> getAvailableVehicleIds() {
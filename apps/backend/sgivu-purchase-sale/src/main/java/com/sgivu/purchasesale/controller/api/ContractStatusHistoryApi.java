@@ -1,15 +1,19 @@
 package com.sgivu.purchasesale.controller.api;
 
 import com.sgivu.purchasesale.dto.ContractStatusHistoryResponse;
+import com.sgivu.purchasesale.dto.ContractStatusTimelineResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(
     name = "Historial de Estados",
@@ -25,4 +29,27 @@ public interface ContractStatusHistoryApi {
   @GetMapping("/contract/{purchaseSaleId}")
   ResponseEntity<List<ContractStatusHistoryResponse>> getByContractId(
       @PathVariable @Parameter(description = "ID del contrato") Long purchaseSaleId);
+
+  @Operation(
+      summary = "Historial de varios contratos",
+      description =
+          "Obtiene en una sola consulta el historial de un conjunto de contratos (contractIds) o de"
+              + " todos los contratos de un vehículo (vehicleId), agrupado por contrato y paginado"
+              + " por cursor (changedAt, id)")
+  @ApiResponse(responseCode = "200", description = "Página de historiales")
+  @ApiResponse(responseCode = "422", description = "Filtros o cursor inválidos")
+  @GetMapping("/timeline")
+  ResponseEntity<ContractStatusTimelineResponse> getTimeline(
+      @RequestParam(required = false) @Parameter(description = "IDs de contrato (máximo 500)")
+          List<Long> contractIds,
+      @RequestParam(required = false) @Parameter(description = "ID del vehículo") Long vehicleId,
+      @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          @Parameter(description = "Cursor: changedAt del último registro recibido")
+          LocalDateTime afterChangedAt,
+      @RequestParam(required = false)
+          @Parameter(description = "Cursor: id del último registro recibido")
+          Long afterId,
+      @RequestParam(defaultValue = "200") @Parameter(description = "Tamaño de página (1-1000)")
+          Integer size);
 }
@@ -20,6 +20,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "purchase-sale", description = "Gestión de contratos de compras y ventas")
 @RequestMapping("/v1/purchase-sales")
@@ -188,6 +189,44 @@ public interface PurchaseSaleApi {
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
           LocalDate endDate);
 
+  @Operation(
+      summary = "Exportar documento de contrato",
+      description = "Genera el PDF imprimible de un contrato individual.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "PDF generado",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_PDF_VALUE,
+                    schema = @Schema(type = "string", format = "binary"))),
+        @ApiResponse(responseCode = "401", description = "No autorizado"),
+        @ApiResponse(responseCode = "403", description = "Prohibido"),
+        @ApiResponse(responseCode = "404", description = "Contrato no encontrado")
+      })
+  @GetMapping(value = "/{id}/document", produces = MediaType.APPLICATION_PDF_VALUE)
+  ResponseEntity<byte[]> exportContractDocument(@PathVariable Long id);
+
+  @Operation(
+      summary = "Exportar lote de documentos de contrato",
+      description =
+          "Genera un ZIP con el PDF de cada contrato indicado (máximo 500). Los documentos se"
+              + " renderizan en paralelo y el ZIP se transmite a medida que se generan.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "ZIP generado",
+            content =
+                @Content(
+                    mediaType = "application/zip",
+                    schema = @Schema(type = "string", format = "binary"))),
+        @ApiResponse(responseCode = "401", description = "No autorizado"),
+        @ApiResponse(responseCode = "403", description = "Prohibido"),
+        @ApiResponse(responseCode = "422", description = "Lote vacío o demasiado grande")
+      })
+  @PostMapping(value = "/documents/batch", produces = "application/zip")
+  ResponseEntity<StreamingResponseBody> exportContractDocuments(@RequestBody List<Long> ids);
+
   @Operation(
       summary = "Obtener vehículos disponibles",
       description =
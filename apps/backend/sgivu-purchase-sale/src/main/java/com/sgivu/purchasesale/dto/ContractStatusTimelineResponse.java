@@ -0,0 +1,36 @@
+package com.sgivu.purchasesale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(
+    description =
+        "Página de historiales de estado de varios contratos, agrupados por contrato y paginados por"
+            + " cursor (changedAt, id)")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContractStatusTimelineResponse {
+
+  @Schema(
+      description =
+          "Cambios de estado por ID de contrato, en orden cronológico. Los contratos sin cambios en"
+              + " esta página no aparecen")
+  private Map<Long, List<ContractStatusHistoryResponse>> timelines;
+
+  @Schema(description = "Indica si existen más registros después de esta página")
+  private boolean hasMore;
+
+  @Schema(description = "Valor de afterChangedAt para solicitar la siguiente página")
+  private LocalDateTime nextAfterChangedAt;
+
+  @Schema(description = "Valor de afterId para solicitar la siguiente página")
+  private Long nextAfterId;
+}
@@ -11,6 +11,10 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Vehicle {
   private Long id;
+
+  @Schema(description = "Discriminador del subtipo: CAR o MOTORCYCLE", example = "CAR")
+  private String vehicleType;
+
   private String brand;
   private String model;
   private Integer capacity;
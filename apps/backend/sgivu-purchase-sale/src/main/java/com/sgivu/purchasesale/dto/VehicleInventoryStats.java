@@ -0,0 +1,28 @@
+package com.sgivu.purchasesale.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Estadísticas de inventario de sgivu-vehicle por tipo de vehículo y estado")
+@Data
+@NoArgsConstructor
+public class VehicleInventoryStats {
+  private Long total;
+  private Map<String, Long> byStatus;
+  private Double inventoryValue;
+  private Double saleValue;
+
+  @Schema(description = "Desglose por tipo de vehículo (CAR, MOTORCYCLE)")
+  private Map<String, TypeStats> byType;
+
+  @Data
+  @NoArgsConstructor
+  public static class TypeStats {
+    private Long total;
+    private Map<String, Long> byStatus;
+    private Double inventoryValue;
+    private Double saleValue;
+  }
+}
@@ -17,12 +17,17 @@ public class ContractStatusHistory implements Serializable {
 
   @Serial private static final long serialVersionUID = 1L;
 
+  /**
+   * Optimizador pooled: la secuencia incrementa de 50 en 50 (V3) y Hibernate asigna los IDs
+   * intermedios en memoria, de modo que una ráfaga de inserciones no paga un nextval por fila y
+   * puede agruparse en un único batch JDBC.
+   */
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contract_status_history_id_seq")
   @SequenceGenerator(
       name = "contract_status_history_id_seq",
       sequenceName = "contract_status_history_id_seq",
-      allocationSize = 1)
+      allocationSize = 50)
   private Long id;
 
   @NotNull
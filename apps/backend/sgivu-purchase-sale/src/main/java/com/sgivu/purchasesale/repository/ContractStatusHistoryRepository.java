@@ -1,10 +1,40 @@
 package com.sgivu.purchasesale.repository;
 
 import com.sgivu.purchasesale.entity.ContractStatusHistory;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ContractStatusHistoryRepository
     extends JpaRepository<ContractStatusHistory, Long> {
   List<ContractStatusHistory> findByPurchaseSaleIdOrderByChangedAtAsc(Long purchaseSaleId);
+
+  // ----------------------------------------------------------------------
+  // Timeline por lote — keyset sobre (changed_at, id), usa idx_status_history_contract_changed_at.
+  // Con cursor nulo se devuelve la primera página.
+  // ----------------------------------------------------------------------
+
+  @Query(
+      "SELECT h FROM ContractStatusHistory h "
+          + "WHERE h.purchaseSaleId IN :contractIds "
+          + "  AND (:afterChangedAt IS NULL "
+          + "       OR h.changedAt > :afterChangedAt "
+          + "       OR (h.changedAt = :afterChangedAt AND h.id > :afterId)) "
+          + "ORDER BY h.changedAt ASC, h.id ASC")
+  List<ContractStatusHistory> findTimelineByContractIds(
+      Collection<Long> contractIds, LocalDateTime afterChangedAt, Long afterId, Pageable pageable);
+
+  @Query(
+      "SELECT h FROM ContractStatusHistory h "
+          + "WHERE h.purchaseSaleId IN ("
+          + "    SELECT ps.id FROM PurchaseSale ps WHERE ps.vehicleId = :vehicleId) "
+          + "  AND (:afterChangedAt IS NULL "
+          + "       OR h.changedAt > :afterChangedAt "
+          + "       OR (h.changedAt = :afterChangedAt AND h.id > :afterId)) "
+          + "ORDER BY h.changedAt ASC, h.id ASC")
+  List<ContractStatusHistory> findTimelineByVehicleId(
+      Long vehicleId, LocalDateTime afterChangedAt, Long afterId, Pageable pageable);
 }
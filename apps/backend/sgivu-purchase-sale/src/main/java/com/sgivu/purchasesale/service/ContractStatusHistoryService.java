@@ -2,7 +2,10 @@ package com.sgivu.purchasesale.service;
 
 import com.sgivu.purchasesale.entity.ContractStatusHistory;
 import com.sgivu.purchasesale.enums.ContractStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Slice;
 
 public interface ContractStatusHistoryService {
   void recordStatusChange(
@@ -13,4 +16,23 @@ public interface ContractStatusHistoryService {
       String reason);
 
   List<ContractStatusHistory> findByContractId(Long purchaseSaleId);
+
+  /**
+   * Obtiene en una sola consulta los cambios de estado de un conjunto de contratos, o de todos los
+   * contratos de un vehículo, ordenados por (changedAt, id) y paginados por cursor.
+   *
+   * @param contractIds IDs de contrato; excluyente con {@code vehicleId}
+   * @param vehicleId ID del vehículo cuyos contratos se consultan; excluyente con {@code
+   *     contractIds}
+   * @param afterChangedAt fecha del último registro de la página anterior, o null para la primera
+   * @param afterId ID del último registro de la página anterior, o null para la primera
+   * @param size tamaño de página
+   * @return página de registros con indicador de continuación
+   */
+  Slice<ContractStatusHistory> findTimeline(
+      Collection<Long> contractIds,
+      Long vehicleId,
+      LocalDateTime afterChangedAt,
+      Long afterId,
+      int size);
 }
@@ -7,6 +7,7 @@ import com.sgivu.purchasesale.dto.DashboardSummaryResponse.GlobalMetrics;
 import com.sgivu.purchasesale.dto.DashboardSummaryResponse.MonthlyBucket;
 import com.sgivu.purchasesale.dto.DashboardSummaryResponse.RecentActivityItem;
 import com.sgivu.purchasesale.dto.DashboardSummaryResponse.VehicleCounts;
+import com.sgivu.purchasesale.dto.VehicleInventoryStats;
 import com.sgivu.purchasesale.entity.PurchaseSale;
 import com.sgivu.purchasesale.repository.PurchaseSaleRepository;
 import com.sgivu.purchasesale.repository.projection.ContractStatusCount;
@@ -28,7 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 
 /**
- * Construye el snapshot del dashboard con queries GROUP BY + un fanout a sgivu-vehicle para
+ * Construye el snapshot del dashboard con queries GROUP BY + una llamada a sgivu-vehicle para
  * conteos. Evita cargar todos los contratos en memoria.
  */
 @Service
@@ -147,26 +148,40 @@ public class DashboardSummaryService {
   }
 
   /**
-   * Obtiene conteos de vehículos desde sgivu-vehicle. Si el microservicio no responde, devuelve
-   * ceros en lugar de fallar — el dashboard prefiere mostrar datos parciales antes que un 500.
+   * Obtiene conteos de vehículos desde sgivu-vehicle con una sola llamada a {@code
+   * /v1/vehicles/stats}. Si el microservicio no responde, devuelve ceros en lugar de fallar — el
+   * dashboard prefiere mostrar datos parciales antes que un 500.
    */
   private VehicleCounts fetchVehicleCounts() {
-    Map<String, Long> cars = safeCounts(vehicleServiceClient::getCarCounts);
-    Map<String, Long> motorcycles = safeCounts(vehicleServiceClient::getMotorcycleCounts);
+    VehicleInventoryStats stats = safeStats();
+    Map<String, VehicleInventoryStats.TypeStats> byType =
+        stats == null || stats.getByType() == null ? Map.of() : stats.getByType();
+    VehicleInventoryStats.TypeStats cars = byType.get("CAR");
+    VehicleInventoryStats.TypeStats motorcycles = byType.get("MOTORCYCLE");
     return VehicleCounts.builder()
-        .totalCars(cars.getOrDefault("totalCars", 0L))
-        .availableCars(cars.getOrDefault("availableCars", 0L))
-        .totalMotorcycles(motorcycles.getOrDefault("totalMotorcycles", 0L))
-        .availableMotorcycles(motorcycles.getOrDefault("availableMotorcycles", 0L))
+        .totalCars(total(cars))
+        .availableCars(available(cars))
+        .totalMotorcycles(total(motorcycles))
+        .availableMotorcycles(available(motorcycles))
         .build();
   }
 
-  private Map<String, Long> safeCounts(java.util.function.Supplier<Map<String, Long>> call) {
+  private VehicleInventoryStats safeStats() {
     try {
-      Map<String, Long> result = call.get();
-      return result == null ? Map.of() : result;
+      return vehicleServiceClient.getInventoryStats();
     } catch (HttpClientErrorException ex) {
-      return Map.of();
+      return null;
     }
   }
+
+  private static long total(VehicleInventoryStats.TypeStats stats) {
+    return stats == null || stats.getTotal() == null ? 0L : stats.getTotal();
+  }
+
+  private static long available(VehicleInventoryStats.TypeStats stats) {
+    if (stats == null || stats.getByStatus() == null) {
+      return 0L;
+    }
+    return stats.getByStatus().getOrDefault("AVAILABLE", 0L);
+  }
 }
@@ -3,14 +3,13 @@ package com.sgivu.purchasesale.service;
 import com.sgivu.purchasesale.client.ClientServiceClient;
 import com.sgivu.purchasesale.client.UserServiceClient;
 import com.sgivu.purchasesale.client.VehicleServiceClient;
-import com.sgivu.purchasesale.dto.Car;
 import com.sgivu.purchasesale.dto.ClientSummary;
 import com.sgivu.purchasesale.dto.Company;
-import com.sgivu.purchasesale.dto.Motorcycle;
 import com.sgivu.purchasesale.dto.Person;
 import com.sgivu.purchasesale.dto.PurchaseSaleDetailResponse;
 import com.sgivu.purchasesale.dto.User;
 import com.sgivu.purchasesale.dto.UserSummary;
+import com.sgivu.purchasesale.dto.Vehicle;
 import com.sgivu.purchasesale.dto.VehicleSummary;
 import com.sgivu.purchasesale.entity.PurchaseSale;
 import com.sgivu.purchasesale.mapper.PurchaseSaleMapper;
@@ -173,21 +172,11 @@ public class PurchaseSaleDetailService {
     Map<Long, VehicleSummary> result = new HashMap<>();
     List<Long> idsList = new ArrayList<>(ids);
 
-    List<Car> cars = safeBatchCall(() -> vehicleServiceClient.getCarsByIds(idsList));
-    for (Car c : cars) {
-      if (c != null && c.getId() != null) {
-        result.put(c.getId(), buildCarSummary(c));
-      }
-    }
-
-    List<Long> missing = idsList.stream().filter(id -> !result.containsKey(id)).toList();
-    if (!missing.isEmpty()) {
-      List<Motorcycle> motorcycles =
-          safeBatchCall(() -> vehicleServiceClient.getMotorcyclesByIds(missing));
-      for (Motorcycle m : motorcycles) {
-        if (m != null && m.getId() != null) {
-          result.put(m.getId(), buildMotorcycleSummary(m));
-        }
+    // Un único batch polimórfico: autos y motos llegan en la misma respuesta con su vehicleType
+    List<Vehicle> vehicles = safeBatchCall(() -> vehicleServiceClient.getVehiclesByIds(idsList));
+    for (Vehicle v : vehicles) {
+      if (v != null && v.getId() != null) {
+        result.put(v.getId(), buildVehicleSummary(v));
       }
     }
 
@@ -199,7 +188,7 @@ public class PurchaseSaleDetailService {
 
   /**
    * Envuelve llamadas batch contra microservicios y devuelve lista vacía en 404, para que la lógica
-   * de fallback (persona→empresa, auto→moto) se pueda encadenar limpiamente.
+   * de fallback (persona→empresa) se pueda encadenar limpiamente.
    */
   private <T> List<T> safeBatchCall(Supplier<List<T>> call) {
     try {
@@ -263,27 +252,15 @@ public class PurchaseSaleDetailService {
         .build();
   }
 
-  private VehicleSummary buildCarSummary(Car car) {
-    return VehicleSummary.builder()
-        .id(car.getId())
-        .type("CAR")
-        .brand(car.getBrand())
-        .line(car.getLine())
-        .model(car.getModel())
-        .plate(car.getPlate())
-        .status(resolveVehicleStatus(car.getStatus()))
-        .build();
-  }
-
-  private VehicleSummary buildMotorcycleSummary(Motorcycle motorcycle) {
+  private VehicleSummary buildVehicleSummary(Vehicle vehicle) {
     return VehicleSummary.builder()
-        .id(motorcycle.getId())
-        .type("MOTORCYCLE")
-        .brand(motorcycle.getBrand())
-        .line(motorcycle.getLine())
-        .model(motorcycle.getModel())
-        .plate(motorcycle.getPlate())
-        .status(resolveVehicleStatus(motorcycle.getStatus()))
+        .id(vehicle.getId())
+        .type(vehicle.getVehicleType() != null ? vehicle.getVehicleType() : UNKNOWN_VALUE)
+        .brand(vehicle.getBrand())
+        .line(vehicle.getLine())
+        .model(vehicle.getModel())
+        .plate(vehicle.getPlate())
+        .status(resolveVehicleStatus(vehicle.getStatus()))
         .build();
   }
 
@@ -2,7 +2,6 @@ package com.sgivu.purchasesale.service;
 
 import com.lowagie.text.Document;
 import com.lowagie.text.Element;
-import com.lowagie.text.FontFactory;
 import com.lowagie.text.Paragraph;
 import com.lowagie.text.Phrase;
 import com.lowagie.text.Rectangle;
@@ -17,8 +16,12 @@ import com.sgivu.purchasesale.entity.PurchaseSale;
 import com.sgivu.purchasesale.enums.ContractStatus;
 import com.sgivu.purchasesale.enums.ContractType;
 import com.sgivu.purchasesale.enums.PaymentMethod;
+import com.sgivu.purchasesale.exception.ContractValidationException;
 import com.sgivu.purchasesale.repository.PurchaseSaleRepository;
+import jakarta.annotation.PreDestroy;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
@@ -27,13 +30,29 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Font;
@@ -45,7 +64,13 @@ import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-/** Servicio para generar reportes de compras y ventas de vehículos en formatos PDF, Excel y CSV. */
+/**
+ * Servicio para generar reportes de compras y ventas de vehículos en formatos PDF, Excel y CSV.
+ *
+ * <p>También genera el documento imprimible de cada contrato y el lote de documentos comprimido en
+ * ZIP. Los documentos del lote se renderizan en paralelo sobre un pool acotado y se escriben en el
+ * ZIP en el orden solicitado, manteniendo en memoria sólo la ventana de documentos en curso.
+ */
 @Service
 public class PurchaseSaleReportService {
 
@@ -59,6 +84,26 @@ public class PurchaseSaleReportService {
   private static final ZoneId SOURCE_ZONE = ZoneId.of("UTC");
   private static final ZoneId TARGET_ZONE = ZoneId.of("America/Bogota");
   private static final Locale REPORT_LOCALE = Locale.of("es", "CO");
+
+  /** {@link NumberFormat} no es thread-safe: se reutiliza una instancia por hilo de renderizado. */
+  private static final ThreadLocal<NumberFormat> CURRENCY_FORMAT =
+      ThreadLocal.withInitial(
+          () -> {
+            NumberFormat formatter = NumberFormat.getCurrencyInstance(REPORT_LOCALE);
+            formatter.setMaximumFractionDigits(2);
+            formatter.setMinimumFractionDigits(0);
+            return formatter;
+          });
+
+  /** Máximo de contratos por lote de documentos, para acotar el tiempo de la petición. */
+  static final int MAX_DOCUMENT_BATCH_SIZE = 500;
+
+  private static final int RENDER_PARALLELISM =
+      Math.clamp(Runtime.getRuntime().availableProcessors(), 2, 8);
+
+  /** Documentos en vuelo durante la exportación ZIP; acota la memoria usada por el lote. */
+  private static final int RENDER_WINDOW = RENDER_PARALLELISM * 2;
+
   private static final String[] DATASET_HEADERS = {
     "Tipo de contrato",
     "Estado del contrato",
@@ -93,14 +138,26 @@ public class PurchaseSaleReportService {
   private final Map<PaymentMethod, String> paymentMethodLabels = new EnumMap<>(PaymentMethod.class);
   private final Map<String, String> vehicleStatusLabels = new HashMap<>();
 
+  /**
+   * Pool acotado para renderizar documentos de contrato. La cola es finita y, al llenarse, el hilo
+   * que envía la tarea la ejecuta él mismo (back-pressure en lugar de rechazos).
+   */
+  private final ExecutorService renderExecutor;
+
   public PurchaseSaleReportService(
       PurchaseSaleRepository purchaseSaleRepository,
       PurchaseSaleDetailService purchaseSaleDetailService) {
     this.purchaseSaleRepository = purchaseSaleRepository;
     this.purchaseSaleDetailService = purchaseSaleDetailService;
+    this.renderExecutor = createRenderExecutor();
     initialiseLabels();
   }
 
+  @PreDestroy
+  void shutdownRenderExecutor() {
+    renderExecutor.shutdown();
+  }
+
   public byte[] generatePdf(LocalDate startDate, LocalDate endDate) {
     List<PurchaseSale> contracts = findContracts(startDate, endDate);
     List<PurchaseSaleDetailResponse> details = purchaseSaleDetailService.toDetails(contracts);
@@ -114,9 +171,7 @@ public class PurchaseSaleReportService {
       document.addAuthor("SGIVU");
 
       Paragraph title =
-          new Paragraph(
-              "Reporte de compras y ventas de vehículos",
-              FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16));
+          new Paragraph("Reporte de compras y ventas de vehículos", ReportPdfStyles.TITLE_FONT);
       title.setAlignment(Element.ALIGN_CENTER);
       title.setSpacingAfter(10f);
       document.add(title);
@@ -243,6 +298,185 @@ public class PurchaseSaleReportService {
     }
   }
 
+  /**
+   * Genera el documento imprimible de un contrato.
+   *
+   * @param contractId ID del contrato
+   * @return PDF del contrato o vacío si el contrato no existe
+   */
+  public Optional<byte[]> generateContractPdf(Long contractId) {
+    return purchaseSaleRepository
+        .findById(contractId)
+        .map(purchaseSaleDetailService::toDetail)
+        .map(this::renderContractPdf);
+  }
+
+  /**
+   * Resuelve los detalles de los contratos solicitados conservando el orden recibido. Los datos
+   * remotos (cliente, usuario, vehículo) se resuelven en batch en el hilo de la petición, de modo
+   * que el renderizado posterior no necesita el contexto de seguridad.
+   *
+   * @param contractIds IDs de contrato; los duplicados y los nulos se ignoran
+   * @return detalles de los contratos existentes
+   * @throws ContractValidationException si la lista está vacía o supera {@link
+   *     #MAX_DOCUMENT_BATCH_SIZE}
+   */
+  public List<PurchaseSaleDetailResponse> findContractDetails(List<Long> contractIds) {
+    List<Long> uniqueIds =
+        contractIds == null
+            ? List.of()
+            : contractIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+                .stream()
+                .toList();
+    if (uniqueIds.isEmpty()) {
+      throw new ContractValidationException("Debe indicar al menos un ID de contrato.");
+    }
+    if (uniqueIds.size() > MAX_DOCUMENT_BATCH_SIZE) {
+      throw new ContractValidationException(
+          "El lote de documentos no puede superar " + MAX_DOCUMENT_BATCH_SIZE + " contratos.");
+    }
+
+    Map<Long, PurchaseSale> contractsById =
+        purchaseSaleRepository.findAllById(uniqueIds).stream()
+            .collect(Collectors.toMap(PurchaseSale::getId, Function.identity()));
+    List<PurchaseSale> ordered =
+        uniqueIds.stream().map(contractsById::get).filter(Objects::nonNull).toList();
+    return purchaseSaleDetailService.toDetails(ordered);
+  }
+
+  /**
+   * Escribe un ZIP con un PDF por contrato. Los documentos se renderizan en paralelo con una
+   * ventana deslizante de {@link #RENDER_WINDOW} tareas y se escriben en el orden recibido, por lo
+   * que la memoria usada no depende del tamaño del lote.
+   *
+   * @param details contratos ya enriquecidos
+   * @param outputStream destino del ZIP; no se cierra
+   * @throws IOException si falla la escritura en el destino
+   */
+  public void writeContractsZip(List<PurchaseSaleDetailResponse> details, OutputStream outputStream)
+      throws IOException {
+    ZipOutputStream zip = new ZipOutputStream(outputStream);
+    Deque<CompletableFuture<byte[]>> inFlight = new ArrayDeque<>(RENDER_WINDOW);
+    Deque<String> entryNames = new ArrayDeque<>(RENDER_WINDOW);
+
+    int index = 0;
+    for (PurchaseSaleDetailResponse detail : details) {
+      if (inFlight.size() == RENDER_WINDOW) {
+        writeZipEntry(zip, entryNames.poll(), awaitDocument(inFlight.poll()));
+      }
+      entryNames.add(buildContractFileName(detail, ++index));
+      inFlight.add(CompletableFuture.supplyAsync(() -> renderContractPdf(detail), renderExecutor));
+    }
+    while (!inFlight.isEmpty()) {
+      writeZipEntry(zip, entryNames.poll(), awaitDocument(inFlight.poll()));
+    }
+    zip.finish();
+    zip.flush();
+  }
+
+  byte[] renderContractPdf(PurchaseSaleDetailResponse contract) {
+    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+      Document document = new Document();
+      PdfWriter.getInstance(document, outputStream);
+
+      document.open();
+      document.addTitle("Contrato " + formatContractNumber(contract));
+      document.addAuthor("SGIVU");
+
+      String typeLabel = getContractTypeLabel(contract.getContractType());
+      String titleText =
+          typeLabel.isEmpty()
+              ? "Contrato " + formatContractNumber(contract)
+              : "Contrato de "
+                  + typeLabel.toLowerCase(REPORT_LOCALE)
+                  + " "
+                  + formatContractNumber(contract);
+      Paragraph title = new Paragraph(titleText, ReportPdfStyles.TITLE_FONT);
+      title.setAlignment(Element.ALIGN_CENTER);
+      title.setSpacingAfter(6f);
+      document.add(title);
+
+      Paragraph status =
+          new Paragraph(
+              LABEL_ESTADO + getStatusLabel(contract.getContractStatus()),
+              ReportPdfStyles.SUBTITLE_FONT);
+      status.setAlignment(Element.ALIGN_CENTER);
+      status.setSpacingAfter(20f);
+      document.add(status);
+
+      PdfPTable table = new PdfPTable(new float[] {1.2f, 3.0f});
+      table.setWidthPercentage(100);
+      addSectionRow(table, "Contrato", formatContractBlock(contract));
+      addSectionRow(table, "Cliente", formatClientBlock(contract.getClientSummary()));
+      addSectionRow(table, "Usuario responsable", formatUserBlock(contract.getUserSummary()));
+      addSectionRow(table, "Vehículo", formatVehicleBlock(contract.getVehicleSummary()));
+      addSectionRow(table, "Condiciones financieras", formatFinanceBlock(contract));
+      addSectionRow(table, "Fechas", formatTimelineBlock(contract));
+      document.add(table);
+
+      document.close();
+      return outputStream.toByteArray();
+    } catch (Exception ex) {
+      throw new IllegalStateException("Error generating contract PDF", ex);
+    }
+  }
+
+  private void addSectionRow(PdfPTable table, String label, String value) {
+    PdfPCell labelCell = new PdfPCell(new Phrase(label, ReportPdfStyles.HEADER_FONT));
+    labelCell.setPadding(8f);
+    labelCell.setBackgroundColor(ReportPdfStyles.HEADER_BACKGROUND);
+    labelCell.setVerticalAlignment(Element.ALIGN_TOP);
+    table.addCell(labelCell);
+    addCell(table, value);
+  }
+
+  private String formatContractNumber(PurchaseSaleDetailResponse contract) {
+    return contract.getId() == null ? "N/D" : "#" + contract.getId();
+  }
+
+  private String buildContractFileName(PurchaseSaleDetailResponse contract, int position) {
+    return contract.getId() == null
+        ? "contrato-sin-id-" + position + ".pdf"
+        : "contrato-" + contract.getId() + ".pdf";
+  }
+
+  private byte[] awaitDocument(CompletableFuture<byte[]> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      throw new IllegalStateException("Error generating contract documents", ex.getCause());
+    }
+  }
+
+  private void writeZipEntry(ZipOutputStream zip, String name, byte[] content) throws IOException {
+    zip.putNextEntry(new ZipEntry(name));
+    zip.write(content);
+    zip.closeEntry();
+  }
+
+  private static ExecutorService createRenderExecutor() {
+    AtomicInteger threadCounter = new AtomicInteger();
+    ThreadFactory threadFactory =
+        runnable -> {
+          Thread thread = new Thread(runnable, "contract-pdf-" + threadCounter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        };
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            RENDER_PARALLELISM,
+            RENDER_PARALLELISM,
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(RENDER_WINDOW),
+            threadFactory,
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   private List<PurchaseSale> findContracts(LocalDate startDate, LocalDate endDate) {
     return purchaseSaleRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt")).stream()
         .filter(contract -> filterByDateRange(contract.getCreatedAt(), startDate, endDate))
@@ -269,14 +503,13 @@ public class PurchaseSaleReportService {
     };
 
     for (String header : headers) {
-      PdfPCell headerCell =
-          new PdfPCell(new Phrase(header, FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10)));
+      PdfPCell headerCell = new PdfPCell(new Phrase(header, ReportPdfStyles.HEADER_FONT));
       headerCell.setHorizontalAlignment(Element.ALIGN_CENTER);
       headerCell.setPaddingTop(10f);
       headerCell.setPaddingBottom(10f);
       headerCell.setPaddingLeft(6f);
       headerCell.setPaddingRight(6f);
-      headerCell.setBackgroundColor(new java.awt.Color(242, 242, 242));
+      headerCell.setBackgroundColor(ReportPdfStyles.HEADER_BACKGROUND);
       headerCell.setBorder(Rectangle.BOX);
       table.addCell(headerCell);
     }
@@ -303,8 +536,7 @@ public class PurchaseSaleReportService {
   }
 
   private void addCell(PdfPTable table, String value) {
-    Paragraph paragraph =
-        new Paragraph(value != null ? value : "", FontFactory.getFont(FontFactory.HELVETICA, 9));
+    Paragraph paragraph = new Paragraph(value != null ? value : "", ReportPdfStyles.BODY_FONT);
     paragraph.setMultipliedLeading(1.3f);
     paragraph.setSpacingBefore(2f);
     paragraph.setSpacingAfter(4f);
@@ -440,10 +672,7 @@ public class PurchaseSaleReportService {
     if (value == null) {
       return "N/D";
     }
-    NumberFormat formatter = NumberFormat.getCurrencyInstance(REPORT_LOCALE);
-    formatter.setMaximumFractionDigits(2);
-    formatter.setMinimumFractionDigits(0);
-    return formatter.format(value);
+    return CURRENCY_FORMAT.get().format(value);
   }
 
   private String formatDecimal(Double value) {
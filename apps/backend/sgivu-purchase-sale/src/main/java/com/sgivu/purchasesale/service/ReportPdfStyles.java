@@ -0,0 +1,24 @@
+package com.sgivu.purchasesale.service;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import java.awt.Color;
+
+/**
+ * Registro de fuentes y colores compartidos por los documentos PDF.
+ *
+ * <p>Las fuentes se resuelven una sola vez al cargar la clase en lugar de invocar {@link
+ * FontFactory#getFont} por cada celda. Las instancias no se mutan después de crearse, por lo que
+ * pueden compartirse entre los hilos que renderizan documentos en paralelo.
+ */
+final class ReportPdfStyles {
+
+  static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
+  static final Font SUBTITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 10);
+  static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 10);
+  static final Font BODY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9);
+
+  static final Color HEADER_BACKGROUND = new Color(242, 242, 242);
+
+  private ReportPdfStyles() {}
+}
@@ -2,9 +2,16 @@ package com.sgivu.purchasesale.service.impl;
 
 import com.sgivu.purchasesale.entity.ContractStatusHistory;
 import com.sgivu.purchasesale.enums.ContractStatus;
+import com.sgivu.purchasesale.exception.ContractValidationException;
 import com.sgivu.purchasesale.repository.ContractStatusHistoryRepository;
 import com.sgivu.purchasesale.service.ContractStatusHistoryService;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +19,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ContractStatusHistoryServiceImpl implements ContractStatusHistoryService {
 
+  static final int MAX_TIMELINE_CONTRACTS = 500;
+  static final int MAX_TIMELINE_PAGE_SIZE = 1000;
+
   private final ContractStatusHistoryRepository contractStatusHistoryRepository;
 
   public ContractStatusHistoryServiceImpl(
@@ -40,4 +50,46 @@ public class ContractStatusHistoryServiceImpl implements ContractStatusHistorySe
   public List<ContractStatusHistory> findByContractId(Long purchaseSaleId) {
     return contractStatusHistoryRepository.findByPurchaseSaleIdOrderByChangedAtAsc(purchaseSaleId);
   }
+
+  @Override
+  public Slice<ContractStatusHistory> findTimeline(
+      Collection<Long> contractIds,
+      Long vehicleId,
+      LocalDateTime afterChangedAt,
+      Long afterId,
+      int size) {
+    List<Long> ids =
+        contractIds == null
+            ? List.of()
+            : contractIds.stream().filter(Objects::nonNull).distinct().toList();
+    if (ids.isEmpty() == (vehicleId == null)) {
+      throw new ContractValidationException(
+          "Debe indicar una lista de contratos o un vehículo, pero no ambos.");
+    }
+    if (ids.size() > MAX_TIMELINE_CONTRACTS) {
+      throw new ContractValidationException(
+          "La consulta no puede superar " + MAX_TIMELINE_CONTRACTS + " contratos.");
+    }
+    if (size < 1 || size > MAX_TIMELINE_PAGE_SIZE) {
+      throw new ContractValidationException(
+          "El tamaño de página debe estar entre 1 y " + MAX_TIMELINE_PAGE_SIZE + ".");
+    }
+    if ((afterChangedAt == null) != (afterId == null)) {
+      throw new ContractValidationException(
+          "El cursor requiere afterChangedAt y afterId simultáneamente.");
+    }
+
+    // Se pide un registro extra para saber si hay una página siguiente sin ejecutar un COUNT.
+    PageRequest lookahead = PageRequest.of(0, size + 1);
+    List<ContractStatusHistory> rows =
+        ids.isEmpty()
+            ? contractStatusHistoryRepository.findTimelineByVehicleId(
+                vehicleId, afterChangedAt, afterId, lookahead)
+            : contractStatusHistoryRepository.findTimelineByContractIds(
+                ids, afterChangedAt, afterId, lookahead);
+
+    boolean hasNext = rows.size() > size;
+    List<ContractStatusHistory> content = hasNext ? rows.subList(0, size) : rows;
+    return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+  }
 }
@@ -0,0 +1,111 @@
+package com.sgivu.purchasesale.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sgivu.purchasesale.dto.ClientSummary;
+import com.sgivu.purchasesale.dto.PurchaseSaleDetailResponse;
+import com.sgivu.purchasesale.dto.UserSummary;
+import com.sgivu.purchasesale.dto.VehicleSummary;
+import com.sgivu.purchasesale.enums.ContractStatus;
+import com.sgivu.purchasesale.enums.ContractType;
+import com.sgivu.purchasesale.enums.PaymentMethod;
+import com.sgivu.purchasesale.repository.PurchaseSaleRepository;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+
+/**
+ * Benchmark de throughput (contratos/segundo) del documento por contrato y del lote ZIP.
+ *
+ * <p>Desactivado por defecto. Ejecutar con {@code ./mvnw test -Dtest=ContractDocumentBenchmarkTest
+ * -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ContractDocumentBenchmarkTest {
+
+  private static final int WARMUP_CONTRACTS = 200;
+  private static final int MEASURED_CONTRACTS = 500;
+
+  private final PurchaseSaleReportService service =
+      new PurchaseSaleReportService(
+          Mockito.mock(PurchaseSaleRepository.class),
+          Mockito.mock(PurchaseSaleDetailService.class));
+
+  @Test
+  @DisplayName("Throughput de renderizado secuencial vs. lote ZIP en paralelo")
+  void measureContractsPerSecond() throws Exception {
+    List<PurchaseSaleDetailResponse> warmup = buildDetails(WARMUP_CONTRACTS);
+    warmup.forEach(service::renderContractPdf);
+    service.writeContractsZip(warmup, OutputStream.nullOutputStream());
+
+    List<PurchaseSaleDetailResponse> details = buildDetails(MEASURED_CONTRACTS);
+
+    long sequentialStart = System.nanoTime();
+    details.forEach(service::renderContractPdf);
+    double sequential = contractsPerSecond(details.size(), System.nanoTime() - sequentialStart);
+
+    long zipStart = System.nanoTime();
+    service.writeContractsZip(details, OutputStream.nullOutputStream());
+    double zip = contractsPerSecond(details.size(), System.nanoTime() - zipStart);
+
+    System.out.printf(
+        "Contract documents: sequential=%.1f contracts/s, zip batch=%.1f contracts/s%n",
+        sequential, zip);
+    assertTrue(sequential > 0 && zip > 0);
+  }
+
+  private static double contractsPerSecond(int contracts, long elapsedNanos) {
+    return contracts / (elapsedNanos / 1_000_000_000d);
+  }
+
+  private static List<PurchaseSaleDetailResponse> buildDetails(int count) {
+    return LongStream.rangeClosed(1, count)
+        .mapToObj(
+            id -> {
+              PurchaseSaleDetailResponse detail = new PurchaseSaleDetailResponse();
+              detail.setId(id);
+              detail.setClientSummary(
+                  ClientSummary.builder()
+                      .id(id)
+                      .type("PERSON")
+                      .name("Cliente " + id)
+                      .identifier("CC " + (1_000_000 + id))
+                      .email("cliente" + id + "@example.com")
+                      .phoneNumber(3_000_000_000L + id)
+                      .build());
+              detail.setUserSummary(
+                  UserSummary.builder()
+                      .id(id)
+                      .fullName("Asesor " + id)
+                      .username("asesor" + id)
+                      .email("asesor" + id + "@example.com")
+                      .build());
+              detail.setVehicleSummary(
+                  VehicleSummary.builder()
+                      .id(id)
+                      .type("CAR")
+                      .brand("Toyota")
+                      .line("Corolla")
+                      .model("2022")
+                      .plate("ABC" + (100 + id % 900))
+                      .status("AVAILABLE")
+                      .build());
+              detail.setPurchasePrice(80_000_000d + id);
+              detail.setSalePrice(95_000_000d + id);
+              detail.setContractType(id % 2 == 0 ? ContractType.SALE : ContractType.PURCHASE);
+              detail.setContractStatus(ContractStatus.COMPLETED);
+              detail.setPaymentMethod(PaymentMethod.BANK_TRANSFER);
+              detail.setPaymentTerms("Pago único");
+              detail.setObservations("Contrato de prueba " + id);
+              detail.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+              detail.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
+              return detail;
+            })
+        .toList();
+  }
+}
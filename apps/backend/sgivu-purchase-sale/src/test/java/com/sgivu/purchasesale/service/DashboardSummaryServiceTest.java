@@ -0,0 +1,98 @@
+package com.sgivu.purchasesale.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.purchasesale.client.VehicleServiceClient;
+import com.sgivu.purchasesale.dto.DashboardSummaryResponse.VehicleCounts;
+import com.sgivu.purchasesale.dto.VehicleInventoryStats;
+import com.sgivu.purchasesale.repository.PurchaseSaleRepository;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import tools.jackson.databind.json.JsonMapper;
+
+class DashboardSummaryServiceTest {
+
+  @Mock private PurchaseSaleRepository purchaseSaleRepository;
+  @Mock private VehicleServiceClient vehicleServiceClient;
+
+  @InjectMocks private DashboardSummaryService service;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  @Nested
+  @DisplayName("getSummary().vehicleCounts")
+  class VehicleCountsTests {
+
+    @Test
+    @DisplayName("Debe leer el JSON de /v1/vehicles/stats y tomar CAR, MOTORCYCLE y AVAILABLE")
+    void shouldMapStatsPayload() {
+      String payload =
+          """
+          {
+            "total": 12,
+            "byStatus": {"AVAILABLE": 7, "SOLD": 5},
+            "inventoryValue": 1000.0,
+            "saleValue": 1500.0,
+            "byType": {
+              "CAR": {"total": 8, "byStatus": {"AVAILABLE": 5, "SOLD": 3}},
+              "MOTORCYCLE": {"total": 4, "byStatus": {"AVAILABLE": 2, "SOLD": 2}}
+            }
+          }
+          """;
+      when(vehicleServiceClient.getInventoryStats())
+          .thenReturn(JsonMapper.builder().build().readValue(payload, VehicleInventoryStats.class));
+
+      VehicleCounts counts = service.getSummary().getVehicleCounts();
+
+      assertEquals(8L, counts.getTotalCars());
+      assertEquals(5L, counts.getAvailableCars());
+      assertEquals(4L, counts.getTotalMotorcycles());
+      assertEquals(2L, counts.getAvailableMotorcycles());
+      verify(vehicleServiceClient).getInventoryStats();
+    }
+
+    @Test
+    @DisplayName("Debe devolver ceros para el tipo o el estado que no vienen en la respuesta")
+    void shouldReturnZerosForMissingType() {
+      VehicleInventoryStats.TypeStats cars = new VehicleInventoryStats.TypeStats();
+      cars.setTotal(3L);
+      cars.setByStatus(Map.of("SOLD", 3L));
+      VehicleInventoryStats stats = new VehicleInventoryStats();
+      stats.setByType(Map.of("CAR", cars));
+      when(vehicleServiceClient.getInventoryStats()).thenReturn(stats);
+
+      VehicleCounts counts = service.getSummary().getVehicleCounts();
+
+      assertEquals(3L, counts.getTotalCars());
+      assertEquals(0L, counts.getAvailableCars());
+      assertEquals(0L, counts.getTotalMotorcycles());
+      assertEquals(0L, counts.getAvailableMotorcycles());
+    }
+
+    @Test
+    @DisplayName("Debe devolver ceros cuando sgivu-vehicle responde con error del cliente")
+    void shouldFallBackToZerosOnClientError() {
+      when(vehicleServiceClient.getInventoryStats())
+          .thenThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN));
+
+      VehicleCounts counts = service.getSummary().getVehicleCounts();
+
+      assertEquals(0L, counts.getTotalCars());
+      assertEquals(0L, counts.getAvailableCars());
+      assertEquals(0L, counts.getTotalMotorcycles());
+      assertEquals(0L, counts.getAvailableMotorcycles());
+    }
+  }
+}
@@ -124,10 +124,11 @@ class PurchaseSaleDetailServiceTest {
       car.setModel("2020");
       car.setPlate("ABC123");
       car.setStatus("available");
+      car.setVehicleType("CAR");
 
       when(clientServiceClient.getPersonsByIds(anyList())).thenReturn(List.of(person));
       when(userServiceClient.getUsersByIds(anyList())).thenReturn(List.of(user));
-      when(vehicleServiceClient.getCarsByIds(anyList())).thenReturn(List.of(car));
+      when(vehicleServiceClient.getVehiclesByIds(anyList())).thenReturn(List.of(car));
 
       List<PurchaseSaleDetailResponse> result = service.toDetails(List.of(p1, p2));
 
@@ -151,10 +152,11 @@ class PurchaseSaleDetailServiceTest {
       // Se llama una sola vez a cada batch, no N veces por contrato
       verify(clientServiceClient, times(1)).getPersonsByIds(anyList());
       verify(userServiceClient, times(1)).getUsersByIds(anyList());
-      verify(vehicleServiceClient, times(1)).getCarsByIds(anyList());
+      verify(vehicleServiceClient, times(1)).getVehiclesByIds(anyList());
       // Como los ids de persona se resolvieron, NO se llama al batch de companies
       verify(clientServiceClient, never()).getCompaniesByIds(anyList());
-      // Como los ids de auto se resolvieron, NO se llama al batch de motos
+      // El batch polimórfico reemplaza a los batch por tipo
+      verify(vehicleServiceClient, never()).getCarsByIds(anyList());
       verify(vehicleServiceClient, never()).getMotorcyclesByIds(anyList());
     }
 
@@ -202,42 +204,53 @@ class PurchaseSaleDetailServiceTest {
     }
 
     @Test
-    @DisplayName("Debe intentar autos luego motos luego desconocido (batch)")
-    void shouldTryCarsThenMotorcyclesThenUnknown() {
-      PurchaseSale p = baseContract();
-      p.setId(1L);
-      p.setVehicleId(50L);
+    @DisplayName("Debe resolver autos y motos en un solo batch y marcar desconocidos")
+    void shouldResolveCarsAndMotorcyclesInSingleBatchThenUnknown() {
+      PurchaseSale p1 = baseContract();
+      p1.setId(1L);
+      p1.setVehicleId(40L);
+      PurchaseSale p2 = baseContract();
+      p2.setId(2L);
+      p2.setVehicleId(50L);
+      PurchaseSale p3 = baseContract();
+      p3.setId(3L);
+      p3.setVehicleId(99L);
+
+      Car c = new Car();
+      c.setId(40L);
+      c.setVehicleType("CAR");
+      c.setBrand("Mazda");
+      c.setStatus("sold");
 
-      // Autos batch vacío, motos batch devuelve la moto
       Motorcycle m = new Motorcycle();
       m.setId(50L);
+      m.setVehicleType("MOTORCYCLE");
       m.setBrand("Yamaha");
       m.setLine("YZF");
       m.setModel("R3");
       m.setPlate("MOTO50");
       m.setStatus("in_repair");
 
-      when(vehicleServiceClient.getCarsByIds(anyList())).thenReturn(List.of());
-      when(vehicleServiceClient.getMotorcyclesByIds(anyList())).thenReturn(List.of(m));
+      when(vehicleServiceClient.getVehiclesByIds(anyList())).thenReturn(List.of(c, m));
 
-      PurchaseSaleDetailResponse detail = service.toDetails(List.of(p)).get(0);
-      assertNotNull(detail.getVehicleSummary());
+      List<PurchaseSaleDetailResponse> details = service.toDetails(List.of(p1, p2, p3));
+
+      assertEquals("CAR", details.get(0).getVehicleSummary().getType());
+      assertEquals("SOLD", details.get(0).getVehicleSummary().getStatus());
+
+      PurchaseSaleDetailResponse detail = details.get(1);
       assertEquals("MOTORCYCLE", detail.getVehicleSummary().getType());
       assertEquals("Yamaha", detail.getVehicleSummary().getBrand());
       assertEquals("IN_REPAIR", detail.getVehicleSummary().getStatus());
 
-      // Ambos batch vacíos -> UNKNOWN
-      PurchaseSale p2 = baseContract();
-      p2.setId(2L);
-      p2.setVehicleId(99L);
-      when(vehicleServiceClient.getCarsByIds(anyList())).thenReturn(List.of());
-      when(vehicleServiceClient.getMotorcyclesByIds(anyList())).thenReturn(List.of());
-
-      PurchaseSaleDetailResponse detail2 = service.toDetails(List.of(p2)).get(0);
-      assertNotNull(detail2.getVehicleSummary());
-      assertEquals("UNKNOWN", detail2.getVehicleSummary().getType());
-      assertEquals("Vehículo no disponible", detail2.getVehicleSummary().getBrand());
-      assertEquals("UNKNOWN", detail2.getVehicleSummary().getStatus());
+      // El id ausente del batch -> UNKNOWN
+      PurchaseSaleDetailResponse detail3 = details.get(2);
+      assertEquals("UNKNOWN", detail3.getVehicleSummary().getType());
+      assertEquals("Vehículo no disponible", detail3.getVehicleSummary().getBrand());
+      assertEquals("UNKNOWN", detail3.getVehicleSummary().getStatus());
+
+      verify(vehicleServiceClient, times(1)).getVehiclesByIds(anyList());
+      verifyNoMoreInteractions(vehicleServiceClient);
     }
 
     @Test
@@ -3,6 +3,8 @@ package com.sgivu.purchasesale.service;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.sgivu.purchasesale.dto.ClientSummary;
@@ -13,17 +15,24 @@ import com.sgivu.purchasesale.entity.PurchaseSale;
 import com.sgivu.purchasesale.enums.ContractStatus;
 import com.sgivu.purchasesale.enums.ContractType;
 import com.sgivu.purchasesale.enums.PaymentMethod;
+import com.sgivu.purchasesale.exception.ContractValidationException;
 import com.sgivu.purchasesale.repository.PurchaseSaleRepository;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.text.NumberFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -976,4 +985,145 @@ class PurchaseSaleReportServiceTest {
     m.setAccessible(true);
     return (Boolean) m.invoke(service, value, start, end);
   }
+
+  @Nested
+  @DisplayName("generateContractPdf(Long)")
+  class GenerateContractPdfTests {
+
+    @Test
+    @DisplayName("Debe retornar vacío cuando el contrato no existe")
+    void shouldReturnEmptyWhenContractMissing() {
+      PurchaseSaleRepository repo = Mockito.mock(PurchaseSaleRepository.class);
+      PurchaseSaleDetailService detailService = Mockito.mock(PurchaseSaleDetailService.class);
+      PurchaseSaleReportService localService = new PurchaseSaleReportService(repo, detailService);
+
+      Mockito.when(repo.findById(99L)).thenReturn(Optional.empty());
+
+      assertTrue(localService.generateContractPdf(99L).isEmpty());
+      Mockito.verifyNoInteractions(detailService);
+    }
+
+    @Test
+    @DisplayName("Debe generar un PDF válido para un contrato existente")
+    void shouldGeneratePdfForExistingContract() {
+      PurchaseSaleRepository repo = Mockito.mock(PurchaseSaleRepository.class);
+      PurchaseSaleDetailService detailService = Mockito.mock(PurchaseSaleDetailService.class);
+      PurchaseSaleReportService localService = new PurchaseSaleReportService(repo, detailService);
+
+      PurchaseSale contract = new PurchaseSale();
+      contract.setId(7L);
+      Mockito.when(repo.findById(7L)).thenReturn(Optional.of(contract));
+      Mockito.when(detailService.toDetail(contract)).thenReturn(buildDetail(7L));
+
+      byte[] pdf = localService.generateContractPdf(7L).orElseThrow();
+      assertEquals("%PDF", new String(pdf, 0, 4, StandardCharsets.US_ASCII));
+    }
+  }
+
+  @Nested
+  @DisplayName("findContractDetails(List<Long>)")
+  class FindContractDetailsTests {
+
+    @Test
+    @DisplayName("Debe rechazar lotes vacíos")
+    void shouldRejectEmptyBatch() {
+      assertThrows(ContractValidationException.class, () -> service.findContractDetails(List.of()));
+      assertThrows(ContractValidationException.class, () -> service.findContractDetails(null));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes que superan el máximo permitido")
+    void shouldRejectOversizedBatch() {
+      List<Long> ids =
+          LongStream.rangeClosed(1, PurchaseSaleReportService.MAX_DOCUMENT_BATCH_SIZE + 1L)
+              .boxed()
+              .toList();
+      assertThrows(ContractValidationException.class, () -> service.findContractDetails(ids));
+    }
+
+    @Test
+    @DisplayName("Debe conservar el orden solicitado y omitir duplicados e inexistentes")
+    void shouldKeepRequestedOrderAndSkipDuplicatesAndMissing() {
+      PurchaseSaleRepository repo = Mockito.mock(PurchaseSaleRepository.class);
+      PurchaseSaleDetailService detailService = Mockito.mock(PurchaseSaleDetailService.class);
+      PurchaseSaleReportService localService = new PurchaseSaleReportService(repo, detailService);
+
+      PurchaseSale first = new PurchaseSale();
+      first.setId(1L);
+      PurchaseSale third = new PurchaseSale();
+      third.setId(3L);
+      Mockito.when(repo.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(first, third));
+      Mockito.when(detailService.toDetails(List.of(third, first)))
+          .thenReturn(List.of(buildDetail(3L), buildDetail(1L)));
+
+      List<PurchaseSaleDetailResponse> result =
+          localService.findContractDetails(Arrays.asList(3L, 2L, null, 3L, 1L));
+
+      assertEquals(2, result.size());
+      assertEquals(3L, result.get(0).getId());
+      assertEquals(1L, result.get(1).getId());
+    }
+  }
+
+  @Nested
+  @DisplayName("writeContractsZip(List, OutputStream)")
+  class WriteContractsZipTests {
+
+    @Test
+    @DisplayName("Debe escribir un PDF por contrato en el orden recibido")
+    void shouldWriteOnePdfPerContractInOrder() throws Exception {
+      List<PurchaseSaleDetailResponse> details =
+          LongStream.rangeClosed(1, 40)
+              .mapToObj(PurchaseSaleReportServiceTest::buildDetail)
+              .toList();
+
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      service.writeContractsZip(details, output);
+
+      List<String> names = new ArrayList<>();
+      try (ZipInputStream zip =
+          new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+          names.add(entry.getName());
+          byte[] content = zip.readAllBytes();
+          assertEquals("%PDF", new String(content, 0, 4, StandardCharsets.US_ASCII));
+        }
+      }
+
+      assertEquals(40, names.size());
+      assertEquals("contrato-1.pdf", names.get(0));
+      assertEquals("contrato-40.pdf", names.get(39));
+    }
+
+    @Test
+    @DisplayName("Debe generar un ZIP vacío válido cuando no hay contratos")
+    void shouldWriteEmptyZipWhenNoContracts() throws Exception {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      service.writeContractsZip(List.of(), output);
+
+      try (ZipInputStream zip =
+          new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+        assertNull(zip.getNextEntry());
+      }
+    }
+  }
+
+  private static PurchaseSaleDetailResponse buildDetail(Long id) {
+    PurchaseSaleDetailResponse detail = new PurchaseSaleDetailResponse();
+    detail.setId(id);
+    detail.setClientSummary(
+        ClientSummary.builder().id(10L).type("PERSON").name("Juan Perez").build());
+    detail.setUserSummary(UserSummary.builder().id(20L).fullName("Carlos Lopez").build());
+    detail.setVehicleSummary(
+        VehicleSummary.builder().id(30L).type("CAR").brand("Toyota").plate("ABC123").build());
+    detail.setPurchasePrice(100_000_000d);
+    detail.setSalePrice(120_000_000d);
+    detail.setContractType(ContractType.SALE);
+    detail.setContractStatus(ContractStatus.ACTIVE);
+    detail.setPaymentMethod(PaymentMethod.BANK_TRANSFER);
+    detail.setCreatedAt(LocalDateTime.of(2024, 3, 1, 15, 0));
+    detail.setUpdatedAt(LocalDateTime.of(2024, 3, 2, 15, 0));
+    return detail;
+  }
 }
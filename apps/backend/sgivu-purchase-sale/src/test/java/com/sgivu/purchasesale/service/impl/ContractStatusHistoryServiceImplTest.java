@@ -0,0 +1,124 @@
+package com.sgivu.purchasesale.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.purchasesale.entity.ContractStatusHistory;
+import com.sgivu.purchasesale.enums.ContractStatus;
+import com.sgivu.purchasesale.exception.ContractValidationException;
+import com.sgivu.purchasesale.repository.ContractStatusHistoryRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+@ExtendWith(MockitoExtension.class)
+class ContractStatusHistoryServiceImplTest {
+
+  @Mock private ContractStatusHistoryRepository contractStatusHistoryRepository;
+
+  @InjectMocks private ContractStatusHistoryServiceImpl service;
+
+  private static ContractStatusHistory history(long id, long contractId) {
+    ContractStatusHistory history = new ContractStatusHistory();
+    history.setId(id);
+    history.setPurchaseSaleId(contractId);
+    history.setNewStatus(ContractStatus.ACTIVE);
+    history.setChangedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id));
+    return history;
+  }
+
+  @Nested
+  @DisplayName("findTimeline")
+  class FindTimelineTests {
+
+    @Test
+    @DisplayName("Debe consultar por lote de contratos pidiendo un registro extra")
+    void shouldQueryByContractIdsWithLookahead() {
+      when(contractStatusHistoryRepository.findTimelineByContractIds(
+              eq(List.of(1L, 2L)), isNull(), isNull(), any(Pageable.class)))
+          .thenReturn(List.of(history(1, 1), history(2, 2)));
+
+      Slice<ContractStatusHistory> slice =
+          service.findTimeline(List.of(1L, 2L, 1L), null, null, null, 2);
+
+      assertEquals(2, slice.getNumberOfElements());
+      assertFalse(slice.hasNext());
+      verify(contractStatusHistoryRepository)
+          .findTimelineByContractIds(List.of(1L, 2L), null, null, PageRequest.of(0, 3));
+      verify(contractStatusHistoryRepository, never())
+          .findTimelineByVehicleId(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe recortar al tamaño de página e indicar que hay más registros")
+    void shouldTrimToPageSizeAndReportHasNext() {
+      LocalDateTime cursor = LocalDateTime.of(2024, 1, 1, 0, 0);
+      when(contractStatusHistoryRepository.findTimelineByVehicleId(
+              eq(9L), eq(cursor), eq(5L), any(Pageable.class)))
+          .thenReturn(List.of(history(6, 1), history(7, 1), history(8, 2)));
+
+      Slice<ContractStatusHistory> slice = service.findTimeline(null, 9L, cursor, 5L, 2);
+
+      assertTrue(slice.hasNext());
+      assertEquals(List.of(6L, 7L), slice.map(ContractStatusHistory::getId).getContent());
+    }
+
+    @Test
+    @DisplayName("Debe exigir contratos o vehículo, pero no ambos")
+    void shouldRequireExactlyOneFilter() {
+      assertThrows(
+          ContractValidationException.class,
+          () -> service.findTimeline(null, null, null, null, 10));
+      assertThrows(
+          ContractValidationException.class,
+          () -> service.findTimeline(List.of(1L), 9L, null, null, 10));
+      verifyNoInteractions(contractStatusHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes demasiado grandes y tamaños fuera de rango")
+    void shouldRejectOversizedRequests() {
+      List<Long> ids =
+          LongStream.rangeClosed(1, ContractStatusHistoryServiceImpl.MAX_TIMELINE_CONTRACTS + 1L)
+              .boxed()
+              .toList();
+      assertThrows(
+          ContractValidationException.class, () -> service.findTimeline(ids, null, null, null, 10));
+      assertThrows(
+          ContractValidationException.class,
+          () -> service.findTimeline(List.of(1L), null, null, null, 0));
+      assertThrows(
+          ContractValidationException.class,
+          () ->
+              service.findTimeline(
+                  List.of(1L),
+                  null,
+                  null,
+                  null,
+                  ContractStatusHistoryServiceImpl.MAX_TIMELINE_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("Debe exigir ambos componentes del cursor")
+    void shouldRequireCompleteCursor() {
+      assertThrows(
+          ContractValidationException.class,
+          () -> service.findTimeline(List.of(1L), null, LocalDateTime.now(), null, 10));
+      assertThrows(
+          ContractValidationException.class,
+          () -> service.findTimeline(List.of(1L), null, null, 3L, 10));
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.sgivu.user.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PasswordHashingConfig {
+
+  /**
+   * Pool acotado donde se cifran las contraseñas del alta masiva, para no ocupar los hilos de las
+   * peticiones ni usar más núcleos de los disponibles.
+   */
+  @Bean(destroyMethod = "shutdown")
+  ExecutorService passwordHashingExecutor(UserBulkProperties userBulkProperties) {
+    int threads =
+        userBulkProperties.getHashingThreads() > 0
+            ? userBulkProperties.getHashingThreads()
+            : Runtime.getRuntime().availableProcessors();
+    return Executors.newFixedThreadPool(
+        threads, Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory());
+  }
+}
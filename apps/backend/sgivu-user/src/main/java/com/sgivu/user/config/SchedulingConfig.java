@@ -0,0 +1,9 @@
+package com.sgivu.user.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Habilita las tareas programadas (p. ej. la escritura periódica de la actividad de usuarios). */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -0,0 +1,20 @@
+package com.sgivu.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Alta masiva de usuarios ({@code user.bulk.*}). */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "user.bulk")
+public class UserBulkProperties {
+
+  /** Usuarios por solicitud; todos se validan, se cifran y se insertan en una transacción. */
+  private int maxUsers = 500;
+
+  /** Hilos para cifrar contraseñas con BCrypt; 0 usa un hilo por núcleo disponible. */
+  private int hashingThreads = 0;
+}
@@ -2,11 +2,18 @@ package com.sgivu.user.controller;
 
 import com.sgivu.user.controller.api.UserApi;
 import com.sgivu.user.dto.ApiResponse;
+import com.sgivu.user.dto.UserActivityEvent;
+import com.sgivu.user.dto.UserAuthenticationResponse;
+import com.sgivu.user.dto.UserBulkCreateResult;
 import com.sgivu.user.dto.UserFilterCriteria;
 import com.sgivu.user.dto.UserResponse;
+import com.sgivu.user.dto.UserSummaryResponse;
 import com.sgivu.user.dto.UserUpdateRequest;
+import com.sgivu.user.entity.Role;
 import com.sgivu.user.entity.User;
 import com.sgivu.user.mapper.UserMapper;
+import com.sgivu.user.service.UserActivityService;
+import com.sgivu.user.service.UserProvisioningService;
 import com.sgivu.user.service.UserService;
 import com.sgivu.user.validation.ValidationService;
 import java.util.Collections;
@@ -14,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -28,13 +36,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class UserController implements UserApi {
 
   private final UserService userService;
+  private final UserProvisioningService userProvisioningService;
+  private final UserActivityService userActivityService;
   private final ValidationService validationService;
 
   private final UserMapper userMapper;
 
   public UserController(
-      UserService userService, ValidationService validationService, UserMapper userMapper) {
+      UserService userService,
+      UserProvisioningService userProvisioningService,
+      UserActivityService userActivityService,
+      ValidationService validationService,
+      UserMapper userMapper) {
     this.userService = userService;
+    this.userProvisioningService = userProvisioningService;
+    this.userActivityService = userActivityService;
     this.validationService = validationService;
     this.userMapper = userMapper;
   }
@@ -49,18 +65,28 @@ public class UserController implements UserApi {
     if (validationResult != null) return validationResult;
 
     User savedUser = userService.save(user);
-    UserResponse userResponse = userMapper.toUserResponse(savedUser);
+    UserResponse userResponse = toResponse(savedUser);
     ApiResponse<UserResponse> apiResponse = new ApiResponse<>(userResponse);
 
     return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
   }
 
+  @Override
+  @PreAuthorize("hasAuthority('user:create')")
+  public ResponseEntity<ApiResponse<List<UserBulkCreateResult>>> createAll(List<User> users) {
+    try {
+      return ResponseEntity.ok(new ApiResponse<>(userProvisioningService.createAll(users)));
+    } catch (IllegalArgumentException e) {
+      return validationService.validationError(Map.of("users", e.getMessage()));
+    }
+  }
+
   @Override
   @PreAuthorize("hasAuthority('user:read')")
   public ResponseEntity<UserResponse> getById(Long id) {
     return userService
         .findById(id)
-        .map(user -> ResponseEntity.ok(userMapper.toUserResponse(user)))
+        .map(user -> ResponseEntity.ok(toResponse(user)))
         .orElse(ResponseEntity.notFound().build());
   }
 
@@ -68,22 +94,34 @@ public class UserController implements UserApi {
   public ResponseEntity<UserResponse> getByUsername(String username) {
     return userService
         .findByUsername(username)
-        .map(user -> ResponseEntity.ok(userMapper.toUserResponse(user)))
+        .map(user -> ResponseEntity.ok(toResponse(user)))
+        .orElse(ResponseEntity.notFound().build());
+  }
+
+  @Override
+  public ResponseEntity<UserAuthenticationResponse> getAuthenticationByUsername(String username) {
+    return userService
+        .findAuthenticationByUsername(username)
+        .map(ResponseEntity::ok)
         .orElse(ResponseEntity.notFound().build());
   }
 
+  @Override
+  public ResponseEntity<Void> recordActivity(List<UserActivityEvent> events) {
+    userActivityService.record(events);
+    return ResponseEntity.accepted().build();
+  }
+
   @Override
   @PreAuthorize("hasAuthority('user:read')")
   public ResponseEntity<List<UserResponse>> getAll() {
-    return ResponseEntity.ok(
-        userService.findAll().stream().map(userMapper::toUserResponse).toList());
+    return ResponseEntity.ok(toResponses(userService.findAll()));
   }
 
   @Override
   @PreAuthorize("hasAuthority('user:read')")
   public ResponseEntity<Page<UserResponse>> getAllPaginated(Integer page) {
-    return ResponseEntity.ok(
-        userService.findAll(PageRequest.of(page, 10)).map(userMapper::toUserResponse));
+    return ResponseEntity.ok(toResponses(userService.findAll(PageRequest.of(page, 10))));
   }
 
   @Override
@@ -103,7 +141,7 @@ public class UserController implements UserApi {
         .update(id, userUpdateRequest)
         .map(
             user -> {
-              UserResponse userResponse = userMapper.toUserResponse(user);
+              UserResponse userResponse = toResponse(user);
               ApiResponse<UserResponse> apiResponse = new ApiResponse<>(userResponse);
               return ResponseEntity.ok(apiResponse);
             })
@@ -153,9 +191,7 @@ public class UserController implements UserApi {
     if (ids == null || ids.isEmpty()) {
       return ResponseEntity.ok(List.of());
     }
-    List<UserResponse> responses =
-        userService.findAllByIds(ids).stream().map(userMapper::toUserResponse).toList();
-    return ResponseEntity.ok(responses);
+    return ResponseEntity.ok(toResponses(userService.findAllByIds(ids)));
   }
 
   @Override
@@ -172,8 +208,7 @@ public class UserController implements UserApi {
             .enabled(enabled)
             .build();
 
-    List<User> users = userService.search(criteria);
-    return ResponseEntity.ok(users.stream().map(userMapper::toUserResponse).toList());
+    return ResponseEntity.ok(toResponses(userService.search(criteria)));
   }
 
   @Override
@@ -196,8 +231,35 @@ public class UserController implements UserApi {
             .enabled(enabled)
             .build();
 
-    Page<UserResponse> responsePage =
-        userService.search(criteria, PageRequest.of(page, size)).map(userMapper::toUserResponse);
-    return ResponseEntity.ok(responsePage);
+    return ResponseEntity.ok(toResponses(userService.search(criteria, PageRequest.of(page, size))));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('user:read')")
+  public ResponseEntity<List<UserSummaryResponse>> typeahead(String q, Integer limit) {
+    return ResponseEntity.ok(userService.typeahead(q, limit));
+  }
+
+  private UserResponse toResponse(User user) {
+    return toResponses(List.of(user)).getFirst();
+  }
+
+  /** Roles de todos los usuarios con una consulta a {@code users_roles} y la caché de roles. */
+  private List<UserResponse> toResponses(List<User> users) {
+    Map<Long, Set<Role>> roles = userService.findRolesByUserIds(ids(users));
+    return users.stream().map(user -> toResponse(user, roles)).toList();
+  }
+
+  private Page<UserResponse> toResponses(Page<User> users) {
+    Map<Long, Set<Role>> roles = userService.findRolesByUserIds(ids(users.getContent()));
+    return users.map(user -> toResponse(user, roles));
+  }
+
+  private UserResponse toResponse(User user, Map<Long, Set<Role>> roles) {
+    return userMapper.toUserResponse(user, roles.getOrDefault(user.getId(), Set.of()));
+  }
+
+  private static List<Long> ids(List<User> users) {
+    return users.stream().map(User::getId).toList();
   }
 }
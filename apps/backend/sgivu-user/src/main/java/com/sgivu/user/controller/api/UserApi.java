@@ -1,6 +1,10 @@
 package com.sgivu.user.controller.api;
 
+import com.sgivu.user.dto.UserActivityEvent;
+import com.sgivu.user.dto.UserAuthenticationResponse;
+import com.sgivu.user.dto.UserBulkCreateResult;
 import com.sgivu.user.dto.UserResponse;
+import com.sgivu.user.dto.UserSummaryResponse;
 import com.sgivu.user.dto.UserUpdateRequest;
 import com.sgivu.user.entity.User;
 import com.sgivu.user.validation.ValidationGroups;
@@ -57,6 +61,31 @@ public interface UserApi {
           User user,
       BindingResult bindingResult);
 
+  @Operation(
+      summary = "Alta masiva de usuarios",
+      description =
+          "Registra varios usuarios con las mismas validaciones del alta individual y devuelve un"
+              + " resultado por usuario (CREATED, REJECTED o FAILED). Los roles se resuelven con"
+              + " una sola consulta, las contraseñas se cifran en paralelo y los válidos se"
+              + " insertan juntos en una transacción.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Resultados por usuario"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "La solicitud supera el máximo de usuarios permitido",
+            content = @Content),
+        @ApiResponse(responseCode = "401", description = "No autorizado", content = @Content),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Sin permisos suficientes (requiere user:create)",
+            content = @Content)
+      })
+  @PostMapping("/bulk")
+  ResponseEntity<com.sgivu.user.dto.ApiResponse<List<UserBulkCreateResult>>> createAll(
+      @Parameter(description = "Usuarios a registrar", required = true) @RequestBody
+          List<User> users);
+
   @Operation(
       summary = "Consultar usuario por ID",
       description =
@@ -278,6 +307,25 @@ public interface UserApi {
           @RequestParam(required = false)
           Boolean enabled);
 
+  @Operation(
+      summary = "Autocompletar usuarios",
+      description =
+          "Sugerencias ligeras (id, nombre completo y username) para selectores de usuario. Busca"
+              + " por prefijo con menos de tres caracteres y por subcadena de username, nombre o"
+              + " email a partir de tres. No incluye roles.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Sugerencias obtenidas"),
+        @ApiResponse(responseCode = "401", description = "No autorizado", content = @Content)
+      })
+  @GetMapping("/typeahead")
+  ResponseEntity<List<UserSummaryResponse>> typeahead(
+      @Parameter(description = "Texto escrito por el usuario", example = "jua") @RequestParam
+          String q,
+      @Parameter(description = "Máximo de sugerencias (1-20)", example = "10")
+          @RequestParam(defaultValue = "10")
+          Integer limit);
+
   // --------------------------------------------------
   // Endpoints Internos (ocultos en Swagger UI)
   // --------------------------------------------------
@@ -290,4 +338,25 @@ public interface UserApi {
               + " emitir JWT. Protegido para solo invocaciones desde sgivu-auth.")
   @GetMapping("/username/{username}")
   ResponseEntity<UserResponse> getByUsername(@PathVariable String username);
+
+  @Hidden
+  @Operation(
+      summary = "Obtener datos de autenticación por username (interno)",
+      description =
+          "Endpoint interno para que el Authorization Server valide credenciales y emita JWT:"
+              + " solo contraseña cifrada, estado de la cuenta y authorities aplanadas. Protegido"
+              + " para solo invocaciones desde sgivu-auth.")
+  @GetMapping("/username/{username}/authentication")
+  ResponseEntity<UserAuthenticationResponse> getAuthenticationByUsername(
+      @PathVariable String username);
+
+  @Hidden
+  @Operation(
+      summary = "Registrar actividad de usuarios (interno)",
+      description =
+          "Endpoint interno para que el Authorization Server informe inicios de sesión y"
+              + " renovaciones de token. Los eventos se acumulan y se escriben en lote; responde 202"
+              + " sin esperar a la escritura. Protegido para solo invocaciones desde sgivu-auth.")
+  @PostMapping("/activity")
+  ResponseEntity<Void> recordActivity(@RequestBody List<UserActivityEvent> events);
 }
@@ -0,0 +1,20 @@
+package com.sgivu.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+/** Inicio de sesión o actividad de un usuario, informado por sgivu-auth. */
+@Schema(description = "Evento interno de actividad de un usuario")
+public record UserActivityEvent(
+    @Schema(description = "Identificador del usuario", example = "1") Long userId,
+    @Schema(description = "Tipo de evento", example = "LOGIN") Type type,
+    @Schema(description = "Instante del evento", example = "2024-05-10T14:32:00Z")
+        Instant occurredAt) {
+
+  public enum Type {
+    /** Inicio de sesión con usuario y contraseña; también cuenta como actividad. */
+    LOGIN,
+    /** Uso de la sesión sin credenciales, p. ej. renovación del access token. */
+    ACTIVITY
+  }
+}
@@ -0,0 +1,20 @@
+package com.sgivu.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Set;
+
+/** Datos que sgivu-auth necesita para autenticar a un usuario y emitir sus tokens. */
+@Schema(description = "Proyección interna de autenticación de un usuario")
+public record UserAuthenticationResponse(
+    @Schema(description = "Identificador único del usuario", example = "1") Long id,
+    @Schema(description = "Nombre de usuario", example = "jperez") String username,
+    @Schema(description = "Contraseña cifrada del usuario") String password,
+    @Schema(description = "Cuenta habilitada", example = "true") boolean enabled,
+    @Schema(description = "Cuenta no expirada", example = "true") boolean accountNonExpired,
+    @Schema(description = "Cuenta no bloqueada", example = "true") boolean accountNonLocked,
+    @Schema(description = "Credenciales no expiradas", example = "true")
+        boolean credentialsNonExpired,
+    @Schema(
+            description = "Nombres de los roles del usuario y de sus permisos",
+            example = "[\"ADMIN\", \"user:read\"]")
+        Set<String> authorities) {}
@@ -0,0 +1,34 @@
+package com.sgivu.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Resultado del alta masiva para un usuario de la solicitud")
+public record UserBulkCreateResult(
+    @Schema(description = "Posición del usuario en la solicitud, desde 0", example = "0") int index,
+    @Schema(
+            description =
+                "CREATED, REJECTED (datos inválidos o duplicados) o FAILED (error al guardar)")
+        Outcome outcome,
+    @Schema(description = "ID asignado; null si no se creó", example = "1") Long id,
+    @Schema(description = "Username del usuario, si se envió", example = "jperez") String username,
+    @Schema(description = "Motivos del rechazo o del fallo") List<String> errors) {
+
+  public enum Outcome {
+    CREATED,
+    REJECTED,
+    FAILED
+  }
+
+  public static UserBulkCreateResult created(int index, Long id, String username) {
+    return new UserBulkCreateResult(index, Outcome.CREATED, id, username, List.of());
+  }
+
+  public static UserBulkCreateResult rejected(int index, String username, List<String> errors) {
+    return new UserBulkCreateResult(index, Outcome.REJECTED, null, username, List.copyOf(errors));
+  }
+
+  public static UserBulkCreateResult failed(int index, String username, String error) {
+    return new UserBulkCreateResult(index, Outcome.FAILED, null, username, List.of(error));
+  }
+}
@@ -3,6 +3,7 @@ package com.sgivu.user.dto;
 import com.sgivu.user.entity.Address;
 import com.sgivu.user.entity.Role;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
 import java.util.Set;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -51,6 +52,16 @@ public class UserResponse {
   @Schema(description = "Indica si las credenciales no han expirado", example = "true")
   private boolean credentialsNonExpired;
 
+  @Schema(
+      description = "Último inicio de sesión; null si nunca ha iniciado sesión",
+      example = "2024-05-10T14:32:00")
+  private LocalDateTime lastLoginAt;
+
+  @Schema(
+      description = "Última actividad (inicio de sesión o renovación de token)",
+      example = "2024-05-10T15:02:00")
+  private LocalDateTime lastActivityAt;
+
   @Schema(description = "Conjunto de roles asignados al usuario")
   private Set<Role> roles;
 
@@ -0,0 +1,10 @@
+package com.sgivu.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/** Sugerencia del autocompletado de usuarios. */
+@Schema(description = "Usuario sugerido por el autocompletado")
+public record UserSummaryResponse(
+    @Schema(description = "Identificador único del usuario", example = "1") Long id,
+    @Schema(description = "Nombre y apellido", example = "Juan Pérez") String fullName,
+    @Schema(description = "Nombre de usuario", example = "jperez") String username) {}
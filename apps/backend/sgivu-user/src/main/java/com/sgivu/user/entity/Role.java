@@ -43,7 +43,7 @@ public class Role implements Serializable {
   @EqualsAndHashCode.Exclude
   @JsonIgnoreProperties({"handler", "hibernateLazyInitializer"})
   @ManyToMany(
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       cascade = {
         CascadeType.DETACH,
         CascadeType.MERGE,
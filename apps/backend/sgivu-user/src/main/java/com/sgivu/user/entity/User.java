@@ -9,6 +9,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import java.io.Serial;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.AllArgsConstructor;
@@ -51,12 +52,20 @@ public class User extends Person {
   @Column(name = "credentials_non_expired", nullable = false)
   private boolean credentialsNonExpired;
 
+  /** Solo lectura para JPA: lo escribe en lotes {@code UserActivityRepository}. */
+  @Column(name = "last_login_at", insertable = false, updatable = false)
+  private LocalDateTime lastLoginAt;
+
+  /** Último login o renovación de token; solo lectura para JPA, como {@link #lastLoginAt}. */
+  @Column(name = "last_activity_at", insertable = false, updatable = false)
+  private LocalDateTime lastActivityAt;
+
   @Transient private boolean admin;
 
   @JsonIgnoreProperties({"handler", "hibernateLazyInitializer"})
   @EqualsAndHashCode.Exclude
   @ManyToMany(
-      fetch = FetchType.EAGER,
+      fetch = FetchType.LAZY,
       cascade = {
         CascadeType.DETACH,
         CascadeType.MERGE,
@@ -76,6 +85,10 @@ public class User extends Person {
     this.credentialsNonExpired = true;
   }
 
+  /**
+   * Roles y permisos a partir de la colección {@code roles}, que se carga de forma perezosa. Los
+   * listados no la usan: resuelven las authorities con {@code RoleAuthorityCache}.
+   */
   public Set<String> getRolesAndPermissions() {
     return RolePermissionUtils.getRolesAndPermissions(this.roles);
   }
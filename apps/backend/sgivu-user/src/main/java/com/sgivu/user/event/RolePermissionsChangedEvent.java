@@ -0,0 +1,7 @@
+package com.sgivu.user.event;
+
+/**
+ * Se publica al agregar, quitar o reemplazar permisos de un rol; una vez confirmada la transacción,
+ * la caché de authorities por rol se descarta.
+ */
+public record RolePermissionsChangedEvent(Long roleId) {}
@@ -0,0 +1,7 @@
+package com.sgivu.user.event;
+
+/**
+ * Se publica al actualizar (datos, roles o contraseña), habilitar/deshabilitar o eliminar un
+ * usuario; una vez confirmada la transacción, su entrada en la caché de autenticación se descarta.
+ */
+public record UserChangedEvent(Long userId) {}
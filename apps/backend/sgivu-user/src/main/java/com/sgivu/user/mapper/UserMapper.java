@@ -1,7 +1,9 @@
 package com.sgivu.user.mapper;
 
 import com.sgivu.user.dto.UserResponse;
+import com.sgivu.user.entity.Role;
 import com.sgivu.user.entity.User;
+import java.util.Set;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -21,6 +23,18 @@ public interface UserMapper {
   @Mapping(source = "accountNonExpired", target = "accountNonExpired")
   @Mapping(source = "accountNonLocked", target = "accountNonLocked")
   @Mapping(source = "credentialsNonExpired", target = "credentialsNonExpired")
-  @Mapping(source = "roles", target = "roles")
+  @Mapping(source = "lastLoginAt", target = "lastLoginAt")
+  @Mapping(source = "lastActivityAt", target = "lastActivityAt")
+  @Mapping(target = "roles", ignore = true)
   UserResponse toUserResponse(User user);
+
+  /**
+   * Respuesta con los roles ya resueltos (ver {@code UserService#findRolesByUserIds}); no toca la
+   * colección perezosa {@code user.roles}.
+   */
+  default UserResponse toUserResponse(User user, Set<Role> roles) {
+    UserResponse response = toUserResponse(user);
+    response.setRoles(roles);
+    return response;
+  }
 }
@@ -1,10 +1,31 @@
 package com.sgivu.user.repository;
 
 import com.sgivu.user.entity.Role;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+/**
+ * Los permisos de un rol son perezosos; las consultas de roles sueltos los traen en el mismo SELECT
+ * porque el rol se devuelve con ellos.
+ */
 public interface RoleRepository extends JpaRepository<Role, Long> {
 
+  @Override
+  @EntityGraph(attributePaths = "permissions")
+  Optional<Role> findById(Long id);
+
+  @EntityGraph(attributePaths = "permissions")
   Optional<Role> findByName(String name);
+
+  /** Roles con alguno de los nombres dados, en una sola consulta; los desconocidos se omiten. */
+  Set<Role> findByNameIn(Collection<String> names);
+
+  /** Todos los roles con sus permisos en una sola consulta. */
+  @Query("SELECT DISTINCT r FROM Role r LEFT JOIN FETCH r.permissions")
+  List<Role> findAllWithPermissions();
 }
@@ -0,0 +1,79 @@
+package com.sgivu.user.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Escritura en lote de {@code users.last_login_at} y {@code users.last_activity_at}.
+ *
+ * <p>Cada lote de hasta {@value #CHUNK_SIZE} usuarios es un único {@code UPDATE ... FROM (VALUES
+ * ...)}. Con {@code GREATEST} una marca nunca retrocede, aunque otro pod escriba una más reciente o
+ * llegue un evento atrasado; los valores {@code NULL} se ignoran.
+ */
+@Repository
+public class UserActivityRepository {
+
+  static final int CHUNK_SIZE = 500;
+
+  private static final String UPDATE_SQL_PREFIX =
+      "UPDATE users u SET last_login_at = GREATEST(u.last_login_at, v.last_login_at),"
+          + " last_activity_at = GREATEST(u.last_activity_at, v.last_activity_at) FROM (VALUES ";
+
+  private static final String UPDATE_SQL_ROW =
+      "(CAST(? AS BIGINT), CAST(? AS TIMESTAMPTZ), CAST(? AS TIMESTAMPTZ))";
+
+  private static final String UPDATE_SQL_SUFFIX =
+      ") AS v(user_id, last_login_at, last_activity_at) WHERE u.person_id = v.user_id";
+
+  /** Últimas marcas de un usuario; {@code lastLoginAt} es {@code null} si no hubo login. */
+  public record UserActivity(Long userId, Instant lastLoginAt, Instant lastActivityAt) {}
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public UserActivityRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Aplica las marcas de los usuarios; los IDs inexistentes se ignoran.
+   *
+   * @return filas de {@code users} actualizadas
+   */
+  public int updateAll(List<UserActivity> activities) {
+    int updated = 0;
+    for (int from = 0; from < activities.size(); from += CHUNK_SIZE) {
+      List<UserActivity> chunk =
+          activities.subList(from, Math.min(from + CHUNK_SIZE, activities.size()));
+      updated +=
+          jdbcTemplate.update(
+              updateSql(chunk.size()),
+              ps -> {
+                int index = 1;
+                for (UserActivity activity : chunk) {
+                  ps.setLong(index++, activity.userId());
+                  ps.setTimestamp(index++, toTimestamp(activity.lastLoginAt()));
+                  ps.setTimestamp(index++, toTimestamp(activity.lastActivityAt()));
+                }
+              });
+    }
+    return updated;
+  }
+
+  static String updateSql(int rows) {
+    StringBuilder sql = new StringBuilder(UPDATE_SQL_PREFIX);
+    for (int i = 0; i < rows; i++) {
+      if (i > 0) {
+        sql.append(", ");
+      }
+      sql.append(UPDATE_SQL_ROW);
+    }
+    return sql.append(UPDATE_SQL_SUFFIX).toString();
+  }
+
+  private static Timestamp toTimestamp(Instant instant) {
+    return instant != null ? Timestamp.from(instant) : null;
+  }
+}
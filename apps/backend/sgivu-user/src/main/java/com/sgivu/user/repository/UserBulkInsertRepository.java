@@ -0,0 +1,139 @@
+package com.sgivu.user.repository;
+
+import com.sgivu.user.entity.Address;
+import com.sgivu.user.entity.Role;
+import com.sgivu.user.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Inserciones masivas de usuarios con JDBC, sin pasar por el contexto de persistencia de JPA.
+ *
+ * <p>Los IDs se reservan de {@code persons_id_seq} y {@code addresses_id_seq} en un viaje por
+ * secuencia y cada tabla ({@code addresses}, {@code persons}, {@code users}, {@code users_roles})
+ * se escribe con un único batch, todo en una transacción. Las marcas de tiempo toman el valor por
+ * defecto de la base.
+ */
+@Repository
+public class UserBulkInsertRepository {
+
+  private static final String ALLOCATE_PERSON_IDS_SQL =
+      "SELECT nextval('persons_id_seq') FROM generate_series(1, ?)";
+
+  private static final String ALLOCATE_ADDRESS_IDS_SQL =
+      "SELECT nextval('addresses_id_seq') FROM generate_series(1, ?)";
+
+  private static final String INSERT_ADDRESS_SQL =
+      "INSERT INTO addresses (id, street, number, city) VALUES (?, ?, ?, ?)";
+
+  private static final String INSERT_PERSON_SQL =
+      "INSERT INTO persons (id, national_id, first_name, last_name, phone_number, email,"
+          + " address_id) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_USER_SQL =
+      "INSERT INTO users (person_id, username, password, enabled, account_non_expired,"
+          + " account_non_locked, credentials_non_expired) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_USER_ROLE_SQL =
+      "INSERT INTO users_roles (user_id, role_id) VALUES (?, ?)";
+
+  private record UserRole(Long userId, Long roleId) {}
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public UserBulkInsertRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Inserta los usuarios, con la contraseña ya cifrada y los roles ya resueltos, y les asigna el ID
+   * (y el de su dirección). Las cuentas quedan habilitadas, como en el alta individual.
+   */
+  @Transactional
+  public void insertAll(List<User> users) {
+    if (users.isEmpty()) {
+      return;
+    }
+
+    List<Long> personIds = allocateIds(ALLOCATE_PERSON_IDS_SQL, users.size());
+    for (int i = 0; i < users.size(); i++) {
+      User user = users.get(i);
+      user.setId(personIds.get(i));
+      user.prePersistUser();
+    }
+
+    List<Address> addresses =
+        users.stream().map(User::getAddress).filter(address -> address != null).toList();
+    List<Long> addressIds = allocateIds(ALLOCATE_ADDRESS_IDS_SQL, addresses.size());
+    for (int i = 0; i < addresses.size(); i++) {
+      addresses.get(i).setId(addressIds.get(i));
+    }
+    if (!addresses.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          INSERT_ADDRESS_SQL,
+          addresses,
+          addresses.size(),
+          (ps, address) -> {
+            ps.setLong(1, address.getId());
+            ps.setString(2, address.getStreet());
+            ps.setString(3, address.getNumber());
+            ps.setString(4, address.getCity());
+          });
+    }
+
+    jdbcTemplate.batchUpdate(
+        INSERT_PERSON_SQL,
+        users,
+        users.size(),
+        (ps, user) -> {
+          ps.setLong(1, user.getId());
+          ps.setLong(2, user.getNationalId());
+          ps.setString(3, user.getFirstName());
+          ps.setString(4, user.getLastName());
+          ps.setLong(5, user.getPhoneNumber());
+          ps.setString(6, user.getEmail());
+          ps.setObject(7, user.getAddress() != null ? user.getAddress().getId() : null);
+        });
+
+    jdbcTemplate.batchUpdate(
+        INSERT_USER_SQL,
+        users,
+        users.size(),
+        (ps, user) -> {
+          ps.setLong(1, user.getId());
+          ps.setString(2, user.getUsername());
+          ps.setString(3, user.getPassword());
+          ps.setBoolean(4, user.isEnabled());
+          ps.setBoolean(5, user.isAccountNonExpired());
+          ps.setBoolean(6, user.isAccountNonLocked());
+          ps.setBoolean(7, user.isCredentialsNonExpired());
+        });
+
+    List<UserRole> userRoles = new ArrayList<>();
+    for (User user : users) {
+      for (Role role : user.getRoles()) {
+        userRoles.add(new UserRole(user.getId(), role.getId()));
+      }
+    }
+    if (!userRoles.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          INSERT_USER_ROLE_SQL,
+          userRoles,
+          userRoles.size(),
+          (ps, userRole) -> {
+            ps.setLong(1, userRole.userId());
+            ps.setLong(2, userRole.roleId());
+          });
+    }
+  }
+
+  private List<Long> allocateIds(String sql, int count) {
+    if (count <= 0) {
+      return List.of();
+    }
+    return jdbcTemplate.queryForList(sql, Long.class, count);
+  }
+}
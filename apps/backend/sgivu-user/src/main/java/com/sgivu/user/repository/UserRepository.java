@@ -1,12 +1,154 @@
 package com.sgivu.user.repository;
 
 import com.sgivu.user.entity.User;
+import com.sgivu.user.repository.projection.PersonIdentifierView;
+import com.sgivu.user.repository.projection.UserAuthenticationRow;
+import com.sgivu.user.repository.projection.UserRoleView;
+import com.sgivu.user.repository.projection.UserSummaryView;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+/**
+ * Los listados traen la dirección en el mismo SELECT y no cargan roles ni permisos: los roles de
+ * cada usuario se leen con {@link #findRoleIdsByUserIds} y se resuelven contra la caché de roles.
+ */
 public interface UserRepository extends PersonRepository<User>, JpaSpecificationExecutor<User> {
 
   Optional<User> findByUsername(String username);
 
   long countByEnabled(boolean enabled);
+
+  @Override
+  @EntityGraph(attributePaths = "address")
+  List<User> findAll();
+
+  @Override
+  @EntityGraph(attributePaths = "address")
+  Page<User> findAll(Pageable pageable);
+
+  @Override
+  @EntityGraph(attributePaths = "address")
+  Page<User> findAll(Specification<User> specification, Pageable pageable);
+
+  @Override
+  @EntityGraph(attributePaths = "address")
+  List<User> findAllById(Iterable<Long> ids);
+
+  @Override
+  @EntityGraph(attributePaths = "address")
+  List<User> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
+      String firstName, String lastName);
+
+  /**
+   * IDs de rol de cada usuario, leídos solo de {@code users_roles}. Los IDs viajan como un único
+   * arreglo: la sentencia es la misma para cualquier cantidad y no agota el límite de parámetros.
+   */
+  @Query(
+      value =
+          "SELECT ur.user_id AS userId, ur.role_id AS roleId "
+              + "FROM users_roles ur "
+              + "WHERE ur.user_id = ANY(:userIds)",
+      nativeQuery = true)
+  List<UserRoleView> findRoleIdsByUserIds(Long[] userIds);
+
+  /**
+   * Datos de autenticación del usuario con una fila por cada par rol/permiso, en una sola consulta
+   * sobre {@code users}, {@code users_roles} y {@code roles_permissions}. Vacía si no existe.
+   */
+  @Query(
+      value =
+          "SELECT u.person_id AS id, u.username AS username, u.password AS password, "
+              + "u.enabled AS enabled, u.account_non_expired AS accountNonExpired, "
+              + "u.account_non_locked AS accountNonLocked, "
+              + "u.credentials_non_expired AS credentialsNonExpired, "
+              + "r.name AS roleName, p.name AS permissionName "
+              + "FROM users u "
+              + "LEFT JOIN users_roles ur ON ur.user_id = u.person_id "
+              + "LEFT JOIN roles r ON r.id = ur.role_id "
+              + "LEFT JOIN roles_permissions rp ON rp.role_id = r.id "
+              + "LEFT JOIN permissions p ON p.id = rp.permission_id "
+              + "WHERE u.username = :username",
+      nativeQuery = true)
+  List<UserAuthenticationRow> findAuthenticationRowsByUsername(String username);
+
+  /**
+   * Personas que ya usan alguna de las cédulas, teléfonos, correos o usernames dados. Una sola
+   * consulta por alta masiva; cada condición usa el índice único de su columna.
+   */
+  @Query(
+      value =
+          "SELECT p.national_id AS nationalId, p.phone_number AS phoneNumber, p.email AS email, "
+              + "       u.username AS username "
+              + "FROM persons p "
+              + "LEFT JOIN users u ON u.person_id = p.id "
+              + "WHERE p.national_id = ANY(:nationalIds) "
+              + "OR p.phone_number = ANY(:phoneNumbers) "
+              + "OR p.email = ANY(:emails) "
+              + "OR u.username = ANY(:usernames)",
+      nativeQuery = true)
+  List<PersonIdentifierView> findByIdentifiers(
+      Long[] nationalIds, Long[] phoneNumbers, String[] emails, String[] usernames);
+
+  /**
+   * Autocompletado por prefijo: usuarios cuyo username, "nombre apellido" o "apellido nombre"
+   * empieza por {@code prefix}. Cada rama recorre su índice {@code COLLATE "C"} en orden y se corta
+   * tras {@code limit} filas; el resultado se ordena por la primera coincidencia.
+   */
+  @Query(
+      value =
+          "SELECT u.person_id AS id, p.first_name AS firstName, p.last_name AS lastName, "
+              + "       u.username AS username "
+              + "FROM ("
+              + "  (SELECT u2.person_id AS id, lower(u2.username) COLLATE \"C\" AS sortKey "
+              + "   FROM users u2 "
+              + "   WHERE lower(u2.username) COLLATE \"C\" LIKE :prefix "
+              + "   ORDER BY lower(u2.username) COLLATE \"C\" LIMIT :limit) "
+              + "  UNION ALL "
+              + "  (SELECT p2.id, lower(p2.first_name || ' ' || p2.last_name) COLLATE \"C\" "
+              + "   FROM persons p2 "
+              + "   WHERE lower(p2.first_name || ' ' || p2.last_name) COLLATE \"C\" LIKE :prefix "
+              + "   ORDER BY lower(p2.first_name || ' ' || p2.last_name) COLLATE \"C\" LIMIT :limit) "
+              + "  UNION ALL "
+              + "  (SELECT p3.id, lower(p3.last_name || ' ' || p3.first_name) COLLATE \"C\" "
+              + "   FROM persons p3 "
+              + "   WHERE lower(p3.last_name || ' ' || p3.first_name) COLLATE \"C\" LIKE :prefix "
+              + "   ORDER BY lower(p3.last_name || ' ' || p3.first_name) COLLATE \"C\" LIMIT :limit)"
+              + ") m "
+              + "JOIN users u ON u.person_id = m.id "
+              + "JOIN persons p ON p.id = u.person_id "
+              + "GROUP BY u.person_id, p.first_name, p.last_name, u.username "
+              + "ORDER BY min(m.sortKey), u.person_id "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<UserSummaryView> findTypeaheadByPrefix(String prefix, int limit);
+
+  /**
+   * Autocompletado por subcadena de username, nombre completo o correo, resuelta con los índices
+   * trigram. Primero los que además empiezan por {@code prefix}, luego por nombre.
+   */
+  @Query(
+      value =
+          "SELECT u.person_id AS id, p.first_name AS firstName, p.last_name AS lastName, "
+              + "       u.username AS username "
+              + "FROM users u "
+              + "JOIN persons p ON p.id = u.person_id "
+              + "WHERE u.person_id IN ("
+              + "  SELECT u2.person_id FROM users u2 WHERE lower(u2.username) LIKE :pattern "
+              + "  UNION "
+              + "  SELECT p2.id FROM persons p2 "
+              + "  WHERE lower(p2.first_name || ' ' || p2.last_name) LIKE :pattern "
+              + "  OR lower(p2.email) LIKE :pattern) "
+              + "ORDER BY (lower(u.username) LIKE :prefix "
+              + "          OR lower(p.first_name || ' ' || p.last_name) LIKE :prefix "
+              + "          OR lower(p.last_name) LIKE :prefix) DESC, "
+              + "         lower(p.first_name || ' ' || p.last_name), u.person_id "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<UserSummaryView> findTypeaheadBySubstring(String pattern, String prefix, int limit);
 }
@@ -0,0 +1,14 @@
+package com.sgivu.user.repository.projection;
+
+/**
+ * Identificadores únicos ya registrados de una persona; {@code username} es null si no es usuario.
+ */
+public interface PersonIdentifierView {
+  Long getNationalId();
+
+  Long getPhoneNumber();
+
+  String getEmail();
+
+  String getUsername();
+}
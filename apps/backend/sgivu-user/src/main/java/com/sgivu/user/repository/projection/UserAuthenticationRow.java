@@ -0,0 +1,25 @@
+package com.sgivu.user.repository.projection;
+
+/**
+ * Fila de la consulta de autenticación: datos de acceso del usuario junto con uno de sus roles y
+ * uno de los permisos de ese rol ({@code null} si no tiene).
+ */
+public interface UserAuthenticationRow {
+  Long getId();
+
+  String getUsername();
+
+  String getPassword();
+
+  Boolean getEnabled();
+
+  Boolean getAccountNonExpired();
+
+  Boolean getAccountNonLocked();
+
+  Boolean getCredentialsNonExpired();
+
+  String getRoleName();
+
+  String getPermissionName();
+}
@@ -0,0 +1,8 @@
+package com.sgivu.user.repository.projection;
+
+/** Fila de {@code users_roles}: un rol asignado a un usuario. */
+public interface UserRoleView {
+  Long getUserId();
+
+  Long getRoleId();
+}
@@ -0,0 +1,12 @@
+package com.sgivu.user.repository.projection;
+
+/** Datos mínimos de un usuario para el autocompletado, sin roles ni datos de contacto. */
+public interface UserSummaryView {
+  Long getId();
+
+  String getFirstName();
+
+  String getLastName();
+
+  String getUsername();
+}
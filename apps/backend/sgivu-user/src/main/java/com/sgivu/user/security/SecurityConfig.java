@@ -57,7 +57,7 @@ public class SecurityConfig {
                     .requestMatchers(
                         "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/webjars/**")
                     .permitAll()
-                    .requestMatchers("/v1/users/username/**")
+                    .requestMatchers("/v1/users/username/**", "/v1/users/activity")
                     .access(internalServiceAuthManager)
                     .requestMatchers("/v1/users/**")
                     .authenticated()
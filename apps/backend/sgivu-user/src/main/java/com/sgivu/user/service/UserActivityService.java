@@ -0,0 +1,21 @@
+package com.sgivu.user.service;
+
+import com.sgivu.user.dto.UserActivityEvent;
+import java.util.List;
+
+public interface UserActivityService {
+
+  /**
+   * Acumula los eventos en memoria; se escriben en la base en la siguiente descarga.
+   *
+   * @return eventos aceptados (los inválidos o los que no caben en el buffer se descartan)
+   */
+  int record(List<UserActivityEvent> events);
+
+  /**
+   * Escribe en la base lo acumulado hasta ahora.
+   *
+   * @return usuarios escritos
+   */
+  int flush();
+}
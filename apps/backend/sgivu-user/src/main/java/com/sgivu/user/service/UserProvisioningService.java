@@ -0,0 +1,16 @@
+package com.sgivu.user.service;
+
+import com.sgivu.user.dto.UserBulkCreateResult;
+import com.sgivu.user.entity.User;
+import java.util.List;
+
+public interface UserProvisioningService {
+
+  /**
+   * Crea los usuarios válidos en una sola transacción y devuelve un resultado por usuario, en el
+   * orden de la solicitud. Los inválidos o duplicados se rechazan sin afectar a los demás.
+   *
+   * @throws IllegalArgumentException si la solicitud supera {@code user.bulk.max-users}
+   */
+  List<UserBulkCreateResult> createAll(List<User> users);
+}
@@ -1,17 +1,32 @@
 package com.sgivu.user.service;
 
+import com.sgivu.user.dto.UserAuthenticationResponse;
 import com.sgivu.user.dto.UserFilterCriteria;
+import com.sgivu.user.dto.UserSummaryResponse;
 import com.sgivu.user.dto.UserUpdateRequest;
+import com.sgivu.user.entity.Role;
 import com.sgivu.user.entity.User;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface UserService extends PersonService<User> {
 
+  /** Máximo de resultados del autocompletado. */
+  int TYPEAHEAD_MAX_LIMIT = 20;
+
   Optional<User> findByUsername(String username);
 
+  /**
+   * Datos de autenticación del usuario (contraseña cifrada, estado de la cuenta y authorities
+   * aplanadas), leídos con una sola consulta y guardados por poco tiempo en caché.
+   */
+  Optional<UserAuthenticationResponse> findAuthenticationByUsername(String username);
+
   Optional<User> update(Long id, UserUpdateRequest userUpdateRequest);
 
   void deleteById(Long id);
@@ -23,4 +38,20 @@ public interface UserService extends PersonService<User> {
   List<User> search(UserFilterCriteria criteria);
 
   Page<User> search(UserFilterCriteria criteria, Pageable pageable);
+
+  /**
+   * Hasta {@code limit} usuarios (acotado a {@link #TYPEAHEAD_MAX_LIMIT}) cuyo username, nombre o
+   * correo coincide con {@code query}, sin cargar roles. Con menos de tres caracteres solo se busca
+   * por prefijo.
+   */
+  List<UserSummaryResponse> typeahead(String query, int limit);
+
+  /**
+   * Roles (con sus permisos) de cada usuario, sin cargar la colección {@code roles} de las
+   * entidades: una consulta a {@code users_roles} para todos los IDs y los roles se toman de la
+   * caché.
+   *
+   * @return roles por ID de usuario; los usuarios sin roles o inexistentes no aparecen
+   */
+  Map<Long, Set<Role>> findRolesByUserIds(Collection<Long> userIds);
 }
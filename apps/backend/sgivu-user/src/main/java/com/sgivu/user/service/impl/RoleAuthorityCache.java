@@ -0,0 +1,126 @@
+package com.sgivu.user.service.impl;
+
+import com.sgivu.user.entity.Permission;
+import com.sgivu.user.entity.Role;
+import com.sgivu.user.event.RolePermissionsChangedEvent;
+import com.sgivu.user.repository.RoleRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Instantánea en memoria de los roles con sus permisos, con la que se arman los roles de los
+ * usuarios de los listados sin cargar el grafo usuario → rol → permiso.
+ *
+ * <p>Se carga con una sola consulta la primera vez que se pide y se descarta al confirmarse un
+ * cambio de permisos en {@code RoleServiceImpl}. Como otro pod puede haber hecho el cambio, además
+ * caduca a los {@code user.roles.cache-ttl}. Los roles devueltos son copias desconectadas de JPA
+ * que se comparten entre peticiones: no deben modificarse.
+ */
+@Component
+public class RoleAuthorityCache {
+
+  record Snapshot(Map<Long, Role> rolesById, Instant loadedAt) {}
+
+  private final RoleRepository roleRepository;
+  private final Duration ttl;
+  private final Clock clock;
+
+  private final AtomicLong generation = new AtomicLong();
+  private volatile Snapshot snapshot;
+
+  @Autowired
+  public RoleAuthorityCache(
+      RoleRepository roleRepository, @Value("${user.roles.cache-ttl:PT5M}") Duration ttl) {
+    this(roleRepository, ttl, Clock.systemUTC());
+  }
+
+  RoleAuthorityCache(RoleRepository roleRepository, Duration ttl, Clock clock) {
+    this.roleRepository = roleRepository;
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  /** Roles con los IDs dados; los desconocidos se omiten. */
+  public Set<Role> rolesOf(Collection<Long> roleIds) {
+    Map<Long, Role> rolesById = current().rolesById();
+    return roleIds.stream()
+        .map(rolesById::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  /** Descarta la instantánea; la siguiente consulta la vuelve a cargar. */
+  public void invalidate() {
+    generation.incrementAndGet();
+    snapshot = null;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRolePermissionsChanged(RolePermissionsChangedEvent event) {
+    invalidate();
+  }
+
+  private Snapshot current() {
+    Snapshot current = snapshot;
+    if (current != null && isFresh(current)) {
+      return current;
+    }
+    synchronized (this) {
+      current = snapshot;
+      if (current != null && isFresh(current)) {
+        return current;
+      }
+      long loadingGeneration = generation.get();
+      Snapshot loaded = load();
+      // Si se invalidó durante la carga, la lectura puede ser anterior al cambio: no se guarda
+      if (generation.get() == loadingGeneration) {
+        snapshot = loaded;
+      }
+      return loaded;
+    }
+  }
+
+  private boolean isFresh(Snapshot current) {
+    return current.loadedAt().plus(ttl).isAfter(clock.instant());
+  }
+
+  private Snapshot load() {
+    Map<Long, Role> rolesById = new HashMap<>();
+    for (Role role : roleRepository.findAllWithPermissions()) {
+      Set<Permission> permissions =
+          role.getPermissions().stream().map(RoleAuthorityCache::copy).collect(Collectors.toSet());
+      Role copy =
+          new Role(
+              role.getId(),
+              role.getName(),
+              role.getDescription(),
+              role.getCreatedAt(),
+              role.getUpdatedAt(),
+              Set.copyOf(permissions));
+      rolesById.put(copy.getId(), copy);
+    }
+    return new Snapshot(Map.copyOf(rolesById), clock.instant());
+  }
+
+  private static Permission copy(Permission permission) {
+    return new Permission(
+        permission.getId(),
+        permission.getName(),
+        permission.getDescription(),
+        permission.getCreatedAt(),
+        permission.getUpdatedAt());
+  }
+}
@@ -2,12 +2,14 @@ package com.sgivu.user.service.impl;
 
 import com.sgivu.user.entity.Permission;
 import com.sgivu.user.entity.Role;
+import com.sgivu.user.event.RolePermissionsChangedEvent;
 import com.sgivu.user.repository.RoleRepository;
 import com.sgivu.user.service.PermissionService;
 import com.sgivu.user.service.RoleService;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,10 +18,15 @@ public class RoleServiceImpl implements RoleService {
 
   private final RoleRepository roleRepository;
   private final PermissionService permissionService;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public RoleServiceImpl(RoleRepository roleRepository, PermissionService permissionService) {
+  public RoleServiceImpl(
+      RoleRepository roleRepository,
+      PermissionService permissionService,
+      ApplicationEventPublisher eventPublisher) {
     this.roleRepository = roleRepository;
     this.permissionService = permissionService;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
@@ -35,7 +42,7 @@ public class RoleServiceImpl implements RoleService {
             role -> {
               Optional<Set<Permission>> permissionsFound = permissionService.findByNameIn(names);
               permissionsFound.ifPresent(role::addPermissions);
-              return roleRepository.save(role);
+              return saveAndNotify(role);
             });
   }
 
@@ -53,7 +60,7 @@ public class RoleServiceImpl implements RoleService {
               Optional<Set<Permission>> permissionsToRemove = permissionService.findByNameIn(names);
               permissionsToRemove.ifPresent(
                   permissions -> role.getPermissions().removeAll(permissions));
-              return roleRepository.save(role);
+              return saveAndNotify(role);
             });
   }
 
@@ -69,7 +76,7 @@ public class RoleServiceImpl implements RoleService {
                 Optional<Set<Permission>> newPermissions = permissionService.findByNameIn(names);
                 role.getPermissions().addAll(newPermissions.orElseThrow());
               }
-              return roleRepository.save(role);
+              return saveAndNotify(role);
             });
   }
 
@@ -88,6 +95,13 @@ public class RoleServiceImpl implements RoleService {
   @Transactional(readOnly = true)
   @Override
   public List<Role> findAll() {
-    return roleRepository.findAll();
+    return roleRepository.findAllWithPermissions();
+  }
+
+  /** Guarda el rol y avisa a {@code RoleAuthorityCache} para que lo descarte tras el commit. */
+  private Role saveAndNotify(Role role) {
+    Role saved = roleRepository.save(role);
+    eventPublisher.publishEvent(new RolePermissionsChangedEvent(role.getId()));
+    return saved;
   }
 }
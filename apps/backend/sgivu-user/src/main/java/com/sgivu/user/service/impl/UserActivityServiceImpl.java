@@ -0,0 +1,167 @@
+package com.sgivu.user.service.impl;
+
+import com.sgivu.user.dto.UserActivityEvent;
+import com.sgivu.user.repository.UserActivityRepository;
+import com.sgivu.user.repository.UserActivityRepository.UserActivity;
+import com.sgivu.user.service.UserActivityService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Registro diferido (write-behind) del último login y la última actividad de cada usuario.
+ *
+ * <p>Los eventos se fusionan en memoria por usuario, conservando la marca más reciente de cada
+ * tipo, y cada {@code user.activity.flush-interval} se escriben todos con {@link
+ * UserActivityRepository}. Si la escritura falla, las marcas vuelven al buffer para el siguiente
+ * intento. Al apagar el pod se hace una última descarga; lo que no llegue a escribirse se pierde,
+ * lo que es aceptable para datos informativos. El buffer guarda a lo sumo {@code
+ * user.activity.max-pending} usuarios: los eventos de usuarios nuevos que no caben se descartan.
+ *
+ * <p>Métricas: {@code sgivu.user.activity.buffer_size} (usuarios pendientes), {@code
+ * sgivu.user.activity.flush} (duración de cada descarga), {@code sgivu.user.activity.flushed}
+ * (usuarios escritos) y {@code sgivu.user.activity.dropped} (eventos descartados).
+ */
+@Service
+public class UserActivityServiceImpl implements UserActivityService {
+
+  private static final Logger logger = LoggerFactory.getLogger(UserActivityServiceImpl.class);
+
+  private final UserActivityRepository userActivityRepository;
+  private final int maxPending;
+  private final Clock clock;
+
+  private final Map<Long, UserActivity> pending = new ConcurrentHashMap<>();
+
+  private final Timer flushTimer;
+  private final Counter flushed;
+  private final Counter dropped;
+
+  @Autowired
+  public UserActivityServiceImpl(
+      UserActivityRepository userActivityRepository,
+      MeterRegistry meterRegistry,
+      @Value("${user.activity.max-pending:100000}") int maxPending) {
+    this(userActivityRepository, meterRegistry, maxPending, Clock.systemUTC());
+  }
+
+  UserActivityServiceImpl(
+      UserActivityRepository userActivityRepository,
+      MeterRegistry meterRegistry,
+      int maxPending,
+      Clock clock) {
+    this.userActivityRepository = userActivityRepository;
+    this.maxPending = maxPending;
+    this.clock = clock;
+
+    Gauge.builder("sgivu.user.activity.buffer_size", pending, Map::size)
+        .description("Usuarios con actividad pendiente de escribir")
+        .register(meterRegistry);
+    this.flushTimer =
+        Timer.builder("sgivu.user.activity.flush")
+            .description("Duración de cada escritura en lote de la actividad de usuarios")
+            .register(meterRegistry);
+    this.flushed =
+        Counter.builder("sgivu.user.activity.flushed")
+            .description("Usuarios cuya actividad se escribió en la base")
+            .register(meterRegistry);
+    this.dropped =
+        Counter.builder("sgivu.user.activity.dropped")
+            .description("Eventos de actividad descartados (inválidos o buffer lleno)")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public int record(List<UserActivityEvent> events) {
+    Instant now = clock.instant();
+    int accepted = 0;
+    for (UserActivityEvent event : events) {
+      if (event == null
+          || event.userId() == null
+          || event.type() == null
+          || event.occurredAt() == null) {
+        dropped.increment();
+        continue;
+      }
+      // Un reloj adelantado en el emisor no debe dejar marcas en el futuro
+      Instant at = event.occurredAt().isAfter(now) ? now : event.occurredAt();
+      UserActivity activity =
+          new UserActivity(
+              event.userId(), event.type() == UserActivityEvent.Type.LOGIN ? at : null, at);
+      if (pending.size() >= maxPending && !pending.containsKey(event.userId())) {
+        dropped.increment();
+        continue;
+      }
+      pending.merge(event.userId(), activity, UserActivityServiceImpl::latest);
+      accepted++;
+    }
+    return accepted;
+  }
+
+  @Override
+  @Scheduled(
+      initialDelayString = "${user.activity.flush-interval:PT10S}",
+      fixedDelayString = "${user.activity.flush-interval:PT10S}")
+  public synchronized int flush() {
+    if (pending.isEmpty()) {
+      return 0;
+    }
+
+    // Se retira usuario por usuario: un evento que llegue mientras tanto queda para la próxima vez
+    List<UserActivity> batch = new ArrayList<>(pending.size());
+    for (Long userId : pending.keySet()) {
+      UserActivity activity = pending.remove(userId);
+      if (activity != null) {
+        batch.add(activity);
+      }
+    }
+
+    try {
+      flushTimer.record(() -> userActivityRepository.updateAll(batch));
+      flushed.increment(batch.size());
+      return batch.size();
+    } catch (DataAccessException e) {
+      logger.warn("Could not write activity of {} users: {}", batch.size(), e.toString());
+      batch.forEach(
+          activity -> pending.merge(activity.userId(), activity, UserActivityServiceImpl::latest));
+      return 0;
+    }
+  }
+
+  @PreDestroy
+  void flushOnShutdown() {
+    flush();
+  }
+
+  private static UserActivity latest(UserActivity current, UserActivity update) {
+    return new UserActivity(
+        current.userId(),
+        max(current.lastLoginAt(), update.lastLoginAt()),
+        max(current.lastActivityAt(), update.lastActivityAt()));
+  }
+
+  private static Instant max(Instant a, Instant b) {
+    if (a == null) {
+      return b;
+    }
+    if (b == null) {
+      return a;
+    }
+    return a.isAfter(b) ? a : b;
+  }
+}
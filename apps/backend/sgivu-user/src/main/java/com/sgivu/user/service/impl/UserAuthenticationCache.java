@@ -0,0 +1,131 @@
+package com.sgivu.user.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sgivu.user.dto.UserAuthenticationResponse;
+import com.sgivu.user.event.RolePermissionsChangedEvent;
+import com.sgivu.user.event.UserChangedEvent;
+import com.sgivu.user.repository.UserRepository;
+import com.sgivu.user.repository.projection.UserAuthenticationRow;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Caché por username de la proyección de autenticación que consulta sgivu-auth en cada login y en
+ * cada emisión de tokens.
+ *
+ * <p>Es una caché Caffeine acotada a {@code user.authentication.cache-max-entries} usuarios cuyas
+ * entradas caducan a los {@code user.authentication.cache-ttl} de escritas, que debe ser corto:
+ * otro pod puede haber cambiado el usuario. En este pod se descartan al confirmarse un cambio del
+ * usuario ({@link UserChangedEvent}) o de los permisos de cualquier rol. Los usuarios inexistentes
+ * no se guardan, para que uno recién creado pueda autenticarse de inmediato.
+ */
+@Component
+public class UserAuthenticationCache {
+
+  private final UserRepository userRepository;
+  private final Cache<String, UserAuthenticationResponse> users;
+  private long generation;
+
+  @Autowired
+  public UserAuthenticationCache(
+      UserRepository userRepository,
+      @Value("${user.authentication.cache-ttl:PT30S}") Duration ttl,
+      @Value("${user.authentication.cache-max-entries:10000}") long maxEntries) {
+    this(userRepository, ttl, maxEntries, Ticker.systemTicker());
+  }
+
+  UserAuthenticationCache(
+      UserRepository userRepository, Duration ttl, long maxEntries, Ticker ticker) {
+    this.userRepository = userRepository;
+    this.users =
+        Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxEntries).ticker(ticker).build();
+  }
+
+  /** Proyección de autenticación del usuario, o vacío si no existe. */
+  public Optional<UserAuthenticationResponse> get(String username) {
+    UserAuthenticationResponse cached = users.getIfPresent(username);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+
+    long loadingGeneration = currentGeneration();
+    Optional<UserAuthenticationResponse> loaded = load(username);
+    if (loaded.isEmpty()) {
+      users.invalidate(username);
+    } else {
+      store(username, loaded.get(), loadingGeneration);
+    }
+    return loaded;
+  }
+
+  /** Descarta todas las entradas. */
+  public synchronized void invalidateAll() {
+    generation++;
+    users.invalidateAll();
+  }
+
+  /** Descarta la entrada del usuario con ese ID, cualquiera que sea su username. */
+  public synchronized void invalidate(Long userId) {
+    generation++;
+    users.asMap().values().removeIf(user -> user.id().equals(userId));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChangedEvent event) {
+    invalidate(event.userId());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRolePermissionsChanged(RolePermissionsChangedEvent event) {
+    invalidateAll();
+  }
+
+  private synchronized long currentGeneration() {
+    return generation;
+  }
+
+  private synchronized void store(
+      String username, UserAuthenticationResponse user, long loadingGeneration) {
+    // Si se invalidó durante la carga, la lectura puede ser anterior al cambio: no se guarda
+    if (generation == loadingGeneration) {
+      users.put(username, user);
+    }
+  }
+
+  private Optional<UserAuthenticationResponse> load(String username) {
+    List<UserAuthenticationRow> rows = userRepository.findAuthenticationRowsByUsername(username);
+    if (rows.isEmpty()) {
+      return Optional.empty();
+    }
+
+    Set<String> authorities = new HashSet<>();
+    for (UserAuthenticationRow row : rows) {
+      if (row.getRoleName() != null) {
+        authorities.add(row.getRoleName());
+      }
+      if (row.getPermissionName() != null) {
+        authorities.add(row.getPermissionName());
+      }
+    }
+    UserAuthenticationRow user = rows.getFirst();
+    return Optional.of(
+        new UserAuthenticationResponse(
+            user.getId(),
+            user.getUsername(),
+            user.getPassword(),
+            user.getEnabled(),
+            user.getAccountNonExpired(),
+            user.getAccountNonLocked(),
+            user.getCredentialsNonExpired(),
+            Set.copyOf(authorities)));
+  }
+}
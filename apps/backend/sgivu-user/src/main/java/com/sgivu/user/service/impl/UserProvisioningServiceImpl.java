@@ -0,0 +1,265 @@
+package com.sgivu.user.service.impl;
+
+import com.sgivu.user.config.UserBulkProperties;
+import com.sgivu.user.dto.UserBulkCreateResult;
+import com.sgivu.user.entity.Role;
+import com.sgivu.user.entity.User;
+import com.sgivu.user.repository.RoleRepository;
+import com.sgivu.user.repository.UserBulkInsertRepository;
+import com.sgivu.user.repository.UserRepository;
+import com.sgivu.user.repository.projection.PersonIdentifierView;
+import com.sgivu.user.service.UserProvisioningService;
+import com.sgivu.user.validation.ValidationGroups;
+import com.sgivu.user.validation.ValidationService;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Alta masiva de usuarios.
+ *
+ * <p>Cada usuario se valida con las mismas reglas que el alta individual. Los roles de toda la
+ * solicitud se resuelven con una sola consulta y los duplicados (cédula, teléfono, correo o
+ * username) se buscan dentro de la solicitud y, con otra consulta, en la base. Las contraseñas de
+ * los aceptados se cifran en paralelo en {@code passwordHashingExecutor} y los usuarios se insertan
+ * con batches JDBC en una transacción.
+ */
+@Service
+public class UserProvisioningServiceImpl implements UserProvisioningService {
+
+  private static final Logger logger = LoggerFactory.getLogger(UserProvisioningServiceImpl.class);
+
+  private static final String DEFAULT_ROLE = "USER";
+
+  private record Identifier(
+      String label,
+      Function<User, Object> getter,
+      Function<PersonIdentifierView, Object> registered) {}
+
+  private static final List<Identifier> IDENTIFIERS =
+      List.of(
+          new Identifier("Cédula", User::getNationalId, PersonIdentifierView::getNationalId),
+          new Identifier("Teléfono", User::getPhoneNumber, PersonIdentifierView::getPhoneNumber),
+          new Identifier("Correo", User::getEmail, PersonIdentifierView::getEmail),
+          new Identifier("Username", User::getUsername, PersonIdentifierView::getUsername));
+
+  private final UserRepository userRepository;
+  private final RoleRepository roleRepository;
+  private final UserBulkInsertRepository userBulkInsertRepository;
+  private final PasswordEncoder passwordEncoder;
+  private final Validator validator;
+  private final ValidationService validationService;
+  private final ExecutorService passwordHashingExecutor;
+  private final UserBulkProperties properties;
+
+  public UserProvisioningServiceImpl(
+      UserRepository userRepository,
+      RoleRepository roleRepository,
+      UserBulkInsertRepository userBulkInsertRepository,
+      PasswordEncoder passwordEncoder,
+      Validator validator,
+      ValidationService validationService,
+      @Qualifier("passwordHashingExecutor") ExecutorService passwordHashingExecutor,
+      UserBulkProperties properties) {
+    this.userRepository = userRepository;
+    this.roleRepository = roleRepository;
+    this.userBulkInsertRepository = userBulkInsertRepository;
+    this.passwordEncoder = passwordEncoder;
+    this.validator = validator;
+    this.validationService = validationService;
+    this.passwordHashingExecutor = passwordHashingExecutor;
+    this.properties = properties;
+  }
+
+  @Override
+  public List<UserBulkCreateResult> createAll(List<User> users) {
+    if (users.size() > properties.getMaxUsers()) {
+      throw new IllegalArgumentException(
+          "Se permiten como máximo " + properties.getMaxUsers() + " usuarios por solicitud");
+    }
+
+    List<List<String>> errors = new ArrayList<>(users.size());
+    for (User user : users) {
+      errors.add(user == null ? new ArrayList<>(List.of("Usuario vacío")) : validate(user));
+    }
+
+    List<Set<Role>> roles = resolveRoles(users, errors);
+    rejectDuplicates(users, errors);
+
+    List<User> accepted = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      if (errors.get(i).isEmpty()) {
+        User user = users.get(i);
+        user.setRoles(roles.get(i));
+        accepted.add(user);
+      }
+    }
+
+    String failure = null;
+    if (!accepted.isEmpty()) {
+      hashPasswords(accepted);
+      try {
+        userBulkInsertRepository.insertAll(accepted);
+      } catch (DataAccessException e) {
+        logger.warn("Bulk user creation of {} users failed: {}", accepted.size(), e.toString());
+        failure = "No se pudo guardar el lote; ningún usuario fue creado";
+      }
+    }
+
+    List<UserBulkCreateResult> results = new ArrayList<>(users.size());
+    for (int i = 0; i < users.size(); i++) {
+      User user = users.get(i);
+      String username = user != null ? user.getUsername() : null;
+      if (!errors.get(i).isEmpty()) {
+        results.add(UserBulkCreateResult.rejected(i, username, errors.get(i)));
+      } else if (failure != null) {
+        results.add(UserBulkCreateResult.failed(i, username, failure));
+      } else {
+        results.add(UserBulkCreateResult.created(i, user.getId(), username));
+      }
+    }
+    return results;
+  }
+
+  /** Reglas de entidad y de alta (contraseña) más las de {@link ValidationService}. */
+  private List<String> validate(User user) {
+    List<String> errors = new ArrayList<>();
+    validator.validate(user, Default.class, ValidationGroups.Create.class).stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .forEach(errors::add);
+    validationService.validate(user).entrySet().stream()
+        .map(entry -> entry.getKey() + ": " + entry.getValue())
+        .forEach(errors::add);
+    return errors;
+  }
+
+  /**
+   * Roles pedidos por cada usuario ({@code USER} si no pide ninguno), resueltos con una sola
+   * consulta. Un nombre de rol desconocido rechaza al usuario.
+   */
+  private List<Set<Role>> resolveRoles(List<User> users, List<List<String>> errors) {
+    List<Set<String>> requested = new ArrayList<>(users.size());
+    Set<String> allNames = new HashSet<>();
+    for (int i = 0; i < users.size(); i++) {
+      Set<String> names = errors.get(i).isEmpty() ? requestedRoles(users.get(i)) : Set.of();
+      requested.add(names);
+      allNames.addAll(names);
+    }
+
+    Map<String, Role> rolesByName =
+        allNames.isEmpty()
+            ? Map.of()
+            : roleRepository.findByNameIn(allNames).stream()
+                .collect(Collectors.toMap(Role::getName, Function.identity()));
+
+    List<Set<Role>> roles = new ArrayList<>(users.size());
+    for (int i = 0; i < users.size(); i++) {
+      Set<Role> resolved = new HashSet<>();
+      for (String name : requested.get(i)) {
+        Role role = rolesByName.get(name);
+        if (role == null) {
+          errors.get(i).add("Rol desconocido: " + name);
+        } else {
+          resolved.add(role);
+        }
+      }
+      roles.add(resolved);
+    }
+    return roles;
+  }
+
+  private static Set<String> requestedRoles(User user) {
+    Set<String> names =
+        user.getRoles() == null
+            ? new LinkedHashSet<>()
+            : user.getRoles().stream()
+                .filter(Objects::nonNull)
+                .map(Role::getName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    return names.isEmpty() ? Set.of(DEFAULT_ROLE) : names;
+  }
+
+  /** Rechaza los usuarios válidos cuyos identificadores se repiten en la solicitud o en la base. */
+  private void rejectDuplicates(List<User> users, List<List<String>> errors) {
+    List<Integer> candidates = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      if (errors.get(i).isEmpty()) {
+        candidates.add(i);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    for (Identifier identifier : IDENTIFIERS) {
+      Map<Object, Integer> firstIndex = new HashMap<>();
+      for (int i : candidates) {
+        Object value = identifier.getter().apply(users.get(i));
+        Integer previous = firstIndex.putIfAbsent(value, i);
+        if (previous != null) {
+          errors
+              .get(i)
+              .add(
+                  identifier.label()
+                      + " "
+                      + value
+                      + ": ya aparece en el usuario "
+                      + previous
+                      + " de la solicitud");
+        }
+      }
+    }
+
+    List<PersonIdentifierView> rows =
+        userRepository.findByIdentifiers(
+            candidates.stream().map(i -> users.get(i).getNationalId()).toArray(Long[]::new),
+            candidates.stream().map(i -> users.get(i).getPhoneNumber()).toArray(Long[]::new),
+            candidates.stream().map(i -> users.get(i).getEmail()).toArray(String[]::new),
+            candidates.stream().map(i -> users.get(i).getUsername()).toArray(String[]::new));
+    for (Identifier identifier : IDENTIFIERS) {
+      Set<Object> registered = new HashSet<>();
+      rows.forEach(row -> registered.add(identifier.registered().apply(row)));
+      for (int i : candidates) {
+        Object value = identifier.getter().apply(users.get(i));
+        if (registered.contains(value)) {
+          errors
+              .get(i)
+              .add(identifier.label() + " " + value + ": ya está registrado por otra persona");
+        }
+      }
+    }
+  }
+
+  /** Cifra las contraseñas en el pool acotado y espera a que terminen todas. */
+  private void hashPasswords(List<User> users) {
+    List<CompletableFuture<String>> hashes =
+        users.stream()
+            .map(
+                user ->
+                    CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(user.getPassword()), passwordHashingExecutor))
+            .toList();
+    for (int i = 0; i < users.size(); i++) {
+      users.get(i).setPassword(hashes.get(i).join());
+    }
+  }
+}
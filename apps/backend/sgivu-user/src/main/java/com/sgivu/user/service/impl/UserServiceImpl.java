@@ -2,16 +2,30 @@ package com.sgivu.user.service.impl;
 
 import static com.sgivu.user.util.RolePermissionUtils.getRoles;
 
+import com.sgivu.user.dto.UserAuthenticationResponse;
 import com.sgivu.user.dto.UserFilterCriteria;
+import com.sgivu.user.dto.UserSummaryResponse;
 import com.sgivu.user.dto.UserUpdateRequest;
+import com.sgivu.user.entity.Role;
 import com.sgivu.user.entity.User;
+import com.sgivu.user.event.UserChangedEvent;
 import com.sgivu.user.repository.RoleRepository;
 import com.sgivu.user.repository.UserRepository;
+import com.sgivu.user.repository.projection.UserRoleView;
+import com.sgivu.user.repository.projection.UserSummaryView;
 import com.sgivu.user.service.UserService;
+import com.sgivu.user.specification.TextSearch;
 import com.sgivu.user.specification.UserSpecifications;
 import com.sgivu.user.util.RolePermissionUtils;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -25,15 +39,24 @@ public class UserServiceImpl extends AbstractPersonServiceImpl<User, UserReposit
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
   private final PasswordEncoder passwordEncoder;
+  private final RoleAuthorityCache roleAuthorityCache;
+  private final UserAuthenticationCache userAuthenticationCache;
+  private final ApplicationEventPublisher eventPublisher;
 
   public UserServiceImpl(
       UserRepository userRepository,
       RoleRepository roleRepository,
-      PasswordEncoder passwordEncoder) {
+      PasswordEncoder passwordEncoder,
+      RoleAuthorityCache roleAuthorityCache,
+      UserAuthenticationCache userAuthenticationCache,
+      ApplicationEventPublisher eventPublisher) {
     super(userRepository);
     this.userRepository = userRepository;
     this.roleRepository = roleRepository;
     this.passwordEncoder = passwordEncoder;
+    this.roleAuthorityCache = roleAuthorityCache;
+    this.userAuthenticationCache = userAuthenticationCache;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
@@ -59,6 +82,11 @@ public class UserServiceImpl extends AbstractPersonServiceImpl<User, UserReposit
     return userRepository.findByUsername(username);
   }
 
+  @Override
+  public Optional<UserAuthenticationResponse> findAuthenticationByUsername(String username) {
+    return userAuthenticationCache.get(username);
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<User> findAll() {
@@ -103,7 +131,9 @@ public class UserServiceImpl extends AbstractPersonServiceImpl<User, UserReposit
         userToUpdate.setPassword(passwordEncoder.encode(userUpdateRequest.getPassword()));
       }
 
-      return Optional.of(userRepository.save(userToUpdate));
+      User saved = userRepository.save(userToUpdate);
+      eventPublisher.publishEvent(new UserChangedEvent(id));
+      return Optional.of(saved);
     }
     return Optional.empty();
   }
@@ -112,6 +142,7 @@ public class UserServiceImpl extends AbstractPersonServiceImpl<User, UserReposit
   @Transactional
   public void deleteById(Long id) {
     userRepository.deleteById(id);
+    eventPublisher.publishEvent(new UserChangedEvent(id));
   }
 
   @Override
@@ -124,6 +155,7 @@ public class UserServiceImpl extends AbstractPersonServiceImpl<User, UserReposit
 
       user.setEnabled(enabled);
       userRepository.save(user);
+      eventPublisher.publishEvent(new UserChangedEvent(id));
       return true;
     }
     return false;
@@ -149,4 +181,47 @@ public class UserServiceImpl extends AbstractPersonServiceImpl<User, UserReposit
   public Page<User> search(UserFilterCriteria criteria, Pageable pageable) {
     return userRepository.findAll(UserSpecifications.withFilters(criteria), pageable);
   }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<UserSummaryResponse> typeahead(String query, int limit) {
+    String term = TextSearch.normalize(query);
+    int max = Math.clamp(limit, 1, TYPEAHEAD_MAX_LIMIT);
+    if (term.isEmpty()) {
+      return List.of();
+    }
+
+    String prefix = TextSearch.prefixPattern(term);
+    List<UserSummaryView> rows =
+        term.length() < TextSearch.MIN_SUBSTRING_LENGTH
+            ? userRepository.findTypeaheadByPrefix(prefix, max)
+            : userRepository.findTypeaheadBySubstring(
+                TextSearch.substringPattern(term), prefix, max);
+    return rows.stream()
+        .map(
+            row ->
+                new UserSummaryResponse(
+                    row.getId(), row.getFirstName() + " " + row.getLastName(), row.getUsername()))
+        .toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, Set<Role>> findRolesByUserIds(Collection<Long> userIds) {
+    List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+    if (ids.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<Long, List<Long>> roleIdsByUser = new HashMap<>();
+    for (UserRoleView row : userRepository.findRoleIdsByUserIds(ids.toArray(Long[]::new))) {
+      roleIdsByUser
+          .computeIfAbsent(row.getUserId(), userId -> new ArrayList<>())
+          .add(row.getRoleId());
+    }
+    Map<Long, Set<Role>> rolesByUser = new HashMap<>();
+    roleIdsByUser.forEach(
+        (userId, roleIds) -> rolesByUser.put(userId, roleAuthorityCache.rolesOf(roleIds)));
+    return rolesByUser;
+  }
 }
@@ -0,0 +1,38 @@
+package com.sgivu.user.specification;
+
+import java.util.Locale;
+import org.springframework.util.StringUtils;
+
+/**
+ * Patrones {@code LIKE} del autocompletado de usuarios, en minúsculas y con {@code %} y {@code _}
+ * escapados, para las expresiones indexadas en {@code V3__user_typeahead_indexes.sql}.
+ */
+public final class TextSearch {
+
+  /** Desde esta longitud se busca la subcadena con los índices trigram; por debajo, el prefijo. */
+  public static final int MIN_SUBSTRING_LENGTH = 3;
+
+  private TextSearch() {}
+
+  /** Término normalizado (sin espacios extremos ni repetidos, en minúsculas); vacío si no hay. */
+  public static String normalize(String value) {
+    if (!StringUtils.hasText(value)) {
+      return "";
+    }
+    return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+
+  /** {@code valor%} */
+  public static String prefixPattern(String term) {
+    return escape(term) + "%";
+  }
+
+  /** {@code %valor%} */
+  public static String substringPattern(String term) {
+    return "%" + escape(term) + "%";
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -44,10 +44,7 @@ public class RolePermissionUtils {
       if (rolesAndPermissionsOfUser.isEmpty()) {
         roles.add(roleRepository.findByName(USER).orElseThrow());
       } else {
-        for (String role : rolesAndPermissionsOfUser) {
-          Optional<Role> roleOptional = roleRepository.findByName(role);
-          roleOptional.ifPresent(roles::add);
-        }
+        roles.addAll(roleRepository.findByNameIn(rolesAndPermissionsOfUser));
       }
     } catch (NoSuchElementException e) {
       throw new RoleRetrievalException("Error retrieving roles: " + e.getMessage(), e);
@@ -69,10 +66,7 @@ public class RolePermissionUtils {
           userUpdateRequest.getRolesAndPermissions();
 
       if (!rolesAndPermissionsOfUserUpdateRequest.isEmpty()) {
-        for (String role : rolesAndPermissionsOfUserUpdateRequest) {
-          Optional<Role> roleOptional = roleRepository.findByName(role);
-          roleOptional.ifPresent(roles::add);
-        }
+        roles.addAll(roleRepository.findByNameIn(rolesAndPermissionsOfUserUpdateRequest));
       } else {
         // En actualizaciones exigimos roles explícitos para evitar desproteger cuentas activas.
         throw new NullPointerException("User roles must not be null");
@@ -0,0 +1,5 @@
+-- Último inicio de sesión y última actividad (login o renovación de token) de cada usuario. Los
+-- escribe en lotes el buffer de actividad de sgivu-user; JPA solo los lee.
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS last_login_at    TIMESTAMP WITH TIME ZONE NULL,
+    ADD COLUMN IF NOT EXISTS last_activity_at TIMESTAMP WITH TIME ZONE NULL;
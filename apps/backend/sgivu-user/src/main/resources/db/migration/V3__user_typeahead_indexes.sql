@@ -0,0 +1,23 @@
+-- Autocompletado de usuarios (GET /v1/users/typeahead).
+--
+-- Términos cortos: prefijo de username, de "nombre apellido" o de "apellido nombre". Los B-tree en
+-- collation "C" resuelven LIKE 'ab%' y además entregan las filas ya ordenadas, así que cada rama
+-- se corta tras LIMIT filas sin recorrer todas las coincidencias.
+--
+-- Términos de tres o más caracteres: subcadena de username, nombre completo o correo, resuelta con
+-- índices GIN trigram sobre las mismas expresiones que usa la consulta.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_username_prefix
+    ON users ((lower(username) COLLATE "C"));
+CREATE INDEX IF NOT EXISTS idx_persons_full_name_prefix
+    ON persons ((lower(first_name || ' ' || last_name) COLLATE "C"));
+CREATE INDEX IF NOT EXISTS idx_persons_reversed_name_prefix
+    ON persons ((lower(last_name || ' ' || first_name) COLLATE "C"));
+
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm
+    ON users USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_persons_full_name_trgm
+    ON persons USING gin (lower(first_name || ' ' || last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_persons_email_trgm
+    ON persons USING gin (lower(email) gin_trgm_ops);
@@ -0,0 +1,13 @@
+-- Índices trigram del autocompletado sin "fastupdate". Con fastupdate, las altas se acumulan en una
+-- lista pendiente sin ordenar (hasta gin_pending_list_limit, 4 MB por defecto) que cada búsqueda
+-- recorre entera hasta que un VACUUM la vacía; con 200.000 usuarios eso cuadruplicaba la latencia
+-- de las búsquedas por subcadena. Las altas de usuarios son escasas, así que se paga el coste de
+-- insertar directamente en el índice.
+ALTER INDEX idx_users_username_trgm SET (fastupdate = off);
+ALTER INDEX idx_persons_full_name_trgm SET (fastupdate = off);
+ALTER INDEX idx_persons_email_trgm SET (fastupdate = off);
+
+-- Desactivar fastupdate no vacía la lista pendiente que ya exista.
+SELECT gin_clean_pending_list('idx_users_username_trgm');
+SELECT gin_clean_pending_list('idx_persons_full_name_trgm');
+SELECT gin_clean_pending_list('idx_persons_email_trgm');
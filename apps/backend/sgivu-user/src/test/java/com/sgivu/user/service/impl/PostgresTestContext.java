@@ -0,0 +1,113 @@
+package com.sgivu.user.service.impl;
+
+import com.sgivu.user.UserApplication;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.data.jpa.autoconfigure.DataJpaRepositoriesAutoConfiguration;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.transaction.autoconfigure.TransactionAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Contexto mínimo de JPA sobre PostgreSQL para las pruebas que miden consultas reales.
+ *
+ * <p>Usa la base indicada en {@code -Dbenchmark.jdbc-url} (con {@code benchmark.username} y {@code
+ * benchmark.password}) o, si no hay ninguna, un contenedor {@code postgres:16} propio que se
+ * detiene al cerrar el contexto. Se aplican las migraciones de Flyway y no se carga {@code
+ * application.yml}, que importa sgivu-config.
+ */
+final class PostgresTestContext implements AutoCloseable {
+
+  private static final String JDBC_URL_PROPERTY = "benchmark.jdbc-url";
+
+  /** Datos, Flyway, JPA y transacciones; cada prueba importa además los servicios que mide. */
+  @Configuration(proxyBeanMethods = false)
+  @AutoConfigurationPackage(basePackageClasses = UserApplication.class)
+  @ImportAutoConfiguration({
+    DataSourceAutoConfiguration.class,
+    JdbcTemplateAutoConfiguration.class,
+    FlywayAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    DataJpaRepositoriesAutoConfiguration.class,
+    TransactionAutoConfiguration.class
+  })
+  static class Persistence {
+
+    @Bean
+    PasswordEncoder passwordEncoder() {
+      return new BCryptPasswordEncoder();
+    }
+  }
+
+  private final PostgreSQLContainer container;
+  private final ConfigurableApplicationContext context;
+
+  private PostgresTestContext(
+      PostgreSQLContainer container, ConfigurableApplicationContext context) {
+    this.container = container;
+    this.context = context;
+  }
+
+  /** Condición de {@code @EnabledIf}: hay una base indicada o Docker para levantar una. */
+  static boolean isAvailable() {
+    return System.getProperty(JDBC_URL_PROPERTY) != null
+        || DockerClientFactory.instance().isDockerAvailable();
+  }
+
+  static PostgresTestContext start(Class<?> configuration, Map<String, String> properties) {
+    PostgreSQLContainer container = null;
+    Map<String, Object> settings = new HashMap<>(properties);
+    settings.put("spring.config.location", "optional:classpath:/benchmark-none/");
+    settings.put("spring.cloud.config.enabled", "false");
+    String jdbcUrl = System.getProperty(JDBC_URL_PROPERTY);
+    if (jdbcUrl != null) {
+      settings.put("spring.datasource.url", jdbcUrl);
+      settings.put("spring.datasource.username", System.getProperty("benchmark.username", ""));
+      settings.put("spring.datasource.password", System.getProperty("benchmark.password", ""));
+    } else {
+      container = new PostgreSQLContainer("postgres:16");
+      container.start();
+      settings.put("spring.datasource.url", container.getJdbcUrl());
+      settings.put("spring.datasource.username", container.getUsername());
+      settings.put("spring.datasource.password", container.getPassword());
+    }
+    try {
+      ConfigurableApplicationContext context =
+          new SpringApplicationBuilder(configuration)
+              .web(WebApplicationType.NONE)
+              .properties(settings)
+              .run();
+      return new PostgresTestContext(container, context);
+    } catch (RuntimeException e) {
+      if (container != null) {
+        container.stop();
+      }
+      throw e;
+    }
+  }
+
+  <T> T getBean(Class<T> type) {
+    return context.getBean(type);
+  }
+
+  @Override
+  public void close() {
+    context.close();
+    if (container != null) {
+      container.stop();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.sgivu.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.user.entity.Permission;
+import com.sgivu.user.entity.Role;
+import com.sgivu.user.event.RolePermissionsChangedEvent;
+import com.sgivu.user.repository.RoleRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RoleAuthorityCacheTest {
+
+  private RoleRepository roleRepository;
+  private MutableClock clock;
+  private RoleAuthorityCache cache;
+
+  @BeforeEach
+  void setUp() {
+    roleRepository = mock(RoleRepository.class);
+    clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    cache = new RoleAuthorityCache(roleRepository, Duration.ofMinutes(5), clock);
+    when(roleRepository.findAllWithPermissions())
+        .thenReturn(List.of(role(1L, "ADMIN", "user:read", "user:delete"), role(2L, "USER")));
+  }
+
+  private static Role role(Long id, String name, String... permissions) {
+    Set<Permission> set = new HashSet<>();
+    long permissionId = id * 100;
+    for (String permission : permissions) {
+      set.add(new Permission(permissionId++, permission, null, null, null));
+    }
+    return new Role(id, name, null, null, null, set);
+  }
+
+  @Test
+  @DisplayName("Debe cargar los roles una sola vez y omitir los IDs desconocidos")
+  void shouldLoadOnceAndResolveRoles() {
+    Role admin = cache.rolesOf(List.of(1L)).iterator().next();
+    assertEquals("ADMIN", admin.getName());
+    assertEquals(2, admin.getPermissions().size());
+    assertEquals(
+        List.of("USER"), cache.rolesOf(List.of(2L, 99L)).stream().map(Role::getName).toList());
+
+    verify(roleRepository, times(1)).findAllWithPermissions();
+  }
+
+  @Test
+  @DisplayName("Debe recargar tras un cambio de permisos confirmado")
+  void shouldReloadAfterPermissionsChange() {
+    cache.rolesOf(List.of(1L));
+    cache.onRolePermissionsChanged(new RolePermissionsChangedEvent(1L));
+    cache.rolesOf(List.of(1L));
+
+    verify(roleRepository, times(2)).findAllWithPermissions();
+  }
+
+  @Test
+  @DisplayName("Debe recargar cuando caduca el TTL")
+  void shouldReloadAfterTtl() {
+    cache.rolesOf(List.of(1L));
+    clock.advance(Duration.ofMinutes(4));
+    cache.rolesOf(List.of(1L));
+    verify(roleRepository, times(1)).findAllWithPermissions();
+
+    clock.advance(Duration.ofMinutes(2));
+    cache.rolesOf(List.of(1L));
+    verify(roleRepository, times(2)).findAllWithPermissions();
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
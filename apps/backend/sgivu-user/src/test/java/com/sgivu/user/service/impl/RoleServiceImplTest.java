@@ -6,6 +6,7 @@ import static org.mockito.Mockito.*;
 
 import com.sgivu.user.entity.Permission;
 import com.sgivu.user.entity.Role;
+import com.sgivu.user.event.RolePermissionsChangedEvent;
 import com.sgivu.user.repository.RoleRepository;
 import com.sgivu.user.service.PermissionService;
 import java.util.*;
@@ -16,11 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 
 public class RoleServiceImplTest {
 
   @Mock private RoleRepository roleRepository;
   @Mock private PermissionService permissionService;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private RoleServiceImpl roleService;
 
@@ -75,6 +78,7 @@ public class RoleServiceImplTest {
       verify(permissionService).findByNameIn(names);
       verify(role).addPermissions(permissions);
       verify(roleRepository).save(role);
+      verify(eventPublisher).publishEvent(new RolePermissionsChangedEvent(role.getId()));
     }
 
     @Test
@@ -110,6 +114,7 @@ public class RoleServiceImplTest {
       assertFalse(result.isPresent());
       verify(roleRepository).findById(roleId);
       verifyNoInteractions(permissionService);
+      verifyNoInteractions(eventPublisher);
     }
   }
 
@@ -0,0 +1,145 @@
+package com.sgivu.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.user.dto.UserActivityEvent;
+import com.sgivu.user.dto.UserActivityEvent.Type;
+import com.sgivu.user.repository.UserActivityRepository;
+import com.sgivu.user.repository.UserActivityRepository.UserActivity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.QueryTimeoutException;
+
+public class UserActivityServiceImplTest {
+
+  private static final Instant NOW = Instant.parse("2024-05-10T15:00:00Z");
+
+  @Mock private UserActivityRepository userActivityRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UserActivityServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    meterRegistry = new SimpleMeterRegistry();
+    service =
+        new UserActivityServiceImpl(
+            userActivityRepository, meterRegistry, 2, Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  private static UserActivityEvent event(long userId, Type type, Instant at) {
+    return new UserActivityEvent(userId, type, at);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<UserActivity> flushedBatch() {
+    ArgumentCaptor<List<UserActivity>> captor = ArgumentCaptor.forClass(List.class);
+    verify(userActivityRepository).updateAll(captor.capture());
+    return captor.getValue().stream().sorted(Comparator.comparing(UserActivity::userId)).toList();
+  }
+
+  @Nested
+  @DisplayName("record(List<UserActivityEvent>)")
+  class RecordTests {
+
+    @Test
+    @DisplayName("Debe fusionar los eventos por usuario conservando la marca más reciente")
+    void shouldCoalesceEventsPerUser() {
+      Instant login = NOW.minusSeconds(60);
+      service.record(
+          List.of(
+              event(1L, Type.LOGIN, login),
+              event(1L, Type.ACTIVITY, NOW.minusSeconds(10)),
+              event(1L, Type.ACTIVITY, NOW.minusSeconds(30)),
+              event(2L, Type.ACTIVITY, NOW.minusSeconds(5))));
+
+      assertEquals(2, service.flush());
+      assertEquals(
+          List.of(
+              new UserActivity(1L, login, NOW.minusSeconds(10)),
+              new UserActivity(2L, null, NOW.minusSeconds(5))),
+          flushedBatch());
+      assertEquals(2, meterRegistry.get("sgivu.user.activity.flushed").counter().count());
+      assertEquals(1, meterRegistry.get("sgivu.user.activity.flush").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe descartar eventos inválidos y de usuarios nuevos con el buffer lleno")
+    void shouldDropInvalidAndOverflowingEvents() {
+      int accepted =
+          service.record(
+              List.of(
+                  event(1L, Type.LOGIN, NOW),
+                  event(2L, Type.LOGIN, NOW),
+                  event(3L, Type.LOGIN, NOW),
+                  event(1L, Type.ACTIVITY, NOW),
+                  new UserActivityEvent(null, Type.LOGIN, NOW)));
+
+      assertEquals(3, accepted);
+      assertEquals(2, meterRegistry.get("sgivu.user.activity.dropped").counter().count());
+      assertEquals(2, meterRegistry.get("sgivu.user.activity.buffer_size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe limitar al instante actual las marcas en el futuro")
+    void shouldClampFutureTimestamps() {
+      service.record(List.of(event(1L, Type.LOGIN, NOW.plusSeconds(3600))));
+
+      service.flush();
+
+      assertEquals(List.of(new UserActivity(1L, NOW, NOW)), flushedBatch());
+    }
+  }
+
+  @Nested
+  @DisplayName("flush()")
+  class FlushTests {
+
+    @Test
+    @DisplayName("No debe consultar la base si no hay actividad pendiente")
+    void shouldSkipEmptyBuffer() {
+      assertEquals(0, service.flush());
+      verifyNoInteractions(userActivityRepository);
+    }
+
+    @Test
+    @DisplayName("Debe devolver la actividad al buffer si la escritura falla")
+    void shouldRequeueOnFailure() {
+      when(userActivityRepository.updateAll(any()))
+          .thenThrow(new QueryTimeoutException("timeout"))
+          .thenReturn(1);
+      service.record(List.of(event(1L, Type.LOGIN, NOW.minusSeconds(60))));
+
+      assertEquals(0, service.flush());
+      service.record(List.of(event(1L, Type.ACTIVITY, NOW)));
+      assertEquals(1, service.flush());
+
+      verify(userActivityRepository, times(2)).updateAll(any());
+      assertEquals(0, meterRegistry.get("sgivu.user.activity.buffer_size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe escribir lo pendiente al apagarse")
+    void shouldFlushOnShutdown() {
+      service.record(List.of(event(1L, Type.ACTIVITY, NOW)));
+
+      service.flushOnShutdown();
+
+      assertEquals(List.of(new UserActivity(1L, null, NOW)), flushedBatch());
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.sgivu.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.user.dto.UserAuthenticationResponse;
+import com.sgivu.user.event.RolePermissionsChangedEvent;
+import com.sgivu.user.event.UserChangedEvent;
+import com.sgivu.user.repository.UserRepository;
+import com.sgivu.user.repository.projection.UserAuthenticationRow;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserAuthenticationCacheTest {
+
+  private final AtomicLong nanos = new AtomicLong();
+  private UserRepository userRepository;
+  private UserAuthenticationCache cache;
+
+  @BeforeEach
+  void setUp() {
+    userRepository = mock(UserRepository.class);
+    cache = new UserAuthenticationCache(userRepository, Duration.ofSeconds(30), 2, nanos::get);
+    List<UserAuthenticationRow> rows =
+        List.of(
+            row(1L, "alice", "ADMIN", "user:read"),
+            row(1L, "alice", "ADMIN", "user:delete"),
+            row(1L, "alice", "USER", null));
+    when(userRepository.findAuthenticationRowsByUsername("alice")).thenReturn(rows);
+  }
+
+  private static UserAuthenticationRow row(
+      Long id, String username, String roleName, String permissionName) {
+    UserAuthenticationRow row = mock(UserAuthenticationRow.class);
+    when(row.getId()).thenReturn(id);
+    when(row.getUsername()).thenReturn(username);
+    when(row.getPassword()).thenReturn("hash");
+    when(row.getEnabled()).thenReturn(true);
+    when(row.getAccountNonExpired()).thenReturn(true);
+    when(row.getAccountNonLocked()).thenReturn(false);
+    when(row.getCredentialsNonExpired()).thenReturn(true);
+    when(row.getRoleName()).thenReturn(roleName);
+    when(row.getPermissionName()).thenReturn(permissionName);
+    return row;
+  }
+
+  @Test
+  @DisplayName("Debe aplanar roles y permisos y consultar la base una sola vez")
+  void shouldFlattenAuthoritiesAndCache() {
+    UserAuthenticationResponse user = cache.get("alice").orElseThrow();
+
+    assertEquals(1L, user.id());
+    assertEquals("hash", user.password());
+    assertTrue(user.enabled());
+    assertFalse(user.accountNonLocked());
+    assertEquals(Set.of("ADMIN", "USER", "user:read", "user:delete"), user.authorities());
+
+    assertSame(user, cache.get("alice").orElseThrow());
+    verify(userRepository, times(1)).findAuthenticationRowsByUsername("alice");
+  }
+
+  @Test
+  @DisplayName("Debe recargar el usuario al caducar la entrada")
+  void shouldReloadAfterTtl() {
+    cache.get("alice");
+    nanos.addAndGet(Duration.ofSeconds(29).toNanos());
+    cache.get("alice");
+    verify(userRepository, times(1)).findAuthenticationRowsByUsername("alice");
+
+    nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+    cache.get("alice");
+    verify(userRepository, times(2)).findAuthenticationRowsByUsername("alice");
+  }
+
+  @Test
+  @DisplayName("No debe guardar usuarios inexistentes")
+  void shouldNotCacheMissingUsers() {
+    when(userRepository.findAuthenticationRowsByUsername("ghost")).thenReturn(List.of());
+
+    assertEquals(Optional.empty(), cache.get("ghost"));
+    assertEquals(Optional.empty(), cache.get("ghost"));
+    verify(userRepository, times(2)).findAuthenticationRowsByUsername("ghost");
+  }
+
+  @Test
+  @DisplayName("Debe recargar tras un cambio del usuario o de los permisos de un rol")
+  void shouldReloadAfterUserOrRoleChange() {
+    cache.get("alice");
+    cache.onUserChanged(new UserChangedEvent(2L));
+    cache.get("alice");
+    verify(userRepository, times(1)).findAuthenticationRowsByUsername("alice");
+
+    cache.onUserChanged(new UserChangedEvent(1L));
+    cache.get("alice");
+    verify(userRepository, times(2)).findAuthenticationRowsByUsername("alice");
+
+    cache.onRolePermissionsChanged(new RolePermissionsChangedEvent(1L));
+    cache.get("alice");
+    verify(userRepository, times(3)).findAuthenticationRowsByUsername("alice");
+  }
+}
@@ -0,0 +1,199 @@
+package com.sgivu.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sgivu.user.dto.UserFilterCriteria;
+import com.sgivu.user.dto.UserResponse;
+import com.sgivu.user.entity.Address;
+import com.sgivu.user.entity.Permission;
+import com.sgivu.user.entity.Role;
+import com.sgivu.user.entity.User;
+import com.sgivu.user.mapper.UserMapper;
+import com.sgivu.user.mapper.UserMapperImpl;
+import com.sgivu.user.repository.PermissionRepository;
+import com.sgivu.user.repository.RoleRepository;
+import com.sgivu.user.repository.UserRepository;
+import com.sgivu.user.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Consultas por página de los listados de usuarios: deben ser constantes (usuarios con dirección,
+ * conteo, {@code users_roles}) sin importar el tamaño de página, y no cargar permisos.
+ *
+ * <p>Corre con el resto de pruebas sobre un contenedor PostgreSQL (ver {@link PostgresTestContext})
+ * e inserta {@value #USERS} usuarios; sin Docker ni {@code -Dbenchmark.jdbc-url} se omite.
+ */
+@EnabledIf("com.sgivu.user.service.impl.PostgresTestContext#isAvailable")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserListingQueryCountTest {
+
+  private static final int USERS = 60;
+
+  private PostgresTestContext database;
+  private UserService userService;
+  private UserMapper userMapper;
+  private Statistics statistics;
+
+  @Configuration(proxyBeanMethods = false)
+  @Import({
+    PostgresTestContext.Persistence.class,
+    UserServiceImpl.class,
+    RoleAuthorityCache.class,
+    UserAuthenticationCache.class,
+    UserMapperImpl.class
+  })
+  static class QueryCountConfig {}
+
+  record Sample(long statements, long permissionLoads, long roleLoads) {}
+
+  @BeforeAll
+  void startContext() {
+    database =
+        PostgresTestContext.start(
+            QueryCountConfig.class,
+            Map.of("spring.jpa.properties.hibernate.generate_statistics", "true"));
+    userService = database.getBean(UserService.class);
+    userMapper = database.getBean(UserMapper.class);
+    statistics =
+        database.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    // En una sola transacción, para que el rol siga gestionado al persistir los usuarios
+    database
+        .getBean(TransactionTemplate.class)
+        .executeWithoutResult(
+            status ->
+                seed(
+                    database.getBean(PermissionRepository.class),
+                    database.getBean(RoleRepository.class),
+                    database.getBean(UserRepository.class)));
+  }
+
+  @AfterAll
+  void closeContext() {
+    if (database != null) {
+      database.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Listado paginado: mismas consultas para 5 y 50 usuarios y ningún permiso cargado")
+  void pagedListingRunsConstantQueries() {
+    assertConstantQueries(pageable -> userService.findAll(pageable));
+  }
+
+  @Test
+  @DisplayName("Búsqueda paginada por rol: mismas consultas para 5 y 50 usuarios")
+  void pagedSearchRunsConstantQueries() {
+    UserFilterCriteria criteria = UserFilterCriteria.builder().role("USER").build();
+    assertConstantQueries(pageable -> userService.search(criteria, pageable));
+  }
+
+  private void assertConstantQueries(Function<Pageable, Page<User>> listing) {
+    // Calienta la caché de roles: su carga ocurre una vez por pod, no por página
+    measure(listing, 1);
+
+    Sample small = measure(listing, 5);
+    Sample large = measure(listing, 50);
+
+    print("5 per page", small);
+    print("50 per page", large);
+    assertEquals(small.statements(), large.statements());
+    assertEquals(0, large.permissionLoads());
+    assertEquals(0, large.roleLoads());
+  }
+
+  private Sample measure(Function<Pageable, Page<User>> listing, int pageSize) {
+    statistics.clear();
+    Page<User> page = listing.apply(PageRequest.of(0, pageSize));
+    Map<Long, Set<Role>> roles =
+        userService.findRolesByUserIds(page.getContent().stream().map(User::getId).toList());
+    List<UserResponse> responses =
+        page.getContent().stream()
+            .map(user -> userMapper.toUserResponse(user, roles.get(user.getId())))
+            .toList();
+    assertEquals(pageSize, responses.size());
+    assertTrue(responses.stream().allMatch(response -> !response.getRoles().isEmpty()));
+    return new Sample(
+        statistics.getPrepareStatementCount(),
+        statistics.getEntityStatistics(Permission.class.getName()).getLoadCount(),
+        statistics.getEntityStatistics(Role.class.getName()).getLoadCount());
+  }
+
+  private static void print(String label, Sample sample) {
+    System.out.printf(
+        "User listing (%s): statements=%d, permission loads=%d, role loads=%d%n",
+        label, sample.statements(), sample.permissionLoads(), sample.roleLoads());
+  }
+
+  private static void seed(
+      PermissionRepository permissionRepository,
+      RoleRepository roleRepository,
+      UserRepository userRepository) {
+    Permission read =
+        permissionRepository
+            .findByName("user:read")
+            .orElseGet(
+                () ->
+                    permissionRepository.save(new Permission(null, "user:read", null, null, null)));
+    Role role =
+        roleRepository
+            .findByName("USER")
+            .orElseGet(
+                () ->
+                    roleRepository.save(new Role(null, "USER", null, null, null, new HashSet<>())));
+    if (!role.getPermissions().contains(read)) {
+      role.getPermissions().add(read);
+      role = roleRepository.save(role);
+    }
+
+    long existing = userRepository.count();
+    long missing = USERS - existing;
+    if (missing <= 0) {
+      return;
+    }
+    Role userRole = role;
+    userRepository.saveAll(
+        IntStream.range(0, (int) missing)
+            .mapToObj(
+                i -> {
+                  long n = existing + i;
+                  User user = new User();
+                  user.setNationalId(9_000_000_000L + n);
+                  user.setFirstName("Bench");
+                  user.setLastName("User" + n);
+                  user.setPhoneNumber(3_100_000_000L + n);
+                  user.setEmail(String.format("bench%06d@sgivu.test", n));
+                  user.setUsername(String.format("bench%06d", n));
+                  user.setPassword("not-a-real-hash");
+                  user.setEnabled(true);
+                  Address address = new Address();
+                  address.setStreet("Calle " + n);
+                  address.setNumber(String.valueOf(n));
+                  address.setCity("Bogota");
+                  user.setAddress(address);
+                  user.setRoles(Set.of(userRole));
+                  return user;
+                })
+            .toList());
+  }
+}
@@ -0,0 +1,190 @@
+package com.sgivu.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.user.config.UserBulkProperties;
+import com.sgivu.user.dto.UserBulkCreateResult;
+import com.sgivu.user.dto.UserBulkCreateResult.Outcome;
+import com.sgivu.user.entity.Role;
+import com.sgivu.user.entity.User;
+import com.sgivu.user.repository.RoleRepository;
+import com.sgivu.user.repository.UserBulkInsertRepository;
+import com.sgivu.user.repository.UserRepository;
+import com.sgivu.user.repository.projection.PersonIdentifierView;
+import com.sgivu.user.validation.ValidationService;
+import jakarta.validation.Validation;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class UserProvisioningServiceImplTest {
+
+  @Mock private UserRepository userRepository;
+  @Mock private RoleRepository roleRepository;
+  @Mock private UserBulkInsertRepository userBulkInsertRepository;
+  @Mock private PasswordEncoder passwordEncoder;
+
+  private ExecutorService executor;
+  private UserProvisioningServiceImpl service;
+
+  private final Role userRole = new Role(1L, "USER", null, null, null, new HashSet<>());
+  private final Role adminRole = new Role(2L, "ADMIN", null, null, null, new HashSet<>());
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    executor = Executors.newFixedThreadPool(2);
+    UserBulkProperties properties = new UserBulkProperties();
+    properties.setMaxUsers(3);
+    service =
+        new UserProvisioningServiceImpl(
+            userRepository,
+            roleRepository,
+            userBulkInsertRepository,
+            passwordEncoder,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            new ValidationService(),
+            executor,
+            properties);
+
+    when(roleRepository.findByNameIn(any())).thenReturn(Set.of(userRole, adminRole));
+    when(userRepository.findByIdentifiers(any(), any(), any(), any())).thenReturn(List.of());
+    when(passwordEncoder.encode(any()))
+        .thenAnswer(invocation -> "hash-" + invocation.getArgument(0));
+    doAnswer(
+            invocation -> {
+              List<User> users = invocation.getArgument(0);
+              long id = 100;
+              for (User user : users) {
+                user.setId(id++);
+              }
+              return null;
+            })
+        .when(userBulkInsertRepository)
+        .insertAll(any());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static User user(int n, String... roles) {
+    User user = new User();
+    user.setNationalId(1_000_000_000L + n);
+    user.setFirstName("Maria");
+    user.setLastName("Lopez");
+    user.setPhoneNumber(3_000_000_000L + n);
+    user.setEmail("maria.lopez" + n + "@sgivu.com");
+    user.setUsername("mlopez" + n + "x");
+    user.setPassword("Secreta" + n + "!");
+    Set<Role> requested = new HashSet<>();
+    for (String role : roles) {
+      Role r = new Role();
+      r.setName(role);
+      requested.add(r);
+    }
+    user.setRoles(requested);
+    return user;
+  }
+
+  @Nested
+  @DisplayName("createAll(List<User>)")
+  class CreateAllTests {
+
+    @Test
+    @DisplayName("Debe resolver roles con una consulta, cifrar contraseñas e insertar en un batch")
+    void shouldCreateValidUsers() {
+      User admin = user(1, "ADMIN");
+      User plain = user(2);
+
+      List<UserBulkCreateResult> results = service.createAll(List.of(admin, plain));
+
+      assertEquals(List.of(Outcome.CREATED, Outcome.CREATED), outcomes(results));
+      assertEquals(100L, results.get(0).id());
+      assertEquals("mlopez1x", results.get(0).username());
+      assertEquals(Set.of(adminRole), admin.getRoles());
+      assertEquals(Set.of(userRole), plain.getRoles());
+      assertEquals("hash-Secreta1!", admin.getPassword());
+      verify(roleRepository, times(1)).findByNameIn(Set.of("ADMIN", "USER"));
+      verify(userRepository, times(1)).findByIdentifiers(any(), any(), any(), any());
+      verify(userBulkInsertRepository).insertAll(List.of(admin, plain));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar usuarios inválidos, repetidos en la solicitud o ya registrados")
+    void shouldRejectInvalidAndDuplicatedUsers() {
+      User valid = user(1);
+      User invalid = user(2);
+      invalid.setEmail("corto");
+      User duplicated = user(3);
+      duplicated.setUsername(valid.getUsername());
+      PersonIdentifierView existing = mock(PersonIdentifierView.class);
+      when(existing.getEmail()).thenReturn(valid.getEmail());
+      when(userRepository.findByIdentifiers(any(), any(), any(), any()))
+          .thenReturn(List.of(existing));
+
+      List<UserBulkCreateResult> results = service.createAll(List.of(valid, invalid, duplicated));
+
+      assertEquals(
+          List.of(Outcome.REJECTED, Outcome.REJECTED, Outcome.REJECTED), outcomes(results));
+      assertTrue(results.get(0).errors().getFirst().contains("ya está registrado"));
+      assertTrue(results.get(1).errors().stream().anyMatch(error -> error.startsWith("email")));
+      assertTrue(
+          results.get(2).errors().stream()
+              .anyMatch(error -> error.contains("ya aparece en el usuario 0")));
+      verify(passwordEncoder, never()).encode(any());
+      verifyNoInteractions(userBulkInsertRepository);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar usuarios con roles inexistentes")
+    void shouldRejectUnknownRoles() {
+      List<UserBulkCreateResult> results = service.createAll(List.of(user(1, "AUDITOR"), user(2)));
+
+      assertEquals(List.of(Outcome.REJECTED, Outcome.CREATED), outcomes(results));
+      assertEquals(List.of("Rol desconocido: AUDITOR"), results.get(0).errors());
+    }
+
+    @Test
+    @DisplayName("Debe marcar como FAILED a los aceptados si la inserción falla")
+    void shouldMarkFailedWhenInsertFails() {
+      doThrow(new DataIntegrityViolationException("duplicate key"))
+          .when(userBulkInsertRepository)
+          .insertAll(any());
+      User invalid = user(2);
+      invalid.setPassword("debil");
+
+      List<UserBulkCreateResult> results = service.createAll(List.of(user(1), invalid));
+
+      assertEquals(List.of(Outcome.FAILED, Outcome.REJECTED), outcomes(results));
+      assertNull(results.get(0).id());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar IllegalArgumentException si se supera el máximo por solicitud")
+    void shouldRejectTooManyUsers() {
+      List<User> users = List.of(user(1), user(2), user(3), user(4));
+
+      assertThrows(IllegalArgumentException.class, () -> service.createAll(users));
+      verifyNoInteractions(roleRepository, userRepository, userBulkInsertRepository);
+    }
+  }
+
+  private static List<Outcome> outcomes(List<UserBulkCreateResult> results) {
+    return results.stream().map(UserBulkCreateResult::outcome).toList();
+  }
+}
@@ -2,15 +2,21 @@ package com.sgivu.user.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
+import com.sgivu.user.dto.UserSummaryResponse;
 import com.sgivu.user.dto.UserUpdateRequest;
 import com.sgivu.user.entity.Address;
 import com.sgivu.user.entity.Role;
 import com.sgivu.user.entity.User;
+import com.sgivu.user.event.UserChangedEvent;
 import com.sgivu.user.exception.RoleRetrievalException;
 import com.sgivu.user.repository.RoleRepository;
 import com.sgivu.user.repository.UserRepository;
+import com.sgivu.user.repository.projection.UserRoleView;
+import com.sgivu.user.repository.projection.UserSummaryView;
+import com.sgivu.user.service.UserService;
 import java.util.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 public class UserServiceImplTest {
@@ -26,6 +33,9 @@ public class UserServiceImplTest {
   @Mock private UserRepository userRepository;
   @Mock private RoleRepository roleRepository;
   @Mock private PasswordEncoder passwordEncoder;
+  @Mock private RoleAuthorityCache roleAuthorityCache;
+  @Mock private UserAuthenticationCache userAuthenticationCache;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private UserServiceImpl userService;
 
@@ -64,7 +74,7 @@ public class UserServiceImplTest {
       userRole.setName("USER");
       user.setRoles(new HashSet<>(Collections.singletonList(userRole)));
 
-      when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+      when(roleRepository.findByNameIn(Set.of("USER"))).thenReturn(Set.of(userRole));
       when(passwordEncoder.encode("plainPassword")).thenReturn("encodedPassword");
       when(userRepository.save(any(User.class)))
           .thenAnswer(invocation -> invocation.getArgument(0));
@@ -75,7 +85,7 @@ public class UserServiceImplTest {
       assertEquals(1, savedUser.getRoles().size());
       assertTrue(savedUser.getRoles().stream().anyMatch(role -> "USER".equals(role.getName())));
       assertEquals("encodedPassword", savedUser.getPassword());
-      verify(roleRepository).findByName("USER");
+      verify(roleRepository).findByNameIn(Set.of("USER"));
       verify(userRepository).save(user);
     }
 
@@ -141,7 +151,7 @@ public class UserServiceImplTest {
       updateRequest.setRoles(new HashSet<>(Collections.singletonList(userRole)));
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-      when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+      when(roleRepository.findByNameIn(Set.of("USER"))).thenReturn(Set.of(userRole));
       when(passwordEncoder.encode("newPassword")).thenReturn("encodedNewPassword");
       when(userRepository.save(any(User.class)))
           .thenAnswer(invocation -> invocation.getArgument(0));
@@ -183,7 +193,7 @@ public class UserServiceImplTest {
       updateRequest.setRoles(new HashSet<>(Collections.singletonList(userRole)));
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-      when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+      when(roleRepository.findByNameIn(Set.of("USER"))).thenReturn(Set.of(userRole));
       when(userRepository.save(any(User.class)))
           .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -229,7 +239,7 @@ public class UserServiceImplTest {
       updateRequest.setRoles(new HashSet<>(Collections.singletonList(userRole)));
 
       when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
-      when(roleRepository.findByName("USER")).thenReturn(Optional.of(userRole));
+      when(roleRepository.findByNameIn(Set.of("USER"))).thenReturn(Set.of(userRole));
       when(userRepository.save(any(User.class))).thenThrow(new RuntimeException("DB error"));
 
       assertThrows(RuntimeException.class, () -> userService.update(userId, updateRequest));
@@ -257,6 +267,7 @@ public class UserServiceImplTest {
       assertTrue(user.isEnabled());
       verify(userRepository).findById(userId);
       verify(userRepository).save(user);
+      verify(eventPublisher).publishEvent(new UserChangedEvent(userId));
     }
 
     @Test
@@ -289,6 +300,92 @@ public class UserServiceImplTest {
       assertFalse(result);
       verify(userRepository).findById(userId);
       verify(userRepository, never()).save(any(User.class));
+      verifyNoInteractions(eventPublisher);
+    }
+  }
+
+  @Nested
+  @DisplayName("findRolesByUserIds(Collection<Long>)")
+  class FindRolesByUserIdsTests {
+
+    private UserRoleView row(Long userId, Long roleId) {
+      UserRoleView row = mock(UserRoleView.class);
+      when(row.getUserId()).thenReturn(userId);
+      when(row.getRoleId()).thenReturn(roleId);
+      return row;
+    }
+
+    @Test
+    @DisplayName("Debe leer users_roles una sola vez y resolver los roles desde la caché")
+    void shouldQueryOnceAndResolveFromCache() {
+      Role admin = new Role();
+      admin.setName("ADMIN");
+      Role user = new Role();
+      user.setName("USER");
+      List<UserRoleView> rows = List.of(row(1L, 10L), row(1L, 20L), row(2L, 20L));
+      when(userRepository.findRoleIdsByUserIds(new Long[] {1L, 2L, 3L})).thenReturn(rows);
+      when(roleAuthorityCache.rolesOf(List.of(10L, 20L))).thenReturn(Set.of(admin, user));
+      when(roleAuthorityCache.rolesOf(List.of(20L))).thenReturn(Set.of(user));
+
+      Map<Long, Set<Role>> result =
+          userService.findRolesByUserIds(Arrays.asList(1L, 2L, null, 3L, 1L));
+
+      assertEquals(Map.of(1L, Set.of(admin, user), 2L, Set.of(user)), result);
+      verify(userRepository, times(1)).findRoleIdsByUserIds(any());
+      verifyNoInteractions(roleRepository);
+    }
+
+    @Test
+    @DisplayName("No debe consultar si no hay IDs")
+    void shouldNotQueryWithoutIds() {
+      assertTrue(userService.findRolesByUserIds(List.of()).isEmpty());
+      verifyNoInteractions(userRepository, roleAuthorityCache);
+    }
+  }
+
+  @Nested
+  @DisplayName("typeahead(String, int)")
+  class TypeaheadTests {
+
+    private UserSummaryView row(Long id, String firstName, String lastName, String username) {
+      UserSummaryView row = mock(UserSummaryView.class);
+      when(row.getId()).thenReturn(id);
+      when(row.getFirstName()).thenReturn(firstName);
+      when(row.getLastName()).thenReturn(lastName);
+      when(row.getUsername()).thenReturn(username);
+      return row;
+    }
+
+    @Test
+    @DisplayName("Debe buscar por prefijo con menos de tres caracteres")
+    void shouldUsePrefixPathForShortTerms() {
+      UserSummaryView juan = row(1L, "Juan", "Pérez", "jperez");
+      when(userRepository.findTypeaheadByPrefix("ju%", 10)).thenReturn(List.of(juan));
+
+      List<UserSummaryResponse> result = userService.typeahead("  JU ", 10);
+
+      assertEquals(List.of(new UserSummaryResponse(1L, "Juan Pérez", "jperez")), result);
+      verify(userRepository, never()).findTypeaheadBySubstring(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Debe buscar por subcadena, escapar comodines y acotar el límite")
+    void shouldUseSubstringPathForLongerTerms() {
+      when(userRepository.findTypeaheadBySubstring(any(), any(), anyInt())).thenReturn(List.of());
+
+      userService.typeahead("maría  50%", 500);
+
+      verify(userRepository)
+          .findTypeaheadBySubstring(
+              "%maría 50\\%%", "maría 50\\%%", UserService.TYPEAHEAD_MAX_LIMIT);
+      verify(userRepository, never()).findTypeaheadByPrefix(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("No debe consultar la base con un término vacío")
+    void shouldReturnEmptyForBlankQuery() {
+      assertTrue(userService.typeahead("   ", 10).isEmpty());
+      verifyNoInteractions(userRepository);
     }
   }
 }
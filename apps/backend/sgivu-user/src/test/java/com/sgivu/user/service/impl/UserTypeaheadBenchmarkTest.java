@@ -0,0 +1,149 @@
+package com.sgivu.user.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sgivu.user.service.UserService;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Latencia del autocompletado de usuarios sobre {@value #USERS} usuarios: la mediana de cada
+ * término por prefijo debe quedar por debajo de {@value #MAX_PREFIX_MEDIAN_MILLIS} ms y la de cada
+ * subcadena por debajo de {@value #MAX_SUBSTRING_MEDIAN_MILLIS} ms.
+ *
+ * <p>Corre sobre la base de {@link PostgresTestContext} (los usuarios se insertan con SQL).
+ * Desactivado por defecto. Ejecutar con {@code ./mvnw test -Dtest=UserTypeaheadBenchmarkTest
+ * -Dbenchmark=true}, opcionalmente con {@code -Dbenchmark.jdbc-url=...}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserTypeaheadBenchmarkTest {
+
+  private static final int USERS = 200_000;
+  private static final int WARMUP = 300;
+  private static final int RUNS = 50;
+  private static final double MAX_PREFIX_MEDIAN_MILLIS = 10;
+
+  /**
+   * Prefijo que ningún usuario del benchmark cumple: cada rama agota su índice en lugar de
+   * detenerse tras {@code limit} filas, así que puede no devolver resultados.
+   */
+  private static final String SPARSE_PREFIX = "z";
+
+  /**
+   * Todos los usernames empiezan por "bench", así que sus trigramas aparecen en cada fila y el
+   * índice GIN cruza listas de 200.000 entradas: es el peor caso, no el de un directorio real.
+   */
+  private static final double MAX_SUBSTRING_MEDIAN_MILLIS = 50;
+
+  private PostgresTestContext database;
+  private UserService userService;
+
+  @Configuration(proxyBeanMethods = false)
+  @Import({
+    PostgresTestContext.Persistence.class,
+    UserServiceImpl.class,
+    RoleAuthorityCache.class,
+    UserAuthenticationCache.class
+  })
+  static class TypeaheadConfig {}
+
+  @BeforeAll
+  void startContext() {
+    database = PostgresTestContext.start(TypeaheadConfig.class, Map.of());
+    userService = database.getBean(UserService.class);
+    seed(database.getBean(JdbcTemplate.class));
+  }
+
+  @AfterAll
+  void closeContext() {
+    if (database != null) {
+      database.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Autocompletado por prefijo (1-2 caracteres) en milisegundos de un dígito")
+  void prefixTypeaheadIsFast() {
+    assertFast(MAX_PREFIX_MEDIAN_MILLIS, List.of("b", "be"), List.of(SPARSE_PREFIX));
+  }
+
+  @Test
+  @DisplayName("Autocompletado por subcadena por debajo de 50 ms con trigramas presentes en todo")
+  void substringTypeaheadIsFast() {
+    assertFast(
+        MAX_SUBSTRING_MEDIAN_MILLIS, List.of("bench01234", "user1999", "test15 user"), List.of());
+  }
+
+  /** Los términos de {@code sparseQueries} pueden no devolver resultados. */
+  private void assertFast(
+      double maxMedianMillis, List<String> queries, List<String> sparseQueries) {
+    Map<String, Double> medians = new LinkedHashMap<>();
+    for (String query : queries) {
+      medians.put(query, measure(query, true));
+    }
+    for (String query : sparseQueries) {
+      medians.put(query, measure(query, false));
+    }
+    medians.forEach(
+        (query, median) ->
+            assertTrue(
+                median < maxMedianMillis, "Mediana de " + median + " ms para '" + query + "'"));
+  }
+
+  private double measure(String query, boolean requireResults) {
+    for (int i = 0; i < WARMUP; i++) {
+      userService.typeahead(query, 10);
+    }
+    double[] millis = new double[RUNS];
+    int results = 0;
+    for (int i = 0; i < RUNS; i++) {
+      long start = System.nanoTime();
+      results = userService.typeahead(query, 10).size();
+      millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+    }
+    Arrays.sort(millis);
+    double median = millis[RUNS / 2];
+    System.out.printf(
+        "Typeahead '%s': median=%.2f ms, p95=%.2f ms, results=%d%n",
+        query, median, millis[(int) (RUNS * 0.95)], results);
+    assertTrue(!requireResults || results > 0, "Sin resultados para '" + query + "'");
+    return median;
+  }
+
+  private static void seed(JdbcTemplate jdbcTemplate) {
+    Integer existing =
+        jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM users WHERE username LIKE 'bench%'", Integer.class);
+    if (existing != null && existing >= USERS) {
+      return;
+    }
+    List<String> statements =
+        List.of(
+            "INSERT INTO persons (id, national_id, first_name, last_name, phone_number, email) "
+                + "SELECT 900000000 + n, 9000000000 + n, 'Test' || n, 'User' || n, "
+                + "3100000000 + n, 'bench' || lpad(n::text, 6, '0') || '@sgivu.test' "
+                + "FROM generate_series(1, "
+                + USERS
+                + ") n ON CONFLICT DO NOTHING",
+            "INSERT INTO users (person_id, username, password) "
+                + "SELECT 900000000 + n, 'bench' || lpad(n::text, 6, '0'), 'not-a-real-hash' "
+                + "FROM generate_series(1, "
+                + USERS
+                + ") n ON CONFLICT DO NOTHING",
+            "ANALYZE persons",
+            "ANALYZE users");
+    statements.forEach(jdbcTemplate::execute);
+  }
+}
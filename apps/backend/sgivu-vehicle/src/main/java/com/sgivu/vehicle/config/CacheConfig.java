@@ -0,0 +1,48 @@
+package com.sgivu.vehicle.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caché local (Caffeine) para agregados de búsqueda de vehículos.
+ *
+ * <p>Cache {@code vehicle-facets}: conteos por faceta sin filtros, una entrada por tipo de
+ * vehículo. Cache {@code vehicle-stats}: estadísticas de inventario por tipo y estado (TTL {@code
+ * vehicle.stats.cache-ttl}).
+ *
+ * <p>Ambas se invalidan con {@code @CacheEvict} en las escrituras de autos y motocicletas; el proxy
+ * transaccional aplaza la invalidación hasta el commit para que una lectura concurrente no vuelva a
+ * cachear datos anteriores. El TTL acota el desfase entre pods.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  public static final String VEHICLE_FACETS_CACHE = "vehicle-facets";
+  public static final String VEHICLE_STATS_CACHE = "vehicle-stats";
+
+  @Bean
+  CacheManager cacheManager(
+      VehicleFacetProperties facetProperties,
+      @Value("${vehicle.stats.cache-ttl:PT10M}") Duration statsCacheTtl) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    cacheManager.setAllowNullValues(false);
+    cacheManager.registerCustomCache(
+        VEHICLE_FACETS_CACHE,
+        Caffeine.newBuilder()
+            .maximumSize(16)
+            .expireAfterWrite(facetProperties.getCacheTtl())
+            .build());
+    cacheManager.registerCustomCache(
+        VEHICLE_STATS_CACHE,
+        Caffeine.newBuilder().maximumSize(1).expireAfterWrite(statsCacheTtl).build());
+    return new TransactionAwareCacheManagerProxy(cacheManager);
+  }
+}
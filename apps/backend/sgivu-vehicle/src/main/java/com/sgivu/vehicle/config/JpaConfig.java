@@ -0,0 +1,25 @@
+package com.sgivu.vehicle.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Batch JDBC para el registro de lotes de imágenes ({@code vehicle_images}), sin pisar lo que
+ * defina {@code sgivu-config}.
+ */
+@Configuration
+public class JpaConfig {
+
+  static final int JDBC_BATCH_SIZE = 50;
+
+  @Bean
+  HibernatePropertiesCustomizer batchingHibernatePropertiesCustomizer() {
+    return properties -> {
+      properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+      properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+      properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
+}
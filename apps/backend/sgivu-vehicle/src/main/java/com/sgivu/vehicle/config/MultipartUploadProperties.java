@@ -0,0 +1,33 @@
+package com.sgivu.vehicle.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/** Límites de las subidas multiparte de imágenes ({@code aws.s3.multipart.*}). */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "aws.s3.multipart")
+public class MultipartUploadProperties {
+
+  /** Tamaño mínimo de parte aceptado; S3 exige al menos 5 MiB salvo en la última parte. */
+  private DataSize minPartSize = DataSize.ofMegabytes(5);
+
+  /** Tamaño de parte cuando el cliente no propone uno. */
+  private DataSize defaultPartSize = DataSize.ofMegabytes(8);
+
+  /** Tamaño máximo de parte que puede proponer el cliente. */
+  private DataSize maxPartSize = DataSize.ofMegabytes(64);
+
+  private DataSize maxFileSize = DataSize.ofGigabytes(1);
+
+  /** Vigencia de las URLs prefirmadas de cada parte. */
+  private Duration urlDuration = Duration.ofHours(1);
+
+  /** Antigüedad a partir de la cual una subida sin completar se aborta. */
+  private Duration uploadTtl = Duration.ofDays(1);
+}
@@ -0,0 +1,34 @@
+package com.sgivu.vehicle.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Recolector de objetos huérfanos del bucket de vehículos ({@code aws.s3.orphan-gc.*}). */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "aws.s3.orphan-gc")
+public class OrphanObjectGcProperties {
+
+  private boolean enabled = true;
+
+  /** Solo informa de los huérfanos encontrados; hay que desactivarlo para que se eliminen. */
+  private boolean dryRun = true;
+
+  /**
+   * Antigüedad mínima de un objeto sin registro para considerarlo huérfano. Debe cubrir el tiempo
+   * entre la subida y {@code confirm-upload}, y la generación de derivados.
+   */
+  private Duration gracePeriod = Duration.ofDays(2);
+
+  private String prefix = "vehicles/";
+
+  /** Llamadas a S3 (ListObjectsV2 y DeleteObjects) por segundo como máximo. */
+  private double requestsPerSecond = 5;
+
+  /** Tope de objetos eliminados por ejecución; el resto queda para la siguiente. */
+  private int maxDeletesPerRun = 10_000;
+}
@@ -0,0 +1,30 @@
+package com.sgivu.vehicle.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/** Parámetros de las descargas en streaming desde S3 ({@code aws.s3.download.*}). */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "aws.s3.download")
+public class S3DownloadProperties {
+
+  /** Búfer de copia por transferencia; acota la memoria usada por cada descarga. */
+  private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+  /** A partir de este tamaño el objeto se descarga con GETs por rangos en paralelo. */
+  private DataSize parallelThreshold = DataSize.ofMegabytes(64);
+
+  /** Tamaño de cada rango en las descargas paralelas. */
+  private DataSize partSize = DataSize.ofMegabytes(16);
+
+  /**
+   * Peticiones simultáneas a S3 por operación (rangos de una descarga, HEAD de un lote); con 1 se
+   * desactiva el paralelismo.
+   */
+  private int parallelism = 4;
+}
@@ -0,0 +1,9 @@
+package com.sgivu.vehicle.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/** Habilita las tareas programadas de mantenimiento del bucket (p. ej. subidas multiparte). */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -0,0 +1,36 @@
+package com.sgivu.vehicle.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Índice en memoria de vehículos similares ({@code vehicle.similar.*}).
+ *
+ * <p>Cada escala es la diferencia que cuenta como una unidad de distancia; cuanto menor, más peso
+ * tiene el atributo. El precio se compara en escala logarítmica, así que {@code price-scale} es una
+ * diferencia relativa (0.2 ≈ 20%).
+ */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "vehicle.similar")
+public class SimilarVehicleProperties {
+
+  private double yearScale = 3;
+
+  private double mileageScale = 30_000;
+
+  private double priceScale = 0.2;
+
+  /** Cilindraje (capacidad) en cc. */
+  private double capacityScale = 500;
+
+  /** Distancia que se suma cuando la línea no coincide. */
+  private double linePenalty = 1;
+
+  private int defaultLimit = 10;
+
+  private int maxLimit = 50;
+}
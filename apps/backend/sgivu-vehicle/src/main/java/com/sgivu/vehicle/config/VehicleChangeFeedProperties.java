@@ -0,0 +1,37 @@
+package com.sgivu.vehicle.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Feed de cambios de vehículos ({@code vehicle.changes.*}). */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "vehicle.changes")
+public class VehicleChangeFeedProperties {
+
+  private int defaultPageSize = 100;
+
+  private int maxPageSize = 500;
+
+  /**
+   * Los cambios más recientes que este margen no se sirven todavía. Una transacción puede confirmar
+   * después de otra con un {@code updated_at} anterior; sin el margen, un consumidor que ya avanzó
+   * su cursor se la saltaría.
+   *
+   * <p>Es la cota superior del tiempo entre que se escribe un cambio y se confirma su transacción:
+   * las escrituras se marcan con la hora en que ocurren ({@code clock_timestamp()} o la hora de JPA
+   * al hacer flush), así que solo cuenta lo que tarda la transacción después de escribir. Un
+   * proceso masivo que lo supere debe partirse en transacciones más cortas o subir este valor.
+   */
+  private Duration safetyLag = Duration.ofSeconds(5);
+
+  /**
+   * Tiempo que se conservan las lápidas de vehículos eliminados. Un cursor más antiguo ya no puede
+   * reanudarse y el consumidor debe sincronizar desde el principio.
+   */
+  private Duration tombstoneRetention = Duration.ofDays(30);
+}
@@ -0,0 +1,26 @@
+package com.sgivu.vehicle.config;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Facetas de búsqueda de vehículos ({@code vehicle.facets.*}). */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "vehicle.facets")
+public class VehicleFacetProperties {
+
+  /**
+   * Límites de los rangos de precio de venta, en orden ascendente. {@code n} límites generan {@code
+   * n + 1} rangos; el primero y el último quedan abiertos.
+   */
+  private List<Double> priceBounds =
+      List.of(20_000_000d, 40_000_000d, 60_000_000d, 100_000_000d, 200_000_000d);
+
+  /** Vigencia de los conteos sin filtros en caché; las escrituras de vehículos los invalidan. */
+  private Duration cacheTtl = Duration.ofMinutes(10);
+}
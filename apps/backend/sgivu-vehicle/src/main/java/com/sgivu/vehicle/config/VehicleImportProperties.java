@@ -0,0 +1,23 @@
+package com.sgivu.vehicle.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/** Importación masiva de vehículos ({@code vehicle.import.*}). */
+@Setter
+@Getter
+@Configuration
+@ConfigurationProperties(prefix = "vehicle.import")
+public class VehicleImportProperties {
+
+  /**
+   * Filas por bloque. Cada bloque se valida contra la base con una sola consulta, se inserta en un
+   * batch JDBC y se confirma en su propia transacción; es lo único que se retiene en memoria.
+   */
+  private int chunkSize = 500;
+
+  /** Longitud máxima de una línea (NDJSON) o registro (CSV); las filas mayores se rechazan. */
+  private int maxRowLength = 16_384;
+}
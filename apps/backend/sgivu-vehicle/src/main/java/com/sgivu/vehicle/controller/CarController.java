@@ -3,6 +3,7 @@ package com.sgivu.vehicle.controller;
 import com.sgivu.vehicle.controller.api.CarApi;
 import com.sgivu.vehicle.dto.CarResponse;
 import com.sgivu.vehicle.dto.CarSearchCriteria;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
 import com.sgivu.vehicle.entity.Car;
 import com.sgivu.vehicle.enums.VehicleStatus;
 import com.sgivu.vehicle.mapper.VehicleMapper;
@@ -14,6 +15,7 @@ import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -55,7 +57,9 @@ public class CarController implements CarApi {
   @PreAuthorize("hasAuthority('car:read')")
   public ResponseEntity<List<CarResponse>> getAll() {
     List<CarResponse> carResponses =
-        carService.findAll().stream().map(vehicleMapper::toCarResponse).toList();
+        carService.searchViews(null, Pageable.unpaged()).stream()
+            .map(vehicleMapper::toCarResponse)
+            .toList();
     return ResponseEntity.ok(carResponses);
   }
 
@@ -63,7 +67,7 @@ public class CarController implements CarApi {
   @PreAuthorize("hasAuthority('car:read')")
   public ResponseEntity<Page<CarResponse>> getAllPaginated(Integer page) {
     return ResponseEntity.ok(
-        carService.findAll(PageRequest.of(page, 10)).map(vehicleMapper::toCarResponse));
+        carService.searchViews(null, PageRequest.of(page, 10)).map(vehicleMapper::toCarResponse));
   }
 
   @Override
@@ -123,7 +127,7 @@ public class CarController implements CarApi {
       return ResponseEntity.ok(List.of());
     }
     List<CarResponse> responses =
-        carService.findAllByIds(ids).stream().map(vehicleMapper::toCarResponse).toList();
+        carService.findViewsByIds(ids).stream().map(vehicleMapper::toCarResponse).toList();
     return ResponseEntity.ok(responses);
   }
 
@@ -170,7 +174,9 @@ public class CarController implements CarApi {
             .build();
 
     List<CarResponse> carResponses =
-        carService.search(criteria).stream().map(vehicleMapper::toCarResponse).toList();
+        carService.searchViews(criteria, Pageable.unpaged()).stream()
+            .map(vehicleMapper::toCarResponse)
+            .toList();
     return ResponseEntity.ok(carResponses);
   }
 
@@ -219,10 +225,57 @@ public class CarController implements CarApi {
             .build();
 
     Page<CarResponse> pageResponse =
-        carService.search(criteria, PageRequest.of(page, size)).map(vehicleMapper::toCarResponse);
+        carService
+            .searchViews(criteria, PageRequest.of(page, size))
+            .map(vehicleMapper::toCarResponse);
     return ResponseEntity.ok(pageResponse);
   }
 
+  @Override
+  @PreAuthorize("hasAuthority('car:read')")
+  public ResponseEntity<VehicleFacetsResponse> getCarFacets(
+      String plate,
+      String brand,
+      String line,
+      String model,
+      String fuelType,
+      String bodyType,
+      String transmission,
+      String city,
+      VehicleStatus status,
+      Integer minYear,
+      Integer maxYear,
+      Integer minCapacity,
+      Integer maxCapacity,
+      Integer minMileage,
+      Integer maxMileage,
+      Double minSalePrice,
+      Double maxSalePrice) {
+
+    CarSearchCriteria criteria =
+        CarSearchCriteria.builder()
+            .plate(trimToNull(plate))
+            .brand(trimToNull(brand))
+            .line(trimToNull(line))
+            .model(trimToNull(model))
+            .fuelType(trimToNull(fuelType))
+            .bodyType(trimToNull(bodyType))
+            .transmission(trimToNull(transmission))
+            .cityRegistered(trimToNull(city))
+            .status(status)
+            .minYear(minYear)
+            .maxYear(maxYear)
+            .minCapacity(minCapacity)
+            .maxCapacity(maxCapacity)
+            .minMileage(minMileage)
+            .maxMileage(maxMileage)
+            .minSalePrice(minSalePrice)
+            .maxSalePrice(maxSalePrice)
+            .build();
+
+    return ResponseEntity.ok(carService.facets(criteria));
+  }
+
   private String trimToNull(String value) {
     if (!StringUtils.hasText(value)) {
       return null;
@@ -3,6 +3,7 @@ package com.sgivu.vehicle.controller;
 import com.sgivu.vehicle.controller.api.MotorcycleApi;
 import com.sgivu.vehicle.dto.MotorcycleResponse;
 import com.sgivu.vehicle.dto.MotorcycleSearchCriteria;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
 import com.sgivu.vehicle.entity.Motorcycle;
 import com.sgivu.vehicle.enums.VehicleStatus;
 import com.sgivu.vehicle.mapper.VehicleMapper;
@@ -13,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -57,7 +59,9 @@ public class MotorcycleController implements MotorcycleApi {
   @PreAuthorize("hasAuthority('motorcycle:read')")
   public ResponseEntity<List<MotorcycleResponse>> getAll() {
     return ResponseEntity.ok(
-        motorcycleService.findAll().stream().map(vehicleMapper::toMotorcycleResponse).toList());
+        motorcycleService.searchViews(null, Pageable.unpaged()).stream()
+            .map(vehicleMapper::toMotorcycleResponse)
+            .toList());
   }
 
   @Override
@@ -65,7 +69,7 @@ public class MotorcycleController implements MotorcycleApi {
   public ResponseEntity<Page<MotorcycleResponse>> getAllPaginated(Integer page) {
     return ResponseEntity.ok(
         motorcycleService
-            .findAll(PageRequest.of(page, 10))
+            .searchViews(null, PageRequest.of(page, 10))
             .map(vehicleMapper::toMotorcycleResponse));
   }
 
@@ -124,7 +128,7 @@ public class MotorcycleController implements MotorcycleApi {
       return ResponseEntity.ok(List.of());
     }
     List<MotorcycleResponse> responses =
-        motorcycleService.findAllByIds(ids).stream()
+        motorcycleService.findViewsByIds(ids).stream()
             .map(vehicleMapper::toMotorcycleResponse)
             .toList();
     return ResponseEntity.ok(responses);
@@ -171,7 +175,7 @@ public class MotorcycleController implements MotorcycleApi {
             .build();
 
     List<MotorcycleResponse> motorcycleResponses =
-        motorcycleService.search(criteria).stream()
+        motorcycleService.searchViews(criteria, Pageable.unpaged()).stream()
             .map(vehicleMapper::toMotorcycleResponse)
             .toList();
     return ResponseEntity.ok(motorcycleResponses);
@@ -221,11 +225,54 @@ public class MotorcycleController implements MotorcycleApi {
 
     Page<MotorcycleResponse> responsePage =
         motorcycleService
-            .search(criteria, PageRequest.of(page, size))
+            .searchViews(criteria, PageRequest.of(page, size))
             .map(vehicleMapper::toMotorcycleResponse);
     return ResponseEntity.ok(responsePage);
   }
 
+  @Override
+  @PreAuthorize("hasAuthority('motorcycle:read')")
+  public ResponseEntity<VehicleFacetsResponse> getMotorcycleFacets(
+      String plate,
+      String brand,
+      String line,
+      String model,
+      String motorcycleType,
+      String transmission,
+      String city,
+      VehicleStatus status,
+      Integer minYear,
+      Integer maxYear,
+      Integer minCapacity,
+      Integer maxCapacity,
+      Integer minMileage,
+      Integer maxMileage,
+      Double minSalePrice,
+      Double maxSalePrice) {
+
+    MotorcycleSearchCriteria criteria =
+        MotorcycleSearchCriteria.builder()
+            .plate(trimToNull(plate))
+            .brand(trimToNull(brand))
+            .line(trimToNull(line))
+            .model(trimToNull(model))
+            .motorcycleType(trimToNull(motorcycleType))
+            .transmission(trimToNull(transmission))
+            .cityRegistered(trimToNull(city))
+            .status(status)
+            .minYear(minYear)
+            .maxYear(maxYear)
+            .minCapacity(minCapacity)
+            .maxCapacity(maxCapacity)
+            .minMileage(minMileage)
+            .maxMileage(maxMileage)
+            .minSalePrice(minSalePrice)
+            .maxSalePrice(maxSalePrice)
+            .build();
+
+    return ResponseEntity.ok(motorcycleService.facets(criteria));
+  }
+
   private String trimToNull(String value) {
     if (!StringUtils.hasText(value)) {
       return null;
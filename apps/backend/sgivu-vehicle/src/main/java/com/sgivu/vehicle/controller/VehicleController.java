@@ -0,0 +1,156 @@
+package com.sgivu.vehicle.controller;
+
+import com.sgivu.vehicle.controller.api.VehicleApi;
+import com.sgivu.vehicle.dto.SimilarVehicleQuery;
+import com.sgivu.vehicle.dto.SimilarVehicleResponse;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateRequest;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResponse;
+import com.sgivu.vehicle.dto.VehicleChangeFeedResponse;
+import com.sgivu.vehicle.dto.VehicleImageResponse;
+import com.sgivu.vehicle.dto.VehicleImportResult;
+import com.sgivu.vehicle.dto.VehicleInventoryStatsResponse;
+import com.sgivu.vehicle.dto.VehicleResponse;
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import com.sgivu.vehicle.enums.VehicleImportFormat;
+import com.sgivu.vehicle.mapper.VehicleMapper;
+import com.sgivu.vehicle.service.SimilarVehicleService;
+import com.sgivu.vehicle.service.VehicleCatalogService;
+import com.sgivu.vehicle.service.VehicleChangeFeedService;
+import com.sgivu.vehicle.service.VehicleImageService;
+import com.sgivu.vehicle.service.VehicleImportService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+@RestController
+public class VehicleController implements VehicleApi {
+
+  private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+  private final VehicleCatalogService vehicleCatalogService;
+  private final VehicleChangeFeedService vehicleChangeFeedService;
+  private final VehicleImageService vehicleImageService;
+  private final SimilarVehicleService similarVehicleService;
+  private final VehicleImportService vehicleImportService;
+  private final VehicleMapper vehicleMapper;
+  private final JsonMapper jsonMapper;
+
+  public VehicleController(
+      VehicleCatalogService vehicleCatalogService,
+      VehicleChangeFeedService vehicleChangeFeedService,
+      VehicleImageService vehicleImageService,
+      SimilarVehicleService similarVehicleService,
+      VehicleImportService vehicleImportService,
+      VehicleMapper vehicleMapper,
+      JsonMapper jsonMapper) {
+    this.vehicleCatalogService = vehicleCatalogService;
+    this.vehicleChangeFeedService = vehicleChangeFeedService;
+    this.vehicleImageService = vehicleImageService;
+    this.similarVehicleService = similarVehicleService;
+    this.vehicleImportService = vehicleImportService;
+    this.vehicleMapper = vehicleMapper;
+    this.jsonMapper = jsonMapper;
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:read')")
+  public ResponseEntity<List<VehicleResponse>> getByIds(List<Long> ids) {
+    return ResponseEntity.ok(
+        vehicleCatalogService.findDetailsByIds(ids).stream()
+            .map(vehicleMapper::toVehicleResponse)
+            .toList());
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:read')")
+  public ResponseEntity<Map<Long, List<VehicleImageResponse>>> getImagesByIds(
+      List<Long> ids, boolean primaryOnly, ImageSizeClass size) {
+    return ResponseEntity.ok(vehicleImageService.getImagesByVehicles(ids, primaryOnly, size));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:read')")
+  public ResponseEntity<VehicleInventoryStatsResponse> getInventoryStats() {
+    return ResponseEntity.ok(vehicleCatalogService.getInventoryStats());
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:update')")
+  public ResponseEntity<VehicleBulkUpdateResponse> bulkUpdate(VehicleBulkUpdateRequest request) {
+    return ResponseEntity.ok(vehicleCatalogService.bulkUpdate(request));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:create')")
+  public ResponseEntity<StreamingResponseBody> importVehicles(String contentType, InputStream body)
+      throws IOException {
+    VehicleImportFormat format =
+        MediaType.parseMediaType(contentType).isCompatibleWith(NDJSON)
+            ? VehicleImportFormat.NDJSON
+            : VehicleImportFormat.CSV;
+    VehicleImportService.VehicleImport vehicleImport = vehicleImportService.open(body, format);
+
+    StreamingResponseBody results =
+        output -> {
+          try {
+            vehicleImport.run(
+                chunk -> {
+                  try {
+                    for (VehicleImportResult result : chunk) {
+                      output.write(jsonMapper.writeValueAsBytes(result));
+                      output.write('\n');
+                    }
+                    output.flush();
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+          } catch (UncheckedIOException e) {
+            throw e.getCause();
+          }
+        };
+    return ResponseEntity.ok().contentType(NDJSON).body(results);
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:read')")
+  public ResponseEntity<VehicleChangeFeedResponse> getChanges(
+      LocalDateTime afterChangedAt, Long afterId, Integer limit) {
+    return ResponseEntity.ok(vehicleChangeFeedService.findChanges(afterChangedAt, afterId, limit));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:read')")
+  public ResponseEntity<List<SimilarVehicleResponse>> getSimilarTo(Long id, Integer limit) {
+    return similarVehicleService
+        .findSimilarTo(id, limit)
+        .map(ResponseEntity::ok)
+        .orElse(ResponseEntity.notFound().build());
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:read')")
+  public ResponseEntity<List<SimilarVehicleResponse>> getSimilar(
+      String vehicleType,
+      String brand,
+      String line,
+      Integer year,
+      Integer mileage,
+      Double salePrice,
+      Integer capacity,
+      Integer limit) {
+    return ResponseEntity.ok(
+        similarVehicleService.findSimilar(
+            new SimilarVehicleQuery(vehicleType, brand, line, year, mileage, salePrice, capacity),
+            limit));
+  }
+}
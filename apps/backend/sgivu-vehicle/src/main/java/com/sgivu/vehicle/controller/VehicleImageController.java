@@ -2,16 +2,29 @@ package com.sgivu.vehicle.controller;
 
 import com.sgivu.vehicle.controller.api.VehicleImageApi;
 import com.sgivu.vehicle.dto.*;
+import com.sgivu.vehicle.enums.ImageSizeClass;
 import com.sgivu.vehicle.mapper.VehicleMapper;
+import com.sgivu.vehicle.service.S3ObjectContent;
 import com.sgivu.vehicle.service.VehicleImageService;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 public class VehicleImageController implements VehicleImageApi {
 
+  // Las keys llevan UUID y nunca se sobrescriben: el contenido de una URL no cambia
+  private static final CacheControl IMAGE_CACHE_CONTROL =
+      CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+
   private final VehicleImageService vehicleImageService;
   private final VehicleMapper vehicleMapper;
 
@@ -29,6 +42,53 @@ public class VehicleImageController implements VehicleImageApi {
     return ResponseEntity.ok(vehicleImageService.createPresignedUploadUrl(vehicleId, request));
   }
 
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:create')")
+  public ResponseEntity<List<VehicleImagePresignedUploadResponse>> createPresignedUploadUrls(
+      Long vehicleId, List<VehicleImagePresignedUploadRequest> requests) {
+    return ResponseEntity.ok(vehicleImageService.createPresignedUploadUrls(vehicleId, requests));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:create')")
+  public ResponseEntity<List<VehicleImageConfirmUploadResponse>> confirmUploads(
+      Long vehicleId, List<VehicleImageConfirmUploadRequest> requests) {
+    return ResponseEntity.ok(
+        vehicleImageService.confirmUploads(vehicleId, requests).stream()
+            .map(vehicleMapper::toVehicleImageConfirmUploadResponse)
+            .toList());
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:create')")
+  public ResponseEntity<VehicleImageMultipartUploadResponse> initiateMultipartUpload(
+      Long vehicleId, VehicleImageMultipartUploadRequest request) {
+    return ResponseEntity.ok(vehicleImageService.initiateMultipartUpload(vehicleId, request));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:create')")
+  public ResponseEntity<VehicleImageMultipartUploadResponse> resumeMultipartUpload(
+      Long vehicleId, String uploadId, VehicleImageMultipartResumeRequest request) {
+    return ResponseEntity.ok(
+        vehicleImageService.resumeMultipartUpload(vehicleId, uploadId, request));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:create')")
+  public ResponseEntity<VehicleImageMultipartCompleteResponse> completeMultipartUpload(
+      Long vehicleId, String uploadId, VehicleImageMultipartCompleteRequest request) {
+    return ResponseEntity.ok(
+        vehicleImageService.completeMultipartUpload(vehicleId, uploadId, request));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:create')")
+  public ResponseEntity<Void> abortMultipartUpload(Long vehicleId, String uploadId, String key) {
+    vehicleImageService.abortMultipartUpload(vehicleId, uploadId, key);
+    return ResponseEntity.noContent().build();
+  }
+
   @Override
   @PreAuthorize("hasAuthority('vehicle:create')")
   public ResponseEntity<VehicleImageConfirmUploadResponse> confirmUpload(
@@ -40,8 +100,55 @@ public class VehicleImageController implements VehicleImageApi {
 
   @Override
   @PreAuthorize("hasAuthority('vehicle:read')")
-  public ResponseEntity<List<VehicleImageResponse>> getImages(Long vehicleId) {
-    return ResponseEntity.ok(vehicleImageService.getImagesByVehicle(vehicleId));
+  public ResponseEntity<List<VehicleImageResponse>> getImages(Long vehicleId, ImageSizeClass size) {
+    return ResponseEntity.ok(vehicleImageService.getImagesByVehicle(vehicleId, size));
+  }
+
+  @Override
+  @PreAuthorize("hasAuthority('vehicle:read')")
+  public ResponseEntity<StreamingResponseBody> getImageContent(
+      Long vehicleId, Long imageId, ImageSizeClass size, String range, String ifNoneMatch) {
+    Optional<S3ObjectContent> opened =
+        vehicleImageService.openImageContent(vehicleId, imageId, size, range, ifNoneMatch);
+    if (opened.isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+
+    S3ObjectContent content = opened.get();
+    return switch (content.status()) {
+      case NOT_MODIFIED ->
+          ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+              .eTag(content.eTag())
+              .cacheControl(IMAGE_CACHE_CONTROL)
+              .build();
+      case RANGE_NOT_SATISFIABLE ->
+          ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).build();
+      case OK, PARTIAL_CONTENT -> {
+        ResponseEntity.BodyBuilder builder =
+            ResponseEntity.status(
+                    content.status() == S3ObjectContent.Status.PARTIAL_CONTENT
+                        ? HttpStatus.PARTIAL_CONTENT
+                        : HttpStatus.OK)
+                .eTag(content.eTag())
+                .cacheControl(IMAGE_CACHE_CONTROL)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (content.contentType() != null) {
+          builder.contentType(MediaType.parseMediaType(content.contentType()));
+        }
+        if (content.contentLength() != null) {
+          builder.contentLength(content.contentLength());
+        }
+        if (content.contentRange() != null) {
+          builder.header(HttpHeaders.CONTENT_RANGE, content.contentRange());
+        }
+        yield builder.body(
+            output -> {
+              try (content) {
+                content.body().transferTo(output);
+              }
+            });
+      }
+    };
   }
 
   @Override
@@ -1,6 +1,7 @@
 package com.sgivu.vehicle.controller.api;
 
 import com.sgivu.vehicle.dto.CarResponse;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
 import com.sgivu.vehicle.entity.Car;
 import com.sgivu.vehicle.enums.VehicleStatus;
 import io.swagger.v3.oas.annotations.Hidden;
@@ -129,4 +130,34 @@ public interface CarApi {
       @RequestParam(required = false) @Parameter(description = "Precio mínimo") Double minSalePrice,
       @RequestParam(required = false) @Parameter(description = "Precio máximo")
           Double maxSalePrice);
+
+  @Operation(
+      summary = "Conteos por faceta de la búsqueda de autos",
+      description =
+          "Marca, combustible, carrocería, transmisión, año y rango de precio para los filtros"
+              + " dados, en una sola consulta. Sin filtros la respuesta se sirve desde caché.")
+  @GetMapping("/search/facets")
+  ResponseEntity<VehicleFacetsResponse> getCarFacets(
+      @RequestParam(required = false) @Parameter(description = "Placa") String plate,
+      @RequestParam(required = false) @Parameter(description = "Marca") String brand,
+      @RequestParam(required = false) @Parameter(description = "Línea") String line,
+      @RequestParam(required = false) @Parameter(description = "Modelo") String model,
+      @RequestParam(required = false) @Parameter(description = "Combustible") String fuelType,
+      @RequestParam(required = false) @Parameter(description = "Carrocería") String bodyType,
+      @RequestParam(required = false) @Parameter(description = "Transmisión") String transmission,
+      @RequestParam(required = false) @Parameter(description = "Ciudad registrada") String city,
+      @RequestParam(required = false) @Parameter(description = "Estado") VehicleStatus status,
+      @RequestParam(required = false) @Parameter(description = "Año mínimo") Integer minYear,
+      @RequestParam(required = false) @Parameter(description = "Año máximo") Integer maxYear,
+      @RequestParam(required = false) @Parameter(description = "Capacidad mínima")
+          Integer minCapacity,
+      @RequestParam(required = false) @Parameter(description = "Capacidad máxima")
+          Integer maxCapacity,
+      @RequestParam(required = false) @Parameter(description = "Kilometraje mínimo")
+          Integer minMileage,
+      @RequestParam(required = false) @Parameter(description = "Kilometraje máximo")
+          Integer maxMileage,
+      @RequestParam(required = false) @Parameter(description = "Precio mínimo") Double minSalePrice,
+      @RequestParam(required = false) @Parameter(description = "Precio máximo")
+          Double maxSalePrice);
 }
@@ -1,6 +1,7 @@
 package com.sgivu.vehicle.controller.api;
 
 import com.sgivu.vehicle.dto.MotorcycleResponse;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
 import com.sgivu.vehicle.enums.VehicleStatus;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
@@ -121,4 +122,34 @@ public interface MotorcycleApi {
       @RequestParam(required = false) Integer maxMileage,
       @RequestParam(required = false) Double minSalePrice,
       @RequestParam(required = false) Double maxSalePrice);
+
+  @Operation(
+      summary = "Conteos por faceta de la búsqueda de motos",
+      description =
+          "Marca, tipo de moto, transmisión, año y rango de precio para los filtros dados, en una"
+              + " sola consulta. Sin filtros la respuesta se sirve desde caché.")
+  @GetMapping("/search/facets")
+  ResponseEntity<VehicleFacetsResponse> getMotorcycleFacets(
+      @RequestParam(required = false) @Parameter(description = "Placa") String plate,
+      @RequestParam(required = false) @Parameter(description = "Marca") String brand,
+      @RequestParam(required = false) @Parameter(description = "Línea") String line,
+      @RequestParam(required = false) @Parameter(description = "Modelo") String model,
+      @RequestParam(required = false) @Parameter(description = "Tipo de moto")
+          String motorcycleType,
+      @RequestParam(required = false) @Parameter(description = "Transmisión") String transmission,
+      @RequestParam(required = false) @Parameter(description = "Ciudad") String city,
+      @RequestParam(required = false) @Parameter(description = "Estado") VehicleStatus status,
+      @RequestParam(required = false) @Parameter(description = "Año mínimo") Integer minYear,
+      @RequestParam(required = false) @Parameter(description = "Año máximo") Integer maxYear,
+      @RequestParam(required = false) @Parameter(description = "Cilindraje mínimo")
+          Integer minCapacity,
+      @RequestParam(required = false) @Parameter(description = "Cilindraje máximo")
+          Integer maxCapacity,
+      @RequestParam(required = false) @Parameter(description = "Kilometraje mínimo")
+          Integer minMileage,
+      @RequestParam(required = false) @Parameter(description = "Kilometraje máximo")
+          Integer maxMileage,
+      @RequestParam(required = false) @Parameter(description = "Precio mínimo") Double minSalePrice,
+      @RequestParam(required = false) @Parameter(description = "Precio máximo")
+          Double maxSalePrice);
 }
@@ -0,0 +1,133 @@
+package com.sgivu.vehicle.controller.api;
+
+import com.sgivu.vehicle.dto.SimilarVehicleResponse;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateRequest;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResponse;
+import com.sgivu.vehicle.dto.VehicleChangeFeedResponse;
+import com.sgivu.vehicle.dto.VehicleImageResponse;
+import com.sgivu.vehicle.dto.VehicleInventoryStatsResponse;
+import com.sgivu.vehicle.dto.VehicleResponse;
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Vehículos", description = "Consultas comunes a autos y motocicletas")
+@RequestMapping("/v1/vehicles")
+public interface VehicleApi {
+
+  @Operation(
+      summary = "Obtiene autos y motocicletas por ids (batch)",
+      description =
+          "Resuelve ambos tipos en una sola query; cada elemento incluye el discriminador"
+              + " vehicleType (CAR o MOTORCYCLE)")
+  @PostMapping("/batch")
+  ResponseEntity<List<VehicleResponse>> getByIds(
+      @RequestBody @Parameter(description = "Lista de IDs de vehículos") List<Long> ids);
+
+  @Operation(
+      summary = "Lista imágenes de múltiples vehículos (batch)",
+      description =
+          "Una sola query para todos los vehículos; con primaryOnly=true devuelve solo la imagen"
+              + " principal de cada uno. La respuesta se indexa por ID de vehículo")
+  @PostMapping("/images/batch")
+  ResponseEntity<Map<Long, List<VehicleImageResponse>>> getImagesByIds(
+      @RequestBody @Parameter(description = "Lista de IDs de vehículos") List<Long> ids,
+      @RequestParam(defaultValue = "false")
+          @Parameter(description = "Solo la imagen principal de cada vehículo")
+          boolean primaryOnly,
+      @RequestParam(defaultValue = "ORIGINAL")
+          @Parameter(description = "Clase de tamaño: ORIGINAL, THUMBNAIL o MEDIUM")
+          ImageSizeClass size);
+
+  @Operation(
+      summary = "Estadísticas de inventario",
+      description =
+          "Conteos por tipo de vehículo y estado, y valor de los vehículos no vendidos, en una"
+              + " sola query agregada. Se cachea hasta la siguiente escritura de vehículos")
+  @GetMapping("/stats")
+  ResponseEntity<VehicleInventoryStatsResponse> getInventoryStats();
+
+  @Operation(
+      summary = "Cambia estado y/o precios de varios vehículos",
+      description =
+          "Un solo UPDATE para todos los IDs (máx. 500), autos o motocicletas. Con expectedStatus"
+              + " solo se actualizan los que están en ese estado. Devuelve el resultado por ID")
+  @PatchMapping("/bulk")
+  ResponseEntity<VehicleBulkUpdateResponse> bulkUpdate(
+      @RequestBody @Parameter(description = "IDs y cambios a aplicar")
+          VehicleBulkUpdateRequest request);
+
+  @Operation(
+      summary = "Importa autos y motocicletas desde CSV o NDJSON",
+      description =
+          "Cuerpo text/csv (con encabezado) o application/x-ndjson; cada fila indica vehicleType"
+              + " (CAR o MOTORCYCLE). Se procesa por bloques: placa, número de motor, de serie y"
+              + " de chasis se validan contra el propio archivo y contra la base con una consulta"
+              + " por bloque. La respuesta es NDJSON con un resultado por fila (IMPORTED, REJECTED"
+              + " o FAILED), enviado a medida que se confirma cada bloque")
+  @PostMapping(
+      value = "/import",
+      consumes = {"text/csv", "application/x-ndjson"},
+      produces = "application/x-ndjson")
+  ResponseEntity<StreamingResponseBody> importVehicles(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) @Parameter(hidden = true) String contentType,
+      @Parameter(description = "Archivo CSV o NDJSON") InputStream body)
+      throws IOException;
+
+  @Operation(
+      summary = "Feed de cambios de vehículos",
+      description =
+          "Altas, modificaciones y bajas de autos y motocicletas en orden (changedAt, id). Sin"
+              + " cursor se recorre todo el inventario; con nextAfterChangedAt/nextAfterId de la"
+              + " respuesta anterior se reanuda la sincronización incremental")
+  @GetMapping("/changes")
+  ResponseEntity<VehicleChangeFeedResponse> getChanges(
+      @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+          @Parameter(description = "changedAt del último cambio procesado")
+          LocalDateTime afterChangedAt,
+      @RequestParam(required = false) @Parameter(description = "ID del último cambio procesado")
+          Long afterId,
+      @RequestParam(required = false) @Parameter(description = "Tamaño de página") Integer limit);
+
+  @Operation(
+      summary = "Vehículos similares a uno registrado",
+      description =
+          "Mismo tipo y marca, ordenados por cercanía en año, kilometraje, precio de venta y"
+              + " cilindraje (la línea distinta penaliza). Se resuelve en memoria, sin consultar la"
+              + " base de datos")
+  @GetMapping("/{id}/similar")
+  ResponseEntity<List<SimilarVehicleResponse>> getSimilarTo(
+      @PathVariable @Parameter(description = "ID del vehículo de referencia") Long id,
+      @RequestParam(required = false) @Parameter(description = "Número de resultados")
+          Integer limit);
+
+  @Operation(
+      summary = "Vehículos similares a uno descrito por sus atributos",
+      description =
+          "Para tasar un vehículo aún no registrado. vehicleType y brand son obligatorios; los"
+              + " atributos omitidos no se comparan")
+  @GetMapping("/similar")
+  ResponseEntity<List<SimilarVehicleResponse>> getSimilar(
+      @RequestParam @Parameter(description = "CAR o MOTORCYCLE") String vehicleType,
+      @RequestParam @Parameter(description = "Marca") String brand,
+      @RequestParam(required = false) @Parameter(description = "Línea") String line,
+      @RequestParam(required = false) @Parameter(description = "Año") Integer year,
+      @RequestParam(required = false) @Parameter(description = "Kilometraje") Integer mileage,
+      @RequestParam(required = false) @Parameter(description = "Precio de venta") Double salePrice,
+      @RequestParam(required = false) @Parameter(description = "Capacidad o cilindraje")
+          Integer capacity,
+      @RequestParam(required = false) @Parameter(description = "Número de resultados")
+          Integer limit);
+}
@@ -2,16 +2,24 @@ package com.sgivu.vehicle.controller.api;
 
 import com.sgivu.vehicle.dto.VehicleImageConfirmUploadRequest;
 import com.sgivu.vehicle.dto.VehicleImageConfirmUploadResponse;
+import com.sgivu.vehicle.dto.VehicleImageMultipartCompleteRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartCompleteResponse;
+import com.sgivu.vehicle.dto.VehicleImageMultipartResumeRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartUploadRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartUploadResponse;
 import com.sgivu.vehicle.dto.VehicleImagePresignedUploadRequest;
 import com.sgivu.vehicle.dto.VehicleImagePresignedUploadResponse;
 import com.sgivu.vehicle.dto.VehicleImageResponse;
+import com.sgivu.vehicle.enums.ImageSizeClass;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(
     name = "Imágenes de Vehículos",
@@ -26,6 +34,60 @@ public interface VehicleImageApi {
       @Valid @RequestBody @Parameter(description = "Solicitud con tipo de archivo")
           VehicleImagePresignedUploadRequest request);
 
+  @Operation(
+      summary = "Genera URLs prefirmadas para subir varias imágenes",
+      description = "Una URL por solicitud, en el mismo orden (máx. 50).")
+  @PostMapping("/presigned-upload/batch")
+  ResponseEntity<List<VehicleImagePresignedUploadResponse>> createPresignedUploadUrls(
+      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId,
+      @RequestBody @Parameter(description = "Tipo de archivo de cada imagen")
+          List<VehicleImagePresignedUploadRequest> requests);
+
+  @Operation(
+      summary = "Confirma varias subidas y registra sus metadatos",
+      description =
+          "Todo o nada: si alguna key no existe en S3 o ya está registrada no se registra ninguna"
+              + " (máx. 50).")
+  @PostMapping("/confirm-upload/batch")
+  ResponseEntity<List<VehicleImageConfirmUploadResponse>> confirmUploads(
+      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId,
+      @RequestBody @Parameter(description = "Datos de cada imagen subida")
+          List<VehicleImageConfirmUploadRequest> requests);
+
+  @Operation(
+      summary = "Inicia subida multiparte",
+      description =
+          "Devuelve el tamaño de parte acordado y una URL prefirmada por parte para subirlas en"
+              + " paralelo. Al terminar se completa la subida y se confirma con confirm-upload.")
+  @PostMapping("/multipart")
+  ResponseEntity<VehicleImageMultipartUploadResponse> initiateMultipartUpload(
+      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId,
+      @Valid @RequestBody @Parameter(description = "Tipo, tamaño del archivo y tamaño de parte")
+          VehicleImageMultipartUploadRequest request);
+
+  @Operation(summary = "Reanuda subida multiparte con URLs nuevas para las partes pendientes")
+  @PostMapping("/multipart/{uploadId}/resume")
+  ResponseEntity<VehicleImageMultipartUploadResponse> resumeMultipartUpload(
+      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId,
+      @PathVariable @Parameter(description = "ID de la subida multiparte") String uploadId,
+      @Valid @RequestBody @Parameter(description = "Key y tamaños acordados al iniciar")
+          VehicleImageMultipartResumeRequest request);
+
+  @Operation(summary = "Completa subida multiparte")
+  @PostMapping("/multipart/{uploadId}/complete")
+  ResponseEntity<VehicleImageMultipartCompleteResponse> completeMultipartUpload(
+      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId,
+      @PathVariable @Parameter(description = "ID de la subida multiparte") String uploadId,
+      @Valid @RequestBody @Parameter(description = "Key y partes con su ETag")
+          VehicleImageMultipartCompleteRequest request);
+
+  @Operation(summary = "Aborta subida multiparte")
+  @DeleteMapping("/multipart/{uploadId}")
+  ResponseEntity<Void> abortMultipartUpload(
+      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId,
+      @PathVariable @Parameter(description = "ID de la subida multiparte") String uploadId,
+      @RequestParam @Parameter(description = "Key de S3 de la subida") String key);
+
   @Operation(summary = "Confirma subida y registra metadatos")
   @PostMapping("/confirm-upload")
   ResponseEntity<VehicleImageConfirmUploadResponse> confirmUpload(
@@ -36,7 +98,29 @@ public interface VehicleImageApi {
   @Operation(summary = "Lista imágenes de un vehículo")
   @GetMapping
   ResponseEntity<List<VehicleImageResponse>> getImages(
-      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId);
+      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId,
+      @RequestParam(defaultValue = "ORIGINAL")
+          @Parameter(description = "Clase de tamaño: ORIGINAL, THUMBNAIL o MEDIUM")
+          ImageSizeClass size);
+
+  @Operation(
+      summary = "Sirve el contenido de la imagen desde S3",
+      description =
+          "Alternativa a las URLs prefirmadas: el backend reenvía el objeto en streaming. Admite"
+              + " un único rango en Range (206) e If-None-Match (304).")
+  @GetMapping("/{imageId}/content")
+  ResponseEntity<StreamingResponseBody> getImageContent(
+      @PathVariable @Parameter(description = "ID del vehículo") Long vehicleId,
+      @PathVariable @Parameter(description = "ID de la imagen") Long imageId,
+      @RequestParam(defaultValue = "ORIGINAL")
+          @Parameter(description = "Clase de tamaño: ORIGINAL, THUMBNAIL o MEDIUM")
+          ImageSizeClass size,
+      @RequestHeader(value = HttpHeaders.RANGE, required = false)
+          @Parameter(description = "Rango de bytes, p. ej. bytes=0-1023")
+          String range,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+          @Parameter(description = "ETag de la copia que ya tiene el cliente")
+          String ifNoneMatch);
 
   @Operation(summary = "Elimina imagen")
   @DeleteMapping("/{imageId}")
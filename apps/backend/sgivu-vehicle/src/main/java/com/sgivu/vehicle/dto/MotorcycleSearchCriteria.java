@@ -2,6 +2,8 @@ package com.sgivu.vehicle.dto;
 
 import com.sgivu.vehicle.enums.VehicleStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -56,4 +58,26 @@ public class MotorcycleSearchCriteria {
 
   @Schema(description = "Precio de venta máximo", example = "20000.0")
   private final Double maxSalePrice;
+
+  /** Indica si se aplica al menos un filtro. */
+  public boolean hasFilters() {
+    return Stream.of(
+            plate,
+            brand,
+            line,
+            model,
+            motorcycleType,
+            transmission,
+            cityRegistered,
+            status,
+            minYear,
+            maxYear,
+            minCapacity,
+            maxCapacity,
+            minMileage,
+            maxMileage,
+            minSalePrice,
+            maxSalePrice)
+        .anyMatch(Objects::nonNull);
+  }
 }
@@ -0,0 +1,14 @@
+package com.sgivu.vehicle.dto;
+
+/**
+ * Vehículo de referencia para buscar similares, registrado o no. {@code vehicleType} y {@code
+ * brand} son obligatorios; los atributos nulos no se comparan.
+ */
+public record SimilarVehicleQuery(
+    String vehicleType,
+    String brand,
+    String line,
+    Integer year,
+    Integer mileage,
+    Double salePrice,
+    Integer capacity) {}
@@ -0,0 +1,19 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Vehículo comparable, ordenado por distancia al de referencia")
+public record SimilarVehicleResponse(
+    @Schema(description = "ID del vehículo", example = "12") Long id,
+    @Schema(description = "CAR o MOTORCYCLE", example = "CAR") String vehicleType,
+    @Schema(description = "Marca", example = "Toyota") String brand,
+    @Schema(description = "Línea", example = "Corolla") String line,
+    @Schema(description = "Modelo", example = "XEi") String model,
+    @Schema(description = "Año", example = "2019") Integer year,
+    @Schema(description = "Kilometraje", example = "45000") Integer mileage,
+    @Schema(description = "Precio de venta", example = "65000000") Double salePrice,
+    @Schema(description = "Capacidad o cilindraje", example = "1800") Integer capacity,
+    @Schema(description = "Estado actual") VehicleStatus status,
+    @Schema(description = "Distancia al vehículo de referencia; menor es más parecido")
+        double distance) {}
@@ -0,0 +1,20 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Cambio de estado y/o precios aplicado a varios vehículos a la vez")
+public record VehicleBulkUpdateRequest(
+    @Schema(description = "IDs de autos o motocicletas (máx. 500)", example = "[1, 2, 3]")
+        List<Long> ids,
+    @Schema(description = "Nuevo estado; null para no cambiarlo", example = "SOLD")
+        VehicleStatus status,
+    @Schema(description = "Nuevo precio de compra; null para no cambiarlo") Double purchasePrice,
+    @Schema(description = "Nuevo precio de venta; null para no cambiarlo") Double salePrice,
+    @Schema(
+            description =
+                "Solo actualiza los vehículos que están en este estado; el resto se informa como"
+                    + " SKIPPED",
+            example = "AVAILABLE")
+        VehicleStatus expectedStatus) {}
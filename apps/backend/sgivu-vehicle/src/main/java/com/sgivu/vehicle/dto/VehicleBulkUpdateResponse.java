@@ -0,0 +1,10 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Resultado de una actualización masiva de vehículos")
+public record VehicleBulkUpdateResponse(
+    @Schema(description = "Vehículos actualizados", example = "3") int updated,
+    @Schema(description = "Resultado por ID, en el orden solicitado")
+        List<VehicleBulkUpdateResult> results) {}
@@ -0,0 +1,19 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de la actualización masiva para un ID")
+public record VehicleBulkUpdateResult(
+    @Schema(description = "ID del vehículo", example = "1") Long id,
+    @Schema(description = "UPDATED, SKIPPED (no estaba en expectedStatus) o NOT_FOUND")
+        Outcome outcome,
+    @Schema(description = "Estado previo a la actualización; null si no existe")
+        VehicleStatus previousStatus) {
+
+  public enum Outcome {
+    UPDATED,
+    SKIPPED,
+    NOT_FOUND
+  }
+}
@@ -0,0 +1,21 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+@Schema(description = "Alta, modificación o baja de un vehículo")
+public record VehicleChange(
+    @Schema(description = "ID del vehículo", example = "1") Long id,
+    @Schema(description = "CAR o MOTORCYCLE", example = "CAR") String vehicleType,
+    @Schema(description = "Tipo de cambio") ChangeType changeType,
+    @Schema(description = "Instante del cambio (updated_at o fecha de baja)")
+        LocalDateTime changedAt,
+    @Schema(description = "Estado actual del vehículo; null en las bajas")
+        VehicleResponse vehicle) {
+
+  public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+  }
+}
@@ -0,0 +1,18 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(
+    description =
+        "Página del feed de cambios de vehículos, ordenada y paginada por cursor (changedAt, id)")
+public record VehicleChangeFeedResponse(
+    @Schema(description = "Cambios en orden cronológico") List<VehicleChange> changes,
+    @Schema(description = "Indica si existen más cambios después de esta página") boolean hasMore,
+    @Schema(
+            description =
+                "Valor de afterChangedAt para la siguiente página; sin cambios, el instante hasta"
+                    + " el que ya se sirvió el feed")
+        LocalDateTime nextAfterChangedAt,
+    @Schema(description = "Valor de afterId para la siguiente página") Long nextAfterId) {}
@@ -0,0 +1,8 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Número de vehículos con un valor de faceta")
+public record VehicleFacetCount(
+    @Schema(description = "Valor de la faceta", example = "Toyota") String value,
+    @Schema(description = "Vehículos con ese valor", example = "12") long count) {}
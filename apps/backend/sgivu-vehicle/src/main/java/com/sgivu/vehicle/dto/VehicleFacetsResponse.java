@@ -0,0 +1,13 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Conteos por faceta para los filtros de búsqueda aplicados")
+public record VehicleFacetsResponse(
+    @Schema(description = "Vehículos que cumplen los filtros", example = "42") long total,
+    @Schema(description = "Conteos por faceta (brand, transmission, year, ...)")
+        Map<String, List<VehicleFacetCount>> facets,
+    @Schema(description = "Conteos por rango de precio de venta")
+        List<VehiclePriceRangeCount> priceRanges) {}
@@ -0,0 +1,16 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Solicitud para completar una subida multiparte")
+public record VehicleImageMultipartCompleteRequest(
+    @Schema(
+            description = "Key de S3 devuelta al iniciar la subida",
+            example = "vehicles/12/3f0c.jpg",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        String key,
+    @Schema(
+            description = "Partes subidas con el ETag devuelto por S3",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        List<VehicleImageUploadedPart> parts) {}
@@ -0,0 +1,8 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Objeto ensamblado tras completar una subida multiparte")
+public record VehicleImageMultipartCompleteResponse(
+    @Schema(description = "Bucket de destino", example = "sgivu-vehicles") String bucket,
+    @Schema(description = "Key del objeto", example = "vehicles/12/3f0c.jpg") String key) {}
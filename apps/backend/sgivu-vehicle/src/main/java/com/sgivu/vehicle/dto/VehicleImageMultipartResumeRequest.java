@@ -0,0 +1,21 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Solicitud para reanudar una subida multiparte en curso")
+public record VehicleImageMultipartResumeRequest(
+    @Schema(
+            description = "Key de S3 devuelta al iniciar la subida",
+            example = "vehicles/12/3f0c.jpg",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        String key,
+    @Schema(
+            description = "Tamaño total del archivo en bytes",
+            example = "52428800",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        Long fileSize,
+    @Schema(
+            description = "Tamaño de parte acordado al iniciar la subida",
+            example = "8388608",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        Long partSize) {}
@@ -0,0 +1,21 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Solicitud para iniciar la subida multiparte de una imagen de vehículo")
+public record VehicleImageMultipartUploadRequest(
+    @Schema(
+            description = "Tipo de contenido a subir",
+            example = "image/jpeg",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        String contentType,
+    @Schema(
+            description = "Tamaño total del archivo en bytes",
+            example = "52428800",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+        Long fileSize,
+    @Schema(
+            description =
+                "Tamaño de parte propuesto en bytes; el servidor lo ajusta a los límites permitidos",
+            example = "8388608")
+        Long partSize) {}
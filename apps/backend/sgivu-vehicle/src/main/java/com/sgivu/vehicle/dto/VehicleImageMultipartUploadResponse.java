@@ -0,0 +1,19 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "Estado de una subida multiparte con las URLs de las partes pendientes")
+public record VehicleImageMultipartUploadResponse(
+    @Schema(description = "Bucket de destino", example = "sgivu-vehicles") String bucket,
+    @Schema(description = "Key del objeto", example = "vehicles/12/3f0c.jpg") String key,
+    @Schema(description = "ID de la subida multiparte en S3") String uploadId,
+    @Schema(description = "Tamaño acordado de cada parte en bytes", example = "8388608")
+        long partSize,
+    @Schema(description = "Número total de partes", example = "7") int partCount,
+    @Schema(description = "Instante en que caducan las URLs de las partes") Instant urlsExpireAt,
+    @Schema(description = "Partes ya recibidas por S3")
+        List<VehicleImageUploadedPart> uploadedParts,
+    @Schema(description = "URLs de las partes pendientes")
+        List<VehicleImagePartUploadUrl> partUploadUrls) {}
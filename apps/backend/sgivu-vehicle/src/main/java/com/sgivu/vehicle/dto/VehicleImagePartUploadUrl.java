@@ -0,0 +1,8 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "URL prefirmada PUT para subir una parte")
+public record VehicleImagePartUploadUrl(
+    @Schema(description = "Número de parte (desde 1)", example = "1") int partNumber,
+    @Schema(description = "URL para subir la parte", example = "https://...") String uploadUrl) {}
@@ -0,0 +1,12 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Parte de una subida multiparte ya recibida por S3")
+public record VehicleImageUploadedPart(
+    @Schema(description = "Número de parte (desde 1)", example = "1") Integer partNumber,
+    @Schema(
+            description = "ETag devuelto por S3 al subir la parte",
+            example = "\"9b2cf535f27731c9\"")
+        String eTag,
+    @Schema(description = "Tamaño de la parte en bytes", example = "8388608") Long size) {}
@@ -0,0 +1,34 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Resultado de la importación para una fila del archivo")
+public record VehicleImportResult(
+    @Schema(description = "Línea del archivo donde empieza la fila", example = "2") long line,
+    @Schema(
+            description =
+                "IMPORTED, REJECTED (fila inválida o duplicada) o FAILED (error al guardar)")
+        Outcome outcome,
+    @Schema(description = "ID asignado; null si no se importó", example = "1") Long id,
+    @Schema(description = "Placa de la fila, si se pudo leer", example = "ABC123") String plate,
+    @Schema(description = "Motivos del rechazo o del fallo") List<String> errors) {
+
+  public enum Outcome {
+    IMPORTED,
+    REJECTED,
+    FAILED
+  }
+
+  public static VehicleImportResult imported(long line, Long id, String plate) {
+    return new VehicleImportResult(line, Outcome.IMPORTED, id, plate, List.of());
+  }
+
+  public static VehicleImportResult rejected(long line, String plate, List<String> errors) {
+    return new VehicleImportResult(line, Outcome.REJECTED, null, plate, List.copyOf(errors));
+  }
+
+  public static VehicleImportResult failed(long line, String plate, String error) {
+    return new VehicleImportResult(line, Outcome.FAILED, null, plate, List.of(error));
+  }
+}
@@ -0,0 +1,31 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Fila de una importación masiva. En CSV, los encabezados usan estos mismos nombres; en NDJSON,
+ * cada línea es un objeto con estas propiedades.
+ */
+@Schema(description = "Fila de importación de vehículos (CSV o NDJSON)")
+public record VehicleImportRow(
+    @Schema(description = "CAR o MOTORCYCLE", example = "CAR") String vehicleType,
+    @Schema(example = "Toyota") String brand,
+    @Schema(example = "Corolla") String model,
+    @Schema(example = "1800") Integer capacity,
+    @Schema(example = "XEI") String line,
+    @Schema(example = "ABC123") String plate,
+    @Schema(example = "MN123456") String motorNumber,
+    @Schema(example = "SN123456") String serialNumber,
+    @Schema(example = "CH123456") String chassisNumber,
+    @Schema(example = "Rojo") String color,
+    @Schema(example = "Bogota") String cityRegistered,
+    @Schema(example = "2020") Integer year,
+    @Schema(example = "45000") Integer mileage,
+    @Schema(example = "Automática") String transmission,
+    @Schema(description = "Estado; AVAILABLE si se omite", example = "AVAILABLE") String status,
+    @Schema(example = "60000000") Double purchasePrice,
+    @Schema(example = "72000000") Double salePrice,
+    @Schema(description = "Solo autos", example = "Sedan") String bodyType,
+    @Schema(description = "Solo autos", example = "Gasolina") String fuelType,
+    @Schema(description = "Solo autos", example = "4") Integer numberOfDoors,
+    @Schema(description = "Solo motocicletas", example = "Deportiva") String motorcycleType) {}
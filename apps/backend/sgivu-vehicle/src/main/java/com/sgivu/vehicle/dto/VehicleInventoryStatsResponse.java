@@ -0,0 +1,16 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+
+@Schema(description = "Estadísticas de inventario por tipo de vehículo y estado")
+public record VehicleInventoryStatsResponse(
+    @Schema(description = "Vehículos registrados", example = "200") long total,
+    @Schema(description = "Vehículos por estado, sumando todos los tipos")
+        Map<VehicleStatus, Long> byStatus,
+    @Schema(description = "Suma del precio de compra de los vehículos no vendidos")
+        double inventoryValue,
+    @Schema(description = "Suma del precio de venta de los vehículos no vendidos") double saleValue,
+    @Schema(description = "Desglose por tipo de vehículo (CAR, MOTORCYCLE)")
+        Map<String, VehicleTypeStats> byType) {}
@@ -0,0 +1,15 @@
+package com.sgivu.vehicle.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Número de vehículos en un rango de precio de venta [min, max)")
+public record VehiclePriceRangeCount(
+    @Schema(
+            description = "Límite inferior incluido; null si el rango es abierto",
+            example = "2.0E7")
+        Double min,
+    @Schema(
+            description = "Límite superior excluido; null si el rango es abierto",
+            example = "4.0E7")
+        Double max,
+    @Schema(description = "Vehículos en el rango", example = "8") long count) {}
@@ -1,5 +1,7 @@
 package com.sgivu.vehicle.dto;
 
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.sgivu.vehicle.enums.VehicleStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
@@ -8,6 +10,11 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Schema(description = "DTO base expuesto por la API para representar vehículos")
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "vehicleType")
+@JsonSubTypes({
+  @JsonSubTypes.Type(value = CarResponse.class, name = "CAR"),
+  @JsonSubTypes.Type(value = MotorcycleResponse.class, name = "MOTORCYCLE")
+})
 public class VehicleResponse {
   @Schema(
       description = "Identificador interno",
@@ -0,0 +1,15 @@
+package com.sgivu.vehicle.dto;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+
+@Schema(description = "Conteos y valor de inventario de un tipo de vehículo")
+public record VehicleTypeStats(
+    @Schema(description = "Vehículos registrados del tipo", example = "120") long total,
+    @Schema(description = "Vehículos por estado; incluye todos los estados, con 0 si no hay")
+        Map<VehicleStatus, Long> byStatus,
+    @Schema(description = "Suma del precio de compra de los vehículos no vendidos")
+        double inventoryValue,
+    @Schema(description = "Suma del precio de venta de los vehículos no vendidos")
+        double saleValue) {}
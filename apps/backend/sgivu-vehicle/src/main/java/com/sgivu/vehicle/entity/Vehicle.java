@@ -1,6 +1,8 @@
 package com.sgivu.vehicle.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.event.VehicleEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -20,6 +22,7 @@ import lombok.NoArgsConstructor;
 @Table(name = "vehicles")
 @Entity
 @Inheritance(strategy = InheritanceType.JOINED)
+@EntityListeners(VehicleEntityListener.class)
 public abstract class Vehicle implements Serializable {
 
   @Serial private static final long serialVersionUID = 1L;
@@ -49,6 +52,14 @@ public abstract class Vehicle implements Serializable {
   @Column(nullable = false, unique = true, length = 10)
   private String plate;
 
+  /**
+   * Placa en mayúsculas y sin separadores, calculada por PostgreSQL (columna generada); solo se usa
+   * para filtrar.
+   */
+  @JsonIgnore
+  @Column(name = "plate_normalized", insertable = false, updatable = false)
+  private String plateNormalized;
+
   @NotBlank
   @Column(name = "motor_number", nullable = false, unique = true, length = 30)
   private String motorNumber;
@@ -106,8 +117,10 @@ public abstract class Vehicle implements Serializable {
 
   @PrePersist
   public void prePersist() {
-    this.createdAt = LocalDateTime.now();
-    this.updatedAt = LocalDateTime.now();
+    // Mismo instante en ambas columnas: el feed de cambios distingue así las altas
+    LocalDateTime now = LocalDateTime.now();
+    this.createdAt = now;
+    this.updatedAt = now;
     if (this.status == null) this.status = VehicleStatus.AVAILABLE; // evita registrar sin estado
   }
 
@@ -13,12 +13,16 @@ import lombok.Setter;
 @Table(name = "vehicle_images")
 public class VehicleImage {
 
+  /**
+   * Optimizador pooled: la secuencia incrementa de 50 en 50 (V3), así que confirmar un lote de
+   * imágenes no paga un nextval por fila y las inserciones se agrupan en un único batch JDBC.
+   */
   @Id
   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicle_images_id_seq")
   @SequenceGenerator(
       name = "vehicle_images_id_seq",
       sequenceName = "vehicle_images_id_seq",
-      allocationSize = 1)
+      allocationSize = 50)
   private Long id;
 
   @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -0,0 +1,58 @@
+package com.sgivu.vehicle.entity;
+
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "vehicle_image_variants")
+public class VehicleImageVariant {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicle_image_variants_id_seq")
+  @SequenceGenerator(
+      name = "vehicle_image_variants_id_seq",
+      sequenceName = "vehicle_image_variants_id_seq",
+      allocationSize = 1)
+  private Long id;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(name = "image_id", nullable = false)
+  private VehicleImage image;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "size_class", nullable = false, length = 20)
+  private ImageSizeClass sizeClass;
+
+  @Column(nullable = false, length = 100)
+  private String bucket;
+
+  @Column(nullable = false, unique = true)
+  private String key;
+
+  @Column(name = "mime_type", nullable = false, length = 100)
+  private String mimeType;
+
+  @Column(nullable = false)
+  private Integer width;
+
+  @Column(nullable = false)
+  private Integer height;
+
+  @Column(name = "file_size", nullable = false)
+  private Long size;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @PrePersist
+  void prePersist() {
+    this.createdAt = LocalDateTime.now();
+  }
+}
@@ -0,0 +1,19 @@
+package com.sgivu.vehicle.enums;
+
+/** Clases de tamaño servidas por el listado de imágenes; {@code ORIGINAL} no tiene derivado. */
+public enum ImageSizeClass {
+  ORIGINAL(0),
+  THUMBNAIL(320),
+  MEDIUM(1024);
+
+  private final int width;
+
+  ImageSizeClass(int width) {
+    this.width = width;
+  }
+
+  /** Ancho máximo en píxeles del derivado. */
+  public int getWidth() {
+    return width;
+  }
+}
@@ -0,0 +1,32 @@
+package com.sgivu.vehicle.event;
+
+import com.sgivu.vehicle.entity.Vehicle;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica {@link VehiclesChangedEvent} por cada alta, modificación o baja de un vehículo, sea cual
+ * sea el servicio que la origina. Hibernate obtiene el listener del contexto de Spring.
+ */
+@Component
+public class VehicleEntityListener {
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public VehicleEntityListener(ApplicationEventPublisher eventPublisher) {
+    this.eventPublisher = eventPublisher;
+  }
+
+  @PostPersist
+  @PostUpdate
+  @PostRemove
+  public void onChange(Vehicle vehicle) {
+    if (vehicle.getId() != null) {
+      eventPublisher.publishEvent(new VehiclesChangedEvent(List.of(vehicle.getId())));
+    }
+  }
+}
@@ -0,0 +1,8 @@
+package com.sgivu.vehicle.event;
+
+/**
+ * Se publica cuando se registra una imagen confirmada; dispara la generación de derivados una vez
+ * confirmada la transacción.
+ */
+public record VehicleImageConfirmedEvent(
+    Long imageId, String bucket, String key, String mimeType, Long size) {}
@@ -0,0 +1,9 @@
+package com.sgivu.vehicle.event;
+
+import java.util.Collection;
+
+/**
+ * Se publica cuando se crean, modifican o eliminan vehículos; una vez confirmada la transacción, el
+ * índice de similares vuelve a leer esos IDs.
+ */
+public record VehiclesChangedEvent(Collection<Long> vehicleIds) {}
@@ -58,6 +58,17 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
   }
 
+  @ExceptionHandler(InvalidRequestException.class)
+  public ResponseEntity<Object> handleInvalidRequestException(InvalidRequestException e) {
+    logger.warn("Invalid request: {}", e.getMessage());
+
+    Map<String, Object> errorResponse = new HashMap<>();
+    errorResponse.put(MESSAGE_KEY, e.getMessage());
+    errorResponse.put(STATUS_KEY, HttpStatus.BAD_REQUEST.value());
+
+    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<Object> handleGeneralException(Exception e) {
     logger.error("Unexpected error occurred: {}", e.getMessage(), e);
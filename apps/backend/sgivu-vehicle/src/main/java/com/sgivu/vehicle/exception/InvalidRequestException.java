@@ -0,0 +1,13 @@
+package com.sgivu.vehicle.exception;
+
+/**
+ * Excepción para datos de entrada inválidos (lotes demasiado grandes, cursores o filtros
+ * incompletos, encabezados desconocidos...). Es la única que {@link GlobalExceptionHandler}
+ * responde con 400 y con su mensaje, que debe poder mostrarse al cliente.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+}
@@ -3,9 +3,13 @@ package com.sgivu.vehicle.mapper;
 import com.sgivu.vehicle.dto.CarResponse;
 import com.sgivu.vehicle.dto.MotorcycleResponse;
 import com.sgivu.vehicle.dto.VehicleImageConfirmUploadResponse;
+import com.sgivu.vehicle.dto.VehicleResponse;
 import com.sgivu.vehicle.entity.Car;
 import com.sgivu.vehicle.entity.Motorcycle;
 import com.sgivu.vehicle.entity.VehicleImage;
+import com.sgivu.vehicle.repository.projection.CarView;
+import com.sgivu.vehicle.repository.projection.MotorcycleView;
+import com.sgivu.vehicle.repository.projection.VehicleDetailView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -16,6 +20,21 @@ public interface VehicleMapper {
 
   MotorcycleResponse toMotorcycleResponse(Motorcycle motorcycle);
 
+  CarResponse toCarResponse(CarView view);
+
+  MotorcycleResponse toMotorcycleResponse(MotorcycleView view);
+
+  CarResponse toCarResponse(VehicleDetailView view);
+
+  MotorcycleResponse toMotorcycleResponse(VehicleDetailView view);
+
+  /** Construye el DTO del subtipo indicado por el discriminador de la proyección. */
+  default VehicleResponse toVehicleResponse(VehicleDetailView view) {
+    return "MOTORCYCLE".equals(view.getVehicleType())
+        ? toMotorcycleResponse(view)
+        : toCarResponse(view);
+  }
+
   @Mapping(source = "id", target = "imageId")
   VehicleImageConfirmUploadResponse toVehicleImageConfirmUploadResponse(VehicleImage vehicleImage);
 }
@@ -0,0 +1,61 @@
+package com.sgivu.vehicle.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Candados consultivos de PostgreSQL a nivel de sesión, para tareas que no deben correr en dos
+ * instancias a la vez.
+ *
+ * <p>El candado se toma y se libera en una conexión reservada mientras dura la tarea, en modo
+ * autocommit: no se abre ninguna transacción, y las consultas de la tarea usan sus propias
+ * conexiones. Debe llamarse fuera de una transacción.
+ */
+@Repository
+public class AdvisoryLockRepository {
+
+  private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+  private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public AdvisoryLockRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /**
+   * Ejecuta {@code task} con el candado {@code lockKey}.
+   *
+   * @return resultado de {@code task}, o vacío si otra sesión tiene el candado
+   */
+  public <T> Optional<T> runWithLock(long lockKey, Supplier<T> task) {
+    return jdbcTemplate.execute(
+        (ConnectionCallback<Optional<T>>)
+            connection -> {
+              if (!call(connection, TRY_LOCK_SQL, lockKey)) {
+                return Optional.empty();
+              }
+              try {
+                return Optional.ofNullable(task.get());
+              } finally {
+                call(connection, UNLOCK_SQL, lockKey);
+              }
+            });
+  }
+
+  private static boolean call(Connection connection, String sql, long lockKey) throws SQLException {
+    try (PreparedStatement statement = connection.prepareStatement(sql)) {
+      statement.setLong(1, lockKey);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+}
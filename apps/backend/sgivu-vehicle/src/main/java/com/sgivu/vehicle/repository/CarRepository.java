@@ -1,8 +1,11 @@
 package com.sgivu.vehicle.repository;
 
+import com.sgivu.vehicle.dto.CarSearchCriteria;
 import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.repository.projection.FacetCountView;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
 
 public interface CarRepository extends VehicleRepository<Car> {
   Optional<Car> findByFuelType(String fuelType);
@@ -12,4 +15,62 @@ public interface CarRepository extends VehicleRepository<Car> {
   List<Car> findByFuelTypeContainingIgnoreCase(String fuelType);
 
   List<Car> findByBodyTypeContainingIgnoreCase(String bodyType);
+
+  /**
+   * Cuenta los autos que cumplen {@code criteria} por marca, combustible, carrocería, transmisión,
+   * año y rango de precio en una sola consulta con {@code GROUPING SETS}. Los filtros replican los
+   * de {@link com.sgivu.vehicle.specification.CarSpecifications#withFilters}; los nulos no filtran.
+   * Ambos deben cambiar juntos: {@code VehicleFacetConsistencyTest} compara los totales de las dos
+   * rutas.
+   *
+   * @param priceBounds límites ascendentes de los rangos de precio ({@code width_bucket})
+   */
+  @Query(
+      value =
+          "WITH filtered AS ( "
+              + "  SELECT v.brand, v.transmission, v.year, c.fuel_type, c.body_type, "
+              + "         width_bucket(v.sale_price, CAST(:priceBounds AS float8[])) AS price_bucket "
+              + "  FROM vehicles v JOIN cars c ON c.vehicle_id = v.id "
+              + "  WHERE TRUE "
+              + "  AND (CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).platePattern(#criteria.plate)} AS text) IS NULL "
+              + "       OR v.plate_normalized LIKE CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).platePattern(#criteria.plate)} AS text)) "
+              + "  AND (CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.brand)} AS text) IS NULL "
+              + "       OR lower(v.brand) LIKE CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.brand)} AS text)) "
+              + "  AND (CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.line)} AS text) IS NULL "
+              + "       OR lower(v.line) LIKE CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.line)} AS text)) "
+              + "  AND (CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.model)} AS text) IS NULL "
+              + "       OR lower(v.model) LIKE CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.model)} AS text)) "
+              + "  AND (CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.fuelType)} AS text) IS NULL "
+              + "       OR lower(c.fuel_type) LIKE CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.fuelType)} AS text)) "
+              + "  AND (CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.bodyType)} AS text) IS NULL "
+              + "       OR lower(c.body_type) LIKE CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.bodyType)} AS text)) "
+              + "  AND (CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.transmission)} AS text) IS NULL "
+              + "       OR lower(v.transmission) LIKE CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.transmission)} AS text)) "
+              + "  AND (CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.cityRegistered)} AS text) IS NULL "
+              + "       OR lower(v.city_registered) LIKE CAST(:#{T(com.sgivu.vehicle.specification.TextSearch).likePattern(#criteria.cityRegistered)} AS text)) "
+              + "  AND (CAST(:#{#criteria.status?.name()} AS text) IS NULL "
+              + "       OR v.status = CAST(:#{#criteria.status?.name()} AS text)) "
+              + "  AND (CAST(:#{#criteria.minYear} AS integer) IS NULL OR v.year >= CAST(:#{#criteria.minYear} AS integer)) "
+              + "  AND (CAST(:#{#criteria.maxYear} AS integer) IS NULL OR v.year <= CAST(:#{#criteria.maxYear} AS integer)) "
+              + "  AND (CAST(:#{#criteria.minCapacity} AS integer) IS NULL OR v.capacity >= CAST(:#{#criteria.minCapacity} AS integer)) "
+              + "  AND (CAST(:#{#criteria.maxCapacity} AS integer) IS NULL OR v.capacity <= CAST(:#{#criteria.maxCapacity} AS integer)) "
+              + "  AND (CAST(:#{#criteria.minMileage} AS integer) IS NULL OR v.mileage >= CAST(:#{#criteria.minMileage} AS integer)) "
+              + "  AND (CAST(:#{#criteria.maxMileage} AS integer) IS NULL OR v.mileage <= CAST(:#{#criteria.maxMileage} AS integer)) "
+              + "  AND (CAST(:#{#criteria.minSalePrice} AS float8) IS NULL OR v.sale_price >= CAST(:#{#criteria.minSalePrice} AS float8)) "
+              + "  AND (CAST(:#{#criteria.maxSalePrice} AS float8) IS NULL OR v.sale_price <= CAST(:#{#criteria.maxSalePrice} AS float8)) "
+              + ") "
+              + "SELECT CASE WHEN GROUPING(brand) = 0 THEN 'brand' "
+              + "            WHEN GROUPING(fuel_type) = 0 THEN 'fuelType' "
+              + "            WHEN GROUPING(body_type) = 0 THEN 'bodyType' "
+              + "            WHEN GROUPING(transmission) = 0 THEN 'transmission' "
+              + "            WHEN GROUPING(year) = 0 THEN 'year' "
+              + "            WHEN GROUPING(price_bucket) = 0 THEN 'priceRange' "
+              + "            ELSE 'total' END AS facet, "
+              + "       COALESCE(brand, fuel_type, body_type, transmission, CAST(year AS text), "
+              + "                CAST(price_bucket AS text)) AS value, "
+              + "       COUNT(*) AS count "
+              + "FROM filtered "
+              + "GROUP BY GROUPING SETS ((brand), (fuel_type), (body_type), (transmission), (year), (price_bucket), ())",
+      nativeQuery = true)
+  List<FacetCountView> countFacets(CarSearchCriteria criteria, Double[] priceBounds);
 }
@@ -1,5 +1,198 @@
 package com.sgivu.vehicle.repository;
 
 import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.repository.projection.BulkUpdateRowView;
+import com.sgivu.vehicle.repository.projection.InventoryStatsView;
+import com.sgivu.vehicle.repository.projection.SimilarityRowView;
+import com.sgivu.vehicle.repository.projection.VehicleChangeView;
+import com.sgivu.vehicle.repository.projection.VehicleDetailView;
+import com.sgivu.vehicle.repository.projection.VehicleIdentifierView;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface VehicleBaseRepository extends VehicleRepository<Vehicle> {}
+public interface VehicleBaseRepository extends VehicleRepository<Vehicle> {
+
+  /**
+   * Carga autos y motocicletas en una sola consulta sobre la tabla base {@code vehicles}, uniendo
+   * las tablas de cada subtipo. Los IDs se enlazan como un único parámetro de tipo arreglo, por lo
+   * que el plan no depende del tamaño del lote.
+   */
+  @Query(
+      value =
+          "SELECT v.id AS id, "
+              + "       CASE WHEN c.vehicle_id IS NOT NULL THEN 'CAR' "
+              + "            WHEN m.vehicle_id IS NOT NULL THEN 'MOTORCYCLE' END AS vehicleType, "
+              + "       v.brand AS brand, v.model AS model, v.capacity AS capacity, "
+              + "       v.line AS line, v.plate AS plate, v.motor_number AS motorNumber, "
+              + "       v.serial_number AS serialNumber, v.chassis_number AS chassisNumber, "
+              + "       v.color AS color, v.city_registered AS cityRegistered, v.year AS year, "
+              + "       v.mileage AS mileage, v.transmission AS transmission, v.status AS status, "
+              + "       v.purchase_price AS purchasePrice, v.sale_price AS salePrice, "
+              + "       c.body_type AS bodyType, c.fuel_type AS fuelType, "
+              + "       c.number_of_doors AS numberOfDoors, m.motorcycle_type AS motorcycleType "
+              + "FROM vehicles v "
+              + "LEFT JOIN cars c ON c.vehicle_id = v.id "
+              + "LEFT JOIN motorcycles m ON m.vehicle_id = v.id "
+              + "WHERE v.id = ANY(:ids)",
+      nativeQuery = true)
+  List<VehicleDetailView> findDetailsByIds(Long[] ids);
+
+  /**
+   * Cuenta los vehículos por tipo y estado y suma sus precios en un solo {@code GROUP BY} sobre
+   * {@code vehicles}. El tipo se deduce de la tabla de subtipo que tiene fila para el vehículo.
+   */
+  @Query(
+      value =
+          "SELECT CASE WHEN c.vehicle_id IS NOT NULL THEN 'CAR' "
+              + "            WHEN m.vehicle_id IS NOT NULL THEN 'MOTORCYCLE' END AS vehicleType, "
+              + "       v.status AS status, COUNT(*) AS count, "
+              + "       COALESCE(SUM(v.purchase_price), 0) AS purchaseValue, "
+              + "       COALESCE(SUM(v.sale_price), 0) AS saleValue "
+              + "FROM vehicles v "
+              + "LEFT JOIN cars c ON c.vehicle_id = v.id "
+              + "LEFT JOIN motorcycles m ON m.vehicle_id = v.id "
+              + "GROUP BY 1, 2",
+      nativeQuery = true)
+  List<InventoryStatsView> aggregateInventory();
+
+  /**
+   * Aplica estado y/o precios a todos los IDs en un único {@code UPDATE} y actualiza {@code
+   * updated_at}. Los parámetros nulos conservan el valor actual; con {@code expectedStatus} solo se
+   * modifican las filas que están en ese estado. Devuelve una fila por cada ID existente con su
+   * estado previo y si se modificó; los IDs ausentes no existen. {@code updated_at} toma la hora de
+   * la escritura, no la del inicio de la transacción, para que la espera por los bloqueos no la
+   * deje por detrás del cursor del feed de cambios.
+   */
+  @Transactional
+  @Query(
+      value =
+          "WITH target AS ( "
+              + "  SELECT id, status FROM vehicles WHERE id = ANY(:ids) FOR UPDATE "
+              + "), updated AS ( "
+              + "  UPDATE vehicles v "
+              + "  SET status = COALESCE(CAST(:status AS text), v.status), "
+              + "      purchase_price = COALESCE(CAST(:purchasePrice AS float8), v.purchase_price), "
+              + "      sale_price = COALESCE(CAST(:salePrice AS float8), v.sale_price), "
+              + "      updated_at = CAST(clock_timestamp() AS timestamp) "
+              + "  FROM target t "
+              + "  WHERE v.id = t.id "
+              + "  AND (CAST(:expectedStatus AS text) IS NULL OR t.status = CAST(:expectedStatus AS text)) "
+              + "  RETURNING v.id "
+              + ") "
+              + "SELECT t.id AS id, t.status AS previousStatus, (u.id IS NOT NULL) AS updated "
+              + "FROM target t LEFT JOIN updated u ON u.id = t.id",
+      nativeQuery = true)
+  List<BulkUpdateRowView> bulkUpdate(
+      Long[] ids, String status, Double purchasePrice, Double salePrice, String expectedStatus);
+
+  /**
+   * Cambios posteriores al cursor {@code (afterChangedAt, afterId)} y no posteriores a {@code
+   * until}: altas y modificaciones desde {@code vehicles} y bajas desde {@code vehicle_tombstones}.
+   * Cada rama recorre su índice {@code (fecha, id)} y se limita por separado antes de mezclarlas,
+   * así que el coste depende de {@code limit} y no del inventario.
+   */
+  @Query(
+      value =
+          "SELECT * FROM ( "
+              + "  (SELECT v.id AS id, "
+              + "          CASE WHEN v.created_at = v.updated_at THEN 'CREATED' ELSE 'UPDATED' END AS changeType, "
+              + "          CAST(v.updated_at AS timestamp) AS changedAt, "
+              + "          CASE WHEN c.vehicle_id IS NOT NULL THEN 'CAR' "
+              + "               WHEN m.vehicle_id IS NOT NULL THEN 'MOTORCYCLE' END AS vehicleType, "
+              + "          v.brand AS brand, v.model AS model, v.capacity AS capacity, "
+              + "          v.line AS line, v.plate AS plate, v.motor_number AS motorNumber, "
+              + "          v.serial_number AS serialNumber, v.chassis_number AS chassisNumber, "
+              + "          v.color AS color, v.city_registered AS cityRegistered, v.year AS year, "
+              + "          v.mileage AS mileage, v.transmission AS transmission, v.status AS status, "
+              + "          v.purchase_price AS purchasePrice, v.sale_price AS salePrice, "
+              + "          c.body_type AS bodyType, c.fuel_type AS fuelType, "
+              + "          c.number_of_doors AS numberOfDoors, m.motorcycle_type AS motorcycleType "
+              + "   FROM vehicles v "
+              + "   LEFT JOIN cars c ON c.vehicle_id = v.id "
+              + "   LEFT JOIN motorcycles m ON m.vehicle_id = v.id "
+              + "   WHERE (v.updated_at, v.id) > (:afterChangedAt, :afterId) "
+              + "   AND v.updated_at <= :until "
+              + "   ORDER BY v.updated_at, v.id "
+              + "   LIMIT :limit) "
+              + "  UNION ALL "
+              + "  (SELECT t.vehicle_id, 'DELETED', CAST(t.deleted_at AS timestamp), t.vehicle_type, "
+              + "          NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, "
+              + "          NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL "
+              + "   FROM vehicle_tombstones t "
+              + "   WHERE (t.deleted_at, t.vehicle_id) > (:afterChangedAt, :afterId) "
+              + "   AND t.deleted_at <= :until "
+              + "   ORDER BY t.deleted_at, t.vehicle_id "
+              + "   LIMIT :limit) "
+              + ") changes "
+              + "ORDER BY changedAt, id "
+              + "LIMIT :limit",
+      nativeQuery = true)
+  List<VehicleChangeView> findChanges(
+      LocalDateTime afterChangedAt, Long afterId, LocalDateTime until, int limit);
+
+  /** Elimina las lápidas de bajas anteriores a {@code cutoff}. */
+  @Transactional
+  @Modifying
+  @Query(value = "DELETE FROM vehicle_tombstones WHERE deleted_at < :cutoff", nativeQuery = true)
+  int deleteTombstonesBefore(LocalDateTime cutoff);
+
+  /**
+   * Recorre todos los vehículos con los atributos del índice de similares. Se lee en bloques de
+   * {@code fetchSize} filas, así que la memoria no crece con el inventario; debe consumirse dentro
+   * de una transacción y cerrarse.
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query(
+      value =
+          "SELECT v.id AS id, "
+              + "       CASE WHEN c.vehicle_id IS NOT NULL THEN 'CAR' "
+              + "            WHEN m.vehicle_id IS NOT NULL THEN 'MOTORCYCLE' END AS vehicleType, "
+              + "       v.brand AS brand, v.line AS line, v.model AS model, v.year AS year, "
+              + "       v.mileage AS mileage, v.sale_price AS salePrice, v.capacity AS capacity, "
+              + "       v.status AS status, CAST(v.updated_at AS timestamp) AS updatedAt "
+              + "FROM vehicles v "
+              + "LEFT JOIN cars c ON c.vehicle_id = v.id "
+              + "LEFT JOIN motorcycles m ON m.vehicle_id = v.id",
+      nativeQuery = true)
+  Stream<SimilarityRowView> streamSimilarityRows();
+
+  /** Atributos del índice de similares para los IDs dados; los inexistentes se omiten. */
+  @Query(
+      value =
+          "SELECT v.id AS id, "
+              + "       CASE WHEN c.vehicle_id IS NOT NULL THEN 'CAR' "
+              + "            WHEN m.vehicle_id IS NOT NULL THEN 'MOTORCYCLE' END AS vehicleType, "
+              + "       v.brand AS brand, v.line AS line, v.model AS model, v.year AS year, "
+              + "       v.mileage AS mileage, v.sale_price AS salePrice, v.capacity AS capacity, "
+              + "       v.status AS status, CAST(v.updated_at AS timestamp) AS updatedAt "
+              + "FROM vehicles v "
+              + "LEFT JOIN cars c ON c.vehicle_id = v.id "
+              + "LEFT JOIN motorcycles m ON m.vehicle_id = v.id "
+              + "WHERE v.id = ANY(:ids)",
+      nativeQuery = true)
+  List<SimilarityRowView> findSimilarityRowsByIds(Long[] ids);
+
+  /**
+   * Vehículos que ya usan alguna de las placas, números de motor, de serie o de chasis dados. Una
+   * sola consulta por lote de importación; cada condición usa el índice único de su columna.
+   */
+  @Query(
+      value =
+          "SELECT v.plate AS plate, v.motor_number AS motorNumber, "
+              + "       v.serial_number AS serialNumber, v.chassis_number AS chassisNumber "
+              + "FROM vehicles v "
+              + "WHERE v.plate = ANY(:plates) "
+              + "OR v.motor_number = ANY(:motorNumbers) "
+              + "OR v.serial_number = ANY(:serialNumbers) "
+              + "OR v.chassis_number = ANY(:chassisNumbers)",
+      nativeQuery = true)
+  List<VehicleIdentifierView> findByIdentifiers(
+      String[] plates, String[] motorNumbers, String[] serialNumbers, String[] chassisNumbers);
+}
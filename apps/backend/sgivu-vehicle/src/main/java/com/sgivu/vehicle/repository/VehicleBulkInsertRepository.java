@@ -0,0 +1,115 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Inserciones masivas de vehículos con JDBC, sin pasar por el contexto de persistencia de JPA.
+ *
+ * <p>Los IDs se reservan de {@code vehicles_id_seq} en un solo viaje y cada tabla ({@code
+ * vehicles}, {@code cars}, {@code motorcycles}) se escribe con un único batch. Debe ejecutarse
+ * dentro de una transacción.
+ */
+@Repository
+public class VehicleBulkInsertRepository {
+
+  private static final String ALLOCATE_IDS_SQL =
+      "SELECT nextval('vehicles_id_seq') FROM generate_series(1, ?)";
+
+  // created_at = updated_at: el feed de cambios la reporta como alta. clock_timestamp() es la hora
+  // de la escritura; LOCALTIMESTAMP sería la del inicio de la transacción
+  private static final String INSERT_VEHICLE_SQL =
+      "INSERT INTO vehicles (id, brand, model, capacity, line, plate, motor_number, serial_number,"
+          + " chassis_number, color, city_registered, year, mileage, transmission, status,"
+          + " purchase_price, sale_price, created_at, updated_at)"
+          + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,"
+          + " CAST(clock_timestamp() AS timestamp), CAST(clock_timestamp() AS timestamp))";
+
+  private static final String INSERT_CAR_SQL =
+      "INSERT INTO cars (vehicle_id, body_type, fuel_type, number_of_doors) VALUES (?, ?, ?, ?)";
+
+  private static final String INSERT_MOTORCYCLE_SQL =
+      "INSERT INTO motorcycles (vehicle_id, motorcycle_type) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public VehicleBulkInsertRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** Reserva {@code count} IDs de la secuencia de vehículos con una sola consulta. */
+  public List<Long> allocateIds(int count) {
+    if (count <= 0) {
+      return List.of();
+    }
+    return jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, count);
+  }
+
+  /**
+   * Inserta los vehículos, que ya deben tener ID asignado, en {@code vehicles} y en la tabla de su
+   * subtipo.
+   */
+  public void insertAll(List<? extends Vehicle> vehicles) {
+    if (vehicles.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_VEHICLE_SQL, vehicles, vehicles.size(), this::bindVehicle);
+
+    List<Car> cars = subtype(vehicles, Car.class);
+    if (!cars.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          INSERT_CAR_SQL,
+          cars,
+          cars.size(),
+          (ps, car) -> {
+            ps.setLong(1, car.getId());
+            ps.setString(2, car.getBodyType());
+            ps.setString(3, car.getFuelType());
+            ps.setInt(4, car.getNumberOfDoors());
+          });
+    }
+
+    List<Motorcycle> motorcycles = subtype(vehicles, Motorcycle.class);
+    if (!motorcycles.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+          INSERT_MOTORCYCLE_SQL,
+          motorcycles,
+          motorcycles.size(),
+          (ps, motorcycle) -> {
+            ps.setLong(1, motorcycle.getId());
+            ps.setString(2, motorcycle.getMotorcycleType());
+          });
+    }
+  }
+
+  private void bindVehicle(PreparedStatement ps, Vehicle vehicle) throws SQLException {
+    ps.setLong(1, vehicle.getId());
+    ps.setString(2, vehicle.getBrand());
+    ps.setString(3, vehicle.getModel());
+    ps.setInt(4, vehicle.getCapacity());
+    ps.setString(5, vehicle.getLine());
+    ps.setString(6, vehicle.getPlate());
+    ps.setString(7, vehicle.getMotorNumber());
+    ps.setString(8, vehicle.getSerialNumber());
+    ps.setString(9, vehicle.getChassisNumber());
+    ps.setString(10, vehicle.getColor());
+    ps.setString(11, vehicle.getCityRegistered());
+    ps.setInt(12, vehicle.getYear());
+    ps.setInt(13, vehicle.getMileage());
+    ps.setString(14, vehicle.getTransmission());
+    ps.setString(15, vehicle.getStatus().name());
+    ps.setDouble(16, vehicle.getPurchasePrice());
+    ps.setDouble(17, vehicle.getSalePrice());
+  }
+
+  private static <T extends Vehicle> List<T> subtype(
+      List<? extends Vehicle> vehicles, Class<T> type) {
+    return vehicles.stream().filter(type::isInstance).map(type::cast).toList();
+  }
+}
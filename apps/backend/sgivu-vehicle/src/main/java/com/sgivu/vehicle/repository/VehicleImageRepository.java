@@ -1,14 +1,68 @@
 package com.sgivu.vehicle.repository;
 
 import com.sgivu.vehicle.entity.VehicleImage;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface VehicleImageRepository extends JpaRepository<VehicleImage, Long> {
 
   List<VehicleImage> findByVehicleIdOrderByPrimaryImageDescCreatedAtAsc(Long vehicleId);
 
+  Optional<VehicleImage> findByIdAndVehicleId(Long id, Long vehicleId);
+
   boolean existsByVehicleIdAndFileName(Long vehicleId, String fileName);
 
   boolean existsByKey(String key);
+
+  boolean existsByVehicleId(Long vehicleId);
+
+  /**
+   * Imágenes que ya usan alguna de las keys o, dentro del vehículo, alguno de los nombres de
+   * archivo; una sola consulta para validar un lote completo.
+   */
+  List<VehicleImage> findByKeyInOrVehicleIdAndFileNameIn(
+      Collection<String> keys, Long vehicleId, Collection<String> fileNames);
+
+  @Modifying(flushAutomatically = true)
+  @Query(
+      "UPDATE VehicleImage i SET i.primaryImage = false "
+          + "WHERE i.vehicle.id = :vehicleId AND i.primaryImage = true")
+  int clearPrimaryByVehicleId(Long vehicleId);
+
+  /**
+   * De las keys dadas, las que están registradas como imagen original o como derivado. Ambas
+   * columnas tienen índice único, así que cada lote se resuelve con búsquedas por índice.
+   */
+  @Query(
+      value =
+          "SELECT key FROM vehicle_images WHERE key = ANY(:keys) "
+              + "UNION ALL "
+              + "SELECT key FROM vehicle_image_variants WHERE key = ANY(:keys)",
+      nativeQuery = true)
+  List<String> findReferencedKeys(String[] keys);
+
+  /** Imágenes de varios vehículos en una sola consulta, agrupables por vehículo en orden. */
+  @Query(
+      value =
+          "SELECT * FROM vehicle_images "
+              + "WHERE vehicle_id = ANY(:vehicleIds) "
+              + "ORDER BY vehicle_id, is_primary DESC, created_at ASC",
+      nativeQuery = true)
+  List<VehicleImage> findByVehicleIds(Long[] vehicleIds);
+
+  /**
+   * Una imagen por vehículo: la principal o, si ninguna está marcada, la más antigua (mismo
+   * criterio que el listado individual).
+   */
+  @Query(
+      value =
+          "SELECT DISTINCT ON (vehicle_id) * FROM vehicle_images "
+              + "WHERE vehicle_id = ANY(:vehicleIds) "
+              + "ORDER BY vehicle_id, is_primary DESC, created_at ASC",
+      nativeQuery = true)
+  List<VehicleImage> findPrimaryByVehicleIds(Long[] vehicleIds);
 }
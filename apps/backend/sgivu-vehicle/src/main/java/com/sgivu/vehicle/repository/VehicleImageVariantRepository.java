@@ -0,0 +1,15 @@
+package com.sgivu.vehicle.repository;
+
+import com.sgivu.vehicle.entity.VehicleImageVariant;
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface VehicleImageVariantRepository extends JpaRepository<VehicleImageVariant, Long> {
+
+  List<VehicleImageVariant> findByImageId(Long imageId);
+
+  List<VehicleImageVariant> findByImageIdInAndSizeClass(
+      Collection<Long> imageIds, ImageSizeClass sizeClass);
+}
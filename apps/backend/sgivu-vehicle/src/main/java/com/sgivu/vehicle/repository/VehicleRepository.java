@@ -2,6 +2,7 @@ package com.sgivu.vehicle.repository;
 
 import com.sgivu.vehicle.entity.Vehicle;
 import com.sgivu.vehicle.enums.VehicleStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,4 +21,7 @@ public interface VehicleRepository<T extends Vehicle>
   List<T> findByLineContainingIgnoreCase(String line);
 
   long countByStatus(VehicleStatus status);
+
+  /** Vehículos por ID con proyección dinámica; con una interfaz solo se leen sus columnas. */
+  <P> List<P> findByIdIn(Collection<Long> ids, Class<P> type);
 }
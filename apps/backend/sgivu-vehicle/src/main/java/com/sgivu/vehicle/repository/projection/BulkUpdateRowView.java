@@ -0,0 +1,10 @@
+package com.sgivu.vehicle.repository.projection;
+
+/** Fila de una actualización masiva: estado previo del vehículo y si la fila se modificó. */
+public interface BulkUpdateRowView {
+  Long getId();
+
+  String getPreviousStatus();
+
+  Boolean getUpdated();
+}
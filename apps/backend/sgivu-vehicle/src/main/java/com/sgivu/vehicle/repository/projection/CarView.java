@@ -0,0 +1,32 @@
+package com.sgivu.vehicle.repository.projection;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+
+/**
+ * Proyección de solo lectura de un auto con las columnas de {@code CarResponse}.
+ *
+ * <p>Es un record para que Spring Data lo construya con una expresión {@code select new} de JPQL:
+ * solo se leen estas columnas, sin hidratar la entidad ni crear un proxy por fila como haría una
+ * proyección por interfaz.
+ */
+public record CarView(
+    Long id,
+    String brand,
+    String model,
+    Integer capacity,
+    String line,
+    String plate,
+    String motorNumber,
+    String serialNumber,
+    String chassisNumber,
+    String color,
+    String cityRegistered,
+    Integer year,
+    Integer mileage,
+    String transmission,
+    VehicleStatus status,
+    Double purchasePrice,
+    Double salePrice,
+    String bodyType,
+    String fuelType,
+    Integer numberOfDoors) {}
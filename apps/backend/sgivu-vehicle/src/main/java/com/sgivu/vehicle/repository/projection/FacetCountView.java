@@ -0,0 +1,16 @@
+package com.sgivu.vehicle.repository.projection;
+
+/**
+ * Fila de conteo por faceta obtenida con {@code GROUPING SETS}.
+ *
+ * <p>{@code facet} identifica el agrupamiento ({@code brand}, {@code year}, {@code priceRange},
+ * etc.) y {@code value} el valor agrupado como texto; la fila con {@code facet = total} trae el
+ * número de vehículos que cumplen los filtros.
+ */
+public interface FacetCountView {
+  String getFacet();
+
+  String getValue();
+
+  Long getCount();
+}
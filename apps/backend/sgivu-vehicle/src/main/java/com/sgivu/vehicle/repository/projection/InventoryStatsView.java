@@ -0,0 +1,17 @@
+package com.sgivu.vehicle.repository.projection;
+
+/**
+ * Fila del agregado de inventario: número de vehículos y suma de precios por tipo ({@code CAR} o
+ * {@code MOTORCYCLE}) y estado.
+ */
+public interface InventoryStatsView {
+  String getVehicleType();
+
+  String getStatus();
+
+  Long getCount();
+
+  Double getPurchaseValue();
+
+  Double getSaleValue();
+}
@@ -0,0 +1,28 @@
+package com.sgivu.vehicle.repository.projection;
+
+import com.sgivu.vehicle.enums.VehicleStatus;
+
+/**
+ * Proyección de solo lectura de una motocicleta con las columnas de {@code MotorcycleResponse}.
+ *
+ * <p>Se construye con una expresión {@code select new} de JPQL, igual que {@link CarView}.
+ */
+public record MotorcycleView(
+    Long id,
+    String brand,
+    String model,
+    Integer capacity,
+    String line,
+    String plate,
+    String motorNumber,
+    String serialNumber,
+    String chassisNumber,
+    String color,
+    String cityRegistered,
+    Integer year,
+    Integer mileage,
+    String transmission,
+    VehicleStatus status,
+    Double purchasePrice,
+    Double salePrice,
+    String motorcycleType) {}
@@ -0,0 +1,28 @@
+package com.sgivu.vehicle.repository.projection;
+
+import java.time.LocalDateTime;
+
+/** Atributos de un vehículo que usa el índice de similares. */
+public interface SimilarityRowView {
+  Long getId();
+
+  String getVehicleType();
+
+  String getBrand();
+
+  String getLine();
+
+  String getModel();
+
+  Integer getYear();
+
+  Integer getMileage();
+
+  Double getSalePrice();
+
+  Integer getCapacity();
+
+  String getStatus();
+
+  LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,13 @@
+package com.sgivu.vehicle.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cambio de un vehículo en el feed: {@code CREATED} o {@code UPDATED} con las columnas actuales del
+ * vehículo, o {@code DELETED} con solo el ID y el tipo.
+ */
+public interface VehicleChangeView extends VehicleDetailView {
+  String getChangeType();
+
+  LocalDateTime getChangedAt();
+}
@@ -0,0 +1,53 @@
+package com.sgivu.vehicle.repository.projection;
+
+/**
+ * Proyección plana de un vehículo con las columnas de su subtipo (auto o motocicleta).
+ *
+ * <p>{@code vehicleType} actúa como discriminador ({@code CAR} o {@code MOTORCYCLE}); las columnas
+ * del subtipo que no aplica llegan en {@code null}.
+ */
+public interface VehicleDetailView {
+  Long getId();
+
+  String getVehicleType();
+
+  String getBrand();
+
+  String getModel();
+
+  Integer getCapacity();
+
+  String getLine();
+
+  String getPlate();
+
+  String getMotorNumber();
+
+  String getSerialNumber();
+
+  String getChassisNumber();
+
+  String getColor();
+
+  String getCityRegistered();
+
+  Integer getYear();
+
+  Integer getMileage();
+
+  String getTransmission();
+
+  String getStatus();
+
+  Double getPurchasePrice();
+
+  Double getSalePrice();
+
+  String getBodyType();
+
+  String getFuelType();
+
+  Integer getNumberOfDoors();
+
+  String getMotorcycleType();
+}
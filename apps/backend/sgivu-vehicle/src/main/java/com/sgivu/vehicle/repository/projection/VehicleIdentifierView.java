@@ -0,0 +1,12 @@
+package com.sgivu.vehicle.repository.projection;
+
+/** Identificadores únicos de un vehículo ya registrado. */
+public interface VehicleIdentifierView {
+  String getPlate();
+
+  String getMotorNumber();
+
+  String getSerialNumber();
+
+  String getChassisNumber();
+}
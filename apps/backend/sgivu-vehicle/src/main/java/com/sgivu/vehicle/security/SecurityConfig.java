@@ -58,7 +58,7 @@ public class SecurityConfig {
                         "/webjars/**")
                     .permitAll()
                     // Solo los servicios internos o clientes autenticados pueden acceder
-                    .requestMatchers("/v1/cars/**", "/v1/motorcycles/**")
+                    .requestMatchers("/v1/cars/**", "/v1/motorcycles/**", "/v1/vehicles/batch")
                     .access(internalOrAuthenticatedAuthorizationManager())
                     .anyRequest()
                     .authenticated())
@@ -1,7 +1,10 @@
 package com.sgivu.vehicle.service;
 
 import com.sgivu.vehicle.dto.CarSearchCriteria;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
 import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.repository.projection.CarView;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -19,4 +22,19 @@ public interface CarService extends VehicleService<Car> {
   List<Car> search(CarSearchCriteria criteria);
 
   Page<Car> search(CarSearchCriteria criteria, Pageable pageable);
+
+  /**
+   * Autos que cumplen los filtros ({@code null} para todos) como proyección de solo lectura: se
+   * seleccionan solo las columnas de la respuesta, sin hidratar entidades.
+   */
+  Page<CarView> searchViews(CarSearchCriteria criteria, Pageable pageable);
+
+  /** Autos por ID como proyección de solo lectura; omite los inexistentes. */
+  List<CarView> findViewsByIds(Collection<Long> ids);
+
+  /**
+   * Conteos por faceta de los autos que cumplen los filtros. Sin filtros se sirven desde caché
+   * hasta la siguiente escritura de vehículos.
+   */
+  VehicleFacetsResponse facets(CarSearchCriteria criteria);
 }
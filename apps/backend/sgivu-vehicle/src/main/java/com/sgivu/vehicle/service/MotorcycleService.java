@@ -1,7 +1,10 @@
 package com.sgivu.vehicle.service;
 
 import com.sgivu.vehicle.dto.MotorcycleSearchCriteria;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
 import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.repository.projection.MotorcycleView;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -15,4 +18,19 @@ public interface MotorcycleService extends VehicleService<Motorcycle> {
   List<Motorcycle> search(MotorcycleSearchCriteria criteria);
 
   Page<Motorcycle> search(MotorcycleSearchCriteria criteria, Pageable pageable);
+
+  /**
+   * Motocicletas que cumplen los filtros ({@code null} para todos) como proyección de solo lectura:
+   * se seleccionan solo las columnas de la respuesta, sin hidratar entidades.
+   */
+  Page<MotorcycleView> searchViews(MotorcycleSearchCriteria criteria, Pageable pageable);
+
+  /** Motocicletas por ID como proyección de solo lectura; omite los inexistentes. */
+  List<MotorcycleView> findViewsByIds(Collection<Long> ids);
+
+  /**
+   * Conteos por faceta de las motocicletas que cumplen los filtros. Sin filtros se sirven desde
+   * caché hasta la siguiente escritura de vehículos.
+   */
+  VehicleFacetsResponse facets(MotorcycleSearchCriteria criteria);
 }
@@ -0,0 +1,44 @@
+package com.sgivu.vehicle.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Contenido de un objeto de S3 abierto en streaming. El cuerpo mantiene abierta la conexión HTTP
+ * hasta que se cierra, por lo que quien lo consume debe cerrarlo.
+ *
+ * @param contentLength bytes del cuerpo (del rango, si se pidió uno)
+ * @param contentRange cabecera {@code Content-Range} cuando la respuesta es parcial
+ * @param body cuerpo del objeto; {@code null} si no hay contenido que enviar
+ */
+public record S3ObjectContent(
+    Status status,
+    String eTag,
+    String contentType,
+    Long contentLength,
+    String contentRange,
+    InputStream body)
+    implements AutoCloseable {
+
+  public enum Status {
+    OK,
+    PARTIAL_CONTENT,
+    NOT_MODIFIED,
+    RANGE_NOT_SATISFIABLE
+  }
+
+  public static S3ObjectContent notModified(String eTag) {
+    return new S3ObjectContent(Status.NOT_MODIFIED, eTag, null, null, null, null);
+  }
+
+  public static S3ObjectContent rangeNotSatisfiable() {
+    return new S3ObjectContent(Status.RANGE_NOT_SATISFIABLE, null, null, null, null, null);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (body != null) {
+      body.close();
+    }
+  }
+}
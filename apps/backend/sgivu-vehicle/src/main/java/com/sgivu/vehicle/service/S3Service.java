@@ -3,7 +3,14 @@ package com.sgivu.vehicle.service;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.Part;
 
 public interface S3Service {
   String createBucket(String bucket);
@@ -16,10 +23,61 @@ public interface S3Service {
 
   void downloadFile(String bucket, String key) throws IOException;
 
+  /**
+   * Descarga el objeto a {@code target} en streaming, sin cargarlo completo en memoria. Los objetos
+   * grandes se piden con GETs por rangos en paralelo ({@code aws.s3.download.*}).
+   *
+   * @return bytes escritos
+   */
+  long downloadToFile(String bucket, String key, Path target) throws IOException;
+
+  /**
+   * Abre el objeto en streaming para reenviarlo al cliente.
+   *
+   * @param range cabecera {@code Range} de un único rango (p. ej. {@code bytes=0-1023}) o {@code
+   *     null}
+   * @param ifNoneMatch ETag de la copia del cliente o {@code null}
+   */
+  S3ObjectContent openObject(String bucket, String key, String range, String ifNoneMatch);
+
   String generatePresignedUploadUrl(
       String bucket, String key, Duration duration, String contentType);
 
   String generatePresignedDownloadUrl(String bucket, String key, Duration duration);
 
   void deleteObject(String bucket, String key);
+
+  /**
+   * HEAD de varias keys en paralelo sobre el pool acotado de transferencias.
+   *
+   * @return metadatos por key; las keys inexistentes no aparecen
+   */
+  Map<String, HeadObjectResponse> headObjects(String bucket, Collection<String> keys);
+
+  /** Una página de ListObjectsV2 (hasta 1000 keys, en orden lexicográfico). */
+  ListObjectsV2Response listObjects(String bucket, String prefix, String continuationToken);
+
+  /**
+   * Elimina hasta 1000 keys con una sola llamada DeleteObjects.
+   *
+   * @return keys que S3 no pudo eliminar
+   */
+  List<String> deleteObjects(String bucket, Collection<String> keys);
+
+  /** Inicia una subida multiparte y devuelve su {@code uploadId}. */
+  String createMultipartUpload(String bucket, String key, String contentType);
+
+  String generatePresignedUploadPartUrl(
+      String bucket, String key, String uploadId, int partNumber, Duration duration);
+
+  /** Partes ya recibidas por S3, recorriendo todas las páginas. */
+  List<Part> listUploadedParts(String bucket, String key, String uploadId);
+
+  void completeMultipartUpload(
+      String bucket, String key, String uploadId, List<CompletedPart> parts);
+
+  void abortMultipartUpload(String bucket, String key, String uploadId);
+
+  /** Subidas multiparte sin completar bajo el prefijo, recorriendo todas las páginas. */
+  List<MultipartUpload> listMultipartUploads(String bucket, String prefix);
 }
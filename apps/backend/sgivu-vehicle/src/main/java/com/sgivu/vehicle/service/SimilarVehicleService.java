@@ -0,0 +1,32 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.SimilarVehicleQuery;
+import com.sgivu.vehicle.dto.SimilarVehicleResponse;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Vehículos comparables (mismo tipo y marca, año, kilometraje, precio y cilindraje parecidos)
+ * resueltos contra un índice en memoria, sin consultar la base de datos.
+ */
+public interface SimilarVehicleService {
+
+  /**
+   * Los {@code limit} vehículos más parecidos a uno registrado, excluyéndolo.
+   *
+   * @param limit resultados; {@code null} usa el valor por defecto
+   * @return vacío si el vehículo no está en el índice
+   * @throws InvalidRequestException si {@code limit} está fuera de rango
+   */
+  Optional<List<SimilarVehicleResponse>> findSimilarTo(Long vehicleId, Integer limit);
+
+  /**
+   * Los {@code limit} vehículos más parecidos a uno descrito por sus atributos (p. ej. al tasar un
+   * vehículo que aún no está registrado).
+   *
+   * @throws InvalidRequestException si faltan el tipo o la marca, o {@code limit} está fuera de
+   *     rango
+   */
+  List<SimilarVehicleResponse> findSimilar(SimilarVehicleQuery query, Integer limit);
+}
@@ -0,0 +1,36 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.VehicleBulkUpdateRequest;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResponse;
+import com.sgivu.vehicle.dto.VehicleInventoryStatsResponse;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import com.sgivu.vehicle.repository.projection.VehicleDetailView;
+import java.util.Collection;
+import java.util.List;
+
+/** Consultas transversales a autos y motocicletas sobre la tabla base {@code vehicles}. */
+public interface VehicleCatalogService {
+
+  /**
+   * Obtiene autos y motocicletas por ID en una sola consulta.
+   *
+   * @param ids IDs solicitados; se ignoran nulos y duplicados
+   * @return vehículos encontrados en el orden solicitado, omitiendo los inexistentes
+   */
+  List<VehicleDetailView> findDetailsByIds(Collection<Long> ids);
+
+  /**
+   * Conteos de inventario por tipo de vehículo y estado, con el valor de los vehículos no vendidos.
+   * Se resuelve con una sola consulta agregada y se cachea hasta la siguiente escritura.
+   */
+  VehicleInventoryStatsResponse getInventoryStats();
+
+  /**
+   * Cambia estado y/o precios de varios vehículos con una sola sentencia. Invalida las cachés de
+   * agregados una vez por lote.
+   *
+   * @return resultado por ID en el orden solicitado (sin duplicados)
+   * @throws InvalidRequestException si no hay IDs, se supera el máximo o no se pide ningún cambio
+   */
+  VehicleBulkUpdateResponse bulkUpdate(VehicleBulkUpdateRequest request);
+}
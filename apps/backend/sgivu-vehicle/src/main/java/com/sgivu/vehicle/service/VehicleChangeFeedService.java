@@ -0,0 +1,22 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.VehicleChangeFeedResponse;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import java.time.LocalDateTime;
+
+/** Feed de altas, modificaciones y bajas de vehículos para consumidores que replican datos. */
+public interface VehicleChangeFeedService {
+
+  /**
+   * Devuelve los cambios posteriores al cursor en orden {@code (changedAt, id)}.
+   *
+   * @param afterChangedAt {@code nextAfterChangedAt} de la página anterior; {@code null} para
+   *     empezar desde el principio (todo el inventario actual y las bajas retenidas)
+   * @param afterId {@code nextAfterId} de la página anterior; obligatorio junto a {@code
+   *     afterChangedAt}
+   * @param limit tamaño de página; {@code null} usa el valor por defecto
+   * @throws InvalidRequestException si el cursor está incompleto, es anterior a la retención de
+   *     bajas o el tamaño está fuera de rango
+   */
+  VehicleChangeFeedResponse findChanges(LocalDateTime afterChangedAt, Long afterId, Integer limit);
+}
@@ -1,20 +1,98 @@
 package com.sgivu.vehicle.service;
 
 import com.sgivu.vehicle.dto.VehicleImageConfirmUploadRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartCompleteRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartCompleteResponse;
+import com.sgivu.vehicle.dto.VehicleImageMultipartResumeRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartUploadRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartUploadResponse;
 import com.sgivu.vehicle.dto.VehicleImagePresignedUploadRequest;
 import com.sgivu.vehicle.dto.VehicleImagePresignedUploadResponse;
 import com.sgivu.vehicle.dto.VehicleImageResponse;
 import com.sgivu.vehicle.entity.VehicleImage;
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface VehicleImageService {
 
   VehicleImagePresignedUploadResponse createPresignedUploadUrl(
       Long vehicleId, VehicleImagePresignedUploadRequest request);
 
+  /**
+   * Inicia una subida multiparte y devuelve las URLs prefirmadas de todas sus partes, que el
+   * cliente puede subir en paralelo. El tamaño de parte propuesto se ajusta a los límites de {@code
+   * aws.s3.multipart.*} y al máximo de 10 000 partes de S3.
+   */
+  VehicleImageMultipartUploadResponse initiateMultipartUpload(
+      Long vehicleId, VehicleImageMultipartUploadRequest request);
+
+  /**
+   * Devuelve las partes ya recibidas y URLs nuevas para las pendientes, de modo que una subida
+   * interrumpida continúa sin repetir lo ya enviado.
+   */
+  VehicleImageMultipartUploadResponse resumeMultipartUpload(
+      Long vehicleId, String uploadId, VehicleImageMultipartResumeRequest request);
+
+  /**
+   * Ensambla el objeto a partir de las partes. La imagen se registra después con {@link
+   * #confirmUpload(Long, VehicleImageConfirmUploadRequest)}, igual que en la subida simple.
+   */
+  VehicleImageMultipartCompleteResponse completeMultipartUpload(
+      Long vehicleId, String uploadId, VehicleImageMultipartCompleteRequest request);
+
+  /** Aborta la subida y libera en S3 las partes ya recibidas. */
+  void abortMultipartUpload(Long vehicleId, String uploadId, String key);
+
   VehicleImage confirmUpload(Long vehicleId, VehicleImageConfirmUploadRequest request);
 
-  List<VehicleImageResponse> getImagesByVehicle(Long vehicleId);
+  /** Una URL prefirmada por solicitud, en el mismo orden. */
+  List<VehicleImagePresignedUploadResponse> createPresignedUploadUrls(
+      Long vehicleId, List<VehicleImagePresignedUploadRequest> requests);
+
+  /**
+   * Registra varias imágenes ya subidas: comprueba los objetos con HEAD en paralelo, valida
+   * duplicados con una sola consulta, resuelve la imagen principal una vez e inserta todas las
+   * filas en un batch JDBC. Es todo o nada: si alguna imagen no es válida no se registra ninguna.
+   *
+   * @return imágenes registradas, en el orden de las solicitudes
+   */
+  List<VehicleImage> confirmUploads(
+      Long vehicleId, List<VehicleImageConfirmUploadRequest> requests);
+
+  default List<VehicleImageResponse> getImagesByVehicle(Long vehicleId) {
+    return getImagesByVehicle(vehicleId, ImageSizeClass.ORIGINAL);
+  }
+
+  /**
+   * Lista las imágenes del vehículo con URLs de la clase de tamaño pedida; las imágenes sin ese
+   * derivado (aún no generado o formato no soportado) devuelven la URL del original.
+   */
+  List<VehicleImageResponse> getImagesByVehicle(Long vehicleId, ImageSizeClass sizeClass);
+
+  /**
+   * Lista las imágenes de varios vehículos con una sola consulta.
+   *
+   * @param vehicleIds IDs de vehículos; se ignoran nulos y duplicados
+   * @param primaryOnly si es {@code true}, solo la imagen principal de cada vehículo
+   * @param sizeClass clase de tamaño de las URLs; recurre al original si falta el derivado
+   * @return imágenes por ID de vehículo, en el orden solicitado; lista vacía si no tiene imágenes
+   */
+  Map<Long, List<VehicleImageResponse>> getImagesByVehicles(
+      Collection<Long> vehicleIds, boolean primaryOnly, ImageSizeClass sizeClass);
+
+  /**
+   * Abre en streaming el contenido de la imagen (o de su derivado, si existe) para servirlo desde
+   * el backend cuando no conviene entregar una URL prefirmada.
+   *
+   * @param range cabecera {@code Range}; solo se respeta un único rango de bytes, si no se ignora
+   * @param ifNoneMatch cabecera {@code If-None-Match} del cliente
+   * @return vacío si la imagen no existe o no pertenece al vehículo
+   */
+  Optional<S3ObjectContent> openImageContent(
+      Long vehicleId, Long imageId, ImageSizeClass sizeClass, String range, String ifNoneMatch);
 
   default void deleteImage(Long imageId) {}
 }
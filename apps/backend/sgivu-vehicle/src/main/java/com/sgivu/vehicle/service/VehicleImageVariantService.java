@@ -0,0 +1,14 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.event.VehicleImageConfirmedEvent;
+
+/** Generación de derivados (miniaturas y variantes comprimidas) de imágenes confirmadas. */
+public interface VehicleImageVariantService {
+
+  /**
+   * Descarga la imagen original, genera un derivado por cada clase de tamaño, lo sube junto al
+   * original y lo registra en {@code vehicle_image_variants}. Los fallos se registran en el log y
+   * no se propagan: el listado recurre al original cuando falta el derivado.
+   */
+  void generateVariants(VehicleImageConfirmedEvent event);
+}
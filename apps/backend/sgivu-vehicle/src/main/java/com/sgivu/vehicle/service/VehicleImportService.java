@@ -0,0 +1,38 @@
+package com.sgivu.vehicle.service;
+
+import com.sgivu.vehicle.dto.VehicleImportResult;
+import com.sgivu.vehicle.enums.VehicleImportFormat;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Importación masiva de autos y motocicletas desde CSV o NDJSON. El archivo se procesa por bloques
+ * de tamaño fijo, cada uno confirmado en su propia transacción, así que la memoria no depende del
+ * tamaño del archivo.
+ */
+public interface VehicleImportService {
+
+  /**
+   * Abre la importación. En CSV lee y valida el encabezado, de modo que un archivo mal formado se
+   * rechaza antes de empezar a responder.
+   *
+   * @throws InvalidRequestException si el encabezado CSV está vacío o tiene columnas desconocidas o
+   *     repetidas
+   */
+  VehicleImport open(InputStream input, VehicleImportFormat format) throws IOException;
+
+  /** Importación abierta, pendiente de procesar. */
+  @FunctionalInterface
+  interface VehicleImport {
+
+    /**
+     * Procesa el resto del archivo. Entrega los resultados de cada bloque, en orden de línea, en
+     * cuanto el bloque se confirma; los bloques ya confirmados se conservan aunque falle uno
+     * posterior.
+     */
+    void run(Consumer<List<VehicleImportResult>> chunkResults) throws IOException;
+  }
+}
@@ -1,11 +1,13 @@
 package com.sgivu.vehicle.service.impl;
 
+import com.sgivu.vehicle.config.CacheConfig;
 import com.sgivu.vehicle.entity.Vehicle;
 import com.sgivu.vehicle.enums.VehicleStatus;
 import com.sgivu.vehicle.repository.VehicleRepository;
 import com.sgivu.vehicle.service.VehicleService;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,9 @@ public abstract class AbstractVehicleServiceImpl<T extends Vehicle, R extends Ve
   }
 
   @Transactional
+  @CacheEvict(
+      cacheNames = {CacheConfig.VEHICLE_FACETS_CACHE, CacheConfig.VEHICLE_STATS_CACHE},
+      allEntries = true)
   @Override
   public T save(T vehicle) {
     return vehicleRepository.save(vehicle);
@@ -52,6 +57,9 @@ public abstract class AbstractVehicleServiceImpl<T extends Vehicle, R extends Ve
   }
 
   @Transactional
+  @CacheEvict(
+      cacheNames = {CacheConfig.VEHICLE_FACETS_CACHE, CacheConfig.VEHICLE_STATS_CACHE},
+      allEntries = true)
   @Override
   public Optional<T> update(Long id, T vehicle) {
     return vehicleRepository
@@ -79,12 +87,18 @@ public abstract class AbstractVehicleServiceImpl<T extends Vehicle, R extends Ve
   }
 
   @Transactional
+  @CacheEvict(
+      cacheNames = {CacheConfig.VEHICLE_FACETS_CACHE, CacheConfig.VEHICLE_STATS_CACHE},
+      allEntries = true)
   @Override
   public void deleteById(Long id) {
     vehicleRepository.deleteById(id);
   }
 
   @Transactional
+  @CacheEvict(
+      cacheNames = {CacheConfig.VEHICLE_FACETS_CACHE, CacheConfig.VEHICLE_STATS_CACHE},
+      allEntries = true)
   @Override
   public Optional<T> changeStatus(Long id, VehicleStatus status) {
     return vehicleRepository
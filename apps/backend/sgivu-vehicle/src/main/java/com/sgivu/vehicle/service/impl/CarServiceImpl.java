@@ -1,12 +1,19 @@
 package com.sgivu.vehicle.service.impl;
 
+import com.sgivu.vehicle.config.CacheConfig;
+import com.sgivu.vehicle.config.VehicleFacetProperties;
 import com.sgivu.vehicle.dto.CarSearchCriteria;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
 import com.sgivu.vehicle.entity.Car;
 import com.sgivu.vehicle.repository.CarRepository;
+import com.sgivu.vehicle.repository.projection.CarView;
 import com.sgivu.vehicle.service.CarService;
 import com.sgivu.vehicle.specification.CarSpecifications;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,10 +25,12 @@ public class CarServiceImpl extends AbstractVehicleServiceImpl<Car, CarRepositor
     implements CarService {
 
   private final CarRepository carRepository;
+  private final VehicleFacetProperties facetProperties;
 
-  public CarServiceImpl(CarRepository carRepository) {
+  public CarServiceImpl(CarRepository carRepository, VehicleFacetProperties facetProperties) {
     super(carRepository);
     this.carRepository = carRepository;
+    this.facetProperties = facetProperties;
   }
 
   @Override
@@ -54,7 +63,35 @@ public class CarServiceImpl extends AbstractVehicleServiceImpl<Car, CarRepositor
     return carRepository.findAll(CarSpecifications.withFilters(criteria), pageable);
   }
 
+  @Override
+  public Page<CarView> searchViews(CarSearchCriteria criteria, Pageable pageable) {
+    return carRepository.findBy(
+        CarSpecifications.withFilters(criteria), query -> query.as(CarView.class).page(pageable));
+  }
+
+  @Override
+  public List<CarView> findViewsByIds(Collection<Long> ids) {
+    return carRepository.findByIdIn(ids, CarView.class);
+  }
+
+  @Override
+  @Cacheable(
+      value = CacheConfig.VEHICLE_FACETS_CACHE,
+      key = "'cars'",
+      condition = "#criteria == null || !#criteria.hasFilters()")
+  public VehicleFacetsResponse facets(CarSearchCriteria criteria) {
+    List<Double> priceBounds = facetProperties.getPriceBounds().stream().sorted().toList();
+    return VehicleFacets.toResponse(
+        carRepository.countFacets(
+            criteria != null ? criteria : CarSearchCriteria.builder().build(),
+            priceBounds.toArray(Double[]::new)),
+        priceBounds);
+  }
+
   @Transactional
+  @CacheEvict(
+      cacheNames = {CacheConfig.VEHICLE_FACETS_CACHE, CacheConfig.VEHICLE_STATS_CACHE},
+      allEntries = true)
   @Override
   public Optional<Car> update(Long id, Car vehicle) {
     return super.update(id, vehicle)
@@ -0,0 +1,109 @@
+package com.sgivu.vehicle.service.impl;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * Redimensiona y recomprime imágenes con ImageIO (sin dependencias nativas).
+ *
+ * <p>Los derivados se codifican en JPEG: el JDK no incluye codificador WebP. El canal alfa se
+ * aplana sobre fondo blanco.
+ */
+final class ImageVariantRenderer {
+
+  static final String MIME_TYPE = "image/jpeg";
+  static final String EXTENSION = ".jpg";
+
+  record RenderedVariant(byte[] bytes, int width, int height) {}
+
+  private ImageVariantRenderer() {}
+
+  /**
+   * Decodifica la imagen original directamente del stream, sin copiarla antes a un arreglo;
+   * devuelve {@code null} si ImageIO no soporta el formato.
+   */
+  static BufferedImage decode(InputStream source) throws IOException {
+    return ImageIO.read(new BufferedInputStream(source));
+  }
+
+  /**
+   * Escala la imagen al ancho indicado (sin ampliarla) y la codifica en JPEG con la calidad dada.
+   */
+  static RenderedVariant render(BufferedImage source, int maxWidth, float quality)
+      throws IOException {
+    int width = Math.min(maxWidth, source.getWidth());
+    int height = Math.max(1, Math.round(source.getHeight() * (width / (float) source.getWidth())));
+
+    BufferedImage scaled = scale(source, width, height);
+    byte[] bytes = encodeJpeg(scaled, quality);
+    return new RenderedVariant(bytes, width, height);
+  }
+
+  /**
+   * Reduce en pasos de la mitad antes del último escalado bilineal para evitar el aliasing de una
+   * reducción grande en un único paso.
+   */
+  private static BufferedImage scale(BufferedImage source, int width, int height) {
+    BufferedImage current = source;
+    int currentWidth = source.getWidth();
+    int currentHeight = source.getHeight();
+    do {
+      currentWidth = Math.max(width, currentWidth / 2);
+      currentHeight = Math.max(height, currentHeight / 2);
+      if (currentWidth < width * 2) {
+        currentWidth = width;
+        currentHeight = height;
+      }
+      current = draw(current, currentWidth, currentHeight);
+    } while (currentWidth != width || currentHeight != height);
+    return current;
+  }
+
+  private static BufferedImage draw(BufferedImage source, int width, int height) {
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = target.createGraphics();
+    try {
+      graphics.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, width, height);
+      graphics.drawImage(source, 0, 0, width, height, null);
+    } finally {
+      graphics.dispose();
+    }
+    return target;
+  }
+
+  private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+    Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(MIME_TYPE);
+    if (!writers.hasNext()) {
+      throw new IOException("No hay codificador JPEG disponible");
+    }
+    ImageWriter writer = writers.next();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(quality);
+      param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+      writer.setOutput(imageOutput);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return output.toByteArray();
+  }
+}
@@ -1,12 +1,19 @@
 package com.sgivu.vehicle.service.impl;
 
+import com.sgivu.vehicle.config.CacheConfig;
+import com.sgivu.vehicle.config.VehicleFacetProperties;
 import com.sgivu.vehicle.dto.MotorcycleSearchCriteria;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
 import com.sgivu.vehicle.entity.Motorcycle;
 import com.sgivu.vehicle.repository.MotorcycleRepository;
+import com.sgivu.vehicle.repository.projection.MotorcycleView;
 import com.sgivu.vehicle.service.MotorcycleService;
 import com.sgivu.vehicle.specification.MotorcycleSpecifications;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,10 +26,13 @@ public class MotorcycleServiceImpl
     implements MotorcycleService {
 
   private final MotorcycleRepository motorcycleRepository;
+  private final VehicleFacetProperties facetProperties;
 
-  public MotorcycleServiceImpl(MotorcycleRepository motorcycleRepository) {
+  public MotorcycleServiceImpl(
+      MotorcycleRepository motorcycleRepository, VehicleFacetProperties facetProperties) {
     super(motorcycleRepository);
     this.motorcycleRepository = motorcycleRepository;
+    this.facetProperties = facetProperties;
   }
 
   @Override
@@ -45,7 +55,36 @@ public class MotorcycleServiceImpl
     return motorcycleRepository.findAll(MotorcycleSpecifications.withFilters(criteria), pageable);
   }
 
+  @Override
+  public Page<MotorcycleView> searchViews(MotorcycleSearchCriteria criteria, Pageable pageable) {
+    return motorcycleRepository.findBy(
+        MotorcycleSpecifications.withFilters(criteria),
+        query -> query.as(MotorcycleView.class).page(pageable));
+  }
+
+  @Override
+  public List<MotorcycleView> findViewsByIds(Collection<Long> ids) {
+    return motorcycleRepository.findByIdIn(ids, MotorcycleView.class);
+  }
+
+  @Override
+  @Cacheable(
+      value = CacheConfig.VEHICLE_FACETS_CACHE,
+      key = "'motorcycles'",
+      condition = "#criteria == null || !#criteria.hasFilters()")
+  public VehicleFacetsResponse facets(MotorcycleSearchCriteria criteria) {
+    List<Double> priceBounds = facetProperties.getPriceBounds().stream().sorted().toList();
+    return VehicleFacets.toResponse(
+        motorcycleRepository.countFacets(
+            criteria != null ? criteria : MotorcycleSearchCriteria.builder().build(),
+            priceBounds.toArray(Double[]::new)),
+        priceBounds);
+  }
+
   @Transactional
+  @CacheEvict(
+      cacheNames = {CacheConfig.VEHICLE_FACETS_CACHE, CacheConfig.VEHICLE_STATS_CACHE},
+      allEntries = true)
   @Override
   public Optional<Motorcycle> update(Long id, Motorcycle vehicle) {
     return super.update(id, vehicle)
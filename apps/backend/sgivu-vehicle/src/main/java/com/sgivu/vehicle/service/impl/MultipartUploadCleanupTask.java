@@ -0,0 +1,83 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.MultipartUploadProperties;
+import com.sgivu.vehicle.exception.StorageUnavailableException;
+import com.sgivu.vehicle.service.S3Service;
+import java.time.Clock;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+
+/**
+ * Aborta las subidas multiparte de imágenes que siguen sin completarse pasado {@code
+ * aws.s3.multipart.upload-ttl}, para que sus partes dejen de ocupar (y facturar) espacio en el
+ * bucket. Abortar es idempotente, por lo que varias instancias pueden ejecutar la tarea a la vez.
+ */
+@Component
+public class MultipartUploadCleanupTask {
+
+  private static final Logger logger = LoggerFactory.getLogger(MultipartUploadCleanupTask.class);
+
+  static final String UPLOAD_PREFIX = "vehicles/";
+
+  private final S3Service s3Service;
+  private final MultipartUploadProperties multipartProperties;
+  private final String bucket;
+  private final Clock clock;
+
+  @Autowired
+  public MultipartUploadCleanupTask(
+      S3Service s3Service,
+      MultipartUploadProperties multipartProperties,
+      @Value("${aws.s3.vehicles-bucket}") String bucket) {
+    this(s3Service, multipartProperties, bucket, Clock.systemUTC());
+  }
+
+  MultipartUploadCleanupTask(
+      S3Service s3Service,
+      MultipartUploadProperties multipartProperties,
+      String bucket,
+      Clock clock) {
+    this.s3Service = s3Service;
+    this.multipartProperties = multipartProperties;
+    this.bucket = bucket;
+    this.clock = clock;
+  }
+
+  /**
+   * @return número de subidas abortadas
+   */
+  @Scheduled(
+      initialDelayString = "${aws.s3.multipart.cleanup-initial-delay:PT5M}",
+      fixedDelayString = "${aws.s3.multipart.cleanup-interval:PT1H}")
+  public int abortExpiredUploads() {
+    Instant cutoff = clock.instant().minus(multipartProperties.getUploadTtl());
+    int aborted = 0;
+    try {
+      for (MultipartUpload upload : s3Service.listMultipartUploads(bucket, UPLOAD_PREFIX)) {
+        if (upload.initiated() == null || !upload.initiated().isBefore(cutoff)) {
+          continue;
+        }
+        try {
+          s3Service.abortMultipartUpload(bucket, upload.key(), upload.uploadId());
+          aborted++;
+        } catch (NoSuchUploadException e) {
+          // Completada o abortada entre el listado y este punto
+        }
+      }
+    } catch (StorageUnavailableException | SdkException e) {
+      logger.warn("No se pudieron limpiar las subidas multiparte vencidas: {}", e.getMessage());
+    }
+    if (aborted > 0) {
+      logger.info("Subidas multiparte vencidas abortadas en {}: {}", bucket, aborted);
+    }
+    return aborted;
+  }
+}
@@ -0,0 +1,276 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.OrphanObjectGcProperties;
+import com.sgivu.vehicle.exception.StorageUnavailableException;
+import com.sgivu.vehicle.repository.AdvisoryLockRepository;
+import com.sgivu.vehicle.repository.VehicleImageRepository;
+import com.sgivu.vehicle.service.S3Service;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * Elimina del bucket los objetos bajo {@code vehicles/} que no están registrados en {@code
+ * vehicle_images} ni en {@code vehicle_image_variants}: subidas prefirmadas nunca confirmadas,
+ * fallos entre la subida y {@code confirm-upload}, o imágenes de vehículos borrados (el borrado en
+ * cascada elimina las filas pero no los objetos).
+ *
+ * <p>Cada ejecución recorre el bucket con ListObjectsV2 página a página y comprueba cada página
+ * contra la base de datos con una sola consulta. Primero elabora el informe completo de huérfanos
+ * (limitado a {@code max-deletes-per-run}) y solo después, si {@code dry-run} está desactivado, los
+ * elimina en lotes DeleteObjects de 1000 keys. Las llamadas a S3 se espacian según {@code
+ * requests-per-second} y un candado consultivo de PostgreSQL, de sesión, garantiza que solo una
+ * instancia ejecuta el recolector a la vez. Ninguna transacción abarca la ejecución: cada consulta
+ * de referencias corre en su propia transacción de solo lectura.
+ */
+@Component
+public class OrphanObjectCollector {
+
+  private static final Logger logger = LoggerFactory.getLogger(OrphanObjectCollector.class);
+
+  static final int DELETE_BATCH_SIZE = 1000;
+  static final long LOCK_KEY = 0x5347_4956_4F47_4331L;
+  private static final int REPORT_SAMPLE_SIZE = 20;
+
+  /**
+   * Resultado de una ejecución.
+   *
+   * @param recent objetos sin comprobar por ser más recientes que el periodo de gracia
+   * @param truncated {@code true} si se alcanzó {@code max-deletes-per-run}
+   * @param sample primeras keys huérfanas, para revisar el informe en seco
+   */
+  public record Report(
+      boolean dryRun,
+      long scanned,
+      long recent,
+      long referenced,
+      long orphans,
+      long deleted,
+      long failed,
+      boolean truncated,
+      List<String> sample) {}
+
+  private final S3Service s3Service;
+  private final VehicleImageRepository vehicleImageRepository;
+  private final AdvisoryLockRepository advisoryLockRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final OrphanObjectGcProperties properties;
+  private final String bucket;
+  private final Clock clock;
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  private final Counter orphansFound;
+  private final Counter objectsDeleted;
+  private final Counter deleteFailures;
+
+  private long nextRequestAt;
+
+  @Autowired
+  public OrphanObjectCollector(
+      S3Service s3Service,
+      VehicleImageRepository vehicleImageRepository,
+      AdvisoryLockRepository advisoryLockRepository,
+      PlatformTransactionManager transactionManager,
+      OrphanObjectGcProperties properties,
+      MeterRegistry meterRegistry,
+      @Value("${aws.s3.vehicles-bucket}") String bucket) {
+    this(
+        s3Service,
+        vehicleImageRepository,
+        advisoryLockRepository,
+        transactionManager,
+        properties,
+        meterRegistry,
+        bucket,
+        Clock.systemUTC());
+  }
+
+  OrphanObjectCollector(
+      S3Service s3Service,
+      VehicleImageRepository vehicleImageRepository,
+      AdvisoryLockRepository advisoryLockRepository,
+      PlatformTransactionManager transactionManager,
+      OrphanObjectGcProperties properties,
+      MeterRegistry meterRegistry,
+      String bucket,
+      Clock clock) {
+    this.s3Service = s3Service;
+    this.vehicleImageRepository = vehicleImageRepository;
+    this.advisoryLockRepository = advisoryLockRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.properties = properties;
+    this.bucket = bucket;
+    this.clock = clock;
+
+    this.orphansFound =
+        Counter.builder("sgivu.vehicle.orphan_gc.orphans")
+            .description("Objetos huérfanos detectados en el bucket de vehículos")
+            .register(meterRegistry);
+    this.objectsDeleted =
+        Counter.builder("sgivu.vehicle.orphan_gc.deleted")
+            .description("Objetos huérfanos eliminados del bucket de vehículos")
+            .register(meterRegistry);
+    this.deleteFailures =
+        Counter.builder("sgivu.vehicle.orphan_gc.delete_failures")
+            .description("Objetos huérfanos que S3 no pudo eliminar")
+            .register(meterRegistry);
+  }
+
+  @Scheduled(
+      initialDelayString = "${aws.s3.orphan-gc.initial-delay:PT10M}",
+      fixedDelayString = "${aws.s3.orphan-gc.interval:PT6H}")
+  public void collectOrphans() {
+    if (properties.isEnabled()) {
+      run(properties.isDryRun());
+    }
+  }
+
+  /**
+   * Ejecuta el recolector.
+   *
+   * @param dryRun si es {@code true}, solo elabora el informe
+   * @return informe, o vacío si otra ejecución tiene el candado o S3 no está disponible
+   */
+  public Optional<Report> run(boolean dryRun) {
+    if (!running.compareAndSet(false, true)) {
+      return Optional.empty();
+    }
+    try {
+      Optional<Report> report = advisoryLockRepository.runWithLock(LOCK_KEY, () -> collect(dryRun));
+      if (report.isEmpty()) {
+        logger.info("Otra instancia está recolectando huérfanos; se omite esta ejecución");
+      }
+      return report;
+    } catch (StorageUnavailableException | SdkException e) {
+      logger.warn("No se pudo completar la recolección de huérfanos: {}", e.getMessage());
+      return Optional.empty();
+    } finally {
+      running.set(false);
+    }
+  }
+
+  private Report collect(boolean dryRun) {
+    Instant cutoff = clock.instant().minus(properties.getGracePeriod());
+    int maxOrphans = properties.getMaxDeletesPerRun();
+    long scanned = 0;
+    long recent = 0;
+    long referenced = 0;
+    boolean truncated = false;
+    List<String> orphanKeys = new ArrayList<>();
+
+    String continuationToken = null;
+    do {
+      if (!pace()) {
+        break;
+      }
+      ListObjectsV2Response page =
+          s3Service.listObjects(bucket, properties.getPrefix(), continuationToken);
+
+      List<String> candidates = new ArrayList<>(page.contents().size());
+      for (S3Object object : page.contents()) {
+        scanned++;
+        if (object.lastModified() != null && object.lastModified().isBefore(cutoff)) {
+          candidates.add(object.key());
+        } else {
+          recent++;
+        }
+      }
+
+      if (!candidates.isEmpty()) {
+        String[] keys = candidates.toArray(String[]::new);
+        Set<String> registered =
+            new HashSet<>(
+                transactionTemplate.execute(
+                    status -> vehicleImageRepository.findReferencedKeys(keys)));
+        for (String key : candidates) {
+          if (registered.contains(key)) {
+            referenced++;
+          } else if (orphanKeys.size() < maxOrphans) {
+            orphanKeys.add(key);
+          } else {
+            truncated = true;
+          }
+        }
+      }
+
+      continuationToken =
+          Boolean.TRUE.equals(page.isTruncated()) ? page.nextContinuationToken() : null;
+    } while (continuationToken != null && !truncated);
+
+    orphansFound.increment(orphanKeys.size());
+    List<String> sample =
+        List.copyOf(orphanKeys.subList(0, Math.min(REPORT_SAMPLE_SIZE, orphanKeys.size())));
+    logger.info(
+        "Huérfanos en {}/{}: {} de {} objetos revisados ({} recientes, {} registrados){}. Muestra: {}",
+        bucket,
+        properties.getPrefix(),
+        orphanKeys.size(),
+        scanned,
+        recent,
+        referenced,
+        truncated ? ", límite por ejecución alcanzado" : "",
+        sample);
+
+    long deleted = 0;
+    long failed = 0;
+    if (!dryRun) {
+      for (int from = 0; from < orphanKeys.size(); from += DELETE_BATCH_SIZE) {
+        if (!pace()) {
+          break;
+        }
+        List<String> batch =
+            orphanKeys.subList(from, Math.min(from + DELETE_BATCH_SIZE, orphanKeys.size()));
+        int batchFailures = s3Service.deleteObjects(bucket, batch).size();
+        failed += batchFailures;
+        deleted += batch.size() - batchFailures;
+      }
+      objectsDeleted.increment(deleted);
+      deleteFailures.increment(failed);
+      logger.info("Huérfanos eliminados de {}: {} ({} fallidos)", bucket, deleted, failed);
+    }
+
+    return new Report(
+        dryRun, scanned, recent, referenced, orphanKeys.size(), deleted, failed, truncated, sample);
+  }
+
+  /**
+   * Espera lo necesario para no superar {@code requests-per-second}.
+   *
+   * @return {@code false} si el hilo fue interrumpido
+   */
+  private boolean pace() {
+    long interval = (long) (TimeUnit.SECONDS.toNanos(1) / properties.getRequestsPerSecond());
+    long now = System.nanoTime();
+    if (nextRequestAt > now) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(nextRequestAt - now);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+      now = nextRequestAt;
+    }
+    nextRequestAt = now + interval;
+    return true;
+  }
+}
@@ -0,0 +1,223 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caché de URLs prefirmadas de descarga, indexada por bucket y key del objeto.
+ *
+ * <p>Cada entrada se descarta {@code min-remaining} antes de que caduque la firma, de modo que una
+ * URL servida desde la caché siempre conserva al menos ese margen de validez para el cliente. El
+ * nivel local (Caffeine) evita volver a firmar en el mismo pod; opcionalmente, con {@code
+ * aws.s3.presigned-url-cache.redis-enabled=true}, las URLs se comparten entre pods vía Redis. Los
+ * fallos de Redis se ignoran y se firma localmente.
+ *
+ * <p>Métricas: {@code sgivu.vehicle.presigned_url.signings} (firmas realizadas), {@code
+ * sgivu.vehicle.presigned_url.lookups} con tag {@code result} ({@code local_hit}, {@code
+ * shared_hit}, {@code miss}) y {@code sgivu.vehicle.presigned_url.hit_ratio}.
+ */
+@Component
+public class PresignedUrlCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(PresignedUrlCache.class);
+
+  static final String REDIS_KEY_PREFIX = "sgivu:cache:vehicle:presigned-get:";
+
+  private final Cache<String, CachedUrl> localCache;
+  private final StringRedisTemplate redisTemplate;
+  private final Duration minRemaining;
+  private final Clock clock;
+
+  private final Counter signings;
+  private final Counter localHits;
+  private final Counter sharedHits;
+  private final Counter misses;
+
+  @Autowired
+  public PresignedUrlCache(
+      MeterRegistry meterRegistry,
+      ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+      @Value("${aws.s3.presigned-url-cache.max-size:10000}") long maxSize,
+      @Value("${aws.s3.presigned-url-cache.min-remaining:PT5M}") Duration minRemaining,
+      @Value("${aws.s3.presigned-url-cache.redis-enabled:false}") boolean redisEnabled) {
+    this(
+        meterRegistry,
+        redisEnabled ? redisTemplateProvider.getIfAvailable() : null,
+        maxSize,
+        minRemaining,
+        Clock.systemUTC());
+  }
+
+  PresignedUrlCache(
+      MeterRegistry meterRegistry,
+      StringRedisTemplate redisTemplate,
+      long maxSize,
+      Duration minRemaining,
+      Clock clock) {
+    this.redisTemplate = redisTemplate;
+    this.minRemaining = minRemaining;
+    this.clock = clock;
+    this.localCache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfter(new UsableUntilExpiry()).build();
+
+    this.signings =
+        Counter.builder("sgivu.vehicle.presigned_url.signings")
+            .description("URLs prefirmadas de descarga generadas contra S3")
+            .register(meterRegistry);
+    this.localHits = lookupCounter(meterRegistry, "local_hit");
+    this.sharedHits = lookupCounter(meterRegistry, "shared_hit");
+    this.misses = lookupCounter(meterRegistry, "miss");
+    Gauge.builder("sgivu.vehicle.presigned_url.hit_ratio", this, PresignedUrlCache::hitRatio)
+        .description("Proporción de URLs prefirmadas servidas desde la caché")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Devuelve una URL vigente para el objeto o la genera con {@code signer}.
+   *
+   * @param signatureDuration duración con la que {@code signer} firma la URL
+   */
+  public String get(
+      String bucket, String key, Duration signatureDuration, Supplier<String> signer) {
+    String cacheKey = bucket + "/" + key;
+    CachedUrl cached = localCache.getIfPresent(cacheKey);
+    if (cached != null && isUsable(cached)) {
+      localHits.increment();
+      return cached.url();
+    }
+
+    cached = readShared(cacheKey);
+    if (cached != null && isUsable(cached)) {
+      localCache.put(cacheKey, cached);
+      sharedHits.increment();
+      return cached.url();
+    }
+
+    misses.increment();
+    Instant signedAt = clock.instant();
+    String url = signer.get();
+    signings.increment();
+
+    Instant usableUntil = signedAt.plus(signatureDuration).minus(minRemaining);
+    if (usableUntil.isAfter(clock.instant())) {
+      CachedUrl fresh = new CachedUrl(url, usableUntil);
+      localCache.put(cacheKey, fresh);
+      writeShared(cacheKey, fresh);
+    }
+    return url;
+  }
+
+  /** Descarta la URL del objeto en ambos niveles (p. ej. al eliminar la imagen). */
+  public void evict(String bucket, String key) {
+    String cacheKey = bucket + "/" + key;
+    localCache.invalidate(cacheKey);
+    if (redisTemplate != null) {
+      try {
+        redisTemplate.delete(REDIS_KEY_PREFIX + cacheKey);
+      } catch (RuntimeException e) {
+        logger.warn(
+            "No se pudo invalidar la URL prefirmada compartida {}: {}", key, e.getMessage());
+      }
+    }
+  }
+
+  double hitRatio() {
+    double hits = localHits.count() + sharedHits.count();
+    double total = hits + misses.count();
+    return total == 0 ? 0 : hits / total;
+  }
+
+  private boolean isUsable(CachedUrl cached) {
+    return cached.usableUntil().isAfter(clock.instant());
+  }
+
+  private CachedUrl readShared(String cacheKey) {
+    if (redisTemplate == null) {
+      return null;
+    }
+    try {
+      String value = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + cacheKey);
+      return value == null ? null : CachedUrl.decode(value);
+    } catch (RuntimeException e) {
+      logger.debug("Redis no disponible para URLs prefirmadas: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private void writeShared(String cacheKey, CachedUrl cached) {
+    if (redisTemplate == null) {
+      return;
+    }
+    try {
+      Duration ttl = Duration.between(clock.instant(), cached.usableUntil());
+      redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + cacheKey, cached.encode(), ttl);
+    } catch (RuntimeException e) {
+      logger.debug("Redis no disponible para URLs prefirmadas: {}", e.getMessage());
+    }
+  }
+
+  private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("sgivu.vehicle.presigned_url.lookups")
+        .description("Solicitudes de URL prefirmada según el nivel que las resolvió")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  record CachedUrl(String url, Instant usableUntil) {
+
+    String encode() {
+      return usableUntil.toEpochMilli() + " " + url;
+    }
+
+    static CachedUrl decode(String value) {
+      int separator = value.indexOf(' ');
+      if (separator <= 0) {
+        return null;
+      }
+      try {
+        return new CachedUrl(
+            value.substring(separator + 1),
+            Instant.ofEpochMilli(Long.parseLong(value.substring(0, separator))));
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+  }
+
+  /** Expira cada entrada local en el instante a partir del cual ya no debe servirse. */
+  private final class UsableUntilExpiry implements Expiry<String, CachedUrl> {
+
+    @Override
+    public long expireAfterCreate(String key, CachedUrl value, long currentTime) {
+      long nanos = Duration.between(clock.instant(), value.usableUntil()).toNanos();
+      return Math.max(nanos, 0);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, CachedUrl value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, CachedUrl value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
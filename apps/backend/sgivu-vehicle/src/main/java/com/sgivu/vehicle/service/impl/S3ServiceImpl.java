@@ -1,36 +1,75 @@
 package com.sgivu.vehicle.service.impl;
 
+import com.sgivu.vehicle.config.S3DownloadProperties;
 import com.sgivu.vehicle.exception.StorageUnavailableException;
+import com.sgivu.vehicle.service.S3ObjectContent;
 import com.sgivu.vehicle.service.S3Service;
+import jakarta.annotation.PreDestroy;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
 
 @Service
 public class S3ServiceImpl implements S3Service {
 
   private final S3Client s3Client;
   private final S3Presigner s3Presigner;
+  private final int bufferSize;
+  private final long parallelThreshold;
+  private final long partSize;
+
+  /**
+   * Pool acotado para GETs por rangos y HEAD en paralelo; {@code null} si el paralelismo está
+   * desactivado.
+   */
+  private final ExecutorService transferExecutor;
 
   @Value("${spring.destination.folder}")
   private String destinationFolder;
 
-  public S3ServiceImpl(S3Client s3Client, S3Presigner s3Presigner) {
+  public S3ServiceImpl(
+      S3Client s3Client, S3Presigner s3Presigner, S3DownloadProperties downloadProperties) {
     this.s3Client = s3Client;
     this.s3Presigner = s3Presigner;
+    this.bufferSize = (int) downloadProperties.getBufferSize().toBytes();
+    this.parallelThreshold = downloadProperties.getParallelThreshold().toBytes();
+    this.partSize = downloadProperties.getPartSize().toBytes();
+    this.transferExecutor =
+        downloadProperties.getParallelism() > 1
+            ? newTransferPool(downloadProperties.getParallelism())
+            : null;
   }
 
   @Override
@@ -75,15 +114,6 @@ public class S3ServiceImpl implements S3Service {
 
   @Override
   public void downloadFile(String bucket, String key) throws IOException {
-    GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(bucket).key(key).build();
-
-    ResponseBytes<GetObjectResponse> bytes;
-    try {
-      bytes = s3Client.getObjectAsBytes(getObjectRequest);
-    } catch (SdkClientException e) {
-      throw new StorageUnavailableException("S3 service is unavailable", e);
-    }
-
     String filename = key.contains("/") ? key.substring(key.lastIndexOf("/") + 1) : key;
 
     Path filePath = Paths.get(destinationFolder, filename);
@@ -93,11 +123,160 @@ public class S3ServiceImpl implements S3Service {
       throw new IOException("Could not create directory: " + parentDir.getAbsolutePath());
     }
 
-    try (FileOutputStream fos = new FileOutputStream(filePath.toFile())) {
-      fos.write(bytes.asByteArray());
+    downloadToFile(bucket, key, filePath);
+  }
+
+  @Override
+  public long downloadToFile(String bucket, String key, Path target) throws IOException {
+    // Se escribe en un temporal y se mueve al final: un fallo nunca deja un archivo a medias
+    Path temp =
+        Files.createTempFile(
+            target.toAbsolutePath().getParent(), target.getFileName().toString(), ".part");
+    try {
+      long size;
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        size =
+            transferExecutor == null
+                ? getInto(bucket, key, null, null, channel, 0)
+                : download(bucket, key, channel);
+      }
+      Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      return size;
+    } catch (SdkClientException e) {
+      Files.deleteIfExists(temp);
+      throw new StorageUnavailableException("S3 service is unavailable", e);
     } catch (IOException e) {
+      Files.deleteIfExists(temp);
       throw new IOException("Error downloading file from S3", e);
+    } catch (RuntimeException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+  }
+
+  @Override
+  public S3ObjectContent openObject(String bucket, String key, String range, String ifNoneMatch) {
+    GetObjectRequest request =
+        GetObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .range(range)
+            .ifNoneMatch(ifNoneMatch)
+            .build();
+    try {
+      ResponseInputStream<GetObjectResponse> body = s3Client.getObject(request);
+      GetObjectResponse response = body.response();
+      return new S3ObjectContent(
+          response.contentRange() != null
+              ? S3ObjectContent.Status.PARTIAL_CONTENT
+              : S3ObjectContent.Status.OK,
+          response.eTag(),
+          response.contentType(),
+          response.contentLength(),
+          response.contentRange(),
+          body);
+    } catch (S3Exception e) {
+      if (e.statusCode() == 304) {
+        return S3ObjectContent.notModified(ifNoneMatch);
+      }
+      if (e.statusCode() == 416) {
+        return S3ObjectContent.rangeNotSatisfiable();
+      }
+      throw e;
+    } catch (SdkClientException e) {
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  /**
+   * Descarga por rangos. El primer rango revela el tamaño total en {@code Content-Range} sin un
+   * HEAD adicional; si el objeto supera {@code parallel-threshold}, el resto se pide en paralelo
+   * fijando el ETag con {@code If-Match} para que todos los rangos sean de la misma versión.
+   */
+  private long download(String bucket, String key, FileChannel channel) throws IOException {
+    GetObjectResponse first;
+    try {
+      first = getResponseInto(bucket, key, "bytes=0-" + (partSize - 1), null, channel, 0);
+    } catch (S3Exception e) {
+      if (e.statusCode() == 416) {
+        return 0; // objeto vacío
+      }
+      throw e;
+    }
+    long total = totalLength(first);
+    if (total <= partSize) {
+      return total;
+    }
+    if (total < parallelThreshold) {
+      getInto(bucket, key, "bytes=" + partSize + "-", first.eTag(), channel, partSize);
+      return total;
+    }
+
+    List<Future<?>> ranges = new ArrayList<>();
+    for (long start = partSize; start < total; start += partSize) {
+      long position = start;
+      String range = "bytes=" + start + "-" + (Math.min(start + partSize, total) - 1);
+      ranges.add(
+          transferExecutor.submit(
+              () -> getResponseInto(bucket, key, range, first.eTag(), channel, position)));
     }
+    try {
+      for (Future<?> future : ranges) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      ranges.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new IOException("Descarga interrumpida: " + key, e);
+    } catch (ExecutionException e) {
+      ranges.forEach(future -> future.cancel(true));
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IOException("Error descargando un rango de " + key, e.getCause());
+    }
+    return total;
+  }
+
+  private long getInto(
+      String bucket, String key, String range, String ifMatch, FileChannel channel, long position) {
+    Long length = getResponseInto(bucket, key, range, ifMatch, channel, position).contentLength();
+    return length == null ? 0 : length;
+  }
+
+  private GetObjectResponse getResponseInto(
+      String bucket, String key, String range, String ifMatch, FileChannel channel, long position) {
+    GetObjectRequest request =
+        GetObjectRequest.builder().bucket(bucket).key(key).range(range).ifMatch(ifMatch).build();
+    return s3Client.getObject(
+        request,
+        (response, input) -> {
+          copy(input, channel, position);
+          return response;
+        });
+  }
+
+  /** Copia con un búfer de tamaño fijo escribiendo en la posición indicada del archivo. */
+  private void copy(InputStream input, FileChannel channel, long position) throws IOException {
+    byte[] buffer = new byte[bufferSize];
+    long offset = position;
+    int read;
+    while ((read = input.read(buffer)) != -1) {
+      ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+      while (chunk.hasRemaining()) {
+        offset += channel.write(chunk, offset);
+      }
+    }
+  }
+
+  /** {@code bytes 0-1023/4096} → 4096. */
+  static long totalLength(GetObjectResponse response) {
+    String contentRange = response.contentRange();
+    if (contentRange == null) {
+      Long length = response.contentLength();
+      return length == null ? 0 : length;
+    }
+    return Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1).trim());
   }
 
   @Override
@@ -135,4 +314,172 @@ public class S3ServiceImpl implements S3Service {
       throw new StorageUnavailableException("S3 service is unavailable", e);
     }
   }
+
+  @Override
+  public Map<String, HeadObjectResponse> headObjects(String bucket, Collection<String> keys) {
+    Map<String, CompletableFuture<HeadObjectResponse>> pending = new LinkedHashMap<>();
+    for (String key : keys) {
+      pending.put(
+          key,
+          transferExecutor == null
+              ? CompletableFuture.completedFuture(headOrNull(bucket, key))
+              : CompletableFuture.supplyAsync(() -> headOrNull(bucket, key), transferExecutor));
+    }
+
+    Map<String, HeadObjectResponse> found = new LinkedHashMap<>();
+    try {
+      pending.forEach(
+          (key, future) -> {
+            HeadObjectResponse response = future.join();
+            if (response != null) {
+              found.put(key, response);
+            }
+          });
+    } catch (CompletionException e) {
+      pending.values().forEach(future -> future.cancel(true));
+      throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+    }
+    return found;
+  }
+
+  private HeadObjectResponse headOrNull(String bucket, String key) {
+    try {
+      return s3Client.headObject(builder -> builder.bucket(bucket).key(key));
+    } catch (NoSuchKeyException e) {
+      return null;
+    } catch (SdkClientException e) {
+      // Aquí y no en headObjects: sin paralelismo la consulta corre fuera del join
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  @Override
+  public ListObjectsV2Response listObjects(String bucket, String prefix, String continuationToken) {
+    try {
+      return s3Client.listObjectsV2(
+          builder -> builder.bucket(bucket).prefix(prefix).continuationToken(continuationToken));
+    } catch (SdkClientException e) {
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  @Override
+  public List<String> deleteObjects(String bucket, Collection<String> keys) {
+    if (keys.isEmpty()) {
+      return List.of();
+    }
+    List<ObjectIdentifier> objects =
+        keys.stream().map(key -> ObjectIdentifier.builder().key(key).build()).toList();
+    try {
+      DeleteObjectsResponse response =
+          s3Client.deleteObjects(
+              builder ->
+                  builder.bucket(bucket).delete(delete -> delete.objects(objects).quiet(true)));
+      return response.errors().stream().map(S3Error::key).toList();
+    } catch (SdkClientException e) {
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  @Override
+  public String createMultipartUpload(String bucket, String key, String contentType) {
+    try {
+      return s3Client
+          .createMultipartUpload(
+              builder -> builder.bucket(bucket).key(key).contentType(contentType))
+          .uploadId();
+    } catch (SdkClientException e) {
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  @Override
+  public String generatePresignedUploadPartUrl(
+      String bucket, String key, String uploadId, int partNumber, Duration duration) {
+    PresignedUploadPartRequest presignedRequest =
+        s3Presigner.presignUploadPart(
+            builder ->
+                builder
+                    .signatureDuration(duration)
+                    .uploadPartRequest(
+                        up ->
+                            up.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber)));
+
+    return presignedRequest.url().toString();
+  }
+
+  @Override
+  public List<Part> listUploadedParts(String bucket, String key, String uploadId) {
+    try {
+      return s3Client
+          .listPartsPaginator(builder -> builder.bucket(bucket).key(key).uploadId(uploadId))
+          .parts()
+          .stream()
+          .toList();
+    } catch (SdkClientException e) {
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  @Override
+  public void completeMultipartUpload(
+      String bucket, String key, String uploadId, List<CompletedPart> parts) {
+    try {
+      s3Client.completeMultipartUpload(
+          builder ->
+              builder
+                  .bucket(bucket)
+                  .key(key)
+                  .uploadId(uploadId)
+                  .multipartUpload(upload -> upload.parts(parts)));
+    } catch (SdkClientException e) {
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  @Override
+  public void abortMultipartUpload(String bucket, String key, String uploadId) {
+    try {
+      s3Client.abortMultipartUpload(builder -> builder.bucket(bucket).key(key).uploadId(uploadId));
+    } catch (SdkClientException e) {
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  @Override
+  public List<MultipartUpload> listMultipartUploads(String bucket, String prefix) {
+    try {
+      return s3Client
+          .listMultipartUploadsPaginator(builder -> builder.bucket(bucket).prefix(prefix))
+          .uploads()
+          .stream()
+          .toList();
+    } catch (SdkClientException e) {
+      throw new StorageUnavailableException("S3 service is unavailable", e);
+    }
+  }
+
+  @PreDestroy
+  void shutdownTransferPool() {
+    if (transferExecutor != null) {
+      transferExecutor.shutdownNow();
+    }
+  }
+
+  private static ExecutorService newTransferPool(int parallelism) {
+    AtomicInteger sequence = new AtomicInteger();
+    return new ThreadPoolExecutor(
+        parallelism,
+        parallelism,
+        60,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(parallelism * 16),
+        runnable -> {
+          Thread thread = new Thread(runnable, "s3-transfer-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        // Con la cola llena, el hilo llamante ejecuta la tarea: limita la memoria sin rechazar
+        new ThreadPoolExecutor.CallerRunsPolicy());
+  }
 }
@@ -0,0 +1,495 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.SimilarVehicleProperties;
+import com.sgivu.vehicle.config.VehicleChangeFeedProperties;
+import com.sgivu.vehicle.dto.SimilarVehicleQuery;
+import com.sgivu.vehicle.dto.SimilarVehicleResponse;
+import com.sgivu.vehicle.dto.VehicleChange.ChangeType;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.event.VehiclesChangedEvent;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import com.sgivu.vehicle.repository.projection.SimilarityRowView;
+import com.sgivu.vehicle.repository.projection.VehicleChangeView;
+import com.sgivu.vehicle.service.SimilarVehicleService;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Índice en memoria para buscar vehículos similares.
+ *
+ * <p>Los vehículos se agrupan por tipo y marca; dentro de cada partición se guardan sus atributos
+ * numéricos normalizados (año, kilometraje, logaritmo del precio y cilindraje) y cada búsqueda
+ * recorre solo su partición con un heap acotado a {@code limit}. Las particiones son pequeñas (un
+ * concesionario tiene decenas o cientos de vehículos por marca), por lo que el recorrido lineal
+ * responde en microsegundos y no necesita estructuras espaciales.
+ *
+ * <p>El índice se construye al arrancar con un recorrido en streaming de la tabla. Las escrituras
+ * de este pod llegan con {@link VehiclesChangedEvent}: tras cada commit se vuelven a leer los IDs
+ * afectados (los ausentes se eliminan). Las de otros pods llegan con {@link #sync()}, que lee el
+ * feed de cambios desde el último cursor; si la construcción inicial falló, la reintenta. Cada
+ * vehículo guarda su {@code updated_at}, así que una lectura anterior que se aplica tarde no pisa
+ * una más reciente. Los cambios que llegan durante una reconstrucción se aplican también sobre el
+ * índice nuevo antes de publicarlo.
+ */
+@Service
+public class SimilarVehicleServiceImpl implements SimilarVehicleService {
+
+  private static final Logger logger = LoggerFactory.getLogger(SimilarVehicleServiceImpl.class);
+
+  private final VehicleBaseRepository vehicleBaseRepository;
+  private final SimilarVehicleProperties properties;
+  private final VehicleChangeFeedProperties changeFeedProperties;
+  private final TransactionTemplate readOnlyTransaction;
+  private final Clock clock;
+
+  private volatile Index index = new Index();
+
+  /** Cambios recibidos durante una reconstrucción; {@code null} si no hay ninguna en curso. */
+  private Map<Long, Optional<IndexedVehicle>> pendingDuringRebuild;
+
+  /** Serializa reconstrucciones y lecturas del feed. */
+  private final Object syncLock = new Object();
+
+  /** Cursor del feed de cambios; {@code null} mientras el índice no se haya construido. */
+  private LocalDateTime cursorChangedAt;
+
+  private long cursorId;
+
+  @Autowired
+  public SimilarVehicleServiceImpl(
+      VehicleBaseRepository vehicleBaseRepository,
+      SimilarVehicleProperties properties,
+      VehicleChangeFeedProperties changeFeedProperties,
+      PlatformTransactionManager transactionManager) {
+    this(
+        vehicleBaseRepository,
+        properties,
+        changeFeedProperties,
+        transactionManager,
+        Clock.systemDefaultZone());
+  }
+
+  SimilarVehicleServiceImpl(
+      VehicleBaseRepository vehicleBaseRepository,
+      SimilarVehicleProperties properties,
+      VehicleChangeFeedProperties changeFeedProperties,
+      PlatformTransactionManager transactionManager,
+      Clock clock) {
+    this.vehicleBaseRepository = vehicleBaseRepository;
+    this.properties = properties;
+    this.changeFeedProperties = changeFeedProperties;
+    this.clock = clock;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public Optional<List<SimilarVehicleResponse>> findSimilarTo(Long vehicleId, Integer limit) {
+    int size = resolveLimit(limit);
+    Index current = index;
+    IndexedVehicle reference = current.byId.get(vehicleId);
+    if (reference == null) {
+      return Optional.empty();
+    }
+    return Optional.of(current.nearest(reference, size, properties.getLinePenalty()));
+  }
+
+  @Override
+  public List<SimilarVehicleResponse> findSimilar(SimilarVehicleQuery query, Integer limit) {
+    int size = resolveLimit(limit);
+    if (query == null || isBlank(query.vehicleType()) || isBlank(query.brand())) {
+      throw new InvalidRequestException("El tipo de vehículo y la marca son obligatorios.");
+    }
+    IndexedVehicle reference =
+        IndexedVehicle.of(
+            null,
+            query.vehicleType().trim().toUpperCase(Locale.ROOT),
+            query.brand(),
+            query.line(),
+            null,
+            query.year(),
+            query.mileage(),
+            query.salePrice(),
+            query.capacity(),
+            null,
+            null,
+            properties);
+    return index.nearest(reference, size, properties.getLinePenalty());
+  }
+
+  /** Construye el índice completo al arrancar la aplicación. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    synchronized (syncLock) {
+      rebuildIndex();
+    }
+  }
+
+  /**
+   * Aplica los cambios del feed posteriores al cursor, incluidos los de otros pods. Si el índice
+   * aún no se construyó (la primera construcción falló) o el cursor ya es anterior a la retención
+   * de lápidas, lo reconstruye.
+   */
+  @Scheduled(
+      initialDelayString = "${vehicle.similar.sync-interval:PT10S}",
+      fixedDelayString = "${vehicle.similar.sync-interval:PT10S}")
+  public void sync() {
+    synchronized (syncLock) {
+      LocalDateTime now = LocalDateTime.now(clock);
+      if (cursorChangedAt == null
+          || cursorChangedAt.isBefore(now.minus(changeFeedProperties.getTombstoneRetention()))) {
+        rebuildIndex();
+        return;
+      }
+      LocalDateTime until = now.minus(changeFeedProperties.getSafetyLag());
+      int pageSize = changeFeedProperties.getMaxPageSize();
+      try {
+        List<VehicleChangeView> changes;
+        do {
+          changes =
+              readOnlyTransaction.execute(
+                  status ->
+                      vehicleBaseRepository.findChanges(
+                          cursorChangedAt, cursorId, until, pageSize));
+          for (VehicleChangeView change : changes) {
+            if (ChangeType.valueOf(change.getChangeType()) == ChangeType.DELETED) {
+              apply(change.getId(), null);
+            } else {
+              apply(change.getId(), toIndexed(change));
+            }
+            cursorChangedAt = change.getChangedAt();
+            cursorId = change.getId();
+          }
+        } while (changes.size() == pageSize);
+      } catch (RuntimeException e) {
+        logger.warn("No se pudo leer el feed de cambios para similares: {}", e.getMessage());
+      }
+    }
+  }
+
+  private void rebuildIndex() {
+    // Se releen desde el feed los cambios que confirmen tarde mientras se recorre la tabla
+    LocalDateTime cursor = LocalDateTime.now(clock).minus(changeFeedProperties.getSafetyLag());
+    synchronized (this) {
+      pendingDuringRebuild = new HashMap<>();
+    }
+    Index rebuilt = new Index();
+    try {
+      readOnlyTransaction.executeWithoutResult(
+          status -> {
+            try (Stream<SimilarityRowView> rows = vehicleBaseRepository.streamSimilarityRows()) {
+              rows.map(this::toIndexed).filter(Objects::nonNull).forEach(rebuilt::put);
+            }
+          });
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        pendingDuringRebuild = null;
+      }
+      logger.warn(
+          "No se pudo construir el índice de vehículos similares; se reintentará: {}",
+          e.getMessage());
+      return;
+    }
+    synchronized (this) {
+      pendingDuringRebuild.forEach(
+          (id, vehicle) -> vehicle.ifPresentOrElse(rebuilt::put, () -> rebuilt.remove(id)));
+      pendingDuringRebuild = null;
+      index = rebuilt;
+    }
+    cursorChangedAt = cursor;
+    cursorId = 0L;
+    logger.info("Índice de vehículos similares construido: {} vehículos", rebuilt.byId.size());
+  }
+
+  /** Vuelve a leer los vehículos modificados una vez confirmada la transacción que los cambió. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onVehiclesChanged(VehiclesChangedEvent event) {
+    if (event.vehicleIds() == null || event.vehicleIds().isEmpty()) {
+      return;
+    }
+    Long[] ids =
+        event.vehicleIds().stream().filter(Objects::nonNull).distinct().toArray(Long[]::new);
+    List<SimilarityRowView> rows;
+    try {
+      rows =
+          readOnlyTransaction.execute(status -> vehicleBaseRepository.findSimilarityRowsByIds(ids));
+    } catch (RuntimeException e) {
+      logger.warn("No se pudo actualizar el índice de similares: {}", e.getMessage());
+      return;
+    }
+    Map<Long, IndexedVehicle> found = new HashMap<>();
+    for (SimilarityRowView row : rows) {
+      IndexedVehicle vehicle = toIndexed(row);
+      if (vehicle != null) {
+        found.put(vehicle.id(), vehicle);
+      }
+    }
+    for (Long id : ids) {
+      apply(id, found.get(id));
+    }
+  }
+
+  /** Guarda el vehículo leído o, si es {@code null}, lo elimina del índice. */
+  private synchronized void apply(Long id, IndexedVehicle vehicle) {
+    if (vehicle != null) {
+      index.put(vehicle);
+    } else {
+      index.remove(id);
+    }
+    if (pendingDuringRebuild != null) {
+      // Los IDs no se reutilizan: una baja es definitiva y prevalece sobre lecturas anteriores
+      pendingDuringRebuild.merge(
+          id,
+          Optional.ofNullable(vehicle),
+          (previous, current) ->
+              previous.isEmpty() || current.isEmpty()
+                  ? Optional.empty()
+                  : current.get().isOlderThan(previous.get()) ? previous : current);
+    }
+  }
+
+  int size() {
+    return index.byId.size();
+  }
+
+  private IndexedVehicle toIndexed(SimilarityRowView row) {
+    if (row.getVehicleType() == null || row.getBrand() == null) {
+      return null;
+    }
+    return IndexedVehicle.of(
+        row.getId(),
+        row.getVehicleType(),
+        row.getBrand(),
+        row.getLine(),
+        row.getModel(),
+        row.getYear(),
+        row.getMileage(),
+        row.getSalePrice(),
+        row.getCapacity(),
+        row.getStatus() == null ? null : VehicleStatus.valueOf(row.getStatus()),
+        row.getUpdatedAt(),
+        properties);
+  }
+
+  private IndexedVehicle toIndexed(VehicleChangeView change) {
+    if (change.getVehicleType() == null || change.getBrand() == null) {
+      return null;
+    }
+    return IndexedVehicle.of(
+        change.getId(),
+        change.getVehicleType(),
+        change.getBrand(),
+        change.getLine(),
+        change.getModel(),
+        change.getYear(),
+        change.getMileage(),
+        change.getSalePrice(),
+        change.getCapacity(),
+        change.getStatus() == null ? null : VehicleStatus.valueOf(change.getStatus()),
+        change.getChangedAt(),
+        properties);
+  }
+
+  private int resolveLimit(Integer limit) {
+    int size = limit == null ? properties.getDefaultLimit() : limit;
+    if (size < 1 || size > properties.getMaxLimit()) {
+      throw new InvalidRequestException(
+          "El número de resultados debe estar entre 1 y " + properties.getMaxLimit() + ".");
+    }
+    return size;
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  private static String partitionKey(String vehicleType, String brand) {
+    return vehicleType + "|" + brand.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Vehículo indexado con sus atributos normalizados; {@code NaN} en un atributo desconocido, que
+   * no se compara. {@code updatedAt} es el de la fila leída y ordena las versiones de un vehículo.
+   */
+  record IndexedVehicle(
+      Long id,
+      String vehicleType,
+      String brand,
+      String line,
+      String model,
+      Integer year,
+      Integer mileage,
+      Double salePrice,
+      Integer capacity,
+      VehicleStatus status,
+      LocalDateTime updatedAt,
+      String partition,
+      String normalizedLine,
+      double[] features) {
+
+    static IndexedVehicle of(
+        Long id,
+        String vehicleType,
+        String brand,
+        String line,
+        String model,
+        Integer year,
+        Integer mileage,
+        Double salePrice,
+        Integer capacity,
+        VehicleStatus status,
+        LocalDateTime updatedAt,
+        SimilarVehicleProperties properties) {
+      double[] features = {
+        scaled(year, properties.getYearScale()),
+        scaled(mileage, properties.getMileageScale()),
+        salePrice == null || salePrice <= 0
+            ? Double.NaN
+            : Math.log(salePrice) / properties.getPriceScale(),
+        scaled(capacity, properties.getCapacityScale())
+      };
+      return new IndexedVehicle(
+          id,
+          vehicleType,
+          brand,
+          line,
+          model,
+          year,
+          mileage,
+          salePrice,
+          capacity,
+          status,
+          updatedAt,
+          partitionKey(vehicleType, brand),
+          line == null || line.isBlank() ? null : line.trim().toLowerCase(Locale.ROOT),
+          features);
+    }
+
+    boolean isOlderThan(IndexedVehicle other) {
+      return updatedAt != null && other.updatedAt != null && updatedAt.isBefore(other.updatedAt);
+    }
+
+    private static double scaled(Number value, double scale) {
+      return value == null ? Double.NaN : value.doubleValue() / scale;
+    }
+
+    double distanceTo(IndexedVehicle other, double linePenalty) {
+      double sum = 0;
+      for (int i = 0; i < features.length; i++) {
+        double diff = features[i] - other.features[i];
+        if (!Double.isNaN(diff)) {
+          sum += diff * diff;
+        }
+      }
+      double distance = Math.sqrt(sum);
+      if (normalizedLine != null && !normalizedLine.equals(other.normalizedLine)) {
+        distance += linePenalty;
+      }
+      return distance;
+    }
+
+    SimilarVehicleResponse toResponse(double distance) {
+      return new SimilarVehicleResponse(
+          id,
+          vehicleType,
+          brand,
+          line,
+          model,
+          year,
+          mileage,
+          salePrice,
+          capacity,
+          status,
+          distance);
+    }
+  }
+
+  private record Candidate(IndexedVehicle vehicle, double distance) {}
+
+  /** Particiones por tipo y marca más un acceso directo por ID. */
+  private static final class Index {
+    private final Map<Long, IndexedVehicle> byId = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, IndexedVehicle>> partitions = new ConcurrentHashMap<>();
+
+    void put(IndexedVehicle vehicle) {
+      IndexedVehicle current = byId.get(vehicle.id());
+      if (current != null && vehicle.isOlderThan(current)) {
+        return;
+      }
+      IndexedVehicle previous = byId.put(vehicle.id(), vehicle);
+      if (previous != null && !previous.partition().equals(vehicle.partition())) {
+        removeFromPartition(previous);
+      }
+      partitions
+          .computeIfAbsent(vehicle.partition(), key -> new ConcurrentHashMap<>())
+          .put(vehicle.id(), vehicle);
+    }
+
+    void remove(Long id) {
+      IndexedVehicle previous = byId.remove(id);
+      if (previous != null) {
+        removeFromPartition(previous);
+      }
+    }
+
+    private void removeFromPartition(IndexedVehicle vehicle) {
+      partitions.computeIfPresent(
+          vehicle.partition(),
+          (key, members) -> {
+            members.remove(vehicle.id());
+            return members.isEmpty() ? null : members;
+          });
+    }
+
+    List<SimilarVehicleResponse> nearest(IndexedVehicle reference, int limit, double linePenalty) {
+      Map<Long, IndexedVehicle> members = partitions.get(reference.partition());
+      if (members == null) {
+        return List.of();
+      }
+      // Heap de máximos: la raíz es el peor de los mejores encontrados hasta ahora
+      PriorityQueue<Candidate> best =
+          new PriorityQueue<>(
+              limit + 1, Comparator.comparingDouble(Candidate::distance).reversed());
+      for (IndexedVehicle candidate : members.values()) {
+        if (candidate.id().equals(reference.id())) {
+          continue;
+        }
+        double distance = reference.distanceTo(candidate, linePenalty);
+        if (best.size() < limit) {
+          best.add(new Candidate(candidate, distance));
+        } else if (distance < best.peek().distance()) {
+          best.poll();
+          best.add(new Candidate(candidate, distance));
+        }
+      }
+      return best.stream()
+          .sorted(
+              Comparator.comparingDouble(Candidate::distance).thenComparing(c -> c.vehicle().id()))
+          .map(c -> c.vehicle().toResponse(c.distance()))
+          .toList();
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.CacheConfig;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateRequest;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResponse;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResult;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResult.Outcome;
+import com.sgivu.vehicle.dto.VehicleInventoryStatsResponse;
+import com.sgivu.vehicle.dto.VehicleTypeStats;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.event.VehiclesChangedEvent;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import com.sgivu.vehicle.repository.projection.BulkUpdateRowView;
+import com.sgivu.vehicle.repository.projection.InventoryStatsView;
+import com.sgivu.vehicle.repository.projection.VehicleDetailView;
+import com.sgivu.vehicle.service.VehicleCatalogService;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class VehicleCatalogServiceImpl implements VehicleCatalogService {
+
+  static final int MAX_BATCH_SIZE = 500;
+  static final List<String> VEHICLE_TYPES = List.of("CAR", "MOTORCYCLE");
+
+  private final VehicleBaseRepository vehicleBaseRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public VehicleCatalogServiceImpl(
+      VehicleBaseRepository vehicleBaseRepository, ApplicationEventPublisher eventPublisher) {
+    this.vehicleBaseRepository = vehicleBaseRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Override
+  public List<VehicleDetailView> findDetailsByIds(Collection<Long> ids) {
+    Long[] uniqueIds = uniqueIds(ids);
+    if (uniqueIds.length == 0) {
+      return List.of();
+    }
+
+    Map<Long, VehicleDetailView> byId =
+        vehicleBaseRepository.findDetailsByIds(uniqueIds).stream()
+            .collect(Collectors.toMap(VehicleDetailView::getId, Function.identity()));
+    return Arrays.stream(uniqueIds).map(byId::get).filter(Objects::nonNull).toList();
+  }
+
+  @Override
+  @Cacheable(value = CacheConfig.VEHICLE_STATS_CACHE, key = "'inventory'")
+  public VehicleInventoryStatsResponse getInventoryStats() {
+    Map<String, TypeTotals> byType = new LinkedHashMap<>();
+    VEHICLE_TYPES.forEach(type -> byType.put(type, new TypeTotals()));
+    TypeTotals all = new TypeTotals();
+
+    for (InventoryStatsView row : vehicleBaseRepository.aggregateInventory()) {
+      TypeTotals totals = byType.get(row.getVehicleType());
+      if (totals == null || row.getStatus() == null) {
+        continue;
+      }
+      VehicleStatus status = VehicleStatus.valueOf(row.getStatus());
+      totals.add(status, row);
+      all.add(status, row);
+    }
+
+    Map<String, VehicleTypeStats> types = new LinkedHashMap<>();
+    byType.forEach((type, totals) -> types.put(type, totals.toStats()));
+    return new VehicleInventoryStatsResponse(
+        all.total, all.byStatus, all.inventoryValue, all.saleValue, types);
+  }
+
+  @Override
+  @Transactional
+  @CacheEvict(
+      cacheNames = {CacheConfig.VEHICLE_FACETS_CACHE, CacheConfig.VEHICLE_STATS_CACHE},
+      allEntries = true)
+  public VehicleBulkUpdateResponse bulkUpdate(VehicleBulkUpdateRequest request) {
+    Long[] ids = request == null ? new Long[0] : uniqueIds(request.ids());
+    if (ids.length == 0) {
+      throw new InvalidRequestException("Debe indicar al menos un vehículo.");
+    }
+    if (request.status() == null
+        && request.purchasePrice() == null
+        && request.salePrice() == null) {
+      throw new InvalidRequestException("Debe indicar el estado o algún precio a actualizar.");
+    }
+    if (isNegative(request.purchasePrice()) || isNegative(request.salePrice())) {
+      throw new InvalidRequestException("Los precios no pueden ser negativos.");
+    }
+
+    Map<Long, BulkUpdateRowView> rows =
+        vehicleBaseRepository
+            .bulkUpdate(
+                ids,
+                nameOf(request.status()),
+                request.purchasePrice(),
+                request.salePrice(),
+                nameOf(request.expectedStatus()))
+            .stream()
+            .collect(Collectors.toMap(BulkUpdateRowView::getId, Function.identity()));
+
+    List<VehicleBulkUpdateResult> results =
+        Arrays.stream(ids)
+            .map(
+                id -> {
+                  BulkUpdateRowView row = rows.get(id);
+                  if (row == null) {
+                    return new VehicleBulkUpdateResult(id, Outcome.NOT_FOUND, null);
+                  }
+                  return new VehicleBulkUpdateResult(
+                      id,
+                      Boolean.TRUE.equals(row.getUpdated()) ? Outcome.UPDATED : Outcome.SKIPPED,
+                      VehicleStatus.valueOf(row.getPreviousStatus()));
+                })
+            .toList();
+    List<Long> updatedIds =
+        results.stream()
+            .filter(r -> r.outcome() == Outcome.UPDATED)
+            .map(VehicleBulkUpdateResult::id)
+            .toList();
+    if (!updatedIds.isEmpty()) {
+      // El UPDATE nativo no pasa por los listeners de entidad
+      eventPublisher.publishEvent(new VehiclesChangedEvent(updatedIds));
+    }
+    return new VehicleBulkUpdateResponse(updatedIds.size(), results);
+  }
+
+  /** IDs sin nulos ni duplicados, en el orden recibido; rechaza lotes mayores al máximo. */
+  private static Long[] uniqueIds(Collection<Long> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return new Long[0];
+    }
+    Long[] uniqueIds = ids.stream().filter(Objects::nonNull).distinct().toArray(Long[]::new);
+    if (uniqueIds.length > MAX_BATCH_SIZE) {
+      throw new InvalidRequestException(
+          "Se permiten como máximo " + MAX_BATCH_SIZE + " vehículos por consulta.");
+    }
+    return uniqueIds;
+  }
+
+  private static String nameOf(VehicleStatus status) {
+    return status == null ? null : status.name();
+  }
+
+  private static boolean isNegative(Double value) {
+    return value != null && value < 0;
+  }
+
+  /** Acumulador de conteos por estado y del valor de los vehículos no vendidos. */
+  private static final class TypeTotals {
+    private final Map<VehicleStatus, Long> byStatus = new EnumMap<>(VehicleStatus.class);
+    private long total;
+    private double inventoryValue;
+    private double saleValue;
+
+    TypeTotals() {
+      for (VehicleStatus status : VehicleStatus.values()) {
+        byStatus.put(status, 0L);
+      }
+    }
+
+    void add(VehicleStatus status, InventoryStatsView row) {
+      long count = row.getCount() == null ? 0L : row.getCount();
+      byStatus.merge(status, count, Long::sum);
+      total += count;
+      if (status != VehicleStatus.SOLD) {
+        inventoryValue += row.getPurchaseValue() == null ? 0d : row.getPurchaseValue();
+        saleValue += row.getSaleValue() == null ? 0d : row.getSaleValue();
+      }
+    }
+
+    VehicleTypeStats toStats() {
+      return new VehicleTypeStats(total, byStatus, inventoryValue, saleValue);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.VehicleChangeFeedProperties;
+import com.sgivu.vehicle.dto.VehicleChange;
+import com.sgivu.vehicle.dto.VehicleChange.ChangeType;
+import com.sgivu.vehicle.dto.VehicleChangeFeedResponse;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import com.sgivu.vehicle.mapper.VehicleMapper;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import com.sgivu.vehicle.repository.projection.VehicleChangeView;
+import com.sgivu.vehicle.service.VehicleChangeFeedService;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class VehicleChangeFeedServiceImpl implements VehicleChangeFeedService {
+
+  /** Cursor inicial: anterior a cualquier {@code updated_at} y a cualquier ID. */
+  static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+  private final VehicleBaseRepository vehicleBaseRepository;
+  private final VehicleMapper vehicleMapper;
+  private final VehicleChangeFeedProperties properties;
+  private final Clock clock;
+
+  @Autowired
+  public VehicleChangeFeedServiceImpl(
+      VehicleBaseRepository vehicleBaseRepository,
+      VehicleMapper vehicleMapper,
+      VehicleChangeFeedProperties properties) {
+    this(vehicleBaseRepository, vehicleMapper, properties, Clock.systemDefaultZone());
+  }
+
+  VehicleChangeFeedServiceImpl(
+      VehicleBaseRepository vehicleBaseRepository,
+      VehicleMapper vehicleMapper,
+      VehicleChangeFeedProperties properties,
+      Clock clock) {
+    this.vehicleBaseRepository = vehicleBaseRepository;
+    this.vehicleMapper = vehicleMapper;
+    this.properties = properties;
+    this.clock = clock;
+  }
+
+  @Override
+  public VehicleChangeFeedResponse findChanges(
+      LocalDateTime afterChangedAt, Long afterId, Integer limit) {
+    if ((afterChangedAt == null) != (afterId == null)) {
+      throw new InvalidRequestException(
+          "El cursor requiere afterChangedAt y afterId simultáneamente.");
+    }
+    int pageSize = limit == null ? properties.getDefaultPageSize() : limit;
+    if (pageSize < 1 || pageSize > properties.getMaxPageSize()) {
+      throw new InvalidRequestException(
+          "El tamaño de página debe estar entre 1 y " + properties.getMaxPageSize() + ".");
+    }
+    LocalDateTime now = LocalDateTime.now(clock);
+    if (afterChangedAt != null
+        && afterChangedAt.isBefore(now.minus(properties.getTombstoneRetention()))) {
+      throw new InvalidRequestException(
+          "El cursor es anterior a la retención de bajas; sincronice de nuevo sin cursor.");
+    }
+
+    LocalDateTime cursorChangedAt = afterChangedAt == null ? EPOCH : afterChangedAt;
+    long cursorId = afterId == null ? 0L : afterId;
+    LocalDateTime until = now.minus(properties.getSafetyLag());
+    List<VehicleChangeView> rows =
+        vehicleBaseRepository.findChanges(cursorChangedAt, cursorId, until, pageSize + 1);
+
+    boolean hasMore = rows.size() > pageSize;
+    List<VehicleChangeView> page = hasMore ? rows.subList(0, pageSize) : rows;
+    if (page.isEmpty()) {
+      // Todo lo anterior a `until` ya se sirvió: se adelanta el cursor para que un consumidor sin
+      // cambios no lo deje envejecer más allá de la retención de lápidas
+      return until.isAfter(cursorChangedAt)
+          ? new VehicleChangeFeedResponse(List.of(), false, until, Long.MAX_VALUE)
+          : new VehicleChangeFeedResponse(List.of(), false, afterChangedAt, afterId);
+    }
+    VehicleChangeView last = page.getLast();
+    return new VehicleChangeFeedResponse(
+        page.stream().map(this::toChange).toList(), hasMore, last.getChangedAt(), last.getId());
+  }
+
+  private VehicleChange toChange(VehicleChangeView row) {
+    ChangeType changeType = ChangeType.valueOf(row.getChangeType());
+    return new VehicleChange(
+        row.getId(),
+        row.getVehicleType(),
+        changeType,
+        row.getChangedAt(),
+        changeType == ChangeType.DELETED ? null : vehicleMapper.toVehicleResponse(row));
+  }
+}
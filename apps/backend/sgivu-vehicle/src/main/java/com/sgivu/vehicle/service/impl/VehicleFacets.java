@@ -0,0 +1,69 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.dto.VehicleFacetCount;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
+import com.sgivu.vehicle.dto.VehiclePriceRangeCount;
+import com.sgivu.vehicle.repository.projection.FacetCountView;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Convierte las filas de {@code GROUPING SETS} en la respuesta de facetas. */
+final class VehicleFacets {
+
+  static final String TOTAL = "total";
+  static final String YEAR = "year";
+  static final String PRICE_RANGE = "priceRange";
+
+  /** Valores de mayor a menor frecuencia; los años, del más reciente al más antiguo. */
+  private static final Comparator<VehicleFacetCount> BY_COUNT =
+      Comparator.comparingLong(VehicleFacetCount::count)
+          .reversed()
+          .thenComparing(VehicleFacetCount::value);
+
+  private static final Comparator<VehicleFacetCount> BY_YEAR_DESC =
+      Comparator.comparingInt((VehicleFacetCount count) -> Integer.parseInt(count.value()))
+          .reversed();
+
+  private VehicleFacets() {}
+
+  /**
+   * @param priceBounds límites ascendentes usados en {@code width_bucket}: el rango {@code i} cubre
+   *     {@code [priceBounds[i-1], priceBounds[i])} y los extremos quedan abiertos
+   */
+  static VehicleFacetsResponse toResponse(List<FacetCountView> rows, List<Double> priceBounds) {
+    long total = 0;
+    Map<String, List<VehicleFacetCount>> facets = new LinkedHashMap<>();
+    List<VehiclePriceRangeCount> priceRanges = new ArrayList<>();
+
+    for (FacetCountView row : rows) {
+      long count = row.getCount() == null ? 0L : row.getCount();
+      switch (row.getFacet()) {
+        case TOTAL -> total = count;
+        case PRICE_RANGE -> {
+          int bucket = Integer.parseInt(row.getValue());
+          priceRanges.add(
+              new VehiclePriceRangeCount(
+                  bucket == 0 ? null : priceBounds.get(bucket - 1),
+                  bucket >= priceBounds.size() ? null : priceBounds.get(bucket),
+                  count));
+        }
+        default ->
+            facets
+                .computeIfAbsent(row.getFacet(), facet -> new ArrayList<>())
+                .add(new VehicleFacetCount(row.getValue(), count));
+      }
+    }
+
+    facets.forEach((facet, counts) -> counts.sort(YEAR.equals(facet) ? BY_YEAR_DESC : BY_COUNT));
+    priceRanges.sort(
+        Comparator.comparing(
+            VehiclePriceRangeCount::min, Comparator.nullsFirst(Comparator.naturalOrder())));
+    facets.replaceAll((facet, counts) -> List.copyOf(counts));
+    return new VehicleFacetsResponse(
+        total, Collections.unmodifiableMap(facets), List.copyOf(priceRanges));
+  }
+}
@@ -1,38 +1,81 @@
 package com.sgivu.vehicle.service.impl;
 
+import com.sgivu.vehicle.config.MultipartUploadProperties;
 import com.sgivu.vehicle.dto.VehicleImageConfirmUploadRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartCompleteRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartCompleteResponse;
+import com.sgivu.vehicle.dto.VehicleImageMultipartResumeRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartUploadRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartUploadResponse;
+import com.sgivu.vehicle.dto.VehicleImagePartUploadUrl;
 import com.sgivu.vehicle.dto.VehicleImagePresignedUploadRequest;
 import com.sgivu.vehicle.dto.VehicleImagePresignedUploadResponse;
 import com.sgivu.vehicle.dto.VehicleImageResponse;
+import com.sgivu.vehicle.dto.VehicleImageUploadedPart;
 import com.sgivu.vehicle.entity.Vehicle;
 import com.sgivu.vehicle.entity.VehicleImage;
+import com.sgivu.vehicle.entity.VehicleImageVariant;
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import com.sgivu.vehicle.event.VehicleImageConfirmedEvent;
+import com.sgivu.vehicle.exception.InvalidRequestException;
 import com.sgivu.vehicle.exception.StorageUnavailableException;
 import com.sgivu.vehicle.repository.VehicleBaseRepository;
 import com.sgivu.vehicle.repository.VehicleImageRepository;
+import com.sgivu.vehicle.repository.VehicleImageVariantRepository;
+import com.sgivu.vehicle.service.S3ObjectContent;
 import com.sgivu.vehicle.service.S3Service;
 import com.sgivu.vehicle.service.VehicleImageService;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 @Service
 @Transactional
 public class VehicleImageServiceImpl implements VehicleImageService {
 
   private static final Set<String> ALLOWED_TYPES = Set.of("image/jpeg", "image/png", "image/webp");
+  private static final Duration DOWNLOAD_URL_DURATION = Duration.ofMinutes(15);
+  static final int MAX_IMAGE_BATCH_VEHICLES = 500;
+  static final int MAX_MULTIPART_PARTS = 10_000;
+  static final int MAX_UPLOAD_BATCH_SIZE = 50;
+  private static final Pattern SINGLE_BYTE_RANGE = Pattern.compile("bytes=(\\d+-\\d*|-\\d+)");
 
   private final VehicleBaseRepository vehicleBaseRepository;
   private final VehicleImageRepository vehicleImageRepository;
+  private final VehicleImageVariantRepository vehicleImageVariantRepository;
   private final S3Service s3Service;
   private final S3Client s3Client;
+  private final PresignedUrlCache presignedUrlCache;
+  private final ApplicationEventPublisher eventPublisher;
+  private final MultipartUploadProperties multipartProperties;
 
   @Value("${aws.s3.vehicles-bucket}")
   private String bucket;
@@ -40,35 +83,125 @@ public class VehicleImageServiceImpl implements VehicleImageService {
   public VehicleImageServiceImpl(
       VehicleBaseRepository vehicleBaseRepository,
       VehicleImageRepository vehicleImageRepository,
+      VehicleImageVariantRepository vehicleImageVariantRepository,
       S3Service s3Service,
-      S3Client s3Client) {
+      S3Client s3Client,
+      PresignedUrlCache presignedUrlCache,
+      ApplicationEventPublisher eventPublisher,
+      MultipartUploadProperties multipartProperties) {
     this.vehicleBaseRepository = vehicleBaseRepository;
     this.vehicleImageRepository = vehicleImageRepository;
+    this.vehicleImageVariantRepository = vehicleImageVariantRepository;
     this.s3Service = s3Service;
     this.s3Client = s3Client;
+    this.presignedUrlCache = presignedUrlCache;
+    this.eventPublisher = eventPublisher;
+    this.multipartProperties = multipartProperties;
   }
 
   @Override
   public VehicleImagePresignedUploadResponse createPresignedUploadUrl(
       Long vehicleId, VehicleImagePresignedUploadRequest request) {
-    if (request.contentType() == null || request.contentType().isBlank()) {
-      throw new IllegalArgumentException("contentType es requerido para generar la URL.");
+    validateContentType(request.contentType(), IllegalArgumentException::new);
+    return presignUpload(vehicleId, request.contentType());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public VehicleImageMultipartUploadResponse initiateMultipartUpload(
+      Long vehicleId, VehicleImageMultipartUploadRequest request) {
+    validateContentType(request.contentType(), InvalidRequestException::new);
+    long fileSize = requireFileSize(request.fileSize());
+    if (!vehicleBaseRepository.existsById(vehicleId)) {
+      throw new InvalidRequestException("Vehicle no encontrado: " + vehicleId);
     }
 
-    if (!ALLOWED_TYPES.contains(request.contentType())) {
-      throw new IllegalArgumentException("Tipo de imagen no permitido: " + request.contentType());
+    long partSize = negotiatePartSize(fileSize, request.partSize());
+    String key = newImageKey(vehicleId, request.contentType());
+    String uploadId = s3Service.createMultipartUpload(bucket, key, request.contentType());
+
+    return toMultipartResponse(key, uploadId, fileSize, partSize, List.of());
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public VehicleImageMultipartUploadResponse resumeMultipartUpload(
+      Long vehicleId, String uploadId, VehicleImageMultipartResumeRequest request) {
+    String key = requireMultipartKey(vehicleId, uploadId, request.key());
+    long fileSize = requireFileSize(request.fileSize());
+    long partSize = requireAgreedPartSize(fileSize, request.partSize());
+
+    List<VehicleImageUploadedPart> uploaded;
+    try {
+      uploaded =
+          s3Service.listUploadedParts(bucket, key, uploadId).stream()
+              .map(
+                  part -> new VehicleImageUploadedPart(part.partNumber(), part.eTag(), part.size()))
+              .toList();
+    } catch (NoSuchUploadException e) {
+      throw new InvalidRequestException("Subida multiparte no encontrada: " + uploadId);
     }
 
-    String extension = getExtensionFromContentType(request.contentType());
+    return toMultipartResponse(key, uploadId, fileSize, partSize, uploaded);
+  }
 
-    // Construir key con convención estable para integraciones: vehicles/{vehicleId}/{uuid}.ext
-    String key = "vehicles/" + vehicleId + "/" + UUID.randomUUID() + extension;
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public VehicleImageMultipartCompleteResponse completeMultipartUpload(
+      Long vehicleId, String uploadId, VehicleImageMultipartCompleteRequest request) {
+    String key = requireMultipartKey(vehicleId, uploadId, request.key());
+    if (request.parts() == null || request.parts().isEmpty()) {
+      throw new InvalidRequestException("Se requiere al menos una parte para completar la subida.");
+    }
 
-    var url =
-        s3Service.generatePresignedUploadUrl(
-            bucket, key, Duration.ofMinutes(10), request.contentType());
+    List<VehicleImageUploadedPart> sorted =
+        request.parts().stream()
+            .sorted(
+                Comparator.comparing(
+                    VehicleImageUploadedPart::partNumber,
+                    Comparator.nullsFirst(Comparator.naturalOrder())))
+            .toList();
+    List<CompletedPart> parts = new ArrayList<>(sorted.size());
+    int previous = 0;
+    for (VehicleImageUploadedPart part : sorted) {
+      if (part.partNumber() == null
+          || part.partNumber() <= previous
+          || part.partNumber() > MAX_MULTIPART_PARTS
+          || part.eTag() == null
+          || part.eTag().isBlank()) {
+        throw new InvalidRequestException(
+            "Parte inválida o repetida en la subida multiparte: " + part.partNumber());
+      }
+      previous = part.partNumber();
+      parts.add(CompletedPart.builder().partNumber(part.partNumber()).eTag(part.eTag()).build());
+    }
 
-    return new VehicleImagePresignedUploadResponse(bucket, key, url);
+    try {
+      s3Service.completeMultipartUpload(bucket, key, uploadId, parts);
+    } catch (NoSuchUploadException e) {
+      throw new InvalidRequestException("Subida multiparte no encontrada: " + uploadId);
+    } catch (S3Exception e) {
+      // InvalidPart, InvalidPartOrder, EntityTooSmall: el cliente debe reenviar o corregir partes
+      if (e.statusCode() == 400) {
+        throw new InvalidRequestException(
+            "S3 rechazó las partes de la subida multiparte: "
+                + (e.awsErrorDetails() != null ? e.awsErrorDetails().errorCode() : e.getMessage()));
+      }
+      throw e;
+    }
+
+    return new VehicleImageMultipartCompleteResponse(bucket, key);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void abortMultipartUpload(Long vehicleId, String uploadId, String key) {
+    String validKey = requireMultipartKey(vehicleId, uploadId, key);
+    try {
+      s3Service.abortMultipartUpload(bucket, validKey, uploadId);
+    } catch (NoSuchUploadException e) {
+      // Ya abortada, completada o eliminada por la limpieza: el resultado es el mismo
+    }
   }
 
   @Override
@@ -125,24 +258,167 @@ public class VehicleImageServiceImpl implements VehicleImageService {
       vehicle.getImages().forEach(img -> img.setPrimaryImage(false));
     }
 
-    return vehicleImageRepository.save(image);
+    VehicleImage saved = vehicleImageRepository.save(image);
+    publishConfirmed(saved);
+    return saved;
+  }
+
+  @Override
+  public List<VehicleImagePresignedUploadResponse> createPresignedUploadUrls(
+      Long vehicleId, List<VehicleImagePresignedUploadRequest> requests) {
+    requireUploadBatch(requests);
+    return requests.stream()
+        .map(
+            request -> {
+              String contentType = request != null ? request.contentType() : null;
+              validateContentType(contentType, InvalidRequestException::new);
+              return presignUpload(vehicleId, contentType);
+            })
+        .toList();
+  }
+
+  @Override
+  public List<VehicleImage> confirmUploads(
+      Long vehicleId, List<VehicleImageConfirmUploadRequest> requests) {
+    requireUploadBatch(requests);
+    if (!vehicleBaseRepository.existsById(vehicleId)) {
+      throw new InvalidRequestException("Vehicle no encontrado: " + vehicleId);
+    }
+
+    Set<String> keys = new LinkedHashSet<>();
+    Set<String> fileNames = new HashSet<>();
+    int primaryIndex = -1;
+    for (int i = 0; i < requests.size(); i++) {
+      VehicleImageConfirmUploadRequest request = requests.get(i);
+      if (request == null || request.key() == null || request.key().isBlank()) {
+        throw new InvalidRequestException(
+            "La key es requerida para confirmar la subida de la imagen.");
+      }
+      if (!request.key().startsWith("vehicles/" + vehicleId + "/")) {
+        throw new InvalidRequestException("Key inválida para este vehículo: " + request.key());
+      }
+      if (request.fileName() == null || request.fileName().isBlank()) {
+        throw new InvalidRequestException("El nombre de archivo es requerido: " + request.key());
+      }
+      if (!keys.add(request.key())) {
+        throw new InvalidRequestException("Key o nombre de archivo repetido en el lote.");
+      }
+      if (!fileNames.add(request.fileName())) {
+        // Como en confirmUpload: se limpia la subida que no se va a registrar
+        s3Service.deleteObject(bucket, request.key());
+        throw new InvalidRequestException("Key o nombre de archivo repetido en el lote.");
+      }
+      if (Boolean.TRUE.equals(request.primary())) {
+        if (primaryIndex >= 0) {
+          throw new InvalidRequestException(
+              "Solo una imagen del lote puede marcarse como principal.");
+        }
+        primaryIndex = i;
+      }
+    }
+
+    Map<String, HeadObjectResponse> uploaded = s3Service.headObjects(bucket, keys);
+    List<String> missing = keys.stream().filter(key -> !uploaded.containsKey(key)).toList();
+    if (!missing.isEmpty()) {
+      throw new InvalidRequestException("Keys no encontradas para este vehículo: " + missing);
+    }
+
+    List<VehicleImage> duplicates =
+        vehicleImageRepository.findByKeyInOrVehicleIdAndFileNameIn(keys, vehicleId, fileNames);
+    if (!duplicates.isEmpty()) {
+      deleteRejectedUploads(requests, duplicates);
+      throw new InvalidRequestException(
+          "Ya existen imágenes registradas con estas keys o nombres de archivo: "
+              + duplicates.stream().map(VehicleImage::getKey).toList());
+    }
+
+    // La imagen principal se resuelve una vez para todo el lote, sin cargar vehicle.getImages()
+    if (primaryIndex >= 0) {
+      vehicleImageRepository.clearPrimaryByVehicleId(vehicleId);
+    } else if (!vehicleImageRepository.existsByVehicleId(vehicleId)) {
+      primaryIndex = 0;
+    }
+
+    Vehicle vehicle = vehicleBaseRepository.getReferenceById(vehicleId);
+    List<VehicleImage> images = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      VehicleImageConfirmUploadRequest request = requests.get(i);
+      HeadObjectResponse head = uploaded.get(request.key());
+      VehicleImage image = new VehicleImage();
+      image.setVehicle(vehicle);
+      image.setBucket(bucket);
+      image.setKey(request.key());
+      image.setFileName(request.fileName());
+      image.setMimeType(request.contentType() != null ? request.contentType() : head.contentType());
+      image.setSize(request.size() != null ? request.size() : head.contentLength());
+      image.setPrimaryImage(i == primaryIndex);
+      images.add(image);
+    }
+
+    List<VehicleImage> saved = vehicleImageRepository.saveAll(images);
+    saved.forEach(this::publishConfirmed);
+    return saved;
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<VehicleImageResponse> getImagesByVehicle(Long vehicleId) {
+  public List<VehicleImageResponse> getImagesByVehicle(Long vehicleId, ImageSizeClass sizeClass) {
     List<VehicleImage> images =
         vehicleImageRepository.findByVehicleIdOrderByPrimaryImageDescCreatedAtAsc(vehicleId);
 
-    return images.stream()
-        .map(
-            img -> {
-              String downloadUrl =
-                  s3Service.generatePresignedDownloadUrl(
-                      img.getBucket(), img.getKey(), Duration.ofMinutes(15));
-              return new VehicleImageResponse(img.getId(), downloadUrl, img.isPrimaryImage());
-            })
-        .toList();
+    Map<Long, VehicleImageVariant> variants = findVariants(images, sizeClass);
+    return images.stream().map(img -> toResponse(img, variants.get(img.getId()))).toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, List<VehicleImageResponse>> getImagesByVehicles(
+      Collection<Long> vehicleIds, boolean primaryOnly, ImageSizeClass sizeClass) {
+    if (vehicleIds == null || vehicleIds.isEmpty()) {
+      return Map.of();
+    }
+    Long[] uniqueIds = vehicleIds.stream().filter(Objects::nonNull).distinct().toArray(Long[]::new);
+    if (uniqueIds.length > MAX_IMAGE_BATCH_VEHICLES) {
+      throw new InvalidRequestException(
+          "Se permiten como máximo " + MAX_IMAGE_BATCH_VEHICLES + " vehículos por consulta.");
+    }
+
+    Map<Long, List<VehicleImageResponse>> result = new LinkedHashMap<>();
+    for (Long vehicleId : uniqueIds) {
+      result.put(vehicleId, new ArrayList<>());
+    }
+    if (uniqueIds.length == 0) {
+      return result;
+    }
+
+    List<VehicleImage> images =
+        primaryOnly
+            ? vehicleImageRepository.findPrimaryByVehicleIds(uniqueIds)
+            : vehicleImageRepository.findByVehicleIds(uniqueIds);
+    Map<Long, VehicleImageVariant> variants = findVariants(images, sizeClass);
+    // Solo se prefirma lo que devolvió la consulta (p. ej. una imagen por vehículo con primaryOnly)
+    for (VehicleImage image : images) {
+      result.get(image.getVehicle().getId()).add(toResponse(image, variants.get(image.getId())));
+    }
+    return result;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<S3ObjectContent> openImageContent(
+      Long vehicleId, Long imageId, ImageSizeClass sizeClass, String range, String ifNoneMatch) {
+    Optional<VehicleImage> found = vehicleImageRepository.findByIdAndVehicleId(imageId, vehicleId);
+    if (found.isEmpty()) {
+      return Optional.empty();
+    }
+    VehicleImage image = found.get();
+    VehicleImageVariant variant = findVariants(List.of(image), sizeClass).get(image.getId());
+    String objectBucket = variant != null ? variant.getBucket() : image.getBucket();
+    String objectKey = variant != null ? variant.getKey() : image.getKey();
+
+    // Rangos múltiples o mal formados se ignoran y se sirve el objeto completo (RFC 9110)
+    String singleRange = range != null && SINGLE_BYTE_RANGE.matcher(range).matches() ? range : null;
+    return Optional.of(s3Service.openObject(objectBucket, objectKey, singleRange, ifNoneMatch));
   }
 
   @Override
@@ -156,6 +432,12 @@ public class VehicleImageServiceImpl implements VehicleImageService {
     Long vehicleId = image.getVehicle().getId();
 
     s3Service.deleteObject(image.getBucket(), image.getKey());
+    presignedUrlCache.evict(image.getBucket(), image.getKey());
+    // Las filas de derivados se eliminan en cascada con la imagen; los objetos se borran aquí
+    for (VehicleImageVariant variant : vehicleImageVariantRepository.findByImageId(imageId)) {
+      s3Service.deleteObject(variant.getBucket(), variant.getKey());
+      presignedUrlCache.evict(variant.getBucket(), variant.getKey());
+    }
     vehicleImageRepository.delete(image);
 
     if (wasPrimary) {
@@ -173,6 +455,178 @@ public class VehicleImageServiceImpl implements VehicleImageService {
     }
   }
 
+  /** Derivados de la clase pedida, en una sola consulta e indexados por imagen. */
+  private Map<Long, VehicleImageVariant> findVariants(
+      List<VehicleImage> images, ImageSizeClass sizeClass) {
+    if (sizeClass == null || sizeClass == ImageSizeClass.ORIGINAL || images.isEmpty()) {
+      return Map.of();
+    }
+    List<Long> imageIds = images.stream().map(VehicleImage::getId).toList();
+    return vehicleImageVariantRepository.findByImageIdInAndSizeClass(imageIds, sizeClass).stream()
+        .collect(Collectors.toMap(v -> v.getImage().getId(), Function.identity()));
+  }
+
+  /** Prefirma el derivado si existe; si aún no se ha generado, el original. */
+  private VehicleImageResponse toResponse(VehicleImage img, VehicleImageVariant variant) {
+    String objectBucket = variant != null ? variant.getBucket() : img.getBucket();
+    String objectKey = variant != null ? variant.getKey() : img.getKey();
+    String downloadUrl =
+        presignedUrlCache.get(
+            objectBucket,
+            objectKey,
+            DOWNLOAD_URL_DURATION,
+            () ->
+                s3Service.generatePresignedDownloadUrl(
+                    objectBucket, objectKey, DOWNLOAD_URL_DURATION));
+    return new VehicleImageResponse(img.getId(), downloadUrl, img.isPrimaryImage());
+  }
+
+  /**
+   * Elimina los objetos subidos del lote que chocan con imágenes ya registradas, como hace {@link
+   * #confirmUpload}. No toca las keys registradas, que pertenecen a esas imágenes.
+   */
+  private void deleteRejectedUploads(
+      List<VehicleImageConfirmUploadRequest> requests, List<VehicleImage> duplicates) {
+    Set<String> registeredKeys =
+        duplicates.stream().map(VehicleImage::getKey).collect(Collectors.toSet());
+    Set<String> registeredFileNames =
+        duplicates.stream().map(VehicleImage::getFileName).collect(Collectors.toSet());
+    List<String> rejected =
+        requests.stream()
+            .filter(request -> !registeredKeys.contains(request.key()))
+            .filter(request -> registeredFileNames.contains(request.fileName()))
+            .map(VehicleImageConfirmUploadRequest::key)
+            .toList();
+    if (!rejected.isEmpty()) {
+      s3Service.deleteObjects(bucket, rejected);
+    }
+  }
+
+  /** Los derivados se generan en segundo plano tras el commit. */
+  private void publishConfirmed(VehicleImage image) {
+    eventPublisher.publishEvent(
+        new VehicleImageConfirmedEvent(
+            image.getId(),
+            image.getBucket(),
+            image.getKey(),
+            image.getMimeType(),
+            image.getSize()));
+  }
+
+  private void requireUploadBatch(List<?> requests) {
+    if (requests == null || requests.isEmpty()) {
+      throw new InvalidRequestException("Se requiere al menos una imagen.");
+    }
+    if (requests.size() > MAX_UPLOAD_BATCH_SIZE) {
+      throw new InvalidRequestException(
+          "Se permiten como máximo " + MAX_UPLOAD_BATCH_SIZE + " imágenes por lote.");
+    }
+  }
+
+  /**
+   * Las subidas individuales conservan {@link IllegalArgumentException} (500) como antes; los lotes
+   * y las subidas multipart responden 400 con {@link InvalidRequestException}.
+   */
+  private void validateContentType(
+      String contentType, Function<String, ? extends IllegalArgumentException> invalid) {
+    if (contentType == null || contentType.isBlank()) {
+      throw invalid.apply("contentType es requerido para generar la URL.");
+    }
+
+    if (!ALLOWED_TYPES.contains(contentType)) {
+      throw invalid.apply("Tipo de imagen no permitido: " + contentType);
+    }
+  }
+
+  private VehicleImagePresignedUploadResponse presignUpload(Long vehicleId, String contentType) {
+    String key = newImageKey(vehicleId, contentType);
+    var url =
+        s3Service.generatePresignedUploadUrl(bucket, key, Duration.ofMinutes(10), contentType);
+    return new VehicleImagePresignedUploadResponse(bucket, key, url);
+  }
+
+  /** Key con convención estable para integraciones: vehicles/{vehicleId}/{uuid}.ext */
+  private String newImageKey(Long vehicleId, String contentType) {
+    return "vehicles/"
+        + vehicleId
+        + "/"
+        + UUID.randomUUID()
+        + getExtensionFromContentType(contentType);
+  }
+
+  private String requireMultipartKey(Long vehicleId, String uploadId, String key) {
+    if (uploadId == null || uploadId.isBlank()) {
+      throw new InvalidRequestException("uploadId es requerido.");
+    }
+    if (key == null || !key.startsWith("vehicles/" + vehicleId + "/")) {
+      throw new InvalidRequestException("Key inválida para este vehículo: " + key);
+    }
+    return key;
+  }
+
+  private long requireFileSize(Long fileSize) {
+    long maxFileSize = multipartProperties.getMaxFileSize().toBytes();
+    if (fileSize == null || fileSize <= 0 || fileSize > maxFileSize) {
+      throw new InvalidRequestException("fileSize debe estar entre 1 y " + maxFileSize + " bytes.");
+    }
+    return fileSize;
+  }
+
+  /**
+   * Ajusta el tamaño propuesto a [{@code min-part-size}, {@code max-part-size}] y, si aun así se
+   * superarían las 10 000 partes de S3, lo amplía lo justo para no pasar de ese límite.
+   */
+  long negotiatePartSize(long fileSize, Long requestedPartSize) {
+    long partSize =
+        requestedPartSize == null
+            ? multipartProperties.getDefaultPartSize().toBytes()
+            : Math.clamp(
+                requestedPartSize,
+                multipartProperties.getMinPartSize().toBytes(),
+                multipartProperties.getMaxPartSize().toBytes());
+    return Math.max(partSize, Math.ceilDiv(fileSize, MAX_MULTIPART_PARTS));
+  }
+
+  /** Al reanudar, el tamaño de parte debe ser uno que la negociación inicial pudo devolver. */
+  private long requireAgreedPartSize(long fileSize, Long partSize) {
+    if (partSize == null
+        || partSize < multipartProperties.getMinPartSize().toBytes()
+        || Math.ceilDiv(fileSize, partSize) > MAX_MULTIPART_PARTS) {
+      throw new InvalidRequestException("partSize no corresponde a una subida válida.");
+    }
+    return partSize;
+  }
+
+  /** Prefirma solo las partes que S3 aún no ha recibido. */
+  private VehicleImageMultipartUploadResponse toMultipartResponse(
+      String key,
+      String uploadId,
+      long fileSize,
+      long partSize,
+      List<VehicleImageUploadedPart> uploadedParts) {
+    int partCount = (int) Math.ceilDiv(fileSize, partSize);
+    Set<Integer> received =
+        uploadedParts.stream()
+            .map(VehicleImageUploadedPart::partNumber)
+            .collect(Collectors.toSet());
+    Duration urlDuration = multipartProperties.getUrlDuration();
+    Instant urlsExpireAt = Instant.now().plus(urlDuration);
+
+    List<VehicleImagePartUploadUrl> partUploadUrls =
+        IntStream.rangeClosed(1, partCount)
+            .filter(partNumber -> !received.contains(partNumber))
+            .mapToObj(
+                partNumber ->
+                    new VehicleImagePartUploadUrl(
+                        partNumber,
+                        s3Service.generatePresignedUploadPartUrl(
+                            bucket, key, uploadId, partNumber, urlDuration)))
+            .toList();
+
+    return new VehicleImageMultipartUploadResponse(
+        bucket, key, uploadId, partSize, partCount, urlsExpireAt, uploadedParts, partUploadUrls);
+  }
+
   private String getExtensionFromContentType(String contentType) {
     return switch (contentType) {
       case "image/jpeg" -> ".jpg";
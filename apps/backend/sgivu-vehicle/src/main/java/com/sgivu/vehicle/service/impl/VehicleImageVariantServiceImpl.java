@@ -0,0 +1,202 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.entity.VehicleImageVariant;
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import com.sgivu.vehicle.event.VehicleImageConfirmedEvent;
+import com.sgivu.vehicle.repository.VehicleImageRepository;
+import com.sgivu.vehicle.repository.VehicleImageVariantRepository;
+import com.sgivu.vehicle.service.VehicleImageVariantService;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * Pipeline de derivados en segundo plano.
+ *
+ * <p>Se dispara tras el commit de {@code confirmUpload} y se ejecuta sobre un pool acotado (hilos y
+ * cola fijos) para que la decodificación de imágenes grandes no compita sin límite por CPU y
+ * memoria con las peticiones. Si la cola está llena el trabajo se descarta: el derivado es una
+ * optimización y el listado sirve el original mientras tanto.
+ */
+@Service
+public class VehicleImageVariantServiceImpl implements VehicleImageVariantService {
+
+  private static final Logger logger =
+      LoggerFactory.getLogger(VehicleImageVariantServiceImpl.class);
+
+  static final List<ImageSizeClass> GENERATED_SIZES =
+      List.of(ImageSizeClass.THUMBNAIL, ImageSizeClass.MEDIUM);
+
+  private final S3Client s3Client;
+  private final VehicleImageRepository vehicleImageRepository;
+  private final VehicleImageVariantRepository vehicleImageVariantRepository;
+  private final ExecutorService executor;
+  private final long maxSourceBytes;
+  private final float quality;
+
+  @Autowired
+  public VehicleImageVariantServiceImpl(
+      S3Client s3Client,
+      VehicleImageRepository vehicleImageRepository,
+      VehicleImageVariantRepository vehicleImageVariantRepository,
+      @Value("${aws.s3.image-variants.workers:2}") int workers,
+      @Value("${aws.s3.image-variants.queue-capacity:100}") int queueCapacity,
+      @Value("${aws.s3.image-variants.max-source-bytes:26214400}") long maxSourceBytes,
+      @Value("${aws.s3.image-variants.quality:0.8}") float quality) {
+    this(
+        s3Client,
+        vehicleImageRepository,
+        vehicleImageVariantRepository,
+        newWorkerPool(workers, queueCapacity),
+        maxSourceBytes,
+        quality);
+  }
+
+  VehicleImageVariantServiceImpl(
+      S3Client s3Client,
+      VehicleImageRepository vehicleImageRepository,
+      VehicleImageVariantRepository vehicleImageVariantRepository,
+      ExecutorService executor,
+      long maxSourceBytes,
+      float quality) {
+    this.s3Client = s3Client;
+    this.vehicleImageRepository = vehicleImageRepository;
+    this.vehicleImageVariantRepository = vehicleImageVariantRepository;
+    this.executor = executor;
+    this.maxSourceBytes = maxSourceBytes;
+    this.quality = quality;
+  }
+
+  @TransactionalEventListener
+  public void onImageConfirmed(VehicleImageConfirmedEvent event) {
+    try {
+      executor.execute(() -> generateVariants(event));
+    } catch (RejectedExecutionException e) {
+      logger.warn("Cola de derivados llena; se omite la imagen {}", event.imageId());
+    }
+  }
+
+  @Override
+  public void generateVariants(VehicleImageConfirmedEvent event) {
+    if (event.size() != null && event.size() > maxSourceBytes) {
+      logger.info("Imagen {} supera el tamaño máximo para derivados", event.imageId());
+      return;
+    }
+
+    List<String> uploadedKeys = new ArrayList<>();
+    try {
+      BufferedImage source;
+      try (ResponseInputStream<GetObjectResponse> original =
+          s3Client.getObject(builder -> builder.bucket(event.bucket()).key(event.key()))) {
+        source = ImageVariantRenderer.decode(original);
+      }
+      if (source == null) {
+        logger.info("Formato no soportado para derivados: {}", event.key());
+        return;
+      }
+
+      List<VehicleImageVariant> variants = new ArrayList<>(GENERATED_SIZES.size());
+      for (ImageSizeClass sizeClass : GENERATED_SIZES) {
+        ImageVariantRenderer.RenderedVariant rendered =
+            ImageVariantRenderer.render(source, sizeClass.getWidth(), quality);
+        String variantKey = variantKey(event.key(), sizeClass);
+        s3Client.putObject(
+            builder ->
+                builder
+                    .bucket(event.bucket())
+                    .key(variantKey)
+                    .contentType(ImageVariantRenderer.MIME_TYPE),
+            RequestBody.fromBytes(rendered.bytes()));
+        uploadedKeys.add(variantKey);
+        variants.add(toVariant(event, sizeClass, variantKey, rendered));
+      }
+
+      if (!vehicleImageRepository.existsById(event.imageId())) {
+        // La imagen se eliminó mientras se procesaba
+        deleteQuietly(event.bucket(), uploadedKeys);
+        return;
+      }
+      vehicleImageVariantRepository.saveAll(variants);
+    } catch (IOException | SdkException | DataIntegrityViolationException e) {
+      logger.warn("No se pudieron generar derivados de {}: {}", event.key(), e.getMessage());
+      deleteQuietly(event.bucket(), uploadedKeys);
+    }
+  }
+
+  /** {@code vehicles/5/abc.png} → {@code vehicles/5/abc-thumbnail.jpg}. */
+  static String variantKey(String originalKey, ImageSizeClass sizeClass) {
+    int slash = originalKey.lastIndexOf('/');
+    int dot = originalKey.lastIndexOf('.');
+    String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+    return base + "-" + sizeClass.name().toLowerCase(Locale.ROOT) + ImageVariantRenderer.EXTENSION;
+  }
+
+  private VehicleImageVariant toVariant(
+      VehicleImageConfirmedEvent event,
+      ImageSizeClass sizeClass,
+      String variantKey,
+      ImageVariantRenderer.RenderedVariant rendered) {
+    VehicleImageVariant variant = new VehicleImageVariant();
+    variant.setImage(vehicleImageRepository.getReferenceById(event.imageId()));
+    variant.setSizeClass(sizeClass);
+    variant.setBucket(event.bucket());
+    variant.setKey(variantKey);
+    variant.setMimeType(ImageVariantRenderer.MIME_TYPE);
+    variant.setWidth(rendered.width());
+    variant.setHeight(rendered.height());
+    variant.setSize((long) rendered.bytes().length);
+    return variant;
+  }
+
+  private void deleteQuietly(String bucket, List<String> keys) {
+    for (String key : keys) {
+      try {
+        s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+      } catch (SdkException e) {
+        logger.warn("No se pudo eliminar el derivado huérfano {}: {}", key, e.getMessage());
+      }
+    }
+  }
+
+  @PreDestroy
+  void shutdownWorkers() {
+    executor.shutdown();
+  }
+
+  private static ExecutorService newWorkerPool(int workers, int queueCapacity) {
+    AtomicInteger sequence = new AtomicInteger();
+    return new ThreadPoolExecutor(
+        workers,
+        workers,
+        60,
+        TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(queueCapacity),
+        runnable -> {
+          Thread thread = new Thread(runnable, "image-variants-" + sequence.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+  }
+}
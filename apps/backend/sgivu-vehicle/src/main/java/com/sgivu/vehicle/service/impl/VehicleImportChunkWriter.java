@@ -0,0 +1,163 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.CacheConfig;
+import com.sgivu.vehicle.dto.VehicleImportResult;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.event.VehiclesChangedEvent;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import com.sgivu.vehicle.repository.VehicleBulkInsertRepository;
+import com.sgivu.vehicle.repository.projection.VehicleIdentifierView;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Escribe un bloque de filas ya validadas de una importación en su propia transacción.
+ *
+ * <p>Rechaza las filas cuyos identificadores únicos (placa, número de motor, de serie o de chasis)
+ * se repiten dentro del bloque o ya existen en la base, consultada una sola vez para todo el
+ * bloque; los bloques anteriores ya están confirmados, así que la misma consulta detecta los
+ * duplicados entre bloques del archivo. Las demás se insertan con batches JDBC.
+ */
+@Component
+public class VehicleImportChunkWriter {
+
+  /** Fila candidata: línea del archivo y vehículo construido a partir de ella. */
+  public record Candidate(long line, Vehicle vehicle) {}
+
+  private record Identifier(
+      String label,
+      Function<Vehicle, String> getter,
+      Function<VehicleIdentifierView, String> registered) {}
+
+  private static final List<Identifier> IDENTIFIERS =
+      List.of(
+          new Identifier("Placa", Vehicle::getPlate, VehicleIdentifierView::getPlate),
+          new Identifier(
+              "Número de motor", Vehicle::getMotorNumber, VehicleIdentifierView::getMotorNumber),
+          new Identifier(
+              "Número de serie", Vehicle::getSerialNumber, VehicleIdentifierView::getSerialNumber),
+          new Identifier(
+              "Número de chasis",
+              Vehicle::getChassisNumber,
+              VehicleIdentifierView::getChassisNumber));
+
+  private final VehicleBaseRepository vehicleBaseRepository;
+  private final VehicleBulkInsertRepository vehicleBulkInsertRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public VehicleImportChunkWriter(
+      VehicleBaseRepository vehicleBaseRepository,
+      VehicleBulkInsertRepository vehicleBulkInsertRepository,
+      ApplicationEventPublisher eventPublisher) {
+    this.vehicleBaseRepository = vehicleBaseRepository;
+    this.vehicleBulkInsertRepository = vehicleBulkInsertRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /**
+   * Inserta las candidatas que no colisionan y devuelve un resultado por candidata, en el mismo
+   * orden.
+   */
+  @Transactional
+  @CacheEvict(
+      cacheNames = {CacheConfig.VEHICLE_FACETS_CACHE, CacheConfig.VEHICLE_STATS_CACHE},
+      allEntries = true)
+  public List<VehicleImportResult> write(List<Candidate> candidates) {
+    List<List<String>> errors = new ArrayList<>(candidates.size());
+    candidates.forEach(candidate -> errors.add(new ArrayList<>()));
+
+    for (Identifier identifier : IDENTIFIERS) {
+      Map<String, Long> firstLine = new HashMap<>();
+      for (int i = 0; i < candidates.size(); i++) {
+        Candidate candidate = candidates.get(i);
+        String value = identifier.getter().apply(candidate.vehicle());
+        Long previous = firstLine.putIfAbsent(value, candidate.line());
+        if (previous != null) {
+          errors
+              .get(i)
+              .add(
+                  identifier.label()
+                      + " "
+                      + value
+                      + ": ya aparece en la línea "
+                      + previous
+                      + " del archivo");
+        }
+      }
+    }
+
+    List<Set<String>> existing = findExisting(candidates);
+    for (int i = 0; i < candidates.size(); i++) {
+      Vehicle vehicle = candidates.get(i).vehicle();
+      for (int k = 0; k < IDENTIFIERS.size(); k++) {
+        Identifier identifier = IDENTIFIERS.get(k);
+        String value = identifier.getter().apply(vehicle);
+        if (existing.get(k).contains(value)) {
+          errors
+              .get(i)
+              .add(identifier.label() + " " + value + ": ya existe un vehículo con ese valor");
+        }
+      }
+    }
+
+    List<Vehicle> accepted = new ArrayList<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      if (errors.get(i).isEmpty()) {
+        accepted.add(candidates.get(i).vehicle());
+      }
+    }
+    List<Long> ids = vehicleBulkInsertRepository.allocateIds(accepted.size());
+    for (int i = 0; i < accepted.size(); i++) {
+      accepted.get(i).setId(ids.get(i));
+    }
+    vehicleBulkInsertRepository.insertAll(accepted);
+    if (!ids.isEmpty()) {
+      eventPublisher.publishEvent(new VehiclesChangedEvent(ids));
+    }
+
+    List<VehicleImportResult> results = new ArrayList<>(candidates.size());
+    for (int i = 0; i < candidates.size(); i++) {
+      Candidate candidate = candidates.get(i);
+      String plate = candidate.vehicle().getPlate();
+      results.add(
+          errors.get(i).isEmpty()
+              ? VehicleImportResult.imported(candidate.line(), candidate.vehicle().getId(), plate)
+              : VehicleImportResult.rejected(candidate.line(), plate, errors.get(i)));
+    }
+    return results;
+  }
+
+  /** Valores ya registrados por identificador, en el orden de {@link #IDENTIFIERS}. */
+  private List<Set<String>> findExisting(List<Candidate> candidates) {
+    List<String[]> values =
+        IDENTIFIERS.stream()
+            .map(
+                identifier ->
+                    candidates.stream()
+                        .map(candidate -> identifier.getter().apply(candidate.vehicle()))
+                        .distinct()
+                        .toArray(String[]::new))
+            .toList();
+    List<VehicleIdentifierView> rows =
+        vehicleBaseRepository.findByIdentifiers(
+            values.get(0), values.get(1), values.get(2), values.get(3));
+
+    return IDENTIFIERS.stream()
+        .map(
+            identifier -> {
+              Set<String> registered = new HashSet<>();
+              rows.forEach(row -> registered.add(identifier.registered().apply(row)));
+              return registered;
+            })
+        .toList();
+  }
+}
@@ -0,0 +1,219 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.dto.VehicleImportRow;
+import com.sgivu.vehicle.enums.VehicleImportFormat;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Lee un archivo de importación fila a fila, sin cargarlo completo en memoria.
+ *
+ * <p>CSV: la primera fila son los encabezados (nombres de {@link VehicleImportRow}), separador coma
+ * y comillas dobles según RFC 4180; un campo entre comillas puede contener saltos de línea. NDJSON:
+ * un objeto JSON por línea. Las líneas en blanco se ignoran y cada registro se limita a {@code
+ * maxRowLength} caracteres: el exceso se descarta y la fila se rechaza.
+ */
+final class VehicleImportReader {
+
+  private static final String BOM = "\uFEFF";
+
+  static final Set<String> COLUMNS =
+      Arrays.stream(VehicleImportRow.class.getRecordComponents())
+          .map(component -> component.getName())
+          .collect(Collectors.toUnmodifiableSet());
+
+  /** Fila leída: {@code row} o, si no pudo interpretarse, {@code error}. */
+  record ParsedRow(long line, VehicleImportRow row, String error) {}
+
+  private record RawRecord(long line, List<String> fields, boolean truncated) {}
+
+  private final Reader reader;
+  private final VehicleImportFormat format;
+  private final JsonMapper jsonMapper;
+  private final int maxRowLength;
+  private final List<String> header;
+
+  private long currentLine = 1;
+  private int pending = -1;
+
+  VehicleImportReader(
+      Reader reader, VehicleImportFormat format, JsonMapper jsonMapper, int maxRowLength)
+      throws IOException {
+    this.reader = reader;
+    this.format = format;
+    this.jsonMapper = jsonMapper;
+    this.maxRowLength = maxRowLength;
+    this.header = format == VehicleImportFormat.CSV ? readHeader() : List.of();
+  }
+
+  /** Siguiente fila no vacía, o {@code null} al final del archivo. */
+  ParsedRow next() throws IOException {
+    RawRecord record = readRecord(format == VehicleImportFormat.CSV);
+    if (record == null) {
+      return null;
+    }
+    if (record.truncated()) {
+      return new ParsedRow(
+          record.line(), null, "La fila supera el máximo de " + maxRowLength + " caracteres");
+    }
+    return format == VehicleImportFormat.CSV ? parseCsv(record) : parseJson(record);
+  }
+
+  private List<String> readHeader() throws IOException {
+    RawRecord record = readRecord(true);
+    if (record == null) {
+      throw new InvalidRequestException("El archivo CSV está vacío");
+    }
+    if (record.truncated()) {
+      throw new InvalidRequestException("El encabezado CSV es demasiado largo");
+    }
+    List<String> columns = record.fields().stream().map(String::trim).toList();
+    if (!columns.isEmpty() && columns.getFirst().startsWith(BOM)) {
+      columns = new ArrayList<>(columns);
+      columns.set(0, columns.getFirst().substring(1));
+    }
+    Set<String> seen = new HashSet<>();
+    for (String column : columns) {
+      if (!COLUMNS.contains(column)) {
+        throw new InvalidRequestException("Columna desconocida en el encabezado: " + column);
+      }
+      if (!seen.add(column)) {
+        throw new InvalidRequestException("Columna repetida en el encabezado: " + column);
+      }
+    }
+    return List.copyOf(columns);
+  }
+
+  private ParsedRow parseCsv(RawRecord record) {
+    if (record.fields().size() != header.size()) {
+      return new ParsedRow(
+          record.line(),
+          null,
+          "Se esperaban " + header.size() + " columnas y hay " + record.fields().size());
+    }
+    ObjectNode node = jsonMapper.createObjectNode();
+    for (int i = 0; i < header.size(); i++) {
+      String value = record.fields().get(i).trim();
+      if (!value.isEmpty()) {
+        node.put(header.get(i), value);
+      }
+    }
+    try {
+      return new ParsedRow(
+          record.line(), jsonMapper.treeToValue(node, VehicleImportRow.class), null);
+    } catch (JacksonException e) {
+      return new ParsedRow(record.line(), null, describe(e));
+    }
+  }
+
+  private ParsedRow parseJson(RawRecord record) {
+    try {
+      VehicleImportRow row =
+          jsonMapper.readValue(record.fields().getFirst(), VehicleImportRow.class);
+      return row == null
+          ? new ParsedRow(record.line(), null, "La línea no es un objeto JSON")
+          : new ParsedRow(record.line(), row, null);
+    } catch (JacksonException e) {
+      return new ParsedRow(record.line(), null, describe(e));
+    }
+  }
+
+  private static String describe(JacksonException e) {
+    String field =
+        e.getPath().stream()
+            .map(JacksonException.Reference::getPropertyName)
+            .filter(name -> name != null)
+            .findFirst()
+            .orElse(null);
+    return field != null ? "Valor inválido en el campo " + field : "JSON inválido";
+  }
+
+  /**
+   * Lee el siguiente registro no vacío. Con {@code csv}, separa campos por comas respetando las
+   * comillas; si no, devuelve la línea completa como único campo.
+   */
+  private RawRecord readRecord(boolean csv) throws IOException {
+    while (true) {
+      long startLine = currentLine;
+      List<String> fields = new ArrayList<>();
+      StringBuilder field = new StringBuilder();
+      int length = 0;
+      boolean truncated = false;
+      boolean quoted = false;
+      boolean blank = true;
+      int c = read();
+      if (c == -1) {
+        return null;
+      }
+      while (c != -1) {
+        if (c == '\r') {
+          int next = read();
+          if (next != '\n') {
+            pending = next;
+          }
+          c = '\n';
+        }
+        if (c == '\n') {
+          currentLine++;
+          if (!quoted) {
+            break;
+          }
+        }
+        if (c != '\n' && !Character.isWhitespace(c)) {
+          blank = false;
+        }
+
+        if (csv && c == '"') {
+          int next = quoted ? read() : -2;
+          if (quoted && next == '"') {
+            c = '"';
+          } else {
+            if (quoted && next != -1) {
+              pending = next;
+            }
+            quoted = !quoted;
+            c = read();
+            continue;
+          }
+        } else if (csv && c == ',' && !quoted) {
+          fields.add(field.toString());
+          field.setLength(0);
+          c = read();
+          continue;
+        }
+
+        if (++length > maxRowLength) {
+          truncated = true;
+          field.setLength(0);
+        } else if (!truncated) {
+          field.append((char) c);
+        }
+        c = read();
+      }
+      if (blank) {
+        continue;
+      }
+      fields.add(field.toString());
+      return new RawRecord(startLine, truncated ? List.of() : fields, truncated);
+    }
+  }
+
+  private int read() throws IOException {
+    if (pending != -1) {
+      int c = pending;
+      pending = -1;
+      return c;
+    }
+    return reader.read();
+  }
+}
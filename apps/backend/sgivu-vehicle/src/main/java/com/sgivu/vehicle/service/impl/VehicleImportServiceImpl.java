@@ -0,0 +1,239 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.VehicleImportProperties;
+import com.sgivu.vehicle.dto.VehicleImportResult;
+import com.sgivu.vehicle.dto.VehicleImportRow;
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.enums.VehicleImportFormat;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.service.VehicleImportService;
+import com.sgivu.vehicle.service.impl.VehicleImportChunkWriter.Candidate;
+import com.sgivu.vehicle.service.impl.VehicleImportReader.ParsedRow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+@Service
+public class VehicleImportServiceImpl implements VehicleImportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(VehicleImportServiceImpl.class);
+
+  /** Longitudes de columna de {@code V1__initial_schema.sql}; Bean Validation no las comprueba. */
+  private record FieldLimit(String name, Function<VehicleImportRow, String> getter, int max) {}
+
+  private static final List<FieldLimit> FIELD_LIMITS =
+      List.of(
+          new FieldLimit("brand", VehicleImportRow::brand, 20),
+          new FieldLimit("model", VehicleImportRow::model, 20),
+          new FieldLimit("line", VehicleImportRow::line, 20),
+          new FieldLimit("plate", VehicleImportRow::plate, 10),
+          new FieldLimit("motorNumber", VehicleImportRow::motorNumber, 30),
+          new FieldLimit("serialNumber", VehicleImportRow::serialNumber, 30),
+          new FieldLimit("chassisNumber", VehicleImportRow::chassisNumber, 30),
+          new FieldLimit("color", VehicleImportRow::color, 20),
+          new FieldLimit("cityRegistered", VehicleImportRow::cityRegistered, 30),
+          new FieldLimit("transmission", VehicleImportRow::transmission, 20),
+          new FieldLimit("bodyType", VehicleImportRow::bodyType, 20),
+          new FieldLimit("fuelType", VehicleImportRow::fuelType, 20),
+          new FieldLimit("motorcycleType", VehicleImportRow::motorcycleType, 20));
+
+  private final JsonMapper jsonMapper;
+  private final Validator validator;
+  private final VehicleImportChunkWriter chunkWriter;
+  private final VehicleImportProperties properties;
+
+  public VehicleImportServiceImpl(
+      JsonMapper jsonMapper,
+      Validator validator,
+      VehicleImportChunkWriter chunkWriter,
+      VehicleImportProperties properties) {
+    this.jsonMapper = jsonMapper;
+    this.validator = validator;
+    this.chunkWriter = chunkWriter;
+    this.properties = properties;
+  }
+
+  @Override
+  public VehicleImport open(InputStream input, VehicleImportFormat format) throws IOException {
+    VehicleImportReader reader =
+        new VehicleImportReader(
+            new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)),
+            format,
+            jsonMapper,
+            properties.getMaxRowLength());
+    return chunkResults -> importAll(reader, chunkResults);
+  }
+
+  private void importAll(
+      VehicleImportReader reader, Consumer<List<VehicleImportResult>> chunkResults)
+      throws IOException {
+    int chunkSize = Math.max(1, properties.getChunkSize());
+    List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+    long[] outcomes = new long[VehicleImportResult.Outcome.values().length];
+
+    ParsedRow row;
+    while ((row = reader.next()) != null) {
+      chunk.add(row);
+      if (chunk.size() == chunkSize) {
+        emit(importChunk(chunk), outcomes, chunkResults);
+        chunk.clear();
+      }
+    }
+    if (!chunk.isEmpty()) {
+      emit(importChunk(chunk), outcomes, chunkResults);
+    }
+    logger.info(
+        "Importación de vehículos: {} importados, {} rechazados, {} fallidos",
+        outcomes[VehicleImportResult.Outcome.IMPORTED.ordinal()],
+        outcomes[VehicleImportResult.Outcome.REJECTED.ordinal()],
+        outcomes[VehicleImportResult.Outcome.FAILED.ordinal()]);
+  }
+
+  private static void emit(
+      List<VehicleImportResult> results,
+      long[] outcomes,
+      Consumer<List<VehicleImportResult>> chunkResults) {
+    results.forEach(result -> outcomes[result.outcome().ordinal()]++);
+    chunkResults.accept(results);
+  }
+
+  /** Valida las filas del bloque y escribe las válidas en una transacción. */
+  List<VehicleImportResult> importChunk(List<ParsedRow> rows) {
+    List<VehicleImportResult> results = new ArrayList<>(rows.size());
+    List<Candidate> candidates = new ArrayList<>(rows.size());
+    for (ParsedRow row : rows) {
+      if (row.error() != null) {
+        results.add(VehicleImportResult.rejected(row.line(), null, List.of(row.error())));
+        continue;
+      }
+      List<String> errors = new ArrayList<>();
+      Vehicle vehicle = toVehicle(row.row(), errors);
+      if (errors.isEmpty()) {
+        candidates.add(new Candidate(row.line(), vehicle));
+      } else {
+        results.add(VehicleImportResult.rejected(row.line(), row.row().plate(), errors));
+      }
+    }
+
+    if (!candidates.isEmpty()) {
+      try {
+        results.addAll(chunkWriter.write(candidates));
+      } catch (DataAccessException e) {
+        // p. ej. otra petición registró la misma placa entre la validación y el INSERT
+        logger.warn(
+            "No se pudo guardar el bloque de importación (líneas {} a {}): {}",
+            candidates.getFirst().line(),
+            candidates.getLast().line(),
+            e.getMessage());
+        candidates.forEach(
+            candidate ->
+                results.add(
+                    VehicleImportResult.failed(
+                        candidate.line(),
+                        candidate.vehicle().getPlate(),
+                        "No se pudo guardar el bloque; reintente esta fila")));
+      }
+    }
+    results.sort(Comparator.comparingLong(VehicleImportResult::line));
+    return results;
+  }
+
+  /** Construye el auto o la motocicleta de la fila; los problemas se agregan a {@code errors}. */
+  Vehicle toVehicle(VehicleImportRow row, List<String> errors) {
+    String type =
+        row.vehicleType() == null ? "" : row.vehicleType().trim().toUpperCase(Locale.ROOT);
+    Vehicle vehicle;
+    switch (type) {
+      case "CAR" -> {
+        Car car = new Car();
+        car.setBodyType(trim(row.bodyType()));
+        car.setFuelType(trim(row.fuelType()));
+        car.setNumberOfDoors(row.numberOfDoors());
+        vehicle = car;
+      }
+      case "MOTORCYCLE" -> {
+        Motorcycle motorcycle = new Motorcycle();
+        motorcycle.setMotorcycleType(trim(row.motorcycleType()));
+        vehicle = motorcycle;
+      }
+      default -> {
+        errors.add("vehicleType: debe ser CAR o MOTORCYCLE");
+        return null;
+      }
+    }
+
+    vehicle.setBrand(trim(row.brand()));
+    vehicle.setModel(trim(row.model()));
+    vehicle.setCapacity(row.capacity());
+    vehicle.setLine(trim(row.line()));
+    vehicle.setPlate(trim(row.plate()));
+    vehicle.setMotorNumber(trim(row.motorNumber()));
+    vehicle.setSerialNumber(trim(row.serialNumber()));
+    vehicle.setChassisNumber(trim(row.chassisNumber()));
+    vehicle.setColor(trim(row.color()));
+    vehicle.setCityRegistered(trim(row.cityRegistered()));
+    vehicle.setYear(row.year());
+    vehicle.setMileage(row.mileage());
+    vehicle.setTransmission(trim(row.transmission()));
+    vehicle.setPurchasePrice(row.purchasePrice());
+    vehicle.setSalePrice(row.salePrice());
+    vehicle.setStatus(parseStatus(row.status(), errors));
+
+    for (ConstraintViolation<Vehicle> violation : validator.validate(vehicle)) {
+      errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+    }
+    // En la entidad son opcionales, pero las columnas son NOT NULL
+    if (row.purchasePrice() == null) {
+      errors.add("purchasePrice: es obligatorio");
+    }
+    if (row.salePrice() == null) {
+      errors.add("salePrice: es obligatorio");
+    }
+    for (FieldLimit limit : FIELD_LIMITS) {
+      String value = trim(limit.getter().apply(row));
+      if (value != null && value.length() > limit.max()) {
+        errors.add(limit.name() + ": admite hasta " + limit.max() + " caracteres");
+      }
+    }
+    errors.sort(Comparator.naturalOrder());
+    return vehicle;
+  }
+
+  private static VehicleStatus parseStatus(String status, List<String> errors) {
+    String value = trim(status);
+    if (value == null) {
+      return VehicleStatus.AVAILABLE;
+    }
+    try {
+      return VehicleStatus.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      errors.add("status: valor desconocido " + value);
+      return VehicleStatus.AVAILABLE;
+    }
+  }
+
+  private static String trim(String value) {
+    if (value == null) {
+      return null;
+    }
+    String trimmed = value.trim();
+    return trimmed.isEmpty() ? null : trimmed;
+  }
+}
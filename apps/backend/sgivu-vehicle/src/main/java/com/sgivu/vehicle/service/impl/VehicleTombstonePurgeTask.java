@@ -0,0 +1,56 @@
+package com.sgivu.vehicle.service.impl;
+
+import com.sgivu.vehicle.config.VehicleChangeFeedProperties;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Elimina las lápidas del feed de cambios más antiguas que {@code
+ * vehicle.changes.tombstone-retention}. Es un {@code DELETE} idempotente, por lo que varias
+ * instancias pueden ejecutarlo a la vez.
+ */
+@Component
+public class VehicleTombstonePurgeTask {
+
+  private static final Logger logger = LoggerFactory.getLogger(VehicleTombstonePurgeTask.class);
+
+  private final VehicleBaseRepository vehicleBaseRepository;
+  private final VehicleChangeFeedProperties properties;
+  private final Clock clock;
+
+  @Autowired
+  public VehicleTombstonePurgeTask(
+      VehicleBaseRepository vehicleBaseRepository, VehicleChangeFeedProperties properties) {
+    this(vehicleBaseRepository, properties, Clock.systemDefaultZone());
+  }
+
+  VehicleTombstonePurgeTask(
+      VehicleBaseRepository vehicleBaseRepository,
+      VehicleChangeFeedProperties properties,
+      Clock clock) {
+    this.vehicleBaseRepository = vehicleBaseRepository;
+    this.properties = properties;
+    this.clock = clock;
+  }
+
+  /**
+   * @return número de lápidas eliminadas
+   */
+  @Scheduled(
+      initialDelayString = "${vehicle.changes.purge-initial-delay:PT10M}",
+      fixedDelayString = "${vehicle.changes.purge-interval:PT6H}")
+  public int purgeExpiredTombstones() {
+    LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getTombstoneRetention());
+    int deleted = vehicleBaseRepository.deleteTombstonesBefore(cutoff);
+    if (deleted > 0) {
+      logger.info("Lápidas de vehículos anteriores a {} eliminadas: {}", cutoff, deleted);
+    }
+    return deleted;
+  }
+}
@@ -8,8 +8,11 @@ import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.util.StringUtils;
 
+/**
+ * Filtros de la búsqueda de motocicletas. {@code MotorcycleRepository#countFacets} los replica en
+ * SQL nativo para las facetas: un filtro nuevo o modificado aquí debe cambiarse también allí.
+ */
 public final class MotorcycleSpecifications {
 
   private MotorcycleSpecifications() {}
@@ -23,7 +26,7 @@ public final class MotorcycleSpecifications {
 
       List<Predicate> predicates = new ArrayList<>();
 
-      like(predicates, cb, root.get("plate"), criteria.getPlate());
+      plate(predicates, cb, root.get("plateNormalized"), criteria.getPlate());
       like(predicates, cb, root.get("brand"), criteria.getBrand());
       like(predicates, cb, root.get("line"), criteria.getLine());
       like(predicates, cb, root.get("model"), criteria.getModel());
@@ -55,19 +58,24 @@ public final class MotorcycleSpecifications {
         return cb.conjunction();
       }
 
-      if (query != null) {
-        query.distinct(true);
-      }
       return cb.and(predicates.toArray(new Predicate[0]));
     };
   }
 
   private static void like(
       List<Predicate> predicates, CriteriaBuilder cb, Path<String> path, String value) {
-    if (!StringUtils.hasText(value)) {
-      return;
+    String pattern = TextSearch.likePattern(value);
+    if (pattern != null) {
+      predicates.add(cb.like(cb.lower(path), pattern, TextSearch.ESCAPE));
+    }
+  }
+
+  private static void plate(
+      List<Predicate> predicates, CriteriaBuilder cb, Path<String> path, String value) {
+    String pattern = TextSearch.platePattern(value);
+    if (pattern != null) {
+      predicates.add(cb.like(path, pattern));
     }
-    predicates.add(cb.like(cb.lower(path), "%" + value.trim().toLowerCase() + "%"));
   }
 
   private static <N extends Number & Comparable<N>> void range(
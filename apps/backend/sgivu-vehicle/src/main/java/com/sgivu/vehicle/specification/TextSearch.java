@@ -0,0 +1,66 @@
+package com.sgivu.vehicle.specification;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.springframework.util.StringUtils;
+
+/**
+ * Patrones {@code LIKE} de los filtros de texto, elegidos según la forma de la entrada para que
+ * PostgreSQL pueda usar los índices de V4.
+ *
+ * <p>Los campos de texto se comparan sobre {@code lower(col)}: con al menos tres caracteres se
+ * busca la subcadena ({@code %valor%}, resuelta por el índice trigram) y con menos se busca por
+ * prefijo ({@code valor%}), que el mismo índice también resuelve. La placa se compara sobre {@code
+ * plate_normalized}: una placa completa se busca exacta y cualquier otro fragmento como subcadena,
+ * que el índice trigram de esa columna resuelve.
+ */
+public final class TextSearch {
+
+  /** Carácter de escape de los patrones; coincide con el escape por defecto de PostgreSQL. */
+  public static final char ESCAPE = '\\';
+
+  static final int MIN_SUBSTRING_LENGTH = 3;
+
+  private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^A-Za-z0-9]");
+  private static final Pattern FULL_PLATE = Pattern.compile("[A-Z]{3}[0-9]{2}[A-Z0-9]");
+
+  private TextSearch() {}
+
+  /**
+   * Patrón en minúsculas para {@code lower(col) LIKE}, con {@code %} y {@code _} escapados; {@code
+   * null} si no hay texto.
+   */
+  public static String likePattern(String value) {
+    if (!StringUtils.hasText(value)) {
+      return null;
+    }
+    String term = value.trim().toLowerCase(Locale.ROOT);
+    String escaped = escape(term);
+    return term.length() >= MIN_SUBSTRING_LENGTH ? "%" + escaped + "%" : escaped + "%";
+  }
+
+  /** Placa en mayúsculas y sin separadores, igual que la columna {@code plate_normalized}. */
+  public static String normalizePlate(String value) {
+    if (value == null) {
+      return null;
+    }
+    String normalized = NON_ALPHANUMERIC.matcher(value).replaceAll("").toUpperCase(Locale.ROOT);
+    return normalized.isEmpty() ? null : normalized;
+  }
+
+  /** Patrón para {@code plate_normalized LIKE}; {@code null} si no queda ningún carácter válido. */
+  public static String platePattern(String value) {
+    String plate = normalizePlate(value);
+    if (plate == null) {
+      return null;
+    }
+    if (FULL_PLATE.matcher(plate).matches()) {
+      return plate;
+    }
+    return "%" + plate + "%";
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -0,0 +1,19 @@
+-- Derivados (miniaturas y variantes comprimidas) generados en segundo plano tras confirmar la
+-- subida de una imagen. Se eliminan en cascada junto con la imagen original.
+CREATE TABLE IF NOT EXISTS vehicle_image_variants
+(
+    id         BIGSERIAL PRIMARY KEY,
+    image_id   BIGINT                   NOT NULL,
+    size_class VARCHAR(20)              NOT NULL,
+    bucket     VARCHAR(100)             NOT NULL,
+    key        VARCHAR(255)             NOT NULL UNIQUE,
+    mime_type  VARCHAR(100)             NOT NULL,
+    width      INTEGER                  NOT NULL,
+    height     INTEGER                  NOT NULL,
+    file_size  BIGINT                   NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_vehicle_image_variants_image_size UNIQUE (image_id, size_class),
+    CONSTRAINT fk_vehicle_image_variants_image_id FOREIGN KEY (image_id) REFERENCES vehicle_images (id) ON DELETE CASCADE ON UPDATE RESTRICT
+);
+
+CREATE SEQUENCE IF NOT EXISTS vehicle_image_variants_id_seq START WITH 1 INCREMENT BY 1;
@@ -0,0 +1,3 @@
+-- Optimizador "pooled" de Hibernate (allocationSize = 50) para vehicle_images: la confirmación por
+-- lote reserva los IDs con un único nextval y envía todas las inserciones en un batch JDBC.
+ALTER SEQUENCE vehicle_images_id_seq INCREMENT BY 50;
@@ -0,0 +1,34 @@
+-- Búsqueda de texto sobre vehículos. Los filtros usan lower(col) LIKE con patrón de prefijo o de
+-- subcadena; los B-tree de V1 no sirven para ninguno de los dos, así que se añaden índices GIN
+-- trigram sobre las mismas expresiones (pg_trgm también resuelve prefijos de 1-2 caracteres).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Placa normalizada (mayúsculas, sin guiones ni espacios) para búsquedas exactas y por prefijo.
+-- La calcula PostgreSQL, por lo que no puede desincronizarse de plate.
+ALTER TABLE vehicles
+    ADD COLUMN IF NOT EXISTS plate_normalized VARCHAR(10)
+        GENERATED ALWAYS AS (upper(regexp_replace(plate, '[^A-Za-z0-9]', '', 'g'))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_vehicles_plate_normalized
+    ON vehicles (plate_normalized text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_plate_normalized_trgm
+    ON vehicles USING gin (plate_normalized gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_vehicles_brand_trgm
+    ON vehicles USING gin (lower(brand) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_line_trgm
+    ON vehicles USING gin (lower(line) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_model_trgm
+    ON vehicles USING gin (lower(model) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_transmission_trgm
+    ON vehicles USING gin (lower(transmission) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vehicles_city_registered_trgm
+    ON vehicles USING gin (lower(city_registered) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_cars_fuel_type_trgm
+    ON cars USING gin (lower(fuel_type) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_cars_body_type_trgm
+    ON cars USING gin (lower(body_type) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_motorcycles_motorcycle_type_trgm
+    ON motorcycles USING gin (lower(motorcycle_type) gin_trgm_ops);
@@ -0,0 +1,37 @@
+-- Feed de cambios de vehículos ("cambios desde"). Las altas y modificaciones se leen de vehicles
+-- paginando por (updated_at, id); este índice hace que cada página sea un recorrido de rango
+-- independiente del tamaño del inventario.
+CREATE INDEX IF NOT EXISTS idx_vehicles_updated_at_id ON vehicles (updated_at, id);
+
+-- Las bajas dejan una lápida para que los consumidores puedan eliminar su copia. Se registran con
+-- triggers sobre las tablas de subtipo (que también se borran en cascada desde vehicles), así que
+-- se conoce el tipo de vehículo y ninguna ruta de borrado queda fuera.
+CREATE TABLE IF NOT EXISTS vehicle_tombstones
+(
+    vehicle_id   BIGINT PRIMARY KEY,
+    vehicle_type VARCHAR(20)              NOT NULL,
+    deleted_at   TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_vehicle_tombstones_deleted_at_id
+    ON vehicle_tombstones (deleted_at, vehicle_id);
+
+CREATE OR REPLACE FUNCTION record_vehicle_tombstone() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO vehicle_tombstones (vehicle_id, vehicle_type, deleted_at)
+    VALUES (OLD.vehicle_id, TG_ARGV[0], CURRENT_TIMESTAMP)
+    ON CONFLICT (vehicle_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_cars_tombstone ON cars;
+CREATE TRIGGER trg_cars_tombstone
+    AFTER DELETE ON cars
+    FOR EACH ROW EXECUTE FUNCTION record_vehicle_tombstone('CAR');
+
+DROP TRIGGER IF EXISTS trg_motorcycles_tombstone ON motorcycles;
+CREATE TRIGGER trg_motorcycles_tombstone
+    AFTER DELETE ON motorcycles
+    FOR EACH ROW EXECUTE FUNCTION record_vehicle_tombstone('MOTORCYCLE');
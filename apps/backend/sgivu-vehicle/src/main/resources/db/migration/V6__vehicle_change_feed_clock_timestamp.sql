@@ -0,0 +1,15 @@
+-- Las lápidas se marcaban con CURRENT_TIMESTAMP, el inicio de la transacción: un borrado largo
+-- confirmaba lápidas anteriores al margen del feed y los consumidores que ya habían avanzado su
+-- cursor no las veían. clock_timestamp() marca el instante de cada borrado.
+ALTER TABLE vehicle_tombstones
+    ALTER COLUMN deleted_at SET DEFAULT clock_timestamp();
+
+CREATE OR REPLACE FUNCTION record_vehicle_tombstone() RETURNS TRIGGER AS
+$$
+BEGIN
+    INSERT INTO vehicle_tombstones (vehicle_id, vehicle_type, deleted_at)
+    VALUES (OLD.vehicle_id, TG_ARGV[0], clock_timestamp())
+    ON CONFLICT (vehicle_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
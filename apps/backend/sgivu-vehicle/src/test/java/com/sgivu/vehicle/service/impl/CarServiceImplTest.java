@@ -4,20 +4,36 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.sgivu.vehicle.config.VehicleFacetProperties;
+import com.sgivu.vehicle.dto.CarSearchCriteria;
+import com.sgivu.vehicle.dto.VehicleFacetCount;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
+import com.sgivu.vehicle.dto.VehiclePriceRangeCount;
 import com.sgivu.vehicle.entity.Car;
 import com.sgivu.vehicle.repository.CarRepository;
+import com.sgivu.vehicle.repository.projection.CarView;
+import com.sgivu.vehicle.repository.projection.FacetCountView;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 public class CarServiceImplTest {
 
   @Mock private CarRepository carRepository;
+  @Spy private VehicleFacetProperties facetProperties = new VehicleFacetProperties();
 
   @InjectMocks private CarServiceImpl carService;
 
@@ -94,4 +110,93 @@ public class CarServiceImplTest {
       verify(carRepository).save(any(Car.class));
     }
   }
+
+  @Nested
+  @DisplayName("facets(CarSearchCriteria)")
+  class FacetsTests {
+
+    private FacetCountView row(String facet, String value, long count) {
+      FacetCountView view = mock(FacetCountView.class);
+      when(view.getFacet()).thenReturn(facet);
+      when(view.getValue()).thenReturn(value);
+      when(view.getCount()).thenReturn(count);
+      return view;
+    }
+
+    @Test
+    @DisplayName("Debe agrupar las filas por faceta y ordenar por frecuencia y año")
+    void shouldGroupRowsByFacet() {
+      facetProperties.setPriceBounds(List.of(40.0, 20.0));
+      List<FacetCountView> rows =
+          List.of(
+              row("brand", "Mazda", 2),
+              row("brand", "Toyota", 5),
+              row("year", "2019", 4),
+              row("year", "2022", 3),
+              row("priceRange", "2", 1),
+              row("priceRange", "0", 6),
+              row("total", null, 7));
+      when(carRepository.countFacets(any(CarSearchCriteria.class), any(Double[].class)))
+          .thenReturn(rows);
+
+      VehicleFacetsResponse response = carService.facets(null);
+
+      assertEquals(7, response.total());
+      assertEquals(
+          List.of(new VehicleFacetCount("Toyota", 5), new VehicleFacetCount("Mazda", 2)),
+          response.facets().get("brand"));
+      assertEquals(
+          List.of("2022", "2019"),
+          response.facets().get("year").stream().map(VehicleFacetCount::value).toList());
+      assertEquals(
+          List.of(
+              new VehiclePriceRangeCount(null, 20.0, 6), new VehiclePriceRangeCount(40.0, null, 1)),
+          response.priceRanges());
+    }
+
+    @Test
+    @DisplayName("Debe consultar con criterios vacíos y límites de precio ordenados")
+    void shouldQueryWithEmptyCriteriaAndSortedBounds() {
+      facetProperties.setPriceBounds(List.of(300.0, 100.0, 200.0));
+      when(carRepository.countFacets(any(CarSearchCriteria.class), any(Double[].class)))
+          .thenReturn(List.of());
+
+      VehicleFacetsResponse response = carService.facets(null);
+
+      ArgumentCaptor<CarSearchCriteria> criteria = ArgumentCaptor.forClass(CarSearchCriteria.class);
+      ArgumentCaptor<Double[]> bounds = ArgumentCaptor.forClass(Double[].class);
+      verify(carRepository).countFacets(criteria.capture(), bounds.capture());
+      assertFalse(criteria.getValue().hasFilters());
+      assertArrayEquals(new Double[] {100.0, 200.0, 300.0}, bounds.getValue());
+      assertEquals(0, response.total());
+      assertTrue(response.facets().isEmpty());
+    }
+  }
+
+  @Nested
+  @DisplayName("Proyecciones de solo lectura")
+  class ViewTests {
+
+    @Test
+    @DisplayName("Debe cargar los autos por ID como proyección CarView")
+    void shouldLoadViewsByIds() {
+      CarView view = mock(CarView.class);
+      when(carRepository.findByIdIn(List.of(1L, 2L), CarView.class)).thenReturn(List.of(view));
+
+      assertEquals(List.of(view), carService.findViewsByIds(List.of(1L, 2L)));
+      verify(carRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Debe buscar con la especificación y proyectar sin cargar entidades")
+    void shouldSearchViewsThroughSpecification() {
+      Page<CarView> page = new PageImpl<>(List.of(mock(CarView.class)));
+      when(carRepository.findBy(any(Specification.class), any())).thenReturn(page);
+
+      Page<CarView> result = carService.searchViews(null, PageRequest.of(0, 10));
+
+      assertSame(page, result);
+      verify(carRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+  }
 }
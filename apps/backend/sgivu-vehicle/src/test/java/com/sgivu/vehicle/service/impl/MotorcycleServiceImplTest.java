@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.sgivu.vehicle.config.VehicleFacetProperties;
 import com.sgivu.vehicle.entity.Motorcycle;
 import com.sgivu.vehicle.repository.MotorcycleRepository;
 import java.util.Optional;
@@ -14,10 +15,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 public class MotorcycleServiceImplTest {
 
   @Mock private MotorcycleRepository motorcycleRepository;
+  @Spy private VehicleFacetProperties facetProperties = new VehicleFacetProperties();
 
   @InjectMocks private MotorcycleServiceImpl motorcycleService;
 
@@ -0,0 +1,79 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.config.MultipartUploadProperties;
+import com.sgivu.vehicle.exception.StorageUnavailableException;
+import com.sgivu.vehicle.service.S3Service;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.MultipartUpload;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+
+class MultipartUploadCleanupTaskTest {
+
+  private static final Instant NOW = Instant.parse("2025-01-10T12:00:00Z");
+
+  private S3Service s3Service;
+  private MultipartUploadCleanupTask task;
+
+  @BeforeEach
+  void setUp() {
+    s3Service = mock(S3Service.class);
+    MultipartUploadProperties properties = new MultipartUploadProperties();
+    properties.setUploadTtl(Duration.ofHours(24));
+    task =
+        new MultipartUploadCleanupTask(
+            s3Service, properties, "sgivu-vehicles", Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  private static MultipartUpload upload(String uploadId, Duration age) {
+    return MultipartUpload.builder()
+        .key("vehicles/1/" + uploadId + ".jpg")
+        .uploadId(uploadId)
+        .initiated(NOW.minus(age))
+        .build();
+  }
+
+  @Test
+  @DisplayName("Debe abortar solo las subidas más antiguas que el TTL")
+  void shouldAbortOnlyExpiredUploads() {
+    when(s3Service.listMultipartUploads("sgivu-vehicles", "vehicles/"))
+        .thenReturn(
+            List.of(upload("old", Duration.ofHours(25)), upload("new", Duration.ofHours(1))));
+
+    assertEquals(1, task.abortExpiredUploads());
+
+    verify(s3Service).abortMultipartUpload("sgivu-vehicles", "vehicles/1/old.jpg", "old");
+    verify(s3Service, never()).abortMultipartUpload("sgivu-vehicles", "vehicles/1/new.jpg", "new");
+  }
+
+  @Test
+  @DisplayName("Debe continuar si otra instancia ya abortó la subida")
+  void shouldIgnoreUploadsAlreadyGone() {
+    when(s3Service.listMultipartUploads("sgivu-vehicles", "vehicles/"))
+        .thenReturn(List.of(upload("a", Duration.ofDays(2)), upload("b", Duration.ofDays(3))));
+    doThrow(NoSuchUploadException.builder().message("gone").build())
+        .when(s3Service)
+        .abortMultipartUpload("sgivu-vehicles", "vehicles/1/a.jpg", "a");
+
+    assertEquals(1, task.abortExpiredUploads());
+    verify(s3Service).abortMultipartUpload("sgivu-vehicles", "vehicles/1/b.jpg", "b");
+  }
+
+  @Test
+  @DisplayName("No debe propagar la indisponibilidad de S3")
+  void shouldSwallowStorageUnavailable() {
+    when(s3Service.listMultipartUploads("sgivu-vehicles", "vehicles/"))
+        .thenThrow(new StorageUnavailableException("S3 service is unavailable", null));
+
+    assertEquals(0, task.abortExpiredUploads());
+  }
+}
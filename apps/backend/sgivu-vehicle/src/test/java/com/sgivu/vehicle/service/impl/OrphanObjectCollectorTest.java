@@ -0,0 +1,190 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.config.OrphanObjectGcProperties;
+import com.sgivu.vehicle.repository.AdvisoryLockRepository;
+import com.sgivu.vehicle.repository.VehicleImageRepository;
+import com.sgivu.vehicle.service.S3Service;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+class OrphanObjectCollectorTest {
+
+  private static final Instant NOW = Instant.parse("2025-03-01T00:00:00Z");
+  private static final Instant OLD = NOW.minus(Duration.ofDays(10));
+
+  private S3Service s3Service;
+  private VehicleImageRepository vehicleImageRepository;
+  private AdvisoryLockRepository advisoryLockRepository;
+  private PlatformTransactionManager transactionManager;
+  private OrphanObjectGcProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private OrphanObjectCollector collector;
+
+  @BeforeEach
+  void setUp() {
+    s3Service = mock(S3Service.class);
+    vehicleImageRepository = mock(VehicleImageRepository.class);
+    advisoryLockRepository = mock(AdvisoryLockRepository.class);
+    transactionManager = mock(PlatformTransactionManager.class);
+    properties = new OrphanObjectGcProperties();
+    properties.setRequestsPerSecond(10_000);
+    meterRegistry = new SimpleMeterRegistry();
+    collector =
+        new OrphanObjectCollector(
+            s3Service,
+            vehicleImageRepository,
+            advisoryLockRepository,
+            transactionManager,
+            properties,
+            meterRegistry,
+            "sgivu-vehicles",
+            Clock.fixed(NOW, ZoneOffset.UTC));
+    when(advisoryLockRepository.runWithLock(eq(OrphanObjectCollector.LOCK_KEY), any()))
+        .thenAnswer(
+            invocation -> Optional.ofNullable(invocation.<Supplier<?>>getArgument(1).get()));
+    when(s3Service.deleteObjects(anyString(), any())).thenReturn(List.of());
+  }
+
+  private static S3Object object(String key, Instant lastModified) {
+    return S3Object.builder().key(key).lastModified(lastModified).build();
+  }
+
+  private static ListObjectsV2Response page(List<S3Object> contents, String nextToken) {
+    return ListObjectsV2Response.builder()
+        .contents(contents)
+        .isTruncated(nextToken != null)
+        .nextContinuationToken(nextToken)
+        .build();
+  }
+
+  private static List<S3Object> oldObjects(int from, int count) {
+    return IntStream.range(from, from + count)
+        .mapToObj(i -> object("vehicles/1/" + i + ".jpg", OLD))
+        .toList();
+  }
+
+  @Test
+  @DisplayName("En seco debe informar solo objetos antiguos sin registro y no eliminar nada")
+  void shouldReportWithoutDeletingOnDryRun() {
+    when(s3Service.listObjects("sgivu-vehicles", "vehicles/", null))
+        .thenReturn(
+            page(
+                List.of(
+                    object("vehicles/1/a.jpg", OLD),
+                    object("vehicles/1/a-thumbnail.jpg", OLD),
+                    object("vehicles/1/orphan.jpg", OLD),
+                    object("vehicles/1/new.jpg", NOW.minus(Duration.ofHours(1)))),
+                null));
+    when(vehicleImageRepository.findReferencedKeys(any(String[].class)))
+        .thenReturn(List.of("vehicles/1/a.jpg", "vehicles/1/a-thumbnail.jpg"));
+
+    OrphanObjectCollector.Report report = collector.run(true).orElseThrow();
+
+    assertEquals(4, report.scanned());
+    assertEquals(1, report.recent());
+    assertEquals(2, report.referenced());
+    assertEquals(1, report.orphans());
+    assertEquals(List.of("vehicles/1/orphan.jpg"), report.sample());
+    assertEquals(0, report.deleted());
+    verify(vehicleImageRepository)
+        .findReferencedKeys(
+            new String[] {
+              "vehicles/1/a.jpg", "vehicles/1/a-thumbnail.jpg", "vehicles/1/orphan.jpg"
+            });
+    verify(s3Service, never()).deleteObjects(anyString(), any());
+  }
+
+  @Test
+  @DisplayName("Debe paginar el listado y eliminar en lotes de 1000 keys")
+  void shouldPaginateAndDeleteInBatches() {
+    when(s3Service.listObjects("sgivu-vehicles", "vehicles/", null))
+        .thenReturn(page(oldObjects(0, 1000), "t1"));
+    when(s3Service.listObjects("sgivu-vehicles", "vehicles/", "t1"))
+        .thenReturn(page(oldObjects(1000, 1000), "t2"));
+    when(s3Service.listObjects("sgivu-vehicles", "vehicles/", "t2"))
+        .thenReturn(page(oldObjects(2000, 500), null));
+    when(vehicleImageRepository.findReferencedKeys(any(String[].class))).thenReturn(List.of());
+    when(s3Service.deleteObjects(eq("sgivu-vehicles"), any()))
+        .thenReturn(List.of())
+        .thenReturn(List.of("vehicles/1/1500.jpg"))
+        .thenReturn(List.of());
+
+    OrphanObjectCollector.Report report = collector.run(false).orElseThrow();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Collection<String>> batches = ArgumentCaptor.forClass(Collection.class);
+    verify(s3Service, times(3)).deleteObjects(eq("sgivu-vehicles"), batches.capture());
+    assertEquals(
+        List.of(1000, 1000, 500), batches.getAllValues().stream().map(Collection::size).toList());
+    assertEquals(2500, report.orphans());
+    assertEquals(2499, report.deleted());
+    assertEquals(1, report.failed());
+    assertEquals(2499, meterRegistry.counter("sgivu.vehicle.orphan_gc.deleted").count());
+    // Una transacción corta por página, no una que abarque listados y borrados
+    verify(transactionManager, times(3)).getTransaction(any());
+  }
+
+  @Test
+  @DisplayName("Debe detenerse al alcanzar el máximo de eliminaciones por ejecución")
+  void shouldStopAtMaxDeletesPerRun() {
+    properties.setMaxDeletesPerRun(1500);
+    when(s3Service.listObjects("sgivu-vehicles", "vehicles/", null))
+        .thenReturn(page(oldObjects(0, 1000), "t1"));
+    when(s3Service.listObjects("sgivu-vehicles", "vehicles/", "t1"))
+        .thenReturn(page(oldObjects(1000, 1000), "t2"));
+    when(vehicleImageRepository.findReferencedKeys(any(String[].class))).thenReturn(List.of());
+
+    OrphanObjectCollector.Report report = collector.run(false).orElseThrow();
+
+    assertTrue(report.truncated());
+    assertEquals(1500, report.orphans());
+    assertEquals(1500, report.deleted());
+    verify(s3Service, never()).listObjects(anyString(), anyString(), eq("t2"));
+  }
+
+  @Test
+  @DisplayName("No debe ejecutarse si otra instancia tiene el candado")
+  void shouldSkipWhenLockIsHeldElsewhere() {
+    when(advisoryLockRepository.runWithLock(eq(OrphanObjectCollector.LOCK_KEY), any()))
+        .thenReturn(Optional.empty());
+
+    assertTrue(collector.run(false).isEmpty());
+    verify(s3Service, never()).listObjects(anyString(), anyString(), isNull());
+    verifyNoMoreInteractions(s3Service);
+  }
+
+  @Test
+  @DisplayName("Debe omitir la consulta cuando todos los objetos están en el periodo de gracia")
+  void shouldSkipQueryWhenAllObjectsAreRecent() {
+    when(s3Service.listObjects("sgivu-vehicles", "vehicles/", null))
+        .thenReturn(page(List.of(object("vehicles/1/x.jpg", NOW)), null));
+
+    OrphanObjectCollector.Report report = collector.run(false).orElseThrow();
+
+    assertEquals(1, report.recent());
+    verify(vehicleImageRepository, never()).findReferencedKeys(any(String[].class));
+    assertEquals(0, report.deleted());
+  }
+}
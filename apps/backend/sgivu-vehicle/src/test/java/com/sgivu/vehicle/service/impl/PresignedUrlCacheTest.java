@@ -0,0 +1,160 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+class PresignedUrlCacheTest {
+
+  private static final Duration SIGNATURE = Duration.ofMinutes(15);
+  private static final Duration MIN_REMAINING = Duration.ofMinutes(5);
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+  private SimpleMeterRegistry meterRegistry;
+  private AtomicInteger signCount;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    signCount = new AtomicInteger();
+  }
+
+  private Supplier<String> signer() {
+    return () -> "https://s3.example.com/object?sig=" + signCount.incrementAndGet();
+  }
+
+  private PresignedUrlCache localCache() {
+    return new PresignedUrlCache(meterRegistry, null, 100, MIN_REMAINING, clock);
+  }
+
+  @Nested
+  @DisplayName("get(String, String, Duration, Supplier)")
+  class GetTests {
+
+    @Test
+    @DisplayName("Debe reutilizar la URL firmada mientras conserve el margen mínimo de validez")
+    void shouldReuseUrlUntilSafetyMargin() {
+      PresignedUrlCache cache = localCache();
+
+      String first = cache.get("bucket", "vehicles/1/a.jpg", SIGNATURE, signer());
+      clock.advance(Duration.ofMinutes(9));
+      String second = cache.get("bucket", "vehicles/1/a.jpg", SIGNATURE, signer());
+
+      assertEquals(first, second);
+      assertEquals(1, signCount.get());
+      assertEquals(
+          1.0, meterRegistry.get("sgivu.vehicle.presigned_url.signings").counter().count());
+      assertEquals(0.5, meterRegistry.get("sgivu.vehicle.presigned_url.hit_ratio").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe volver a firmar antes de que caduque la firma")
+    void shouldResignBeforeSignatureExpires() {
+      PresignedUrlCache cache = localCache();
+
+      String first = cache.get("bucket", "vehicles/1/a.jpg", SIGNATURE, signer());
+      clock.advance(Duration.ofMinutes(10));
+      String second = cache.get("bucket", "vehicles/1/a.jpg", SIGNATURE, signer());
+
+      assertNotEquals(first, second);
+      assertEquals(2, signCount.get());
+    }
+
+    @Test
+    @DisplayName("No debe cachear firmas más cortas que el margen mínimo")
+    void shouldNotCacheShortSignatures() {
+      PresignedUrlCache cache = localCache();
+
+      cache.get("bucket", "key", Duration.ofMinutes(2), signer());
+      cache.get("bucket", "key", Duration.ofMinutes(2), signer());
+
+      assertEquals(2, signCount.get());
+    }
+
+    @Test
+    @DisplayName("Debe usar la URL compartida en Redis y firmar si Redis falla")
+    @SuppressWarnings("unchecked")
+    void shouldUseSharedEntryAndFallBackWhenRedisFails() {
+      StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+      ValueOperations<String, String> ops = mock(ValueOperations.class);
+      when(redisTemplate.opsForValue()).thenReturn(ops);
+      Instant usableUntil = clock.instant().plus(Duration.ofMinutes(8));
+      when(ops.get(PresignedUrlCache.REDIS_KEY_PREFIX + "bucket/shared"))
+          .thenReturn(usableUntil.toEpochMilli() + " https://s3.example.com/shared");
+      when(ops.get(PresignedUrlCache.REDIS_KEY_PREFIX + "bucket/broken"))
+          .thenThrow(new IllegalStateException("redis down"));
+      PresignedUrlCache cache =
+          new PresignedUrlCache(meterRegistry, redisTemplate, 100, MIN_REMAINING, clock);
+
+      assertEquals(
+          "https://s3.example.com/shared", cache.get("bucket", "shared", SIGNATURE, signer()));
+      assertEquals(0, signCount.get());
+
+      cache.get("bucket", "broken", SIGNATURE, signer());
+      assertEquals(1, signCount.get());
+      verify(ops).set(eq(PresignedUrlCache.REDIS_KEY_PREFIX + "bucket/broken"), anyString(), any());
+    }
+  }
+
+  @Nested
+  @DisplayName("evict(String, String)")
+  class EvictTests {
+
+    @Test
+    @DisplayName("Debe descartar la URL del objeto para forzar una nueva firma")
+    void shouldEvictEntry() {
+      PresignedUrlCache cache = localCache();
+
+      cache.get("bucket", "vehicles/1/a.jpg", SIGNATURE, signer());
+      cache.evict("bucket", "vehicles/1/a.jpg");
+      cache.get("bucket", "vehicles/1/a.jpg", SIGNATURE, signer());
+
+      assertEquals(2, signCount.get());
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
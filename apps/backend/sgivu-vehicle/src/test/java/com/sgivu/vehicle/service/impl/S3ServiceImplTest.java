@@ -3,20 +3,34 @@ package com.sgivu.vehicle.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import com.sgivu.vehicle.config.S3DownloadProperties;
+import com.sgivu.vehicle.exception.StorageUnavailableException;
+import com.sgivu.vehicle.service.S3ObjectContent;
+import com.sgivu.vehicle.support.InMemoryS3Client;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
+import java.util.Random;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -29,6 +43,7 @@ public class S3ServiceImplTest {
 
   @Mock private S3Client s3Client;
   @Mock private S3Presigner s3Presigner;
+  @Spy private S3DownloadProperties downloadProperties = new S3DownloadProperties();
 
   @InjectMocks private S3ServiceImpl s3Service;
 
@@ -157,4 +172,144 @@ public class S3ServiceImplTest {
       verify(s3Client).putObject(any(PutObjectRequest.class), eq(Path.of("dummy")));
     }
   }
+
+  @Nested
+  @DisplayName("Descargas en streaming")
+  class StreamingDownloadTests {
+
+    private final InMemoryS3Client storage = new InMemoryS3Client();
+    @TempDir Path tempDir;
+
+    private S3ServiceImpl serviceWith(int parallelism, long partSize, long parallelThreshold) {
+      S3DownloadProperties properties = new S3DownloadProperties();
+      properties.setBufferSize(DataSize.ofBytes(64));
+      properties.setPartSize(DataSize.ofBytes(partSize));
+      properties.setParallelThreshold(DataSize.ofBytes(parallelThreshold));
+      properties.setParallelism(parallelism);
+      return new S3ServiceImpl(storage, s3Presigner, properties);
+    }
+
+    private byte[] randomBytes(int size) {
+      byte[] content = new byte[size];
+      new Random(42).nextBytes(content);
+      return content;
+    }
+
+    @Test
+    @DisplayName("Debe descargar con un único GET cuando el paralelismo está desactivado")
+    void shouldDownloadSequentially() throws IOException {
+      byte[] content = randomBytes(10_000);
+      storage.put("bucket", "vehicles/1/a.jpg", content, "image/jpeg");
+      Path target = tempDir.resolve("a.jpg");
+
+      long written =
+          serviceWith(1, 1024, 2048).downloadToFile("bucket", "vehicles/1/a.jpg", target);
+
+      assertEquals(content.length, written);
+      assertArrayEquals(content, Files.readAllBytes(target));
+      assertEquals(1, storage.getRequests());
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir el objeto a partir de GETs por rangos en paralelo")
+    void shouldDownloadRangesInParallel() throws IOException {
+      byte[] content = randomBytes(10_000);
+      storage.put("bucket", "vehicles/1/big.jpg", content, "image/jpeg");
+      Path target = tempDir.resolve("big.jpg");
+
+      long written =
+          serviceWith(4, 1024, 2048).downloadToFile("bucket", "vehicles/1/big.jpg", target);
+
+      assertEquals(content.length, written);
+      assertArrayEquals(content, Files.readAllBytes(target));
+      assertEquals(10, storage.getRequests());
+    }
+
+    @Test
+    @DisplayName("Debe pedir el resto en un solo GET por debajo del umbral de paralelismo")
+    void shouldUseSingleRemainderRequestBelowThreshold() throws IOException {
+      byte[] content = randomBytes(5_000);
+      storage.put("bucket", "vehicles/1/mid.jpg", content, "image/jpeg");
+      Path target = tempDir.resolve("mid.jpg");
+
+      serviceWith(4, 1024, 1_000_000).downloadToFile("bucket", "vehicles/1/mid.jpg", target);
+
+      assertArrayEquals(content, Files.readAllBytes(target));
+      assertEquals(2, storage.getRequests());
+    }
+
+    @Test
+    @DisplayName("Debe descargar objetos vacíos y no dejar archivos parciales si falla")
+    void shouldHandleEmptyObjectsAndFailures() throws IOException {
+      storage.put("bucket", "vehicles/1/empty.jpg", new byte[0], "image/jpeg");
+      S3ServiceImpl service = serviceWith(4, 1024, 2048);
+
+      assertEquals(
+          0, service.downloadToFile("bucket", "vehicles/1/empty.jpg", tempDir.resolve("e.jpg")));
+      assertThrows(
+          NoSuchKeyException.class,
+          () -> service.downloadToFile("bucket", "vehicles/1/none.jpg", tempDir.resolve("n.jpg")));
+      try (var files = Files.list(tempDir)) {
+        assertEquals(List.of(tempDir.resolve("e.jpg")), files.toList());
+      }
+    }
+
+    @Test
+    @DisplayName("Debe abrir un rango y responder 304 cuando el ETag coincide")
+    void shouldOpenRangesAndHonorIfNoneMatch() throws IOException {
+      byte[] content = randomBytes(100);
+      storage.put("bucket", "vehicles/1/a.jpg", content, "image/jpeg");
+      S3ServiceImpl service = serviceWith(1, 1024, 2048);
+
+      try (S3ObjectContent partial =
+          service.openObject("bucket", "vehicles/1/a.jpg", "bytes=10-19", null)) {
+        assertEquals(S3ObjectContent.Status.PARTIAL_CONTENT, partial.status());
+        assertEquals("bytes 10-19/100", partial.contentRange());
+        assertEquals(10L, partial.contentLength());
+        assertArrayEquals(
+            java.util.Arrays.copyOfRange(content, 10, 20), partial.body().readAllBytes());
+      }
+
+      S3ObjectContent notModified =
+          service.openObject("bucket", "vehicles/1/a.jpg", null, InMemoryS3Client.eTag(content));
+      assertEquals(S3ObjectContent.Status.NOT_MODIFIED, notModified.status());
+      assertNull(notModified.body());
+
+      assertEquals(
+          S3ObjectContent.Status.RANGE_NOT_SATISFIABLE,
+          service.openObject("bucket", "vehicles/1/a.jpg", "bytes=500-", null).status());
+    }
+
+    @Test
+    @DisplayName("Debe consultar metadatos en paralelo y omitir las keys inexistentes")
+    void shouldHeadObjectsInParallel() {
+      storage.put("bucket", "vehicles/1/a.jpg", randomBytes(10), "image/jpeg");
+      storage.put("bucket", "vehicles/1/b.jpg", randomBytes(20), "image/png");
+      S3ServiceImpl service = serviceWith(4, 1024, 2048);
+
+      var heads =
+          service.headObjects(
+              "bucket", List.of("vehicles/1/a.jpg", "vehicles/1/missing.jpg", "vehicles/1/b.jpg"));
+
+      assertEquals(List.of("vehicles/1/a.jpg", "vehicles/1/b.jpg"), List.copyOf(heads.keySet()));
+      assertEquals(20L, heads.get("vehicles/1/b.jpg").contentLength());
+      assertEquals("image/jpeg", heads.get("vehicles/1/a.jpg").contentType());
+    }
+
+    @Test
+    @DisplayName("Debe traducir un fallo de S3 al consultar metadatos con o sin paralelismo")
+    void shouldWrapHeadFailuresRegardlessOfParallelism() {
+      when(s3Client.headObject(Mockito.<Consumer<HeadObjectRequest.Builder>>any()))
+          .thenThrow(SdkClientException.create("down"));
+      for (int parallelism : new int[] {1, 4}) {
+        S3DownloadProperties properties = new S3DownloadProperties();
+        properties.setParallelism(parallelism);
+        S3ServiceImpl service = new S3ServiceImpl(s3Client, s3Presigner, properties);
+
+        assertThrows(
+            StorageUnavailableException.class,
+            () -> service.headObjects("bucket", List.of("vehicles/1/a.jpg")));
+      }
+    }
+  }
 }
@@ -0,0 +1,210 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.config.SimilarVehicleProperties;
+import com.sgivu.vehicle.config.VehicleChangeFeedProperties;
+import com.sgivu.vehicle.dto.SimilarVehicleQuery;
+import com.sgivu.vehicle.dto.SimilarVehicleResponse;
+import com.sgivu.vehicle.event.VehiclesChangedEvent;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import com.sgivu.vehicle.repository.projection.SimilarityRowView;
+import com.sgivu.vehicle.repository.projection.VehicleChangeView;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class SimilarVehicleServiceImplTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+  private VehicleBaseRepository vehicleBaseRepository;
+  private SimilarVehicleServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    vehicleBaseRepository = mock(VehicleBaseRepository.class);
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    TransactionStatus status = new SimpleTransactionStatus();
+    when(transactionManager.getTransaction(any())).thenReturn(status);
+    service =
+        new SimilarVehicleServiceImpl(
+            vehicleBaseRepository,
+            new SimilarVehicleProperties(),
+            new VehicleChangeFeedProperties(),
+            transactionManager,
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+  }
+
+  private static SimilarityRowView row(
+      long id, String type, String brand, String line, int year, int mileage, double price) {
+    SimilarityRowView row = mock(SimilarityRowView.class);
+    when(row.getId()).thenReturn(id);
+    when(row.getVehicleType()).thenReturn(type);
+    when(row.getBrand()).thenReturn(brand);
+    when(row.getLine()).thenReturn(line);
+    when(row.getYear()).thenReturn(year);
+    when(row.getMileage()).thenReturn(mileage);
+    when(row.getSalePrice()).thenReturn(price);
+    when(row.getCapacity()).thenReturn(1800);
+    when(row.getStatus()).thenReturn("AVAILABLE");
+    return row;
+  }
+
+  private static SimilarityRowView row(long id, String brand, LocalDateTime updatedAt) {
+    SimilarityRowView row = row(id, "CAR", brand, "Corolla", 2019, 40_000, 70_000_000);
+    when(row.getUpdatedAt()).thenReturn(updatedAt);
+    return row;
+  }
+
+  private static VehicleChangeView change(
+      long id, String changeType, String brand, LocalDateTime changedAt) {
+    VehicleChangeView change = mock(VehicleChangeView.class);
+    when(change.getId()).thenReturn(id);
+    when(change.getChangeType()).thenReturn(changeType);
+    when(change.getChangedAt()).thenReturn(changedAt);
+    when(change.getVehicleType()).thenReturn("CAR");
+    when(change.getBrand()).thenReturn(brand);
+    when(change.getLine()).thenReturn("Corolla");
+    when(change.getYear()).thenReturn(2019);
+    when(change.getMileage()).thenReturn(40_000);
+    when(change.getSalePrice()).thenReturn(70_000_000d);
+    return change;
+  }
+
+  private void rebuildWith(SimilarityRowView... rows) {
+    when(vehicleBaseRepository.streamSimilarityRows()).thenReturn(Stream.of(rows));
+    service.rebuild();
+  }
+
+  private static List<Long> ids(List<SimilarVehicleResponse> results) {
+    return results.stream().map(SimilarVehicleResponse::id).toList();
+  }
+
+  @Test
+  @DisplayName("Debe ordenar por distancia dentro del mismo tipo y marca, excluyendo la referencia")
+  void shouldRankWithinPartition() {
+    SimilarityRowView reference = row(1, "CAR", "Toyota", "Corolla", 2019, 40_000, 70_000_000);
+    SimilarityRowView close = row(2, "CAR", "Toyota", "Corolla", 2020, 35_000, 72_000_000);
+    SimilarityRowView otherLine = row(3, "CAR", "Toyota", "Yaris", 2019, 40_000, 70_000_000);
+    SimilarityRowView far = row(4, "CAR", "Toyota", "Corolla", 2010, 150_000, 30_000_000);
+    SimilarityRowView otherBrand = row(5, "CAR", "Mazda", "3", 2019, 40_000, 70_000_000);
+    SimilarityRowView motorcycle = row(6, "MOTORCYCLE", "Toyota", "Corolla", 2019, 40_000, 7e7);
+    rebuildWith(reference, close, otherLine, far, otherBrand, motorcycle);
+
+    List<SimilarVehicleResponse> results = service.findSimilarTo(1L, 10).orElseThrow();
+
+    assertEquals(List.of(2L, 3L, 4L), ids(results));
+    assertTrue(results.get(0).distance() <= results.get(1).distance());
+    assertEquals(List.of(2L), ids(service.findSimilarTo(1L, 1).orElseThrow()));
+  }
+
+  @Test
+  @DisplayName("Debe buscar por atributos ignorando los omitidos y sin distinguir mayúsculas")
+  void shouldSearchByAttributes() {
+    rebuildWith(
+        row(1, "CAR", "Toyota", "Corolla", 2015, 80_000, 50_000_000),
+        row(2, "CAR", "Toyota", "Corolla", 2021, 20_000, 90_000_000));
+
+    List<SimilarVehicleResponse> results =
+        service.findSimilar(
+            new SimilarVehicleQuery("car", " TOYOTA ", "corolla", 2020, null, null, null), 5);
+
+    assertEquals(List.of(2L, 1L), ids(results));
+    verify(vehicleBaseRepository, times(1)).streamSimilarityRows();
+  }
+
+  @Test
+  @DisplayName("Debe actualizar y eliminar vehículos del índice al confirmar cambios")
+  void shouldApplyIncrementalChanges() {
+    rebuildWith(
+        row(1, "CAR", "Toyota", "Corolla", 2019, 40_000, 70_000_000),
+        row(2, "CAR", "Toyota", "Corolla", 2020, 35_000, 72_000_000));
+    SimilarityRowView moved = row(2, "CAR", "Mazda", "3", 2020, 35_000, 72_000_000);
+    SimilarityRowView created = row(3, "CAR", "Toyota", "Corolla", 2018, 45_000, 65_000_000);
+    when(vehicleBaseRepository.findSimilarityRowsByIds(any())).thenReturn(List.of(moved, created));
+
+    service.onVehiclesChanged(new VehiclesChangedEvent(List.of(2L, 3L)));
+    assertEquals(List.of(3L), ids(service.findSimilarTo(1L, 10).orElseThrow()));
+
+    when(vehicleBaseRepository.findSimilarityRowsByIds(any())).thenReturn(List.of());
+    service.onVehiclesChanged(new VehiclesChangedEvent(List.of(1L)));
+    assertTrue(service.findSimilarTo(1L, 10).isEmpty());
+    assertEquals(2, service.size());
+  }
+
+  @Test
+  @DisplayName("No debe pisar un vehículo con una lectura anterior que se aplica tarde")
+  void shouldIgnoreStaleReads() {
+    rebuildWith(row(1, "Toyota", NOW.minusHours(2)), row(2, "Toyota", NOW.minusHours(1)));
+    SimilarityRowView stale = row(2, "Mazda", NOW.minusHours(3));
+    when(vehicleBaseRepository.findSimilarityRowsByIds(any())).thenReturn(List.of(stale));
+
+    service.onVehiclesChanged(new VehiclesChangedEvent(List.of(2L)));
+
+    assertEquals(List.of(2L), ids(service.findSimilarTo(1L, 10).orElseThrow()));
+  }
+
+  @Test
+  @DisplayName("Debe aplicar los cambios del feed de otros pods desde el cursor de la construcción")
+  void shouldApplyChangeFeed() {
+    rebuildWith(row(1, "Toyota", NOW.minusHours(2)), row(2, "Toyota", NOW.minusHours(2)));
+    LocalDateTime t1 = NOW.minusSeconds(30);
+    LocalDateTime t2 = NOW.minusSeconds(20);
+    List<VehicleChangeView> changes =
+        List.of(change(3, "CREATED", "Toyota", t1), change(2, "DELETED", null, t2));
+    when(vehicleBaseRepository.findChanges(any(), anyLong(), any(), anyInt()))
+        .thenReturn(List.of());
+    when(vehicleBaseRepository.findChanges(
+            eq(NOW.minusSeconds(5)), eq(0L), eq(NOW.minusSeconds(5)), anyInt()))
+        .thenReturn(changes);
+
+    service.sync();
+
+    assertEquals(List.of(3L), ids(service.findSimilarTo(1L, 10).orElseThrow()));
+    verify(vehicleBaseRepository, times(1)).streamSimilarityRows();
+  }
+
+  @Test
+  @DisplayName("Debe reintentar la construcción si la primera falló")
+  void shouldRetryFailedBuild() {
+    Stream<SimilarityRowView> rows = Stream.of(row(1, "Toyota", NOW), row(2, "Toyota", NOW));
+    when(vehicleBaseRepository.streamSimilarityRows())
+        .thenThrow(new IllegalStateException("sin conexión"))
+        .thenReturn(rows);
+
+    service.rebuild();
+    assertEquals(0, service.size());
+
+    service.sync();
+    assertEquals(2, service.size());
+    verify(vehicleBaseRepository, never()).findChanges(any(), anyLong(), any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Debe validar el límite y los atributos obligatorios")
+  void shouldValidateRequests() {
+    assertThrows(InvalidRequestException.class, () -> service.findSimilarTo(1L, 0));
+    assertThrows(InvalidRequestException.class, () -> service.findSimilarTo(1L, 51));
+    assertThrows(
+        InvalidRequestException.class,
+        () ->
+            service.findSimilar(
+                new SimilarVehicleQuery("CAR", null, null, null, null, null, null), null));
+    assertTrue(service.findSimilarTo(99L, null).isEmpty());
+  }
+}
@@ -0,0 +1,237 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.dto.VehicleBulkUpdateRequest;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResponse;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResult;
+import com.sgivu.vehicle.dto.VehicleBulkUpdateResult.Outcome;
+import com.sgivu.vehicle.dto.VehicleInventoryStatsResponse;
+import com.sgivu.vehicle.dto.VehicleTypeStats;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.event.VehiclesChangedEvent;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import com.sgivu.vehicle.repository.projection.BulkUpdateRowView;
+import com.sgivu.vehicle.repository.projection.InventoryStatsView;
+import com.sgivu.vehicle.repository.projection.VehicleDetailView;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+class VehicleCatalogServiceImplTest {
+
+  @Mock private VehicleBaseRepository vehicleBaseRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks private VehicleCatalogServiceImpl vehicleCatalogService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  private static VehicleDetailView view(Long id, String vehicleType) {
+    VehicleDetailView view = mock(VehicleDetailView.class);
+    when(view.getId()).thenReturn(id);
+    when(view.getVehicleType()).thenReturn(vehicleType);
+    return view;
+  }
+
+  @Nested
+  @DisplayName("findDetailsByIds(Collection<Long>)")
+  class FindDetailsByIdsTests {
+
+    @Test
+    @DisplayName("Debe consultar una sola vez con IDs únicos y conservar el orden solicitado")
+    void shouldQueryOnceAndKeepRequestedOrder() {
+      VehicleDetailView car = view(1L, "CAR");
+      VehicleDetailView motorcycle = view(2L, "MOTORCYCLE");
+      when(vehicleBaseRepository.findDetailsByIds(any(Long[].class)))
+          .thenReturn(List.of(car, motorcycle));
+
+      List<VehicleDetailView> result =
+          vehicleCatalogService.findDetailsByIds(Arrays.asList(2L, null, 1L, 2L, 99L));
+
+      assertEquals(List.of(motorcycle, car), result);
+      ArgumentCaptor<Long[]> captor = ArgumentCaptor.forClass(Long[].class);
+      verify(vehicleBaseRepository, times(1)).findDetailsByIds(captor.capture());
+      assertArrayEquals(new Long[] {2L, 1L, 99L}, captor.getValue());
+    }
+
+    @Test
+    @DisplayName("Debe devolver lista vacía sin consultar cuando no hay IDs")
+    void shouldReturnEmptyWithoutQuerying() {
+      assertTrue(vehicleCatalogService.findDetailsByIds(List.of()).isEmpty());
+      assertTrue(vehicleCatalogService.findDetailsByIds(Arrays.asList(null, null)).isEmpty());
+      verifyNoInteractions(vehicleBaseRepository);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes que superen el máximo permitido")
+    void shouldRejectOversizedBatch() {
+      List<Long> ids =
+          LongStream.rangeClosed(1, VehicleCatalogServiceImpl.MAX_BATCH_SIZE + 1L).boxed().toList();
+
+      assertThrows(
+          InvalidRequestException.class, () -> vehicleCatalogService.findDetailsByIds(ids));
+      verifyNoInteractions(vehicleBaseRepository);
+    }
+  }
+
+  private static InventoryStatsView statsRow(
+      String vehicleType, VehicleStatus status, long count, double purchase, double sale) {
+    InventoryStatsView row = mock(InventoryStatsView.class);
+    when(row.getVehicleType()).thenReturn(vehicleType);
+    when(row.getStatus()).thenReturn(status.name());
+    when(row.getCount()).thenReturn(count);
+    when(row.getPurchaseValue()).thenReturn(purchase);
+    when(row.getSaleValue()).thenReturn(sale);
+    return row;
+  }
+
+  @Nested
+  @DisplayName("getInventoryStats()")
+  class GetInventoryStatsTests {
+
+    @Test
+    @DisplayName("Debe agregar por tipo y estado con una sola consulta")
+    void shouldAggregateByTypeAndStatus() {
+      List<InventoryStatsView> rows =
+          List.of(
+              statsRow("CAR", VehicleStatus.AVAILABLE, 3, 300, 360),
+              statsRow("CAR", VehicleStatus.SOLD, 2, 200, 240),
+              statsRow("MOTORCYCLE", VehicleStatus.AVAILABLE, 4, 40, 48),
+              statsRow("MOTORCYCLE", VehicleStatus.IN_REPAIR, 1, 10, 12));
+      when(vehicleBaseRepository.aggregateInventory()).thenReturn(rows);
+
+      VehicleInventoryStatsResponse stats = vehicleCatalogService.getInventoryStats();
+
+      assertEquals(10, stats.total());
+      assertEquals(7L, stats.byStatus().get(VehicleStatus.AVAILABLE));
+      assertEquals(0L, stats.byStatus().get(VehicleStatus.INACTIVE));
+      assertEquals(350d, stats.inventoryValue());
+      assertEquals(420d, stats.saleValue());
+
+      VehicleTypeStats cars = stats.byType().get("CAR");
+      assertEquals(5, cars.total());
+      assertEquals(2L, cars.byStatus().get(VehicleStatus.SOLD));
+      assertEquals(300d, cars.inventoryValue());
+      assertEquals(5, stats.byType().get("MOTORCYCLE").total());
+      verify(vehicleBaseRepository, times(1)).aggregateInventory();
+    }
+
+    @Test
+    @DisplayName("Debe devolver ceros para todos los tipos y estados con el inventario vacío")
+    void shouldReturnZerosWhenEmpty() {
+      when(vehicleBaseRepository.aggregateInventory()).thenReturn(List.of());
+
+      VehicleInventoryStatsResponse stats = vehicleCatalogService.getInventoryStats();
+
+      assertEquals(0, stats.total());
+      assertEquals(List.of("CAR", "MOTORCYCLE"), List.copyOf(stats.byType().keySet()));
+      assertEquals(VehicleStatus.values().length, stats.byType().get("CAR").byStatus().size());
+      assertTrue(stats.byStatus().values().stream().allMatch(count -> count == 0L));
+    }
+  }
+
+  private static BulkUpdateRowView bulkRow(Long id, VehicleStatus previous, boolean updated) {
+    BulkUpdateRowView row = mock(BulkUpdateRowView.class);
+    when(row.getId()).thenReturn(id);
+    when(row.getPreviousStatus()).thenReturn(previous.name());
+    when(row.getUpdated()).thenReturn(updated);
+    return row;
+  }
+
+  @Nested
+  @DisplayName("bulkUpdate(VehicleBulkUpdateRequest)")
+  class BulkUpdateTests {
+
+    @Test
+    @DisplayName("Debe actualizar con una sola sentencia y devolver el resultado por ID")
+    void shouldUpdateOnceAndReportPerId() {
+      List<BulkUpdateRowView> rows =
+          List.of(
+              bulkRow(1L, VehicleStatus.AVAILABLE, true),
+              bulkRow(2L, VehicleStatus.IN_REPAIR, false));
+      when(vehicleBaseRepository.bulkUpdate(any(Long[].class), any(), any(), any(), any()))
+          .thenReturn(rows);
+
+      VehicleBulkUpdateResponse response =
+          vehicleCatalogService.bulkUpdate(
+              new VehicleBulkUpdateRequest(
+                  Arrays.asList(2L, 1L, null, 3L, 1L),
+                  VehicleStatus.SOLD,
+                  null,
+                  null,
+                  VehicleStatus.AVAILABLE));
+
+      assertEquals(1, response.updated());
+      assertEquals(
+          List.of(
+              new VehicleBulkUpdateResult(2L, Outcome.SKIPPED, VehicleStatus.IN_REPAIR),
+              new VehicleBulkUpdateResult(1L, Outcome.UPDATED, VehicleStatus.AVAILABLE),
+              new VehicleBulkUpdateResult(3L, Outcome.NOT_FOUND, null)),
+          response.results());
+      ArgumentCaptor<Long[]> captor = ArgumentCaptor.forClass(Long[].class);
+      verify(vehicleBaseRepository, times(1))
+          .bulkUpdate(captor.capture(), eq("SOLD"), isNull(), isNull(), eq("AVAILABLE"));
+      assertArrayEquals(new Long[] {2L, 1L, 3L}, captor.getValue());
+      verify(eventPublisher).publishEvent(new VehiclesChangedEvent(List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("Debe pasar solo los precios indicados")
+    void shouldPassOnlyGivenPrices() {
+      when(vehicleBaseRepository.bulkUpdate(any(Long[].class), any(), any(), any(), any()))
+          .thenReturn(List.of());
+
+      vehicleCatalogService.bulkUpdate(
+          new VehicleBulkUpdateRequest(List.of(1L), null, null, 50_000_000d, null));
+
+      verify(vehicleBaseRepository)
+          .bulkUpdate(any(Long[].class), isNull(), isNull(), eq(50_000_000d), isNull());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar solicitudes sin IDs, sin cambios o con precios negativos")
+    void shouldRejectInvalidRequests() {
+      assertThrows(
+          InvalidRequestException.class,
+          () ->
+              vehicleCatalogService.bulkUpdate(
+                  new VehicleBulkUpdateRequest(List.of(), VehicleStatus.SOLD, null, null, null)));
+      assertThrows(
+          InvalidRequestException.class,
+          () ->
+              vehicleCatalogService.bulkUpdate(
+                  new VehicleBulkUpdateRequest(List.of(1L), null, null, null, null)));
+      assertThrows(
+          InvalidRequestException.class,
+          () ->
+              vehicleCatalogService.bulkUpdate(
+                  new VehicleBulkUpdateRequest(List.of(1L), null, -1d, null, null)));
+      List<Long> ids =
+          LongStream.rangeClosed(1, VehicleCatalogServiceImpl.MAX_BATCH_SIZE + 1L).boxed().toList();
+      assertThrows(
+          InvalidRequestException.class,
+          () ->
+              vehicleCatalogService.bulkUpdate(
+                  new VehicleBulkUpdateRequest(ids, VehicleStatus.SOLD, null, null, null)));
+      verifyNoInteractions(vehicleBaseRepository);
+    }
+  }
+}
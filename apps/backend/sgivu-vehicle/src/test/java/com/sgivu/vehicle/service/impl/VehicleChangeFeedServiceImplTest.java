@@ -0,0 +1,144 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.config.VehicleChangeFeedProperties;
+import com.sgivu.vehicle.dto.CarResponse;
+import com.sgivu.vehicle.dto.VehicleChange.ChangeType;
+import com.sgivu.vehicle.dto.VehicleChangeFeedResponse;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import com.sgivu.vehicle.mapper.VehicleMapper;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import com.sgivu.vehicle.repository.projection.VehicleChangeView;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VehicleChangeFeedServiceImplTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+  private VehicleBaseRepository vehicleBaseRepository;
+  private VehicleMapper vehicleMapper;
+  private VehicleChangeFeedProperties properties;
+  private VehicleChangeFeedServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    vehicleBaseRepository = mock(VehicleBaseRepository.class);
+    vehicleMapper = mock(VehicleMapper.class);
+    properties = new VehicleChangeFeedProperties();
+    properties.setDefaultPageSize(2);
+    properties.setSafetyLag(Duration.ofSeconds(5));
+    Instant now = NOW.toInstant(ZoneOffset.UTC);
+    service =
+        new VehicleChangeFeedServiceImpl(
+            vehicleBaseRepository, vehicleMapper, properties, Clock.fixed(now, ZoneOffset.UTC));
+  }
+
+  private static VehicleChangeView change(long id, String changeType, LocalDateTime changedAt) {
+    VehicleChangeView view = mock(VehicleChangeView.class);
+    when(view.getId()).thenReturn(id);
+    when(view.getChangeType()).thenReturn(changeType);
+    when(view.getChangedAt()).thenReturn(changedAt);
+    when(view.getVehicleType()).thenReturn("CAR");
+    return view;
+  }
+
+  @Test
+  @DisplayName("Sin cursor debe empezar desde el principio y excluir el margen de seguridad")
+  void shouldStartFromBeginningAndApplySafetyLag() {
+    when(vehicleBaseRepository.findChanges(any(), anyLong(), any(), anyInt()))
+        .thenReturn(List.of());
+
+    VehicleChangeFeedResponse response = service.findChanges(null, null, null);
+
+    assertTrue(response.changes().isEmpty());
+    assertFalse(response.hasMore());
+    verify(vehicleBaseRepository)
+        .findChanges(VehicleChangeFeedServiceImpl.EPOCH, 0L, NOW.minusSeconds(5), 3);
+  }
+
+  @Test
+  @DisplayName("Debe recortar la página, mapear los cambios y devolver el cursor del último")
+  void shouldTrimPageAndReturnCursor() {
+    LocalDateTime t1 = NOW.minusHours(3);
+    LocalDateTime t2 = NOW.minusHours(2);
+    List<VehicleChangeView> rows =
+        List.of(
+            change(7, "CREATED", t1),
+            change(3, "DELETED", t2),
+            change(9, "UPDATED", NOW.minusHours(1)));
+    when(vehicleBaseRepository.findChanges(eq(t1.minusDays(1)), eq(1L), any(), eq(3)))
+        .thenReturn(rows);
+    CarResponse car = new CarResponse();
+    when(vehicleMapper.toVehicleResponse(rows.getFirst())).thenReturn(car);
+
+    VehicleChangeFeedResponse response = service.findChanges(t1.minusDays(1), 1L, null);
+
+    assertTrue(response.hasMore());
+    assertEquals(2, response.changes().size());
+    assertEquals(ChangeType.CREATED, response.changes().get(0).changeType());
+    assertSame(car, response.changes().get(0).vehicle());
+    assertEquals(ChangeType.DELETED, response.changes().get(1).changeType());
+    assertNull(response.changes().get(1).vehicle());
+    assertEquals(t2, response.nextAfterChangedAt());
+    assertEquals(3L, response.nextAfterId());
+    verify(vehicleMapper, times(1)).toVehicleResponse(any());
+  }
+
+  @Test
+  @DisplayName("Sin cambios nuevos debe adelantar el cursor hasta el margen de seguridad")
+  void shouldAdvanceCursorToWatermarkWhenNoChanges() {
+    LocalDateTime cursor = NOW.minus(properties.getTombstoneRetention()).plusMinutes(1);
+    when(vehicleBaseRepository.findChanges(any(), anyLong(), any(), anyInt()))
+        .thenReturn(List.of());
+
+    VehicleChangeFeedResponse response = service.findChanges(cursor, 42L, 10);
+
+    assertTrue(response.changes().isEmpty());
+    assertEquals(NOW.minusSeconds(5), response.nextAfterChangedAt());
+    assertEquals(Long.MAX_VALUE, response.nextAfterId());
+  }
+
+  @Test
+  @DisplayName("Debe conservar un cursor que ya está por delante del margen de seguridad")
+  void shouldKeepCursorAheadOfWatermark() {
+    LocalDateTime cursor = NOW.minusSeconds(1);
+    when(vehicleBaseRepository.findChanges(any(), anyLong(), any(), anyInt()))
+        .thenReturn(List.of());
+
+    VehicleChangeFeedResponse response = service.findChanges(cursor, 42L, 10);
+
+    assertEquals(cursor, response.nextAfterChangedAt());
+    assertEquals(42L, response.nextAfterId());
+  }
+
+  @Test
+  @DisplayName("Debe rechazar cursores incompletos, vencidos y tamaños fuera de rango")
+  void shouldRejectInvalidRequests() {
+    assertThrows(InvalidRequestException.class, () -> service.findChanges(NOW, null, null));
+    assertThrows(InvalidRequestException.class, () -> service.findChanges(null, 1L, null));
+    assertThrows(
+        InvalidRequestException.class,
+        () ->
+            service.findChanges(
+                NOW.minus(properties.getTombstoneRetention()).minusSeconds(1), 1L, null));
+    assertThrows(InvalidRequestException.class, () -> service.findChanges(null, null, 0));
+    assertThrows(
+        InvalidRequestException.class,
+        () -> service.findChanges(null, null, properties.getMaxPageSize() + 1));
+    verifyNoInteractions(vehicleBaseRepository);
+  }
+}
@@ -0,0 +1,208 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sgivu.vehicle.config.VehicleFacetProperties;
+import com.sgivu.vehicle.dto.CarSearchCriteria;
+import com.sgivu.vehicle.dto.MotorcycleSearchCriteria;
+import com.sgivu.vehicle.dto.VehicleFacetCount;
+import com.sgivu.vehicle.dto.VehicleFacetsResponse;
+import com.sgivu.vehicle.dto.VehiclePriceRangeCount;
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.repository.CarRepository;
+import com.sgivu.vehicle.repository.MotorcycleRepository;
+import com.sgivu.vehicle.service.CarService;
+import com.sgivu.vehicle.service.MotorcycleService;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Las facetas ({@code countFacets}, SQL nativo) y la búsqueda ({@code CarSpecifications} y {@code
+ * MotorcycleSpecifications}, Criteria API) implementan los mismos filtros por separado: para cada
+ * criterio, el total de las facetas y la suma de cada faceta deben coincidir con el total de la
+ * búsqueda.
+ *
+ * <p>Corre con el resto de pruebas sobre un contenedor PostgreSQL (ver {@link
+ * PostgresTestContext}); sin Docker ni {@code -Dbenchmark.jdbc-url} se omite.
+ */
+@EnabledIf("com.sgivu.vehicle.service.impl.PostgresTestContext#isAvailable")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VehicleFacetConsistencyTest {
+
+  private static final int VEHICLES = 60;
+  private static final List<VehicleStatus> STATUSES = List.of(VehicleStatus.values());
+
+  private PostgresTestContext database;
+  private CarService carService;
+  private MotorcycleService motorcycleService;
+
+  @Configuration(proxyBeanMethods = false)
+  @Import({
+    PostgresTestContext.Persistence.class,
+    VehicleFacetProperties.class,
+    CarServiceImpl.class,
+    MotorcycleServiceImpl.class
+  })
+  static class FacetConfig {}
+
+  @BeforeAll
+  void startContext() {
+    database = PostgresTestContext.start(FacetConfig.class);
+    carService = database.getBean(CarService.class);
+    motorcycleService = database.getBean(MotorcycleService.class);
+    seed(database.getBean(CarRepository.class), database.getBean(MotorcycleRepository.class));
+  }
+
+  @AfterAll
+  void closeContext() {
+    if (database != null) {
+      database.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Autos: las facetas cuentan lo mismo que la búsqueda para cada filtro")
+  void carFacetsMatchSearch() {
+    List<CarSearchCriteria> criteria =
+        List.of(
+            CarSearchCriteria.builder().build(),
+            CarSearchCriteria.builder().plate("FCA012").build(),
+            CarSearchCriteria.builder().plate("CA01").build(),
+            CarSearchCriteria.builder().brand("facet").build(),
+            CarSearchCriteria.builder().brand("ma").build(),
+            CarSearchCriteria.builder().line("line 1").build(),
+            CarSearchCriteria.builder().model("mod").build(),
+            CarSearchCriteria.builder().fuelType("diesel").build(),
+            CarSearchCriteria.builder().bodyType("su").build(),
+            CarSearchCriteria.builder().transmission("Automática").build(),
+            CarSearchCriteria.builder().cityRegistered("medellín").build(),
+            CarSearchCriteria.builder().status(VehicleStatus.AVAILABLE).build(),
+            CarSearchCriteria.builder().minYear(2010).maxYear(2015).build(),
+            CarSearchCriteria.builder().minCapacity(1200).maxCapacity(1800).build(),
+            CarSearchCriteria.builder().minMileage(50_000).maxMileage(200_000).build(),
+            CarSearchCriteria.builder()
+                .minSalePrice(50_000_000d)
+                .maxSalePrice(120_000_000d)
+                .build(),
+            CarSearchCriteria.builder()
+                .brand("facet")
+                .fuelType("gas")
+                .status(VehicleStatus.SOLD)
+                .minYear(2008)
+                .build());
+
+    for (CarSearchCriteria criterion : criteria) {
+      long searched = carService.search(criterion, Pageable.ofSize(1)).getTotalElements();
+      assertConsistent(searched, carService.facets(criterion));
+    }
+  }
+
+  @Test
+  @DisplayName("Motocicletas: las facetas cuentan lo mismo que la búsqueda para cada filtro")
+  void motorcycleFacetsMatchSearch() {
+    List<MotorcycleSearchCriteria> criteria =
+        List.of(
+            MotorcycleSearchCriteria.builder().build(),
+            MotorcycleSearchCriteria.builder().plate("FMO012").build(),
+            MotorcycleSearchCriteria.builder().plate("MO01").build(),
+            MotorcycleSearchCriteria.builder().brand("facet").build(),
+            MotorcycleSearchCriteria.builder().line("li").build(),
+            MotorcycleSearchCriteria.builder().model("modelo 3").build(),
+            MotorcycleSearchCriteria.builder().motorcycleType("sport").build(),
+            MotorcycleSearchCriteria.builder().transmission("manual").build(),
+            MotorcycleSearchCriteria.builder().cityRegistered("cal").build(),
+            MotorcycleSearchCriteria.builder().status(VehicleStatus.IN_REPAIR).build(),
+            MotorcycleSearchCriteria.builder().minYear(2012).build(),
+            MotorcycleSearchCriteria.builder().maxCapacity(1500).build(),
+            MotorcycleSearchCriteria.builder().minMileage(100_000).build(),
+            MotorcycleSearchCriteria.builder().maxSalePrice(40_000_000d).build(),
+            MotorcycleSearchCriteria.builder()
+                .brand("facet")
+                .motorcycleType("naked")
+                .maxYear(2020)
+                .build());
+
+    for (MotorcycleSearchCriteria criterion : criteria) {
+      long searched = motorcycleService.search(criterion, Pageable.ofSize(1)).getTotalElements();
+      assertConsistent(searched, motorcycleService.facets(criterion));
+    }
+  }
+
+  private static void assertConsistent(long searched, VehicleFacetsResponse facets) {
+    assertEquals(searched, facets.total(), "total de facetas");
+    facets
+        .facets()
+        .forEach(
+            (facet, counts) ->
+                assertEquals(
+                    searched,
+                    counts.stream().mapToLong(VehicleFacetCount::count).sum(),
+                    "suma de la faceta " + facet));
+    if (searched > 0) {
+      assertEquals(
+          searched,
+          facets.priceRanges().stream().mapToLong(VehiclePriceRangeCount::count).sum(),
+          "suma de los rangos de precio");
+    }
+  }
+
+  private static void seed(CarRepository carRepository, MotorcycleRepository motorcycleRepository) {
+    if (carRepository.findByPlate("FCA000").isPresent()) {
+      return;
+    }
+    carRepository.saveAll(
+        IntStream.range(0, VEHICLES)
+            .mapToObj(
+                i -> {
+                  Car car = new Car();
+                  fill(car, "FCA", i);
+                  car.setBodyType(List.of("Sedan", "SUV", "Hatchback").get(i % 3));
+                  car.setFuelType(List.of("Gasolina", "Diesel", "Eléctrico").get(i % 3));
+                  car.setNumberOfDoors(i % 2 == 0 ? 4 : 2);
+                  return car;
+                })
+            .toList());
+    motorcycleRepository.saveAll(
+        IntStream.range(0, VEHICLES)
+            .mapToObj(
+                i -> {
+                  Motorcycle motorcycle = new Motorcycle();
+                  fill(motorcycle, "FMO", i);
+                  motorcycle.setMotorcycleType(List.of("Sport", "Naked", "Scooter").get(i % 3));
+                  return motorcycle;
+                })
+            .toList());
+  }
+
+  private static void fill(Vehicle vehicle, String platePrefix, int i) {
+    String suffix = String.format("%03d", i);
+    vehicle.setPlate(platePrefix + suffix);
+    vehicle.setMotorNumber(platePrefix + "MN" + suffix);
+    vehicle.setSerialNumber(platePrefix + "SN" + suffix);
+    vehicle.setChassisNumber(platePrefix + "CH" + suffix);
+    vehicle.setBrand(List.of("FacetToyota", "FacetMazda", "FacetRenault", "Yamaha").get(i % 4));
+    vehicle.setModel("Modelo " + (i % 7));
+    vehicle.setLine("Line " + (i % 5));
+    vehicle.setCapacity(1000 + 100 * (i % 12));
+    vehicle.setColor("Rojo");
+    vehicle.setCityRegistered(List.of("Bogotá", "Medellín", "Cali").get(i % 3));
+    vehicle.setYear(2005 + i % 18);
+    vehicle.setMileage(i * 7_000);
+    vehicle.setTransmission(i % 2 == 0 ? "Manual" : "Automática");
+    vehicle.setStatus(STATUSES.get(i % STATUSES.size()));
+    vehicle.setPurchasePrice(8_000_000d + i * 2_500_000d);
+    vehicle.setSalePrice(10_000_000d + i * 3_000_000d);
+  }
+}
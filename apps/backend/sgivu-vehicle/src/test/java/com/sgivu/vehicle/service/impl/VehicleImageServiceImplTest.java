@@ -2,20 +2,39 @@ package com.sgivu.vehicle.service.impl;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.sgivu.vehicle.config.MultipartUploadProperties;
 import com.sgivu.vehicle.dto.VehicleImageConfirmUploadRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartCompleteRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartResumeRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartUploadRequest;
+import com.sgivu.vehicle.dto.VehicleImageMultipartUploadResponse;
+import com.sgivu.vehicle.dto.VehicleImagePartUploadUrl;
 import com.sgivu.vehicle.dto.VehicleImagePresignedUploadRequest;
 import com.sgivu.vehicle.dto.VehicleImagePresignedUploadResponse;
+import com.sgivu.vehicle.dto.VehicleImageResponse;
+import com.sgivu.vehicle.dto.VehicleImageUploadedPart;
 import com.sgivu.vehicle.entity.Car;
 import com.sgivu.vehicle.entity.VehicleImage;
+import com.sgivu.vehicle.entity.VehicleImageVariant;
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import com.sgivu.vehicle.event.VehicleImageConfirmedEvent;
 import com.sgivu.vehicle.repository.VehicleBaseRepository;
 import com.sgivu.vehicle.repository.VehicleImageRepository;
+import com.sgivu.vehicle.repository.VehicleImageVariantRepository;
+import com.sgivu.vehicle.service.S3ObjectContent;
 import com.sgivu.vehicle.service.S3Service;
 import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,9 +43,15 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.Part;
 
 public class VehicleImageServiceImplTest {
 
@@ -34,6 +59,10 @@ public class VehicleImageServiceImplTest {
   @Mock private VehicleImageRepository vehicleImageRepository;
   @Mock private S3Service s3Service;
   @Mock private S3Client s3Client;
+  @Mock private PresignedUrlCache presignedUrlCache;
+  @Mock private VehicleImageVariantRepository vehicleImageVariantRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+  @Spy private MultipartUploadProperties multipartProperties = new MultipartUploadProperties();
 
   @InjectMocks private VehicleImageServiceImpl service;
 
@@ -264,6 +293,10 @@ public class VehicleImageServiceImplTest {
       assertEquals("file3.jpg", saved.getFileName());
       assertTrue(saved.isPrimaryImage());
       verify(vehicleImageRepository).save(any());
+      verify(eventPublisher)
+          .publishEvent(
+              new VehicleImageConfirmedEvent(
+                  null, "sgivu-vehicles", "vehicles/7/file3.jpg", "image/png", 123L));
     }
 
     @Test
@@ -300,6 +333,283 @@ public class VehicleImageServiceImplTest {
     }
   }
 
+  @Nested
+  @DisplayName("confirmUploads(Long, List)")
+  class ConfirmUploadsTests {
+
+    private VehicleImageConfirmUploadRequest request(String name, Boolean primary) {
+      return new VehicleImageConfirmUploadRequest(
+          name, "image/jpeg", 100L, "vehicles/7/" + name, primary);
+    }
+
+    private void givenUploaded(String... names) {
+      Map<String, HeadObjectResponse> heads = new java.util.LinkedHashMap<>();
+      for (String name : names) {
+        heads.put(
+            "vehicles/7/" + name,
+            HeadObjectResponse.builder().contentType("image/jpeg").contentLength(100L).build());
+      }
+      when(s3Service.headObjects(eq("sgivu-vehicles"), any())).thenReturn(heads);
+    }
+
+    @Test
+    @DisplayName("Debe registrar el lote con un solo HEAD paralelo, una consulta y un saveAll")
+    void shouldRegisterBatchInSingleRoundTrips() {
+      when(vehicleBaseRepository.existsById(7L)).thenReturn(true);
+      when(vehicleBaseRepository.getReferenceById(7L)).thenReturn(new Car());
+      givenUploaded("a.jpg", "b.jpg");
+      when(vehicleImageRepository.findByKeyInOrVehicleIdAndFileNameIn(any(), eq(7L), any()))
+          .thenReturn(List.of());
+      when(vehicleImageRepository.existsByVehicleId(7L)).thenReturn(false);
+      when(vehicleImageRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+
+      List<VehicleImage> saved =
+          service.confirmUploads(
+              7L, List.of(request("a.jpg", null), request("b.jpg", Boolean.FALSE)));
+
+      assertEquals(
+          List.of("vehicles/7/a.jpg", "vehicles/7/b.jpg"),
+          saved.stream().map(VehicleImage::getKey).toList());
+      assertTrue(saved.get(0).isPrimaryImage());
+      assertFalse(saved.get(1).isPrimaryImage());
+      verify(s3Service, times(1)).headObjects(eq("sgivu-vehicles"), any());
+      verify(vehicleImageRepository, times(1)).saveAll(any());
+      verify(vehicleImageRepository, never()).save(any());
+      verify(vehicleImageRepository, never()).clearPrimaryByVehicleId(any());
+      verify(eventPublisher, times(2)).publishEvent(any(VehicleImageConfirmedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Debe desmarcar la principal anterior una sola vez cuando el lote trae principal")
+    void shouldClearExistingPrimaryOnce() {
+      when(vehicleBaseRepository.existsById(7L)).thenReturn(true);
+      when(vehicleBaseRepository.getReferenceById(7L)).thenReturn(new Car());
+      givenUploaded("a.jpg", "b.jpg");
+      when(vehicleImageRepository.findByKeyInOrVehicleIdAndFileNameIn(any(), eq(7L), any()))
+          .thenReturn(List.of());
+      when(vehicleImageRepository.saveAll(any())).thenAnswer(inv -> inv.getArgument(0));
+
+      List<VehicleImage> saved =
+          service.confirmUploads(
+              7L, List.of(request("a.jpg", null), request("b.jpg", Boolean.TRUE)));
+
+      assertFalse(saved.get(0).isPrimaryImage());
+      assertTrue(saved.get(1).isPrimaryImage());
+      verify(vehicleImageRepository, times(1)).clearPrimaryByVehicleId(7L);
+      verify(vehicleImageRepository, never()).existsByVehicleId(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el lote completo si falta algún objeto en S3")
+    void shouldRejectWhenAnyObjectIsMissing() {
+      when(vehicleBaseRepository.existsById(7L)).thenReturn(true);
+      givenUploaded("a.jpg");
+
+      IllegalArgumentException ex =
+          assertThrows(
+              IllegalArgumentException.class,
+              () ->
+                  service.confirmUploads(
+                      7L, List.of(request("a.jpg", null), request("b.jpg", null))));
+
+      assertTrue(ex.getMessage().contains("vehicles/7/b.jpg"));
+      verify(vehicleImageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una key ya registrada sin eliminar el objeto de esa imagen")
+    void shouldRejectRegisteredKeyWithoutDeletingItsObject() {
+      when(vehicleBaseRepository.existsById(7L)).thenReturn(true);
+      givenUploaded("a.jpg");
+      VehicleImage existing = new VehicleImage();
+      existing.setKey("vehicles/7/a.jpg");
+      existing.setFileName("a.jpg");
+      when(vehicleImageRepository.findByKeyInOrVehicleIdAndFileNameIn(any(), eq(7L), any()))
+          .thenReturn(List.of(existing));
+
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> service.confirmUploads(7L, List.of(request("a.jpg", null))));
+
+      verify(s3Service, never()).deleteObjects(any(), any());
+      verify(vehicleImageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los objetos subidos cuyo nombre de archivo ya está registrado")
+    void shouldDeleteUploadsWithRegisteredFileName() {
+      when(vehicleBaseRepository.existsById(7L)).thenReturn(true);
+      givenUploaded("a.jpg", "b.jpg");
+      VehicleImage existing = new VehicleImage();
+      existing.setKey("vehicles/7/old-a.jpg");
+      existing.setFileName("a.jpg");
+      when(vehicleImageRepository.findByKeyInOrVehicleIdAndFileNameIn(any(), eq(7L), any()))
+          .thenReturn(List.of(existing));
+
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.confirmUploads(7L, List.of(request("a.jpg", null), request("b.jpg", null))));
+
+      verify(s3Service).deleteObjects("sgivu-vehicles", List.of("vehicles/7/a.jpg"));
+      verify(vehicleImageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar el objeto subido cuyo nombre de archivo se repite en el lote")
+    void shouldDeleteUploadWithFileNameRepeatedInBatch() {
+      when(vehicleBaseRepository.existsById(7L)).thenReturn(true);
+      VehicleImageConfirmUploadRequest copy =
+          new VehicleImageConfirmUploadRequest(
+              "a.jpg", "image/jpeg", 100L, "vehicles/7/copy.jpg", null);
+
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> service.confirmUploads(7L, List.of(request("a.jpg", null), copy)));
+
+      verify(s3Service).deleteObject("sgivu-vehicles", "vehicles/7/copy.jpg");
+      verify(vehicleImageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Debe validar el lote antes de consultar S3")
+    void shouldValidateBatchBeforeCallingS3() {
+      when(vehicleBaseRepository.existsById(7L)).thenReturn(true);
+
+      assertThrows(IllegalArgumentException.class, () -> service.confirmUploads(7L, List.of()));
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.confirmUploads(7L, List.of(request("a.jpg", true), request("b.jpg", true))));
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.confirmUploads(7L, List.of(request("a.jpg", null), request("a.jpg", null))));
+      List<VehicleImageConfirmUploadRequest> oversized =
+          LongStream.rangeClosed(0, VehicleImageServiceImpl.MAX_UPLOAD_BATCH_SIZE)
+              .mapToObj(i -> request(i + ".jpg", null))
+              .toList();
+      assertThrows(IllegalArgumentException.class, () -> service.confirmUploads(7L, oversized));
+
+      verifyNoInteractions(s3Service);
+    }
+  }
+
+  @Nested
+  @DisplayName("createPresignedUploadUrls(Long, List)")
+  class CreatePresignedUploadUrlsTests {
+
+    @Test
+    @DisplayName("Debe devolver una URL por solicitud en el mismo orden")
+    void shouldReturnOneUrlPerRequest() {
+      when(s3Service.generatePresignedUploadUrl(eq("sgivu-vehicles"), anyString(), any(), any()))
+          .thenReturn("https://upload/1", "https://upload/2");
+
+      List<VehicleImagePresignedUploadResponse> responses =
+          service.createPresignedUploadUrls(
+              7L,
+              List.of(
+                  new VehicleImagePresignedUploadRequest("image/jpeg"),
+                  new VehicleImagePresignedUploadRequest("image/png")));
+
+      assertEquals(2, responses.size());
+      assertEquals("https://upload/1", responses.get(0).uploadUrl());
+      assertTrue(responses.get(1).key().startsWith("vehicles/7/"));
+    }
+  }
+
+  @Nested
+  @DisplayName("getImagesByVehicles(Collection<Long>, boolean)")
+  class GetImagesByVehiclesTests {
+
+    private VehicleImage image(Long id, Long vehicleId, boolean primary) {
+      var vehicle = new Car();
+      vehicle.setId(vehicleId);
+      VehicleImage image = new VehicleImage();
+      image.setId(id);
+      image.setVehicle(vehicle);
+      image.setBucket("sgivu-vehicles");
+      image.setKey("vehicles/" + vehicleId + "/" + id + ".jpg");
+      image.setPrimaryImage(primary);
+      return image;
+    }
+
+    @Test
+    @DisplayName("Debe consultar una sola vez y agrupar por vehículo en el orden solicitado")
+    void shouldQueryOnceAndGroupByVehicle() {
+      when(vehicleImageRepository.findByVehicleIds(any(Long[].class)))
+          .thenReturn(List.of(image(1L, 5L, true), image(2L, 5L, false), image(3L, 7L, true)));
+      when(presignedUrlCache.get(any(), any(), any(), any())).thenReturn("https://signed");
+
+      Map<Long, List<VehicleImageResponse>> result =
+          service.getImagesByVehicles(List.of(7L, 5L, 9L, 7L), false, ImageSizeClass.ORIGINAL);
+
+      assertEquals(List.of(7L, 5L, 9L), List.copyOf(result.keySet()));
+      assertEquals(2, result.get(5L).size());
+      assertEquals(1, result.get(7L).size());
+      assertTrue(result.get(9L).isEmpty());
+      verify(vehicleImageRepository).findByVehicleIds(new Long[] {7L, 5L, 9L});
+      verify(vehicleImageRepository, never()).findPrimaryByVehicleIds(any());
+      verify(presignedUrlCache, times(3)).get(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe usar la consulta de principales y prefirmar solo lo devuelto")
+    void shouldUsePrimaryQueryAndPresignOnlyReturnedImages() {
+      when(vehicleImageRepository.findPrimaryByVehicleIds(any(Long[].class)))
+          .thenReturn(List.of(image(1L, 5L, true)));
+      when(presignedUrlCache.get(any(), any(), any(), any())).thenReturn("https://signed");
+
+      Map<Long, List<VehicleImageResponse>> result =
+          service.getImagesByVehicles(List.of(5L, 6L), true, ImageSizeClass.ORIGINAL);
+
+      assertEquals("https://signed", result.get(5L).getFirst().url());
+      assertTrue(result.get(6L).isEmpty());
+      verify(vehicleImageRepository, never()).findByVehicleIds(any());
+      verify(presignedUrlCache, times(1)).get(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe servir el derivado pedido y recurrir al original cuando falta")
+    void shouldServeVariantOrFallBackToOriginal() {
+      VehicleImage withVariant = image(1L, 5L, true);
+      VehicleImage withoutVariant = image(2L, 5L, false);
+      VehicleImageVariant thumbnail = new VehicleImageVariant();
+      thumbnail.setImage(withVariant);
+      thumbnail.setSizeClass(ImageSizeClass.THUMBNAIL);
+      thumbnail.setBucket("sgivu-vehicles");
+      thumbnail.setKey("vehicles/5/1-thumbnail.jpg");
+      when(vehicleImageRepository.findByVehicleIds(any(Long[].class)))
+          .thenReturn(List.of(withVariant, withoutVariant));
+      when(vehicleImageVariantRepository.findByImageIdInAndSizeClass(
+              List.of(1L, 2L), ImageSizeClass.THUMBNAIL))
+          .thenReturn(List.of(thumbnail));
+      when(presignedUrlCache.get(eq("sgivu-vehicles"), any(), any(), any()))
+          .thenAnswer(invocation -> "https://signed/" + invocation.getArgument(1));
+
+      List<VehicleImageResponse> images =
+          service.getImagesByVehicles(List.of(5L), false, ImageSizeClass.THUMBNAIL).get(5L);
+
+      assertEquals("https://signed/vehicles/5/1-thumbnail.jpg", images.get(0).url());
+      assertEquals("https://signed/vehicles/5/2.jpg", images.get(1).url());
+      verify(vehicleImageVariantRepository, times(1)).findByImageIdInAndSizeClass(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar lotes que superen el máximo permitido")
+    void shouldRejectOversizedBatch() {
+      List<Long> ids =
+          LongStream.rangeClosed(1, VehicleImageServiceImpl.MAX_IMAGE_BATCH_VEHICLES + 1L)
+              .boxed()
+              .toList();
+
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> service.getImagesByVehicles(ids, true, ImageSizeClass.ORIGINAL));
+      verifyNoInteractions(vehicleImageRepository);
+    }
+  }
+
   @Nested
   @DisplayName("deleteImage(Long)")
   class DeleteImageTests {
@@ -335,6 +645,7 @@ public class VehicleImageServiceImplTest {
       service.deleteImage(imageId);
 
       verify(s3Service).deleteObject("sgivu-vehicles", "vehicles/11/file.jpg");
+      verify(presignedUrlCache).evict("sgivu-vehicles", "vehicles/11/file.jpg");
       verify(vehicleImageRepository).delete(image);
       verify(vehicleImageRepository, never())
           .findByVehicleIdOrderByPrimaryImageDescCreatedAtAsc(any());
@@ -389,4 +700,256 @@ public class VehicleImageServiceImplTest {
       assertFalse(remaining.get(1).isPrimaryImage());
     }
   }
+
+  @Nested
+  @DisplayName("openImageContent(Long, Long, ImageSizeClass, String, String)")
+  class OpenImageContentTests {
+
+    private VehicleImage image() {
+      Car vehicle = new Car();
+      vehicle.setId(3L);
+      VehicleImage image = new VehicleImage();
+      image.setId(30L);
+      image.setVehicle(vehicle);
+      image.setBucket("sgivu-vehicles");
+      image.setKey("vehicles/3/a.png");
+      return image;
+    }
+
+    @Test
+    @DisplayName("Debe devolver vacío si la imagen no pertenece al vehículo")
+    void shouldReturnEmptyForForeignImage() {
+      when(vehicleImageRepository.findByIdAndVehicleId(30L, 4L)).thenReturn(Optional.empty());
+
+      assertTrue(service.openImageContent(4L, 30L, ImageSizeClass.ORIGINAL, null, null).isEmpty());
+      verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("Debe abrir el derivado y reenviar un único rango y el ETag del cliente")
+    void shouldOpenVariantWithSingleRange() {
+      VehicleImage image = image();
+      VehicleImageVariant variant = new VehicleImageVariant();
+      variant.setImage(image);
+      variant.setBucket("sgivu-vehicles");
+      variant.setKey("vehicles/3/a-thumbnail.jpg");
+      when(vehicleImageRepository.findByIdAndVehicleId(30L, 3L)).thenReturn(Optional.of(image));
+      when(vehicleImageVariantRepository.findByImageIdInAndSizeClass(
+              List.of(30L), ImageSizeClass.THUMBNAIL))
+          .thenReturn(List.of(variant));
+      S3ObjectContent opened = S3ObjectContent.notModified("\"e\"");
+      when(s3Service.openObject(
+              "sgivu-vehicles", "vehicles/3/a-thumbnail.jpg", "bytes=0-99", "\"e\""))
+          .thenReturn(opened);
+
+      assertSame(
+          opened,
+          service
+              .openImageContent(3L, 30L, ImageSizeClass.THUMBNAIL, "bytes=0-99", "\"e\"")
+              .orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar rangos múltiples y servir el objeto completo")
+    void shouldIgnoreMultipleRanges() {
+      when(vehicleImageRepository.findByIdAndVehicleId(30L, 3L)).thenReturn(Optional.of(image()));
+      when(s3Service.openObject(any(), any(), any(), any()))
+          .thenReturn(S3ObjectContent.rangeNotSatisfiable());
+
+      service.openImageContent(3L, 30L, ImageSizeClass.ORIGINAL, "bytes=0-1,5-9", null);
+
+      verify(s3Service).openObject("sgivu-vehicles", "vehicles/3/a.png", null, null);
+    }
+  }
+
+  @Nested
+  @DisplayName("Subida multiparte")
+  class MultipartUploadTests {
+
+    private static final long MIB = 1024L * 1024L;
+
+    @Test
+    @DisplayName("Debe iniciar la subida y prefirmar una URL por parte")
+    void shouldInitiateAndPresignEveryPart() {
+      when(vehicleBaseRepository.existsById(5L)).thenReturn(true);
+      when(s3Service.createMultipartUpload(eq("sgivu-vehicles"), anyString(), eq("image/jpeg")))
+          .thenReturn("upload-1");
+      when(s3Service.generatePresignedUploadPartUrl(
+              eq("sgivu-vehicles"), anyString(), eq("upload-1"), anyInt(), any(Duration.class)))
+          .thenAnswer(inv -> "https://s3/part-" + inv.getArgument(3));
+
+      VehicleImageMultipartUploadResponse response =
+          service.initiateMultipartUpload(
+              5L, new VehicleImageMultipartUploadRequest("image/jpeg", 20 * MIB, null));
+
+      assertTrue(response.key().startsWith("vehicles/5/"));
+      assertTrue(response.key().endsWith(".jpg"));
+      assertEquals("upload-1", response.uploadId());
+      assertEquals(8 * MIB, response.partSize());
+      assertEquals(3, response.partCount());
+      assertEquals(
+          List.of(1, 2, 3),
+          response.partUploadUrls().stream().map(VehicleImagePartUploadUrl::partNumber).toList());
+      assertEquals("https://s3/part-3", response.partUploadUrls().get(2).uploadUrl());
+      assertTrue(response.uploadedParts().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe ajustar el tamaño de parte a los límites y al máximo de partes de S3")
+    void shouldNegotiatePartSize() {
+      assertEquals(5 * MIB, service.negotiatePartSize(100 * MIB, 1L));
+      assertEquals(64 * MIB, service.negotiatePartSize(100 * MIB, 1024 * MIB));
+      assertEquals(16 * MIB, service.negotiatePartSize(100 * MIB, 16 * MIB));
+
+      long hugeFile = 100_000 * MIB;
+      long partSize = service.negotiatePartSize(hugeFile, 5 * MIB);
+      assertTrue(Math.ceilDiv(hugeFile, partSize) <= VehicleImageServiceImpl.MAX_MULTIPART_PARTS);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tipos no permitidos, tamaños inválidos y vehículos inexistentes")
+    void shouldRejectInvalidInitiateRequests() {
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.initiateMultipartUpload(
+                  5L, new VehicleImageMultipartUploadRequest("text/plain", 10L, null)));
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.initiateMultipartUpload(
+                  5L, new VehicleImageMultipartUploadRequest("image/png", 0L, null)));
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.initiateMultipartUpload(
+                  5L,
+                  new VehicleImageMultipartUploadRequest(
+                      "image/png", multipartProperties.getMaxFileSize().toBytes() + 1, null)));
+
+      when(vehicleBaseRepository.existsById(5L)).thenReturn(false);
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.initiateMultipartUpload(
+                  5L, new VehicleImageMultipartUploadRequest("image/png", 10L, null)));
+      verify(s3Service, never()).createMultipartUpload(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe reanudar prefirmando solo las partes que S3 no ha recibido")
+    void shouldResumeWithPendingPartsOnly() {
+      when(s3Service.listUploadedParts("sgivu-vehicles", "vehicles/5/a.jpg", "upload-1"))
+          .thenReturn(
+              List.of(
+                  Part.builder().partNumber(1).eTag("\"e1\"").size(8 * MIB).build(),
+                  Part.builder().partNumber(3).eTag("\"e3\"").size(4 * MIB).build()));
+      when(s3Service.generatePresignedUploadPartUrl(
+              any(), any(), any(), anyInt(), any(Duration.class)))
+          .thenReturn("https://s3/part");
+
+      VehicleImageMultipartUploadResponse response =
+          service.resumeMultipartUpload(
+              5L,
+              "upload-1",
+              new VehicleImageMultipartResumeRequest("vehicles/5/a.jpg", 20 * MIB, 8 * MIB));
+
+      assertEquals(3, response.partCount());
+      assertEquals(
+          List.of(1, 3),
+          response.uploadedParts().stream().map(VehicleImageUploadedPart::partNumber).toList());
+      assertEquals(
+          List.of(2),
+          response.partUploadUrls().stream().map(VehicleImagePartUploadUrl::partNumber).toList());
+      verify(s3Service)
+          .generatePresignedUploadPartUrl(
+              eq("sgivu-vehicles"),
+              eq("vehicles/5/a.jpg"),
+              eq("upload-1"),
+              eq(2),
+              any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar reanudar con una key de otro vehículo o subida inexistente")
+    void shouldRejectInvalidResume() {
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.resumeMultipartUpload(
+                  5L,
+                  "upload-1",
+                  new VehicleImageMultipartResumeRequest("vehicles/6/a.jpg", 20 * MIB, 8 * MIB)));
+
+      when(s3Service.listUploadedParts(any(), any(), any()))
+          .thenThrow(NoSuchUploadException.builder().message("missing").build());
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.resumeMultipartUpload(
+                  5L,
+                  "upload-1",
+                  new VehicleImageMultipartResumeRequest("vehicles/5/a.jpg", 20 * MIB, 8 * MIB)));
+    }
+
+    @Test
+    @DisplayName("Debe completar con las partes ordenadas por número")
+    void shouldCompleteWithSortedParts() {
+      service.completeMultipartUpload(
+          5L,
+          "upload-1",
+          new VehicleImageMultipartCompleteRequest(
+              "vehicles/5/a.jpg",
+              List.of(
+                  new VehicleImageUploadedPart(2, "\"e2\"", null),
+                  new VehicleImageUploadedPart(1, "\"e1\"", null))));
+
+      verify(s3Service)
+          .completeMultipartUpload(
+              "sgivu-vehicles",
+              "vehicles/5/a.jpg",
+              "upload-1",
+              List.of(
+                  CompletedPart.builder().partNumber(1).eTag("\"e1\"").build(),
+                  CompletedPart.builder().partNumber(2).eTag("\"e2\"").build()));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar partes repetidas o sin ETag")
+    void shouldRejectInvalidParts() {
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.completeMultipartUpload(
+                  5L,
+                  "upload-1",
+                  new VehicleImageMultipartCompleteRequest(
+                      "vehicles/5/a.jpg",
+                      List.of(
+                          new VehicleImageUploadedPart(1, "\"e1\"", null),
+                          new VehicleImageUploadedPart(1, "\"e1\"", null)))));
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              service.completeMultipartUpload(
+                  5L,
+                  "upload-1",
+                  new VehicleImageMultipartCompleteRequest(
+                      "vehicles/5/a.jpg", List.of(new VehicleImageUploadedPart(1, " ", null)))));
+      verify(s3Service, never()).completeMultipartUpload(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe abortar de forma idempotente")
+    void shouldAbortIdempotently() {
+      doThrow(NoSuchUploadException.builder().message("missing").build())
+          .when(s3Service)
+          .abortMultipartUpload("sgivu-vehicles", "vehicles/5/a.jpg", "upload-1");
+
+      assertDoesNotThrow(() -> service.abortMultipartUpload(5L, "upload-1", "vehicles/5/a.jpg"));
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> service.abortMultipartUpload(5L, "upload-1", "vehicles/6/a.jpg"));
+    }
+  }
 }
@@ -0,0 +1,179 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.entity.VehicleImage;
+import com.sgivu.vehicle.entity.VehicleImageVariant;
+import com.sgivu.vehicle.enums.ImageSizeClass;
+import com.sgivu.vehicle.event.VehicleImageConfirmedEvent;
+import com.sgivu.vehicle.repository.VehicleImageRepository;
+import com.sgivu.vehicle.repository.VehicleImageVariantRepository;
+import com.sgivu.vehicle.support.InMemoryS3Client;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class VehicleImageVariantServiceImplTest {
+
+  private static final String BUCKET = "sgivu-vehicles";
+  private static final String KEY = "vehicles/5/photo.png";
+
+  @Mock private VehicleImageRepository vehicleImageRepository;
+  @Mock private VehicleImageVariantRepository vehicleImageVariantRepository;
+
+  private final InMemoryS3Client s3Client = new InMemoryS3Client();
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  private VehicleImageVariantServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    service =
+        new VehicleImageVariantServiceImpl(
+            s3Client,
+            vehicleImageRepository,
+            vehicleImageVariantRepository,
+            executor,
+            10 * 1024 * 1024,
+            0.8f);
+    when(vehicleImageRepository.getReferenceById(anyLong())).thenReturn(new VehicleImage());
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static byte[] png(int width, int height) throws Exception {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D graphics = image.createGraphics();
+    graphics.setColor(Color.BLUE);
+    graphics.fillRect(0, 0, width / 2, height);
+    graphics.dispose();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", output);
+    return output.toByteArray();
+  }
+
+  private static VehicleImageConfirmedEvent event(long size) {
+    return new VehicleImageConfirmedEvent(1L, BUCKET, KEY, "image/png", size);
+  }
+
+  @Nested
+  @DisplayName("generateVariants(VehicleImageConfirmedEvent)")
+  class GenerateVariantsTests {
+
+    @Test
+    @DisplayName("Debe subir una miniatura y una variante comprimida junto al original")
+    @SuppressWarnings("unchecked")
+    void shouldUploadAndRegisterVariants() throws Exception {
+      byte[] original = png(2000, 1000);
+      s3Client.put(BUCKET, KEY, original, "image/png");
+      when(vehicleImageRepository.existsById(1L)).thenReturn(true);
+
+      service.generateVariants(event(original.length));
+
+      var thumbnail = s3Client.get(BUCKET, "vehicles/5/photo-thumbnail.jpg");
+      var medium = s3Client.get(BUCKET, "vehicles/5/photo-medium.jpg");
+      assertNotNull(thumbnail);
+      assertNotNull(medium);
+      assertEquals("image/jpeg", thumbnail.contentType());
+      BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.content()));
+      assertEquals(320, decoded.getWidth());
+      assertEquals(160, decoded.getHeight());
+
+      ArgumentCaptor<List<VehicleImageVariant>> captor = ArgumentCaptor.forClass(List.class);
+      verify(vehicleImageVariantRepository).saveAll(captor.capture());
+      List<VehicleImageVariant> saved = captor.getValue();
+      assertEquals(
+          List.of(ImageSizeClass.THUMBNAIL, ImageSizeClass.MEDIUM),
+          saved.stream().map(VehicleImageVariant::getSizeClass).toList());
+      assertEquals(1024, saved.get(1).getWidth());
+      assertEquals((long) medium.content().length, saved.get(1).getSize());
+    }
+
+    @Test
+    @DisplayName("No debe ampliar imágenes más pequeñas que la clase de tamaño")
+    void shouldNotUpscaleSmallImages() throws Exception {
+      byte[] original = png(200, 100);
+      s3Client.put(BUCKET, KEY, original, "image/png");
+      when(vehicleImageRepository.existsById(1L)).thenReturn(true);
+
+      service.generateVariants(event(original.length));
+
+      BufferedImage decoded =
+          ImageIO.read(
+              new ByteArrayInputStream(
+                  s3Client.get(BUCKET, "vehicles/5/photo-thumbnail.jpg").content()));
+      assertEquals(200, decoded.getWidth());
+    }
+
+    @Test
+    @DisplayName("Debe omitir formatos no soportados sin registrar derivados")
+    void shouldSkipUnsupportedFormats() {
+      s3Client.put(BUCKET, KEY, new byte[] {1, 2, 3, 4}, "image/webp");
+
+      service.generateVariants(event(4));
+
+      assertEquals(1, s3Client.size());
+      verify(vehicleImageVariantRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los derivados subidos si la imagen se borró durante el proceso")
+    void shouldCleanUpWhenImageWasDeleted() throws Exception {
+      byte[] original = png(800, 600);
+      s3Client.put(BUCKET, KEY, original, "image/png");
+      when(vehicleImageRepository.existsById(1L)).thenReturn(false);
+
+      service.generateVariants(event(original.length));
+
+      assertEquals(1, s3Client.size());
+      verify(vehicleImageVariantRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Debe omitir originales que superan el tamaño máximo sin descargarlos")
+    void shouldSkipOversizedSources() {
+      service.generateVariants(event(11L * 1024 * 1024));
+
+      assertEquals(0, s3Client.size());
+      verifyNoInteractions(vehicleImageVariantRepository);
+    }
+
+    @Test
+    @DisplayName("No debe propagar errores cuando el original no existe")
+    void shouldNotPropagateMissingOriginal() {
+      assertDoesNotThrow(() -> service.generateVariants(event(10)));
+      verify(vehicleImageVariantRepository, never()).saveAll(any());
+    }
+  }
+
+  @Test
+  @DisplayName("variantKey: debe derivar la key junto al original")
+  void shouldDeriveVariantKeyNextToOriginal() {
+    assertEquals(
+        "vehicles/5/abc-thumbnail.jpg",
+        VehicleImageVariantServiceImpl.variantKey("vehicles/5/abc.png", ImageSizeClass.THUMBNAIL));
+    assertEquals(
+        "vehicles/5/abc-medium.jpg",
+        VehicleImageVariantServiceImpl.variantKey("vehicles/5/abc", ImageSizeClass.MEDIUM));
+  }
+}
@@ -0,0 +1,110 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.dto.VehicleImportResult;
+import com.sgivu.vehicle.dto.VehicleImportResult.Outcome;
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Vehicle;
+import com.sgivu.vehicle.event.VehiclesChangedEvent;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import com.sgivu.vehicle.repository.VehicleBulkInsertRepository;
+import com.sgivu.vehicle.repository.projection.VehicleIdentifierView;
+import com.sgivu.vehicle.service.impl.VehicleImportChunkWriter.Candidate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+
+class VehicleImportChunkWriterTest {
+
+  @Mock private VehicleBaseRepository vehicleBaseRepository;
+  @Mock private VehicleBulkInsertRepository vehicleBulkInsertRepository;
+  @Mock private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks private VehicleImportChunkWriter chunkWriter;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+  }
+
+  private static Candidate candidate(long line, String suffix) {
+    Car car = new Car();
+    car.setPlate("P" + suffix);
+    car.setMotorNumber("MN" + suffix);
+    car.setSerialNumber("SN" + suffix);
+    car.setChassisNumber("CH" + suffix);
+    return new Candidate(line, car);
+  }
+
+  private static VehicleIdentifierView registered(String plate, String chassisNumber) {
+    VehicleIdentifierView view = mock(VehicleIdentifierView.class);
+    when(view.getPlate()).thenReturn(plate);
+    when(view.getMotorNumber()).thenReturn("MN-OTHER");
+    when(view.getSerialNumber()).thenReturn("SN-OTHER");
+    when(view.getChassisNumber()).thenReturn(chassisNumber);
+    return view;
+  }
+
+  @Test
+  @DisplayName(
+      "Debe consultar una sola vez, rechazar duplicados e insertar el resto con IDs reservados")
+  void shouldRejectDuplicatesAndInsertTheRest() {
+    Candidate first = candidate(2, "1");
+    Candidate repeated = candidate(3, "2");
+    repeated.vehicle().setChassisNumber("CH1");
+    Candidate registeredPlate = candidate(4, "3");
+    Candidate valid = candidate(5, "4");
+    List<VehicleIdentifierView> existing = List.of(registered("P3", "CH-OTHER"));
+    when(vehicleBaseRepository.findByIdentifiers(any(), any(), any(), any())).thenReturn(existing);
+    when(vehicleBulkInsertRepository.allocateIds(2)).thenReturn(List.of(100L, 101L));
+
+    List<VehicleImportResult> results =
+        chunkWriter.write(List.of(first, repeated, registeredPlate, valid));
+
+    assertEquals(
+        List.of(Outcome.IMPORTED, Outcome.REJECTED, Outcome.REJECTED, Outcome.IMPORTED),
+        results.stream().map(VehicleImportResult::outcome).toList());
+    assertEquals(100L, results.get(0).id());
+    assertEquals(101L, results.get(3).id());
+    assertEquals(
+        List.of("Número de chasis CH1: ya aparece en la línea 2 del archivo"),
+        results.get(1).errors());
+    assertEquals(List.of("Placa P3: ya existe un vehículo con ese valor"), results.get(2).errors());
+
+    verify(vehicleBaseRepository, times(1))
+        .findByIdentifiers(
+            new String[] {"P1", "P2", "P3", "P4"},
+            new String[] {"MN1", "MN2", "MN3", "MN4"},
+            new String[] {"SN1", "SN2", "SN3", "SN4"},
+            new String[] {"CH1", "CH3", "CH4"});
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Vehicle>> inserted = ArgumentCaptor.forClass(List.class);
+    verify(vehicleBulkInsertRepository).insertAll(inserted.capture());
+    assertEquals(List.of(first.vehicle(), valid.vehicle()), inserted.getValue());
+    verify(eventPublisher).publishEvent(new VehiclesChangedEvent(List.of(100L, 101L)));
+  }
+
+  @Test
+  @DisplayName("No debe publicar cambios si no se insertó ninguna fila")
+  void shouldNotPublishWhenNothingInserted() {
+    Candidate candidate = candidate(2, "1");
+    List<VehicleIdentifierView> existing = List.of(registered("P9", "CH1"));
+    when(vehicleBaseRepository.findByIdentifiers(any(), any(), any(), any())).thenReturn(existing);
+    when(vehicleBulkInsertRepository.allocateIds(0)).thenReturn(List.of());
+
+    List<VehicleImportResult> results = chunkWriter.write(List.of(candidate));
+
+    assertEquals(Outcome.REJECTED, results.getFirst().outcome());
+    verify(vehicleBulkInsertRepository).insertAll(List.of());
+    verifyNoInteractions(eventPublisher);
+  }
+}
@@ -0,0 +1,235 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.config.VehicleImportProperties;
+import com.sgivu.vehicle.dto.VehicleImportResult;
+import com.sgivu.vehicle.dto.VehicleImportResult.Outcome;
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.entity.Motorcycle;
+import com.sgivu.vehicle.enums.VehicleImportFormat;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.exception.InvalidRequestException;
+import com.sgivu.vehicle.service.impl.VehicleImportChunkWriter.Candidate;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import tools.jackson.databind.json.JsonMapper;
+
+class VehicleImportServiceImplTest {
+
+  private static final String CSV_HEADER =
+      "vehicleType,brand,model,capacity,line,plate,motorNumber,serialNumber,chassisNumber,"
+          + "color,cityRegistered,year,mileage,transmission,purchasePrice,salePrice,bodyType,"
+          + "fuelType,numberOfDoors,motorcycleType\n";
+
+  private VehicleImportChunkWriter chunkWriter;
+  private VehicleImportProperties properties;
+  private VehicleImportServiceImpl service;
+
+  @BeforeEach
+  void setUp() {
+    chunkWriter = mock(VehicleImportChunkWriter.class);
+    properties = new VehicleImportProperties();
+    properties.setChunkSize(2);
+    service =
+        new VehicleImportServiceImpl(
+            JsonMapper.builder().build(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            chunkWriter,
+            properties);
+    when(chunkWriter.write(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<Candidate> candidates = invocation.getArgument(0);
+              return candidates.stream()
+                  .map(
+                      candidate ->
+                          VehicleImportResult.imported(
+                              candidate.line(),
+                              candidate.line() * 10,
+                              candidate.vehicle().getPlate()))
+                  .toList();
+            });
+  }
+
+  private static String csvCar(String plate) {
+    return "CAR,Toyota,Corolla,1800,XEI,"
+        + plate
+        + ",MN"
+        + plate
+        + ",SN"
+        + plate
+        + ",CH"
+        + plate
+        + ",Rojo,Bogota,2020,45000,Automatica,60000000,72000000,Sedan,Gasolina,4,\n";
+  }
+
+  private static String jsonMotorcycle(String plate) {
+    return "{\"vehicleType\":\"MOTORCYCLE\",\"brand\":\"Yamaha\",\"model\":\"MT-09\","
+        + "\"capacity\":900,\"line\":\"SP\",\"plate\":\""
+        + plate
+        + "\",\"motorNumber\":\"MN"
+        + plate
+        + "\",\"serialNumber\":\"SN"
+        + plate
+        + "\",\"chassisNumber\":\"CH"
+        + plate
+        + "\",\"color\":\"Negro\",\"cityRegistered\":\"Cali\",\"year\":2022,"
+        + "\"mileage\":1000,\"transmission\":\"Manual\",\"status\":\"in_use\","
+        + "\"purchasePrice\":30000000,\"salePrice\":36000000,\"motorcycleType\":\"Naked\"}\n";
+  }
+
+  private List<List<VehicleImportResult>> run(String content, VehicleImportFormat format)
+      throws IOException {
+    List<List<VehicleImportResult>> chunks = new ArrayList<>();
+    service
+        .open(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format)
+        .run(chunks::add);
+    return chunks;
+  }
+
+  @Nested
+  @DisplayName("CSV")
+  class CsvTests {
+
+    @Test
+    @DisplayName("Debe procesar por bloques y entregar los resultados en orden de línea")
+    void shouldProcessInChunksInLineOrder() throws IOException {
+      String content =
+          CSV_HEADER
+              + csvCar("AAA111")
+              + "\n"
+              + csvCar("BBB222")
+              + "CAR,Mazda\n"
+              + csvCar("CCC333");
+
+      List<List<VehicleImportResult>> chunks = run(content, VehicleImportFormat.CSV);
+
+      assertEquals(2, chunks.size());
+      assertEquals(List.of(2L, 4L), chunks.get(0).stream().map(VehicleImportResult::line).toList());
+      assertEquals(List.of(5L, 6L), chunks.get(1).stream().map(VehicleImportResult::line).toList());
+      assertEquals(Outcome.REJECTED, chunks.get(1).get(0).outcome());
+      assertEquals(Outcome.IMPORTED, chunks.get(1).get(1).outcome());
+      verify(chunkWriter, times(2)).write(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe construir autos con estado AVAILABLE por defecto")
+    void shouldBuildCarsWithDefaultStatus() throws IOException {
+      run(CSV_HEADER + csvCar("AAA111"), VehicleImportFormat.CSV);
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<List<Candidate>> captor = ArgumentCaptor.forClass(List.class);
+      verify(chunkWriter).write(captor.capture());
+      Car car = assertInstanceOf(Car.class, captor.getValue().getFirst().vehicle());
+      assertEquals("AAA111", car.getPlate());
+      assertEquals(4, car.getNumberOfDoors());
+      assertEquals(VehicleStatus.AVAILABLE, car.getStatus());
+    }
+
+    @Test
+    @DisplayName("Debe respetar comillas con comas, comillas escapadas y saltos de línea")
+    void shouldHandleQuotedFields() throws IOException {
+      String row = csvCar("AAA111").replace("XEI", "\"X, \"\"E\"\"\nI\"");
+
+      run(CSV_HEADER + row, VehicleImportFormat.CSV);
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<List<Candidate>> captor = ArgumentCaptor.forClass(List.class);
+      verify(chunkWriter).write(captor.capture());
+      assertEquals("X, \"E\"\nI", captor.getValue().getFirst().vehicle().getLine());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar encabezados desconocidos antes de procesar filas")
+    void shouldRejectUnknownHeader() {
+      assertThrows(
+          InvalidRequestException.class,
+          () ->
+              service.open(
+                  new ByteArrayInputStream("vehicleType,price\n".getBytes(StandardCharsets.UTF_8)),
+                  VehicleImportFormat.CSV));
+      verifyNoInteractions(chunkWriter);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar filas con valores inválidos o demasiado largos sin escribirlas")
+    void shouldRejectInvalidRows() throws IOException {
+      String content =
+          CSV_HEADER
+              + csvCar("AAA111").replace(",2020,", ",1900,")
+              + csvCar("TOOLONGPLATE1")
+              + csvCar("CCC333").replace(",1800,", ",mil,");
+
+      List<VehicleImportResult> results =
+          run(content, VehicleImportFormat.CSV).stream().flatMap(List::stream).toList();
+
+      assertTrue(results.stream().allMatch(result -> result.outcome() == Outcome.REJECTED));
+      assertTrue(results.get(0).errors().getFirst().startsWith("year"));
+      assertEquals(List.of("plate: admite hasta 10 caracteres"), results.get(1).errors());
+      assertEquals(List.of("Valor inválido en el campo capacity"), results.get(2).errors());
+      verifyNoInteractions(chunkWriter);
+    }
+  }
+
+  @Nested
+  @DisplayName("NDJSON")
+  class NdjsonTests {
+
+    @Test
+    @DisplayName("Debe leer una motocicleta por línea e ignorar líneas en blanco")
+    void shouldReadOneObjectPerLine() throws IOException {
+      List<VehicleImportResult> results =
+          run(jsonMotorcycle("AAA11A") + "\n" + "{roto\n", VehicleImportFormat.NDJSON).getFirst();
+
+      assertEquals(Outcome.IMPORTED, results.get(0).outcome());
+      assertEquals(Outcome.REJECTED, results.get(1).outcome());
+      assertEquals(3L, results.get(1).line());
+
+      @SuppressWarnings("unchecked")
+      ArgumentCaptor<List<Candidate>> captor = ArgumentCaptor.forClass(List.class);
+      verify(chunkWriter).write(captor.capture());
+      Motorcycle motorcycle =
+          assertInstanceOf(Motorcycle.class, captor.getValue().getFirst().vehicle());
+      assertEquals(VehicleStatus.IN_USE, motorcycle.getStatus());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar filas que superan la longitud máxima sin retenerlas")
+    void shouldRejectOversizedRows() throws IOException {
+      properties.setMaxRowLength(100);
+
+      List<VehicleImportResult> results =
+          run(jsonMotorcycle("AAA11A"), VehicleImportFormat.NDJSON).getFirst();
+
+      assertEquals(Outcome.REJECTED, results.getFirst().outcome());
+      assertTrue(results.getFirst().errors().getFirst().contains("100"));
+    }
+
+    @Test
+    @DisplayName("Debe marcar como fallidas las filas de un bloque que no se pudo guardar")
+    void shouldReportFailedChunk() throws IOException {
+      when(chunkWriter.write(anyList()))
+          .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+      List<VehicleImportResult> results =
+          run(jsonMotorcycle("AAA11A") + jsonMotorcycle("BBB22B"), VehicleImportFormat.NDJSON)
+              .getFirst();
+
+      assertEquals(2, results.size());
+      assertTrue(results.stream().allMatch(result -> result.outcome() == Outcome.FAILED));
+    }
+  }
+}
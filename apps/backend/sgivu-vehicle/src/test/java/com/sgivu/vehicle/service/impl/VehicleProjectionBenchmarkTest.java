@@ -0,0 +1,231 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sgivu.vehicle.VehicleApplication;
+import com.sgivu.vehicle.config.JpaConfig;
+import com.sgivu.vehicle.config.VehicleFacetProperties;
+import com.sgivu.vehicle.dto.CarResponse;
+import com.sgivu.vehicle.entity.Car;
+import com.sgivu.vehicle.enums.VehicleStatus;
+import com.sgivu.vehicle.mapper.VehicleMapper;
+import com.sgivu.vehicle.mapper.VehicleMapperImpl;
+import com.sgivu.vehicle.repository.CarRepository;
+import com.sgivu.vehicle.repository.projection.CarView;
+import com.sgivu.vehicle.service.CarService;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.data.jpa.autoconfigure.DataJpaRepositoriesAutoConfiguration;
+import org.springframework.boot.flyway.autoconfigure.FlywayAutoConfiguration;
+import org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
+import org.springframework.boot.transaction.autoconfigure.TransactionAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Benchmark de consultas y asignación de memoria del listado de autos: entidades + MapStruct frente
+ * a la proyección {@code CarView}.
+ *
+ * <p>Necesita una base PostgreSQL desechable (se aplican las migraciones y se insertan {@value
+ * #VEHICLES} autos). Desactivado por defecto. Ejecutar con {@code ./mvnw test
+ * -Dtest=VehicleProjectionBenchmarkTest -Dbenchmark=true
+ * -Dbenchmark.jdbc-url=jdbc:postgresql://localhost:5432/sgivu_vehicle_bench
+ * -Dbenchmark.username=... -Dbenchmark.password=...}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VehicleProjectionBenchmarkTest {
+
+  private static final int VEHICLES = 3_000;
+  private static final int WARMUP_ROUNDS = 3;
+  private static final int MEASURED_ROUNDS = 5;
+
+  private ConfigurableApplicationContext context;
+  private CarService carService;
+  private VehicleMapper vehicleMapper;
+  private Statistics statistics;
+
+  @Configuration(proxyBeanMethods = false)
+  @AutoConfigurationPackage(basePackageClasses = VehicleApplication.class)
+  @ImportAutoConfiguration({
+    DataSourceAutoConfiguration.class,
+    FlywayAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    DataJpaRepositoriesAutoConfiguration.class,
+    TransactionAutoConfiguration.class
+  })
+  @Import({
+    JpaConfig.class,
+    VehicleFacetProperties.class,
+    CarServiceImpl.class,
+    VehicleMapperImpl.class
+  })
+  static class BenchmarkConfig {}
+
+  record Sample(long statements, long entityLoads, long allocatedBytes, long elapsedNanos) {}
+
+  @BeforeAll
+  void startContext() {
+    context =
+        new SpringApplicationBuilder(BenchmarkConfig.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                Map.of(
+                    // No se carga application.yml (importa sgivu-config)
+                    "spring.config.location",
+                    "optional:classpath:/benchmark-none/",
+                    "spring.cloud.config.enabled",
+                    "false",
+                    "spring.datasource.url",
+                    System.getProperty("benchmark.jdbc-url"),
+                    "spring.datasource.username",
+                    System.getProperty("benchmark.username", ""),
+                    "spring.datasource.password",
+                    System.getProperty("benchmark.password", ""),
+                    "spring.jpa.properties.hibernate.generate_statistics",
+                    "true"))
+            .run();
+    carService = context.getBean(CarService.class);
+    vehicleMapper = context.getBean(VehicleMapper.class);
+    statistics =
+        context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    seed(context.getBean(CarRepository.class));
+  }
+
+  @AfterAll
+  void closeContext() {
+    if (context != null) {
+      context.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Consultas, entidades cargadas y bytes asignados: entidades vs. proyección")
+  void compareEntityAndProjectionListing() {
+    Supplier<List<CarResponse>> entities =
+        () -> carService.findAll().stream().map(vehicleMapper::toCarResponse).toList();
+    Supplier<List<CarResponse>> views =
+        () ->
+            carService.searchViews(null, Pageable.unpaged()).stream()
+                .map(vehicleMapper::toCarResponse)
+                .toList();
+
+    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+      entities.get();
+      views.get();
+    }
+    Sample entitySample = measure(entities);
+    Sample viewSample = measure(views);
+
+    print("entities", entitySample);
+    print("projection", viewSample);
+    assertEquals(0, viewSample.entityLoads());
+    assertTrue(viewSample.statements() <= entitySample.statements());
+  }
+
+  @Test
+  @DisplayName(
+      "La consulta derivada por IDs también construye la proyección con todas sus columnas")
+  void loadsViewsByIdsThroughConstructorExpression() {
+    List<Long> ids =
+        carService.searchViews(null, Pageable.ofSize(2)).stream().map(CarView::id).toList();
+
+    List<CarView> views = carService.findViewsByIds(ids);
+
+    assertEquals(2, views.size());
+    assertTrue(views.stream().allMatch(view -> view.plate() != null && view.bodyType() != null));
+  }
+
+  private Sample measure(Supplier<List<CarResponse>> listing) {
+    long statements = 0;
+    long entityLoads = 0;
+    long allocated = 0;
+    long elapsed = 0;
+    for (int i = 0; i < MEASURED_ROUNDS; i++) {
+      statistics.clear();
+      long allocatedBefore = allocatedBytes();
+      long start = System.nanoTime();
+      assertTrue(listing.get().size() >= VEHICLES);
+      elapsed += System.nanoTime() - start;
+      allocated += allocatedBytes() - allocatedBefore;
+      statements += statistics.getPrepareStatementCount();
+      entityLoads += statistics.getEntityLoadCount();
+    }
+    return new Sample(
+        statements / MEASURED_ROUNDS,
+        entityLoads / MEASURED_ROUNDS,
+        allocated / MEASURED_ROUNDS,
+        elapsed / MEASURED_ROUNDS);
+  }
+
+  private static void print(String label, Sample sample) {
+    System.out.printf(
+        "Car listing (%s): statements=%d, entity loads=%d, allocated=%.1f MB, time=%.1f ms%n",
+        label,
+        sample.statements(),
+        sample.entityLoads(),
+        sample.allocatedBytes() / (1024d * 1024d),
+        sample.elapsedNanos() / 1_000_000d);
+  }
+
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+        .getCurrentThreadAllocatedBytes();
+  }
+
+  private static void seed(CarRepository carRepository) {
+    long existing = carRepository.count();
+    long missing = VEHICLES - existing;
+    if (missing <= 0) {
+      return;
+    }
+    carRepository.saveAll(
+        IntStream.range(0, (int) missing)
+            .mapToObj(
+                i -> {
+                  Car car = new Car();
+                  String suffix = String.format("%07d", existing + i);
+                  car.setBrand(i % 2 == 0 ? "Toyota" : "Mazda");
+                  car.setModel("Modelo " + (i % 20));
+                  car.setCapacity(1600);
+                  car.setLine("Linea " + (i % 10));
+                  car.setPlate("B" + suffix);
+                  car.setMotorNumber("MN" + suffix);
+                  car.setSerialNumber("SN" + suffix);
+                  car.setChassisNumber("CH" + suffix);
+                  car.setColor("Rojo");
+                  car.setCityRegistered("Bogota");
+                  car.setYear(2010 + i % 15);
+                  car.setMileage(10_000 + i);
+                  car.setTransmission("Manual");
+                  car.setStatus(VehicleStatus.AVAILABLE);
+                  car.setPurchasePrice(40_000_000d);
+                  car.setSalePrice(48_000_000d);
+                  car.setBodyType("Sedan");
+                  car.setFuelType("Gasolina");
+                  car.setNumberOfDoors(4);
+                  return car;
+                })
+            .toList());
+  }
+}
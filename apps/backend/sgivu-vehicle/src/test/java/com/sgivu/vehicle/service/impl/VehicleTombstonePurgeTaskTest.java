@@ -0,0 +1,33 @@
+package com.sgivu.vehicle.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.sgivu.vehicle.config.VehicleChangeFeedProperties;
+import com.sgivu.vehicle.repository.VehicleBaseRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VehicleTombstonePurgeTaskTest {
+
+  @Test
+  @DisplayName("Debe eliminar las lápidas anteriores a la retención configurada")
+  void shouldDeleteTombstonesOlderThanRetention() {
+    LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+    VehicleBaseRepository repository = mock(VehicleBaseRepository.class);
+    VehicleChangeFeedProperties properties = new VehicleChangeFeedProperties();
+    properties.setTombstoneRetention(Duration.ofDays(7));
+    when(repository.deleteTombstonesBefore(now.minusDays(7))).thenReturn(4);
+
+    VehicleTombstonePurgeTask task =
+        new VehicleTombstonePurgeTask(
+            repository, properties, Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    assertEquals(4, task.purgeExpiredTombstones());
+    verify(repository).deleteTombstonesBefore(now.minusDays(7));
+  }
+}
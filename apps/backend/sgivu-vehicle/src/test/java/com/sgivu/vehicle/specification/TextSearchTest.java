@@ -0,0 +1,61 @@
+package com.sgivu.vehicle.specification;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TextSearchTest {
+
+  @Nested
+  @DisplayName("likePattern(String)")
+  class LikePatternTests {
+
+    @Test
+    @DisplayName("Debe buscar subcadena desde tres caracteres y prefijo por debajo")
+    void shouldChooseOperatorByLength() {
+      assertEquals("%toyota%", TextSearch.likePattern("  Toyota "));
+      assertEquals("ma%", TextSearch.likePattern("Ma"));
+      assertNull(TextSearch.likePattern("   "));
+      assertNull(TextSearch.likePattern(null));
+    }
+
+    @Test
+    @DisplayName("Debe escapar los comodines de LIKE")
+    void shouldEscapeWildcards() {
+      assertEquals("%100\\%%", TextSearch.likePattern("100%"));
+      assertEquals("a\\_%", TextSearch.likePattern("a_"));
+    }
+  }
+
+  @Nested
+  @DisplayName("platePattern(String)")
+  class PlatePatternTests {
+
+    @Test
+    @DisplayName("Debe normalizar la placa a mayúsculas sin separadores")
+    void shouldNormalizePlate() {
+      assertEquals("ABC123", TextSearch.normalizePlate(" abc-123 "));
+      assertNull(TextSearch.normalizePlate("--"));
+    }
+
+    @Test
+    @DisplayName("Debe buscar exacta una placa completa y por subcadena cualquier fragmento")
+    void shouldChooseOperatorByShape() {
+      assertEquals("ABC123", TextSearch.platePattern("abc 123"));
+      assertEquals("ABC12D", TextSearch.platePattern("ABC-12d"));
+      assertEquals("%AB%", TextSearch.platePattern("ab"));
+      assertEquals("%123%", TextSearch.platePattern("123"));
+      assertNull(TextSearch.platePattern(" - "));
+    }
+
+    @Test
+    @DisplayName("Debe encontrar una placa a partir de un fragmento intermedio")
+    void shouldMatchMidPlateFragment() {
+      // Empieza por letra pero no es el inicio de la placa: BC12 debe encontrar ABC123
+      assertEquals("%BC12%", TextSearch.platePattern("BC12"));
+      assertEquals("%BC12%", TextSearch.platePattern("bc-12"));
+    }
+  }
+}
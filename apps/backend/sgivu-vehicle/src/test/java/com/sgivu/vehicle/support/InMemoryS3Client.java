@@ -0,0 +1,171 @@
+package com.sgivu.vehicle.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * Sustituto en memoria de {@link S3Client} para tests: guarda los objetos por bucket y key. Solo
+ * implementa las operaciones que usa el servicio; el resto conserva el comportamiento por defecto
+ * del SDK ({@link UnsupportedOperationException}). {@code getObject} respeta un único rango de
+ * bytes, {@code If-Match} e {@code If-None-Match} como S3 (206, 412, 304 y 416).
+ */
+public class InMemoryS3Client implements S3Client {
+
+  public record StoredObject(byte[] content, String contentType) {}
+
+  private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+  private final AtomicInteger getRequests = new AtomicInteger();
+
+  public void put(String bucket, String key, byte[] content, String contentType) {
+    objects.put(bucket + "/" + key, new StoredObject(content, contentType));
+  }
+
+  public StoredObject get(String bucket, String key) {
+    return objects.get(bucket + "/" + key);
+  }
+
+  public boolean contains(String bucket, String key) {
+    return objects.containsKey(bucket + "/" + key);
+  }
+
+  public int size() {
+    return objects.size();
+  }
+
+  /** Número de {@code getObject} recibidos (p. ej. para contar los GETs por rangos). */
+  public int getRequests() {
+    return getRequests.get();
+  }
+
+  public static String eTag(byte[] content) {
+    return "\"" + Integer.toHexString(Arrays.hashCode(content)) + "\"";
+  }
+
+  @Override
+  public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+    try (InputStream input = body.contentStreamProvider().newStream()) {
+      put(request.bucket(), request.key(), input.readAllBytes(), request.contentType());
+    } catch (IOException e) {
+      throw SdkClientException.create("No se pudo leer el cuerpo", e);
+    }
+    return PutObjectResponse.builder().eTag("\"" + request.key().hashCode() + "\"").build();
+  }
+
+  @Override
+  public <ReturnT> ReturnT getObject(
+      GetObjectRequest request, ResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+    getRequests.incrementAndGet();
+    StoredObject object = require(request.bucket(), request.key());
+    byte[] content = object.content();
+    String eTag = eTag(content);
+    if (request.ifMatch() != null && !request.ifMatch().equals(eTag)) {
+      throw error(412, "PreconditionFailed");
+    }
+    if (request.ifNoneMatch() != null && request.ifNoneMatch().equals(eTag)) {
+      throw error(304, "NotModified");
+    }
+
+    int from = 0;
+    int to = content.length - 1;
+    String contentRange = null;
+    if (request.range() != null) {
+      String spec = request.range().substring("bytes=".length());
+      int dash = spec.indexOf('-');
+      if (dash == 0) {
+        from = Math.max(0, content.length - Integer.parseInt(spec.substring(1)));
+      } else {
+        from = Integer.parseInt(spec.substring(0, dash));
+        if (dash < spec.length() - 1) {
+          to = Math.min(to, Integer.parseInt(spec.substring(dash + 1)));
+        }
+      }
+      if (from >= content.length) {
+        throw error(416, "InvalidRange");
+      }
+      contentRange = "bytes " + from + "-" + to + "/" + content.length;
+    }
+
+    GetObjectResponse response =
+        GetObjectResponse.builder()
+            .contentLength((long) (to - from + 1))
+            .contentType(object.contentType())
+            .contentRange(contentRange)
+            .eTag(eTag)
+            .build();
+    try {
+      return transformer.transform(
+          response,
+          AbortableInputStream.create(
+              new ByteArrayInputStream(content, from, Math.max(0, to - from + 1))));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (Exception e) {
+      throw SdkClientException.create("Error transformando la respuesta", e);
+    }
+  }
+
+  @Override
+  public HeadObjectResponse headObject(HeadObjectRequest request) {
+    StoredObject object = require(request.bucket(), request.key());
+    return HeadObjectResponse.builder()
+        .contentLength((long) object.content().length)
+        .contentType(object.contentType())
+        .eTag(eTag(object.content()))
+        .build();
+  }
+
+  @Override
+  public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+    objects.remove(request.bucket() + "/" + request.key());
+    return DeleteObjectResponse.builder().build();
+  }
+
+  @Override
+  public String serviceName() {
+    return SERVICE_NAME;
+  }
+
+  @Override
+  public void close() {
+    objects.clear();
+  }
+
+  private static S3Exception error(int status, String code) {
+    return (S3Exception)
+        S3Exception.builder()
+            .statusCode(status)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode(code).build())
+            .message(code)
+            .build();
+  }
+
+  private StoredObject require(String bucket, String key) {
+    StoredObject object = objects.get(bucket + "/" + key);
+    if (object == null) {
+      throw NoSuchKeyException.builder().message("No existe " + key).build();
+    }
+    return object;
+  }
+}
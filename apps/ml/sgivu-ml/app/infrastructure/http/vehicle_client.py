@@ -7,7 +7,7 @@ from __future__ import annotations
 
 import asyncio
 import logging
-from typing import Any, Dict, Iterable, Optional, Tuple
+from typing import Any, Dict, Iterable, List, Optional, Tuple
 
 import httpx
 
@@ -19,11 +19,20 @@ logger = logging.getLogger(__name__)
 class VehicleClient:
     """Cliente async para interactuar con el microservicio de vehículos."""
 
-    def __init__(self, settings: Settings, concurrency: int = 10) -> None:
+    # Debe coincidir con el máximo aceptado por POST /v1/vehicles/batch
+    BATCH_SIZE = 500
+
+    def __init__(
+        self,
+        settings: Settings,
+        concurrency: int = 10,
+        transport: httpx.AsyncBaseTransport | None = None,
+    ) -> None:
         self._base_url = settings.sgivu_vehicle_url.rstrip("/")
         self._timeout = settings.request_timeout_seconds
         self._internal_key = settings.service_internal_secret_key
         self._semaphore = asyncio.Semaphore(concurrency)
+        self._transport = transport
 
     def _headers(self) -> Dict[str, str]:
         """Encabezados internos; envía la clave compartida para saltar auth externa."""
@@ -36,48 +45,55 @@ class VehicleClient:
         self, vehicle_id: int, vehicle_type: str | None
     ) -> Dict[str, Any]:
         """Obtiene los detalles de un vehículo por su ID."""
-        endpoints = ["cars", "motorcycles"]
-        if vehicle_type == "CAR":
-            endpoints = ["cars"]
-        elif vehicle_type == "MOTORCYCLE":
-            endpoints = ["motorcycles"]
-
-        async with self._semaphore:
-            async with httpx.AsyncClient(timeout=self._timeout) as client:
-                for endpoint in endpoints:
-                    url = f"{self._base_url}/v1/{endpoint}/{vehicle_id}"
-                    response = await client.get(url, headers=self._headers())
-                    if response.status_code == 404:
-                        continue
-                    response.raise_for_status()
-                    payload = response.json()
-                    resolved_type = (
-                        vehicle_type
-                        or payload.get("vehicleType")
-                        or payload.get("type")
-                        or ("CAR" if endpoint == "cars" else "MOTORCYCLE")
-                    )
-                    payload["vehicleType"] = resolved_type
-                    return payload
-
-        logger.warning("Vehicle %s not found in inventory", vehicle_id)
-        return {}
+        result = await self.fetch_bulk([(vehicle_id, vehicle_type)])
+        if vehicle_id not in result:
+            logger.warning("Vehicle %s not found in inventory", vehicle_id)
+            return {}
+        return result[vehicle_id]
 
     async def fetch_bulk(
         self, vehicles: Iterable[Tuple[int, Optional[str]]]
     ) -> Dict[int, Dict[str, Any]]:
-        """Obtiene detalles de múltiples vehículos en paralelo."""
-        vehicle_list = [(vid, vtype) for vid, vtype in vehicles if vid]
-        tasks = [
-            self.fetch_vehicle(vehicle_id, vehicle_type)
-            for vehicle_id, vehicle_type in vehicle_list
+        """Obtiene detalles de múltiples vehículos con el batch polimórfico.
+
+        Autos y motos se resuelven en una sola petición por bloque de ``BATCH_SIZE``
+        IDs; cada elemento de la respuesta trae su ``vehicleType``, por lo que el
+        tipo sugerido por el llamador ya no es necesario para elegir el endpoint.
+        """
+        vehicle_ids = list(dict.fromkeys(vid for vid, _ in vehicles if vid))
+        chunks = [
+            vehicle_ids[i : i + self.BATCH_SIZE]
+            for i in range(0, len(vehicle_ids), self.BATCH_SIZE)
         ]
-        results = await asyncio.gather(*tasks, return_exceptions=True)
+        if not chunks:
+            return {}
+
+        async with httpx.AsyncClient(
+            timeout=self._timeout, transport=self._transport
+        ) as client:
+            results = await asyncio.gather(
+                *(self._fetch_chunk(client, chunk) for chunk in chunks),
+                return_exceptions=True,
+            )
 
         mapped: Dict[int, Dict[str, Any]] = {}
-        for (vehicle_id, _), result in zip(vehicle_list, results):
-            if isinstance(result, Exception) or not isinstance(result, dict):
-                logger.error("Error fetching vehicle %s: %s", vehicle_id, result)
+        for chunk, result in zip(chunks, results):
+            if isinstance(result, Exception) or not isinstance(result, list):
+                logger.error("Error fetching vehicles %s: %s", chunk, result)
                 continue
-            mapped[vehicle_id] = result
+            for payload in result:
+                if isinstance(payload, dict) and payload.get("id") is not None:
+                    mapped[int(payload["id"])] = payload
         return mapped
+
+    async def _fetch_chunk(
+        self, client: httpx.AsyncClient, vehicle_ids: List[int]
+    ) -> List[Dict[str, Any]]:
+        async with self._semaphore:
+            response = await client.post(
+                f"{self._base_url}/v1/vehicles/batch",
+                json=vehicle_ids,
+                headers=self._headers(),
+            )
+        response.raise_for_status()
+        return response.json()
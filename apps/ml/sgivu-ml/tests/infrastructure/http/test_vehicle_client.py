@@ -0,0 +1,68 @@
+"""Tests para VehicleClient."""
+
+from __future__ import annotations
+
+import json
+
+import httpx
+import pytest
+
+from app.infrastructure.http.vehicle_client import VehicleClient
+
+
+class TestVehicleClient:
+    """VehicleClient"""
+
+    @pytest.mark.asyncio
+    async def test_fetch_bulk_uses_single_polymorphic_batch(
+        self, mock_settings
+    ) -> None:
+        """Debe resolver autos y motos con una sola petición al batch polimórfico."""
+        requests: list[httpx.Request] = []
+
+        def handler(request: httpx.Request) -> httpx.Response:
+            requests.append(request)
+            return httpx.Response(
+                200,
+                json=[
+                    {"id": 1, "vehicleType": "CAR", "brand": "Mazda"},
+                    {"id": 2, "vehicleType": "MOTORCYCLE", "brand": "Yamaha"},
+                ],
+            )
+
+        client = VehicleClient(mock_settings, transport=httpx.MockTransport(handler))
+        result = await client.fetch_bulk([(1, None), (2, "CAR"), (1, None), (3, None)])
+
+        assert len(requests) == 1
+        assert requests[0].url.path == "/v1/vehicles/batch"
+        assert json.loads(requests[0].content) == [1, 2, 3]
+        assert result[1]["vehicleType"] == "CAR"
+        assert result[2]["vehicleType"] == "MOTORCYCLE"
+        assert 3 not in result
+
+    @pytest.mark.asyncio
+    async def test_fetch_bulk_splits_large_batches(self, mock_settings) -> None:
+        """Debe dividir los IDs en bloques del tamaño máximo aceptado."""
+        sizes: list[int] = []
+
+        def handler(request: httpx.Request) -> httpx.Response:
+            ids = json.loads(request.content)
+            sizes.append(len(ids))
+            return httpx.Response(200, json=[{"id": vid} for vid in ids])
+
+        client = VehicleClient(mock_settings, transport=httpx.MockTransport(handler))
+        ids = [(vid, None) for vid in range(1, VehicleClient.BATCH_SIZE + 2)]
+        result = await client.fetch_bulk(ids)
+
+        assert sorted(sizes) == [1, VehicleClient.BATCH_SIZE]
+        assert len(result) == VehicleClient.BATCH_SIZE + 1
+
+    @pytest.mark.asyncio
+    async def test_fetch_bulk_skips_failed_chunks(self, mock_settings) -> None:
+        """Debe omitir los bloques que fallan sin propagar la excepción."""
+        client = VehicleClient(
+            mock_settings,
+            transport=httpx.MockTransport(lambda request: httpx.Response(503)),
+        )
+
+        assert await client.fetch_bulk([(1, None)]) == {}